@@ -556,31 +556,47 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private String jsonObjectStringRepresentation;
         private byte[] cborObjectRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
+        private SoftReference<PersistentFieldMap> fieldsReference;
+        @Nullable private PersistentFieldMap strongFields;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
-            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            final PersistentFieldMap persistentFieldMap = PersistentFieldMap.of(jsonFieldMap);
+            fieldsReference = new SoftReference<>(persistentFieldMap);
+            strongFields = null;
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
                 if (CBOR_FACTORY.isCborAvailable()) {
                     try {
-                        this.cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(jsonFieldMap,
+                        this.cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(persistentFieldMap,
                                         guessSerializedSize());
                     } catch (final IOException e) {
                         assert false; // this should not happen, so assertions will throw during testing
-                        jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
+                        jsonObjectStringRepresentation = createStringRepresentation(persistentFieldMap);
                     }
                 } else {
-                    jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
+                    jsonObjectStringRepresentation = createStringRepresentation(persistentFieldMap);
                 }
             }
             hashCode = 0;
         }
 
+        /*
+         * Field maps derived by modification share the trie nodes of unchanged fields with their origin. They hold
+         * their fields strongly until they are serialized the first time, as only then the fields can be recovered
+         * after the soft reference was cleared; serializing eagerly would cost the whole object per modification and
+         * defeat the structural sharing.
+         */
+        private SoftReferencedFieldMap(final PersistentFieldMap persistentFieldMap) {
+            fieldsReference = new SoftReference<>(persistentFieldMap);
+            strongFields = persistentFieldMap;
+            jsonObjectStringRepresentation = null;
+            cborObjectRepresentation = null;
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
@@ -637,25 +653,15 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
-        }
-
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+            return new SoftReferencedFieldMap(fields().plus(key, value));
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(fields().plusAll(jsonFields));
         }
 
         SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(fields().minus(key));
         }
 
         Stream<JsonField> getStream() {
@@ -666,8 +672,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return fields().values().iterator();
         }
 
-        private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
+        private PersistentFieldMap fields() {
+            if (null != strongFields) {
+                return strongFields;
+            }
+            PersistentFieldMap result = fieldsReference.get();
             if (null == result) {
                 result = recoverFields();
                 fieldsReference = new SoftReference<>(result);
@@ -675,12 +684,12 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return result;
         }
 
-        private Map<String, JsonField> recoverFields() {
+        private PersistentFieldMap recoverFields() {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
-                return parseToMap(cborObjectRepresentation);
+                return PersistentFieldMap.of(parseToMap(cborObjectRepresentation));
             }
             if (jsonObjectStringRepresentation != null) {
-                return parseToMap(jsonObjectStringRepresentation);
+                return PersistentFieldMap.of(parseToMap(jsonObjectStringRepresentation));
             }
             throw new IllegalStateException("Fatal cache miss on JsonObject");
         }
@@ -738,6 +747,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         String asJsonObjectString() {
             if (jsonObjectStringRepresentation == null) {
                 jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+                strongFields = null;
             }
             return jsonObjectStringRepresentation;
         }
@@ -745,6 +755,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         void writeValue(final SerializationContext serializationContext) throws IOException {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
                 cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+                strongFields = null;
             }
             serializationContext.writeCachedElement(cborObjectRepresentation);
         }
@@ -767,8 +778,18 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (cborObjectRepresentation != null) {
                 return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            // field map derived by modification which was not serialized yet
+            return upperBoundForStringSize(fields());
+        }
+
+        private static long upperBoundForStringSize(final PersistentFieldMap fields) {
+            long result = 2L; // enclosing braces
+            for (final JsonField jsonField : fields.values()) {
+                // key, colon and comma
+                result += JsonValue.of(jsonField.getKeyName()).getUpperBoundForStringSize() + 2L;
+                result += jsonField.getValue().getUpperBoundForStringSize();
+            }
+            return result;
         }
 
     }
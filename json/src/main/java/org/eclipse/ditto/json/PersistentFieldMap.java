@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Persistent map from key names to JSON fields backed by a hash array mapped trie.
+ * <p>
+ * Adding or removing a field copies only the trie nodes on the path to the field, i. e. O(log n) nodes of at most 32
+ * slots each; all other nodes are shared with the original map. Iteration follows the insertion order of the keys
+ * like {@link java.util.LinkedHashMap}: replacing the field of an existing key keeps its position.
+ * <p>
+ * Methods of {@link Map} which would modify this map throw {@link UnsupportedOperationException}.
+ */
+@Immutable
+final class PersistentFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final PersistentFieldMap EMPTY = new PersistentFieldMap(BitmapNode.EMPTY, 0, 0L);
+
+    private final Node root;
+    private final int size;
+    private final long nextSequenceNumber;
+
+    @Nullable private Ordering ordering;
+
+    private PersistentFieldMap(final Node root, final int size, final long nextSequenceNumber) {
+        this.root = root;
+        this.size = size;
+        this.nextSequenceNumber = nextSequenceNumber;
+        ordering = null;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a persistent map with the entries of the given map in the iteration order of the given map.
+     *
+     * @param fields the fields to copy.
+     * @return the persistent map; the argument itself if it is already a persistent map.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     */
+    static PersistentFieldMap of(final Map<String, JsonField> fields) {
+        requireNonNull(fields, "The fields of JSON object must not be null!");
+        if (fields instanceof PersistentFieldMap) {
+            return (PersistentFieldMap) fields;
+        }
+        final Transient builder = new Transient(EMPTY);
+        fields.forEach(builder::put);
+        return builder.build();
+    }
+
+    /**
+     * Returns a map containing the given field in addition to the fields of this map.
+     *
+     * @param key the key name of the field.
+     * @param field the field.
+     * @return the new map.
+     */
+    PersistentFieldMap plus(final String key, final JsonField field) {
+        final Transient builder = new Transient(this);
+        builder.put(key, field);
+        return builder.build();
+    }
+
+    /**
+     * Returns a map containing the given fields in addition to the fields of this map.
+     *
+     * @param fields the fields.
+     * @return the new map.
+     */
+    PersistentFieldMap plusAll(final Iterable<JsonField> fields) {
+        final Transient builder = new Transient(this);
+        fields.forEach(field -> builder.put(field.getKeyName(), field));
+        return builder.build();
+    }
+
+    /**
+     * Returns a map containing the fields of this map except for the field with the given key name.
+     *
+     * @param key the key name of the field to remove.
+     * @return the new map; this map if it has no field with the given key name.
+     */
+    PersistentFieldMap minus(final String key) {
+        final int hash = key.hashCode();
+        if (root.find(key, hash, 0) == null) {
+            return this;
+        }
+        final Node newRoot = root.remove(key, hash, 0);
+        return new PersistentFieldMap(newRoot == null ? BitmapNode.EMPTY : newRoot, size - 1, nextSequenceNumber);
+    }
+
+    @Override
+    @Nullable
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            final Entry entry = root.find((String) key, key.hashCode(), 0);
+            return entry == null ? null : entry.field;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && root.find((String) key, key.hashCode(), 0) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public Set<Map.Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Map.Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Map.Entry<String, JsonField>> iterator() {
+                return new OrderedIterator(getOrderedEntries());
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private Entry[] getOrderedEntries() {
+        Ordering result = ordering;
+        if (null == result) {
+            result = new Ordering(sortBySequenceNumber());
+            ordering = result;
+        }
+        return result.entries;
+    }
+
+    private Entry[] sortBySequenceNumber() {
+        final Entry[] entries = new Entry[size];
+        root.collect(entries, 0);
+        if (nextSequenceNumber <= 2L * size) {
+            // few removed keys: place entries by sequence number in linear time
+            final Entry[] buckets = new Entry[(int) nextSequenceNumber];
+            for (final Entry entry : entries) {
+                buckets[(int) entry.sequenceNumber] = entry;
+            }
+            int i = 0;
+            for (final Entry entry : buckets) {
+                if (entry != null) {
+                    entries[i++] = entry;
+                }
+            }
+        } else {
+            Arrays.sort(entries, Comparator.comparingLong((Entry entry) -> entry.sequenceNumber));
+        }
+        return entries;
+    }
+
+    private static int bitPosition(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * Builder of a persistent map which modifies nodes created by itself in place.
+     */
+    private static final class Transient {
+
+        private final Object edit = new Object();
+        private Node root;
+        private int size;
+        private long nextSequenceNumber;
+
+        private Transient(final PersistentFieldMap origin) {
+            root = origin.root;
+            size = origin.size;
+            nextSequenceNumber = origin.nextSequenceNumber;
+        }
+
+        private void put(final String key, final JsonField field) {
+            final int hash = key.hashCode();
+            final Entry existing = root.find(key, hash, 0);
+            if (existing == null) {
+                root = root.put(edit, new Entry(key, hash, field, nextSequenceNumber++), 0);
+                ++size;
+            } else if (existing.field != field) {
+                root = root.put(edit, new Entry(key, hash, field, existing.sequenceNumber), 0);
+            }
+        }
+
+        private PersistentFieldMap build() {
+            return new PersistentFieldMap(root, size, nextSequenceNumber);
+        }
+    }
+
+    private static final class OrderedIterator implements Iterator<Map.Entry<String, JsonField>> {
+
+        private final Entry[] entries;
+        private int index;
+
+        private OrderedIterator(final Entry[] entries) {
+            this.entries = entries;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < entries.length;
+        }
+
+        @Override
+        public Map.Entry<String, JsonField> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return entries[index++];
+        }
+    }
+
+    /**
+     * Entries in iteration order. The final field ensures safe publication of the lazily created array.
+     */
+    private static final class Ordering {
+
+        private final Entry[] entries;
+
+        private Ordering(final Entry[] entries) {
+            this.entries = entries;
+        }
+    }
+
+    private static final class Entry implements Map.Entry<String, JsonField> {
+
+        private final String key;
+        private final int hash;
+        private final JsonField field;
+        private final long sequenceNumber;
+
+        private Entry(final String key, final int hash, final JsonField field, final long sequenceNumber) {
+            this.key = key;
+            this.hash = hash;
+            this.field = field;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public JsonField getValue() {
+            return field;
+        }
+
+        @Override
+        public JsonField setValue(final JsonField value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+            return key.equals(that.getKey()) && field.equals(that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash ^ field.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + field;
+        }
+    }
+
+    private abstract static class Node {
+
+        @Nullable
+        abstract Entry find(String key, int hash, int shift);
+
+        abstract Node put(Object edit, Entry entry, int shift);
+
+        @Nullable
+        abstract Node remove(String key, int hash, int shift);
+
+        abstract int collect(Entry[] target, int offset);
+    }
+
+    /**
+     * Trie node whose slots are either entries or child nodes, indexed by 5 bits of the key hash per level.
+     */
+    private static final class BitmapNode extends Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        @Nullable private final Object edit;
+        private int bitmap;
+        private Object[] slots;
+
+        private BitmapNode(@Nullable final Object edit, final int bitmap, final Object[] slots) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private static Node of(final Object edit, final Entry first, final Entry second, final int shift) {
+            if (first.hash == second.hash) {
+                return new CollisionNode(first.hash, new Entry[]{first, second});
+            }
+            return new BitmapNode(edit, 0, new Object[0])
+                    .put(edit, first, shift)
+                    .put(edit, second, shift);
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Nullable
+        @Override
+        Entry find(final String key, final int hash, final int shift) {
+            final int bit = bitPosition(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            final Object slot = slots[index(bit)];
+            if (slot instanceof Node) {
+                return ((Node) slot).find(key, hash, shift + BITS_PER_LEVEL);
+            }
+            final Entry entry = (Entry) slot;
+            return key.equals(entry.key) ? entry : null;
+        }
+
+        @Override
+        Node put(final Object edit, final Entry entry, final int shift) {
+            final int bit = bitPosition(entry.hash, shift);
+            final int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                final Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return withSlots(edit, bitmap | bit, newSlots);
+            }
+            final Object slot = slots[index];
+            final Object newSlot;
+            if (slot instanceof Node) {
+                newSlot = ((Node) slot).put(edit, entry, shift + BITS_PER_LEVEL);
+            } else if (((Entry) slot).key.equals(entry.key)) {
+                newSlot = entry;
+            } else {
+                newSlot = of(edit, (Entry) slot, entry, shift + BITS_PER_LEVEL);
+            }
+            if (newSlot == slot) {
+                return this;
+            } else if (edit == this.edit) {
+                slots[index] = newSlot;
+                return this;
+            }
+            final Object[] newSlots = slots.clone();
+            newSlots[index] = newSlot;
+            return new BitmapNode(edit, bitmap, newSlots);
+        }
+
+        private Node withSlots(final Object edit, final int newBitmap, final Object[] newSlots) {
+            if (edit == this.edit) {
+                bitmap = newBitmap;
+                slots = newSlots;
+                return this;
+            }
+            return new BitmapNode(edit, newBitmap, newSlots);
+        }
+
+        @Nullable
+        @Override
+        Node remove(final String key, final int hash, final int shift) {
+            final int bit = bitPosition(hash, shift);
+            final int index = index(bit);
+            final Object slot = slots[index];
+            if (slot instanceof Node) {
+                final Node newChild = ((Node) slot).remove(key, hash, shift + BITS_PER_LEVEL);
+                if (newChild != null) {
+                    final Object[] newSlots = slots.clone();
+                    newSlots[index] = newChild;
+                    return new BitmapNode(null, bitmap, newSlots);
+                }
+            }
+            if (slots.length == 1) {
+                return null;
+            }
+            final Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, newSlots.length - index);
+            return new BitmapNode(null, bitmap & ~bit, newSlots);
+        }
+
+        @Override
+        int collect(final Entry[] target, final int offset) {
+            int i = offset;
+            for (final Object slot : slots) {
+                if (slot instanceof Node) {
+                    i = ((Node) slot).collect(target, i);
+                } else {
+                    target[i++] = (Entry) slot;
+                }
+            }
+            return i;
+        }
+    }
+
+    /**
+     * Trie node of entries whose keys have the same hash code.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final int hash;
+        private final Entry[] entries;
+
+        private CollisionNode(final int hash, final Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < entries.length; ++i) {
+                if (key.equals(entries[i].key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        Entry find(final String key, final int hash, final int shift) {
+            if (hash != this.hash) {
+                return null;
+            }
+            final int index = indexOf(key);
+            return index < 0 ? null : entries[index];
+        }
+
+        @Override
+        Node put(final Object edit, final Entry entry, final int shift) {
+            if (entry.hash != hash) {
+                // the colliding keys share the hash bits of all levels above; split at the current one
+                return new BitmapNode(edit, bitPosition(hash, shift), new Object[]{this})
+                        .put(edit, entry, shift);
+            }
+            final int index = indexOf(entry.key);
+            final Entry[] newEntries;
+            if (index < 0) {
+                newEntries = Arrays.copyOf(entries, entries.length + 1);
+                newEntries[entries.length] = entry;
+            } else {
+                newEntries = entries.clone();
+                newEntries[index] = entry;
+            }
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Nullable
+        @Override
+        Node remove(final String key, final int hash, final int shift) {
+            final int index = indexOf(key);
+            if (entries.length == 1) {
+                return null;
+            }
+            final Entry[] newEntries = new Entry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, newEntries.length - index);
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Override
+        int collect(final Entry[] target, final int offset) {
+            System.arraycopy(entries, 0, target, offset, entries.length);
+            return offset + entries.length;
+        }
+    }
+
+}
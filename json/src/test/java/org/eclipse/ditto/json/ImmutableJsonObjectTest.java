@@ -1410,6 +1410,40 @@ public final class ImmutableJsonObjectTest {
         assertThat(jsonObject.getValue(KNOWN_KEY_FOO).isPresent()).isTrue();
     }
 
+    @Test
+    public void upperBoundForStringSizeOfModifiedObjectDoesNotSerialize() {
+        final JsonObject modified = ImmutableJsonObject.of(KNOWN_FIELDS)
+                .setValue("\"quoted\"", JsonValue.of("tab\tseparated"));
+
+        final long upperBound = modified.getUpperBoundForStringSize();
+        assertInternalCachesAreAsExpected(modified, false);
+
+        assertThat(upperBound).isGreaterThanOrEqualTo(modified.toString().length());
+    }
+
+    @Test
+    public void modifiedObjectRecoversFieldsFromSoftReferenceAfterSerialization()
+            throws IllegalAccessException, NoSuchFieldException {
+
+        final JsonObject modified = ImmutableJsonObject.of(KNOWN_FIELDS).setValue("bar", 42);
+        final String serialized = modified.toString();
+
+        final Field fieldMapField = modified.getClass().getDeclaredField("fieldMap");
+        fieldMapField.setAccessible(true);
+        final ImmutableJsonObject.SoftReferencedFieldMap fieldMap =
+                (ImmutableJsonObject.SoftReferencedFieldMap) fieldMapField.get(modified);
+        final Field strongFieldsField = fieldMap.getClass().getDeclaredField("strongFields");
+        strongFieldsField.setAccessible(true);
+        assertThat(strongFieldsField.get(fieldMap)).isNull();
+
+        final Field softReferenceField = fieldMap.getClass().getDeclaredField("fieldsReference");
+        softReferenceField.setAccessible(true);
+        ((SoftReference<?>) softReferenceField.get(fieldMap)).clear();
+
+        assertThat(modified.getValue("bar")).contains(JsonValue.of(42));
+        assertThat(modified.toString()).isEqualTo(serialized);
+    }
+
     private void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean jsonExpected) {
         try {
             final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
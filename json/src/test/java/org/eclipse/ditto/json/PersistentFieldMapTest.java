@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap}.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void keepsInsertionOrderOfCopiedMap() {
+        final Map<String, JsonField> fields = fieldsOf(1000);
+
+        final PersistentFieldMap underTest = PersistentFieldMap.of(fields);
+
+        assertThat(underTest).isEqualTo(fields);
+        assertThat(underTest.hashCode()).isEqualTo(fields.hashCode());
+        assertThat(new ArrayList<>(underTest.keySet())).isEqualTo(new ArrayList<>(fields.keySet()));
+    }
+
+    @Test
+    public void replacingFieldKeepsItsPosition() {
+        final PersistentFieldMap underTest = PersistentFieldMap.of(fieldsOf(3))
+                .plus("k0", field("k0", 42))
+                .plus("k3", field("k3", 3));
+
+        assertThat(new ArrayList<>(underTest.keySet())).containsExactly("k0", "k1", "k2", "k3");
+        assertThat(underTest.get("k0")).isEqualTo(field("k0", 42));
+    }
+
+    @Test
+    public void modificationsLeaveOriginUnchanged() {
+        final Map<String, JsonField> fields = fieldsOf(100);
+        final PersistentFieldMap origin = PersistentFieldMap.of(fields);
+
+        final PersistentFieldMap modified = origin.plus("k50", field("k50", -1)).minus("k7").minus("unknown");
+
+        assertThat(origin).isEqualTo(fields);
+        assertThat(modified).hasSize(99).doesNotContainKey("k7").containsEntry("k50", field("k50", -1));
+        assertThat(modified.minus("unknown")).isSameAs(modified);
+    }
+
+    @Test
+    public void removalsAndReinsertionsKeepOrder() {
+        PersistentFieldMap underTest = PersistentFieldMap.of(fieldsOf(10));
+        for (int i = 0; i < 8; i++) {
+            underTest = underTest.minus("k" + i);
+        }
+        underTest = underTest.plusAll(Arrays.asList(field("k3", 3), field("k0", 0)));
+
+        assertThat(new ArrayList<>(underTest.keySet())).containsExactly("k8", "k9", "k3", "k0");
+    }
+
+    @Test
+    public void handlesHashCollisions() {
+        // "Aa" and "BB" have the same hash code
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .plus("Aa", field("Aa", 1))
+                .plus("BB", field("BB", 2))
+                .plus("C#", field("C#", 3));
+
+        assertThat(underTest).hasSize(3)
+                .containsEntry("Aa", field("Aa", 1))
+                .containsEntry("BB", field("BB", 2))
+                .containsEntry("C#", field("C#", 3));
+        assertThat(underTest.minus("Aa")).hasSize(2).doesNotContainKey("Aa").containsKey("BB");
+        assertThat(underTest.minus("Aa").minus("BB").minus("C#")).isEmpty();
+    }
+
+    @Test
+    public void settingNestedValueSharesUntouchedFields() {
+        final JsonObject sibling = JsonObject.newBuilder().set("x", 1).build();
+        final JsonObject original = JsonObject.newBuilder()
+                .set("sibling", sibling)
+                .set("a", JsonObject.newBuilder().set("b", 1).build())
+                .build();
+
+        final JsonObject modified = original.setValue(JsonPointer.of("a/b"), JsonValue.of(2));
+
+        assertThat(modified.getValue("sibling")).containsSame(sibling);
+        assertThat(modified.getValue(JsonPointer.of("a/b"))).contains(JsonValue.of(2));
+        assertThat(original.getValue(JsonPointer.of("a/b"))).contains(JsonValue.of(1));
+        assertThat(modified.toString()).isEqualTo("{\"sibling\":{\"x\":1},\"a\":{\"b\":2}}");
+    }
+
+    private static Map<String, JsonField> fieldsOf(final int size) {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            fields.put("k" + i, field("k" + i, i));
+        }
+        return fields;
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+}
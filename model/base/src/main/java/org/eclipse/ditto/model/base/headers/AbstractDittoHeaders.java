@@ -64,6 +64,7 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     private static final String ISSUER_DIVIDER = ":";
 
     final Map<String, Header> headers;
+    private final long entriesSize;
 
     /**
      * Constructs a new {@code AbstractDittoHeaders} object.
@@ -76,15 +77,18 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         if (headers instanceof AbstractDittoHeaders) {
             // Share the map from the other AbstractDittoHeaders--it is not modifiable. Otherwise case is not preserved.
             this.headers = ((AbstractDittoHeaders) headers).headers;
+            entriesSize = ((AbstractDittoHeaders) headers).entriesSize;
         } else {
             final Map<String, String> headersWithOnlyPrefixedSubjects =
                     keepAuthContextSubjectsWithIssuer(headers, (key, value) -> value);
             this.headers = indexByLowerCase(headersWithOnlyPrefixedSubjects);
+            entriesSize = getEntriesSize(this.headers);
         }
     }
 
     /**
      * Construct a new {@code AbstractDittoHeaders} from a known case insensitive map.
+     * The map is taken over without copying it and must not be modified afterwards.
      *
      * @param headers headers indexed by lower-case keys.
      * @param flag unused disambiguation parameter.
@@ -92,8 +96,8 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     @SuppressWarnings("unused")
     protected AbstractDittoHeaders(final Map<String, Header> headers, final boolean flag) {
         checkNotNull(headers, "headers");
-        final Map<String, Header> candidate = keepAuthContextSubjectsWithIssuer(headers, Header::of);
-        this.headers = candidate != headers ? candidate : new LinkedHashMap<>(candidate);
+        this.headers = keepAuthContextSubjectsWithIssuer(headers, Header::of);
+        entriesSize = getEntriesSize(this.headers);
     }
 
     @Override
@@ -127,14 +131,15 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public boolean containsKey(final Object key) {
-        return key instanceof String && headers.containsKey(key.toString().toLowerCase());
+        return key instanceof String && headers.containsKey(Header.toIndexKey((String) key));
     }
 
     @Override
     @Nullable
     public String get(final Object key) {
         if (key instanceof String) {
-            return Optional.ofNullable(headers.get(key.toString().toLowerCase())).map(Header::getValue).orElse(null);
+            @Nullable final Header header = headers.get(Header.toIndexKey((String) key));
+            return null != header ? header.getValue() : null;
         } else {
             return null;
         }
@@ -490,15 +495,7 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         checkArgument(size, s -> 0 <= size,
                 () -> MessageFormat.format("The size to compare to must not be negative but it was <{0}>!", size));
 
-        long quota = size;
-
-        for (final Header header : headers.values()) {
-            quota -= getHeaderLength(header);
-            if (0 > quota) {
-                return true;
-            }
-        }
-        return false;
+        return entriesSize > size;
     }
 
     @Override
@@ -553,13 +550,21 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         }
     }
 
+    private static long getEntriesSize(final Map<String, Header> headers) {
+        long result = 0;
+        for (final Header header : headers.values()) {
+            result += getHeaderLength(header);
+        }
+        return result;
+    }
+
     private static int getHeaderLength(final Header header) {
         return header.getKey().length() + header.getValue().length();
     }
 
     private static Map<String, Header> indexByLowerCase(final Map<String, String> map) {
         final Map<String, Header> headers = new LinkedHashMap<>();
-        map.forEach((key, value) -> headers.put(key.toLowerCase(), Header.of(key, value)));
+        map.forEach((key, value) -> headers.put(Header.toIndexKey(key), Header.of(key, value)));
         return Collections.unmodifiableMap(headers);
     }
 }
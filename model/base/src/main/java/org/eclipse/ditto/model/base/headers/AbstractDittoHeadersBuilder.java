@@ -56,6 +56,8 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
  * most of the work including header value validation. Insertion order and re-insertion order is maintained via
  * a linked hash map. Since Java linked hash map does not maintain re-insertion order, each entry is removed from
  * the map before they are added.
+ * The map of headers is copied on write: a builder of existing headers shares their map until the first modification
+ * and a built instance takes over the map of the builder.
  */
 @NotThreadSafe
 public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeadersBuilder<S, R>, R extends DittoHeaders>
@@ -73,7 +75,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     }
 
     protected final S myself;
-    private final Map<String, Header> headers;
+    @Nullable private final ImmutableDittoHeaders initialDittoHeaders;
+    private Map<String, Header> headers;
+    private boolean headersShared;
     private MetadataHeaders metadataHeaders;
     private final Map<String, HeaderDefinition> definitions;
 
@@ -95,14 +99,18 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(definitions, "header definitions");
         validateValueTypes(initialHeaders, definitions); // this constructor does validate the known value types
         myself = (S) selfType.cast(this);
+        initialDittoHeaders = null;
         headers = preserveCaseSensitivity(initialHeaders);
+        headersShared = false;
         metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
+        metadataHeaders.addAll(extractMetadataHeaders());
         this.definitions = getHeaderDefinitionsAsMap(definitions);
     }
 
-    private static MetadataHeaders extractMetadataHeaders(final Map<String, Header> headers) {
-        final CharSequence metadataHeadersCharSequence = headers.remove(DittoHeaderDefinition.PUT_METADATA.getKey());
+    private MetadataHeaders extractMetadataHeaders() {
+        final String metadataKey = DittoHeaderDefinition.PUT_METADATA.getKey();
+        @Nullable final CharSequence metadataHeadersCharSequence =
+                headers.containsKey(metadataKey) ? mutableHeaders().remove(metadataKey) : null;
         final MetadataHeaders result;
         if (null != metadataHeadersCharSequence) {
             result = MetadataHeaders.parseMetadataHeaders(metadataHeadersCharSequence);
@@ -144,12 +152,30 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(initialHeaders, "initialHeaders");
         checkNotNull(definitions, "definitions");
         myself = (S) selfType.cast(this);
-        headers = preserveCaseSensitivity(initialHeaders);
+        if (initialHeaders instanceof AbstractDittoHeaders) {
+            // share the immutable map of the initial headers until the first modification
+            initialDittoHeaders =
+                    initialHeaders instanceof ImmutableDittoHeaders ? (ImmutableDittoHeaders) initialHeaders : null;
+            headers = ((AbstractDittoHeaders) initialHeaders).headers;
+            headersShared = true;
+        } else {
+            initialDittoHeaders = null;
+            headers = preserveCaseSensitivity(initialHeaders);
+            headersShared = false;
+        }
         metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
+        metadataHeaders.addAll(extractMetadataHeaders());
         this.definitions = getHeaderDefinitionsAsMap(definitions);
     }
 
+    private Map<String, Header> mutableHeaders() {
+        if (headersShared) {
+            headers = new LinkedHashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
     /**
      * Validates the values of the specified headers with the help of the specified definitions.
      *
@@ -185,14 +211,15 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         final String key = DittoHeaderDefinition.CORRELATION_ID.getKey();
         if (correlationId != null) {
             checkNotEmpty(correlationId, "correlationId");
-            final Header previousCorrelationId = headers.remove(key);
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            final Header previousCorrelationId = mutableHeaders.remove(key);
             if (previousCorrelationId != null) {
-                headers.put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
+                mutableHeaders.put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
             } else {
-                headers.put(key, Header.of(key, correlationId.toString()));
+                mutableHeaders.put(key, Header.of(key, correlationId.toString()));
             }
         } else {
-            headers.remove(key);
+            removeFromHeaders(key);
         }
         return myself;
     }
@@ -208,8 +235,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     protected void putCharSequence(final HeaderDefinition definition, @Nullable final CharSequence value) {
         if (null != value) {
             checkNotEmpty(value, definition.getKey());
-            headers.remove(definition.getKey());
-            headers.put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            mutableHeaders.remove(definition.getKey());
+            mutableHeaders.put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
         } else {
             removeHeader(definition.getKey());
         }
@@ -499,15 +527,16 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public S putHeader(final CharSequence key, final CharSequence value) {
         validateKey(key);
         checkNotNull(value, "value");
-        final String keyString = key.toString().toLowerCase();
+        final String keyString = Header.toIndexKey(key);
         validateValueType(keyString, value);
         if (isMetadataKey(keyString)) {
             metadataHeaders = MetadataHeaders.parseMetadataHeaders(value);
         } else if (DittoHeaderDefinition.CORRELATION_ID.getKey().equals(keyString)) {
             correlationId(value);
         } else {
-            headers.remove(keyString);
-            headers.put(keyString, Header.of(key.toString(), value.toString()));
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            mutableHeaders.remove(keyString);
+            mutableHeaders.put(keyString, Header.of(key.toString(), value.toString()));
         }
         return myself;
     }
@@ -537,8 +566,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     @Override
     public S removeHeader(final CharSequence key) {
         validateKey(key);
-        final String keyString = key.toString().toLowerCase();
-        headers.remove(keyString);
+        final String keyString = Header.toIndexKey(key);
+        removeFromHeaders(keyString);
         if (isMetadataKey(keyString)) {
             metadataHeaders.clear();
         }
@@ -547,22 +576,36 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     @Override
     public S removePreconditionHeaders() {
-        headers.remove(DittoHeaderDefinition.IF_MATCH.getKey());
-        headers.remove(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
+        removeFromHeaders(DittoHeaderDefinition.IF_MATCH.getKey());
+        removeFromHeaders(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
         return myself;
     }
 
+    private void removeFromHeaders(final String key) {
+        if (headers.containsKey(key)) {
+            mutableHeaders().remove(key);
+        }
+    }
+
     @Override
     public R build() {
         // do it here
         putMetadataHeadersToRegularHeaders();
-        final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers);
+        final ImmutableDittoHeaders dittoHeaders;
+        if (null != initialDittoHeaders && initialDittoHeaders.headers == headers) {
+            // nothing was modified
+            dittoHeaders = initialDittoHeaders;
+        } else {
+            dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers);
+            // the built headers took over the map
+            headersShared = true;
+        }
         return doBuild(dittoHeaders);
     }
 
     private void putMetadataHeadersToRegularHeaders() {
         if (!metadataHeaders.isEmpty()) {
-            headers.put(DittoHeaderDefinition.PUT_METADATA.getKey(),
+            mutableHeaders().put(DittoHeaderDefinition.PUT_METADATA.getKey(),
                     Header.of(DittoHeaderDefinition.PUT_METADATA.getKey(), metadataHeaders.toJsonString()));
         }
     }
@@ -580,7 +623,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
             return new LinkedHashMap<>(((AbstractDittoHeaders) headers).headers);
         } else {
             final LinkedHashMap<String, Header> result = new LinkedHashMap<>();
-            headers.forEach((k, v) -> result.put(k.toLowerCase(), Header.of(k, v)));
+            headers.forEach((k, v) -> result.put(Header.toIndexKey(k), Header.of(k, v)));
             return result;
         }
     }
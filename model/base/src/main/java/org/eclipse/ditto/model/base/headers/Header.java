@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.model.base.headers;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -27,6 +31,21 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class Header implements CharSequence {
 
+    /*
+     * The keys of the well-known headers. Headers are indexed by these String instances instead of a copy per
+     * headers instance.
+     */
+    private static final Map<String, String> KNOWN_KEYS;
+
+    static {
+        final DittoHeaderDefinition[] dittoHeaderDefinitions = DittoHeaderDefinition.values();
+        final Map<String, String> knownKeys = new HashMap<>(dittoHeaderDefinitions.length * 2);
+        for (final DittoHeaderDefinition dittoHeaderDefinition : dittoHeaderDefinitions) {
+            knownKeys.put(dittoHeaderDefinition.getKey(), dittoHeaderDefinition.getKey());
+        }
+        KNOWN_KEYS = Collections.unmodifiableMap(knownKeys);
+    }
+
     private final String key;
     private final String value;
 
@@ -36,7 +55,28 @@ final class Header implements CharSequence {
     }
 
     static Header of(final String key, final String value) {
-        return new Header(key, value);
+        return new Header(intern(key), value);
+    }
+
+    /**
+     * Returns the lower-case key by which a header is indexed.
+     * Keys of well-known headers are returned as the instances of their {@code DittoHeaderDefinition}.
+     *
+     * @param key the key of a header in arbitrary case.
+     * @return the lower-case key.
+     */
+    static String toIndexKey(final CharSequence key) {
+        final String keyString = key.toString();
+        @Nullable final String knownKey = KNOWN_KEYS.get(keyString);
+        if (null != knownKey) {
+            return knownKey;
+        }
+        return intern(keyString.toLowerCase());
+    }
+
+    private static String intern(final String key) {
+        @Nullable final String knownKey = KNOWN_KEYS.get(key);
+        return null != knownKey ? knownKey : key;
     }
 
     String getKey() {
@@ -493,4 +493,43 @@ public final class DefaultDittoHeadersBuilderTest {
                 .withCauseInstanceOf(JsonParseException.class);
     }
 
+    @Test
+    public void buildUnmodifiedBuilderOfDittoHeadersReturnsSameInstance() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId(CORRELATION_ID).build();
+
+        assertThat(dittoHeaders.toBuilder().build()).isSameAs(dittoHeaders);
+    }
+
+    @Test
+    public void modifyingBuilderOfDittoHeadersDoesNotModifyThem() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId(CORRELATION_ID).build();
+
+        final DittoHeaders modified = dittoHeaders.toBuilder()
+                .putHeader("foo", "bar")
+                .removeHeader(DittoHeaderDefinition.CORRELATION_ID.getKey())
+                .build();
+
+        assertThat(dittoHeaders).containsOnly(entry(DittoHeaderDefinition.CORRELATION_ID.getKey(), CORRELATION_ID));
+        assertThat(modified).containsOnly(entry("foo", "bar"));
+    }
+
+    @Test
+    public void modifyingBuilderAfterBuildDoesNotModifyBuiltHeaders() {
+        final DittoHeadersBuilder<?, ?> underTest = DittoHeaders.newBuilder().putHeader("foo", "bar");
+        final DittoHeaders first = underTest.build();
+
+        final DittoHeaders second = underTest.putHeader("baz", "qux").build();
+
+        assertThat(first).containsOnly(entry("foo", "bar"));
+        assertThat(second).containsOnly(entry("foo", "bar"), entry("baz", "qux"));
+    }
+
+    @Test
+    public void keysOfKnownHeadersAreIndexedCaseInsensitively() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().putHeader("Correlation-Id", CORRELATION_ID).build();
+
+        assertThat(dittoHeaders.getCorrelationId()).contains(CORRELATION_ID);
+        assertThat(dittoHeaders.asCaseSensitiveMap()).containsOnlyKeys("Correlation-Id");
+    }
+
 }
@@ -134,6 +134,7 @@ public final class ImmutableDittoHeadersTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableDittoHeaders.class)
                 .withNonnullFields("headers")
+                .withIgnoredFields("entriesSize")
                 .verify();
     }
 
@@ -141,6 +141,16 @@ public interface CriteriaFactory {
      */
     Predicate like(Object value);
 
+    /**
+     * Creates a predicate which checks whether a string matches a pattern ignoring case.
+     *
+     * @param value the pattern with the wildcards {@code *} and {@code ?}.
+     * @return the predicate.
+     * @throws IllegalArgumentException if the value is not a string.
+     * @since 2.0.0
+     */
+    Predicate ilike(Object value);
+
     /**
      * The $in predicate selects the documents where the value of a field equals any value in the specified array.
      *
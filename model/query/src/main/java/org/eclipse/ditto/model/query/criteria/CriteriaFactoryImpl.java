@@ -94,6 +94,15 @@ public final class CriteriaFactoryImpl implements CriteriaFactory {
         }
     }
 
+    @Override
+    public Predicate ilike(final Object value) {
+        if (value instanceof String) {
+            return new ILikePredicateImpl(value);
+        } else {
+            throw new IllegalArgumentException("In the ilike predicate only string values are allowed.");
+        }
+    }
+
     @Override
     public Predicate in(final List<?> values) {
         return new InPredicateImpl(requireNonNull(values));
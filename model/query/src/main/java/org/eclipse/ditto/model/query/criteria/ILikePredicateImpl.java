@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.criteria;
+
+import java.util.Locale;
+
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * Case-insensitive like predicate. The pattern is lower-cased with {@link Locale#ROOT} before it is converted into a
+ * regular expression, so that it matches values lower-cased in the same way.
+ *
+ * @since 2.0.0
+ */
+public final class ILikePredicateImpl extends AbstractSinglePredicate {
+
+    public ILikePredicateImpl(final Object value) {
+        super(value);
+    }
+
+    @Override
+    public <T> T accept(final PredicateVisitor<T> visitor) {
+        final String lowerCasePattern = getValue().toString().toLowerCase(Locale.ROOT);
+        return visitor.visitILike(LikePredicateImpl.convertToRegexSyntax(lowerCasePattern));
+    }
+}
@@ -29,9 +29,15 @@ public class LikePredicateImpl extends AbstractSinglePredicate {
         super(value);
     }
 
-    private String convertToRegexSyntaxAndGetOption() {
+    /**
+     * Convert a like pattern with the wildcards {@code *} and {@code ?} into a regular expression.
+     *
+     * @param pattern the like pattern.
+     * @return the regular expression.
+     */
+    static String convertToRegexSyntax(final String pattern) {
         // simplify expression by replacing repeating wildcard with a single one
-        final String valueString = replaceRepeatingWildcards(getValue().toString());
+        final String valueString = replaceRepeatingWildcards(pattern);
         // shortcut for single * wildcard
         if ("*".equals(valueString)) {
             return ".*";
@@ -54,12 +60,12 @@ public class LikePredicateImpl extends AbstractSinglePredicate {
         return escapedString;
     }
 
-    private String replaceRepeatingWildcards(final String value) {
+    private static String replaceRepeatingWildcards(final String value) {
         return value.replaceAll("\\*{2,}", "*");
     }
 
     @Override
     public <T> T accept(final PredicateVisitor<T> visitor) {
-        return visitor.visitLike(convertToRegexSyntaxAndGetOption());
+        return visitor.visitLike(convertToRegexSyntax(getValue().toString()));
     }
 }
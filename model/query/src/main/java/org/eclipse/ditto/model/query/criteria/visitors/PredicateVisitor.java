@@ -33,6 +33,15 @@ public interface PredicateVisitor<T> {
 
     T visitLike(String value);
 
+    /**
+     * Visit a case-insensitive like predicate.
+     *
+     * @param value the regular expression of the lower-cased like pattern.
+     * @return the result.
+     * @since 2.0.0
+     */
+    T visitILike(String value);
+
     T visitLt(Object value);
 
     T visitNe(Object value);
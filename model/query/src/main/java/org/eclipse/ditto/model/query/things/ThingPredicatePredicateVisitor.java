@@ -14,6 +14,7 @@ package org.eclipse.ditto.model.query.things;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -174,6 +175,16 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
                         .isPresent();
     }
 
+    @Override
+    public Function<String, Predicate<Thing>> visitILike(final String value) {
+        return fieldName ->
+                thing -> getThingField(fieldName, thing)
+                        .filter(JsonValue::isString)
+                        .map(JsonValue::asString)
+                        .filter(str -> Pattern.compile(value).matcher(str.toLowerCase(Locale.ROOT)).matches())
+                        .isPresent();
+    }
+
     private static Optional<JsonValue> getThingField(final CharSequence fieldName, final Thing thing) {
         return thing.toJson(p -> true).getValue(fieldName);
     }
@@ -363,6 +363,13 @@ public final class ThingPredicateVisitorTest {
         testPredicate(null, "like", "thingId", MATCHING_THING_ID.toString().replace('r', '?'));
     }
 
+    @Test
+    public void testFilterThingIdWithStringILike() {
+        testPredicate(null, "ilike", "thingId", "ORG.Eclipse.ditto*");
+        testPredicate(null, "ilike", "thingId", "*MATCHING*");
+        testPredicateNeg(null, "like", "thingId", "*MATCHING*");
+    }
+
     @Test
     public void testFilterThingIdExists() {
         final Predicate<Thing> thingPredicate = createPredicate("exists(thingId)");
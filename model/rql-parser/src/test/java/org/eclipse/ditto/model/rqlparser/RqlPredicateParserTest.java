@@ -196,6 +196,18 @@ public class RqlPredicateParserTest {
         assertThat(comparison.getComparisonValue()).isEqualTo("test*");
     }
 
+    @Test
+    public void testComparisonILike() throws ParserException {
+        final RootNode root = parser.parse("ilike(width,\"Test*\")");
+        assertThat(root).isNotNull();
+        assertThat(root.getChildren().size()).isEqualTo(1);
+
+        final SingleComparisonNode comparison = (SingleComparisonNode) root.getChildren().get(0);
+        assertThat(comparison.getComparisonType()).isEqualTo(SingleComparisonNode.Type.ILIKE);
+        assertThat(comparison.getComparisonProperty()).isEqualTo("width");
+        assertThat(comparison.getComparisonValue()).isEqualTo("Test*");
+    }
+
     @Test
     public void testComparisonIn() throws ParserException {
         final RootNode root = parser.parse("in(attributes,\"test\",1,true)");
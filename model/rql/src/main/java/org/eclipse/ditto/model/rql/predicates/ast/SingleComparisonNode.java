@@ -75,7 +75,14 @@ public final class SingleComparisonNode extends ComparisonNode<SingleComparisonN
         /**
          * Represents a lower than or equals comparison.
          */
-        LIKE("like");
+        LIKE("like"),
+
+        /**
+         * Represents a case-insensitive like comparison.
+         *
+         * @since 2.0.0
+         */
+        ILIKE("ilike");
 
         private final String name;
 
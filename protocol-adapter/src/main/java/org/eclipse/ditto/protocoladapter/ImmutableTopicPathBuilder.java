@@ -221,6 +221,12 @@ final class ImmutableTopicPathBuilder implements TopicPathBuilder, MessagesTopic
         return this;
     }
 
+    @Override
+    public TopicPathBuildable hasChange() {
+        this.searchAction = TopicPath.SearchAction.CHANGE;
+        return this;
+    }
+
     @Override
     public EventsTopicPathBuilder generated() {
         this.searchAction = TopicPath.SearchAction.GENERATED;
@@ -65,6 +65,14 @@ public interface SearchTopicPathBuilder extends TopicPathBuildable {
      */
     TopicPathBuildable hasNext();
 
+    /**
+     * Sets the {@code Action} of this builder to {@link TopicPath.SearchAction#CHANGE}. A previously set action is replaced.
+     *
+     * @return this builder to allow method chaining.
+     * @since 2.0.0
+     */
+    TopicPathBuildable hasChange();
+
     /**
      * Sets the {@code Action} of this builder to {@link TopicPath.SearchAction#GENERATED}. A previously set action is replaced.
      *
@@ -24,6 +24,7 @@ import org.eclipse.ditto.signals.commands.thingsearch.subscription.RequestFromSu
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionComplete;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionCreated;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionFailed;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasChange;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasNextPage;
 
 /**
@@ -391,7 +392,9 @@ public interface TopicPath {
 
         FAILED(SubscriptionFailed.NAME),
 
-        NEXT(SubscriptionHasNextPage.NAME);
+        NEXT(SubscriptionHasNextPage.NAME),
+
+        CHANGE(SubscriptionHasChange.NAME);
 
         private final String name;
 
@@ -28,6 +28,7 @@ import org.eclipse.ditto.signals.events.thingsearch.SubscriptionComplete;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionCreated;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionEvent;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionFailed;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasChange;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasNextPage;
 
 /**
@@ -58,6 +59,13 @@ final class SubscriptionEventMappingStrategies extends AbstractSearchMappingStra
         mappingStrategies.put(SubscriptionHasNextPage.TYPE,
                 adaptable -> SubscriptionHasNextPage.of(Objects.requireNonNull(subscriptionIdFrom(adaptable)),
                         itemsFrom(adaptable), dittoHeadersFrom(adaptable)));
+        mappingStrategies.put(SubscriptionHasChange.TYPE,
+                adaptable -> SubscriptionHasChange.of(Objects.requireNonNull(subscriptionIdFrom(adaptable)),
+                        getFromValue(adaptable, SubscriptionHasChange.JsonFields.THING_ID)
+                                .orElseThrow(() -> JsonParseException.newBuilder().build()),
+                        changeFrom(adaptable),
+                        getFromValue(adaptable, SubscriptionHasChange.JsonFields.ITEM).orElse(null),
+                        dittoHeadersFrom(adaptable)));
 
         return mappingStrategies;
     }
@@ -66,6 +74,15 @@ final class SubscriptionEventMappingStrategies extends AbstractSearchMappingStra
         return getFromValue(adaptable, SubscriptionHasNextPage.JsonFields.ITEMS).orElseGet(JsonArray::empty);
     }
 
+    private static SubscriptionHasChange.Change changeFrom(final Adaptable adaptable) {
+        final String change = getFromValue(adaptable, SubscriptionHasChange.JsonFields.CHANGE)
+                .orElseThrow(() -> JsonParseException.newBuilder().build());
+        return SubscriptionHasChange.Change.forName(change)
+                .orElseThrow(() -> JsonParseException.newBuilder()
+                        .message("Unknown subscription change: <" + change + ">")
+                        .build());
+    }
+
     private static DittoRuntimeException errorFrom(final Adaptable adaptable, final ErrorRegistry<?> errorRegistry) {
         return getFromValue(adaptable, SubscriptionFailed.JsonFields.ERROR)
                 .map(error ->
@@ -50,7 +50,8 @@ final class ThingSearchCommandMappingStrategies extends AbstractSearchMappingStr
 
         mappingStrategies.put(CreateSubscription.TYPE,
                 adaptable -> CreateSubscription.of(filterFrom(adaptable), optionsFrom(adaptable),
-                        selectedFieldsFrom(adaptable), namespacesFrom(adaptable), dittoHeadersFrom(adaptable)));
+                        selectedFieldsFrom(adaptable), namespacesFrom(adaptable), dittoHeadersFrom(adaptable))
+                        .setContinuous(continuousFrom(adaptable)));
 
         mappingStrategies.put(CancelSubscription.TYPE,
                 adaptable -> CancelSubscription.of(requireNonNull(subscriptionIdFrom(adaptable)),
@@ -78,6 +79,10 @@ final class ThingSearchCommandMappingStrategies extends AbstractSearchMappingStr
         return getFromValue(adaptable, CreateSubscription.JsonFields.OPTIONS).orElse(null);
     }
 
+    private static boolean continuousFrom(final Adaptable adaptable) {
+        return getFromValue(adaptable, CreateSubscription.JsonFields.CONTINUOUS).orElse(false);
+    }
+
     private static long demandFrom(final Adaptable adaptable) {
         return getFromValue(adaptable, RequestFromSubscription.JsonFields.DEMAND).orElse(0L);
     }
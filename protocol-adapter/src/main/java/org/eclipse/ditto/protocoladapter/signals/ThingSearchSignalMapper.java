@@ -129,6 +129,9 @@ final class ThingSearchSignalMapper<T extends Signal<?>> extends AbstractSignalM
                                 .collect(JsonCollectors.valuesToArray());
                         payloadContentBuilder.set(CreateSubscription.JsonFields.NAMESPACES, namespacesArray);
                     });
+            if (createCommand.isContinuous()) {
+                payloadContentBuilder.set(CreateSubscription.JsonFields.CONTINUOUS, true);
+            }
         } else if (command instanceof CancelSubscription) {
             final CancelSubscription cancelCommand = (CancelSubscription) command;
             payloadContentBuilder.set(CancelSubscription.JsonFields.SUBSCRIPTION_ID, cancelCommand.getSubscriptionId());
@@ -35,6 +35,7 @@ import org.eclipse.ditto.signals.events.thingsearch.SubscriptionComplete;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionCreated;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionEvent;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionFailed;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasChange;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasNextPage;
 
 /**
@@ -98,6 +99,16 @@ final class SubscriptionEventAdapter extends AbstractThingAdapter<SubscriptionEv
                     .set(subscriptionIdKey, hasNextEvent.getSubscriptionId())
                     .set(SubscriptionHasNextPage.JsonFields.ITEMS, hasNextEvent.getItems());
 
+        } else if (event instanceof SubscriptionHasChange) {
+            topicPath = TopicPath.fromNamespace(TopicPath.ID_PLACEHOLDER).things().twin().search().hasChange().build();
+            SubscriptionHasChange hasChangeEvent = (SubscriptionHasChange) event;
+            payloadContentBuilder
+                    .set(subscriptionIdKey, hasChangeEvent.getSubscriptionId())
+                    .set(SubscriptionHasChange.JsonFields.THING_ID, hasChangeEvent.getThingId())
+                    .set(SubscriptionHasChange.JsonFields.CHANGE, hasChangeEvent.getChange().getName());
+            hasChangeEvent.getItem()
+                    .ifPresent(item -> payloadContentBuilder.set(SubscriptionHasChange.JsonFields.ITEM, item));
+
         } else {
             throw UnknownEventException.newBuilder(event.getClass().getCanonicalName()).build();
         }
@@ -126,6 +137,6 @@ final class SubscriptionEventAdapter extends AbstractThingAdapter<SubscriptionEv
     @Override
     public Set<TopicPath.SearchAction> getSearchActions() {
         return EnumSet.of(TopicPath.SearchAction.COMPLETE, TopicPath.SearchAction.NEXT,
-                TopicPath.SearchAction.FAILED, TopicPath.SearchAction.GENERATED);
+                TopicPath.SearchAction.FAILED, TopicPath.SearchAction.GENERATED, TopicPath.SearchAction.CHANGE);
     }
 }
@@ -35,6 +35,7 @@ import org.eclipse.ditto.signals.events.thingsearch.SubscriptionComplete;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionCreated;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionEvent;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionFailed;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasChange;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasNextPage;
 import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
 import org.junit.Before;
@@ -283,6 +284,65 @@ public final class SubscriptionEventAdapterTest implements ProtocolAdapterTest {
         assertWithExternalHeadersThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void subscriptionHasChangeFromAdaptable() {
+
+        final TopicPath topicPath = TopicPath.fromNamespace("_")
+                .things()
+                .twin()
+                .search()
+                .hasChange()
+                .build();
+
+        final JsonObject item = JsonObject.of("{\"thingId\":\"ns:thing\"}");
+        final SubscriptionHasChange expected =
+                SubscriptionHasChange.of(TestConstants.SUBSCRIPTION_ID, "ns:thing",
+                        SubscriptionHasChange.Change.ENTER, item, TestConstants.DITTO_HEADERS_V_2_NO_STATUS);
+
+        final JsonPointer path = JsonPointer.empty();
+
+        final Adaptable adaptable = Adaptable.newBuilder(topicPath)
+                .withPayload(Payload.newBuilder(path)
+                        .withValue(JsonObject.of(String.format(
+                                "{\"subscriptionId\": \"%s\", \"thingId\": \"ns:thing\", \"change\": \"enter\", " +
+                                        "\"item\": %s}", TestConstants.SUBSCRIPTION_ID, item)))
+                        .build())
+                .withHeaders(TestConstants.DITTO_HEADERS_V_2_NO_STATUS)
+                .build();
+        final SubscriptionEvent<?> actual = underTest.fromAdaptable(adaptable);
+
+        assertWithExternalHeadersThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void subscriptionHasChangeToAdaptable() {
+
+        final TopicPath topicPath = TopicPath.fromNamespace("_")
+                .things()
+                .twin()
+                .search()
+                .hasChange()
+                .build();
+
+        final JsonPointer path = JsonPointer.empty();
+
+        final Adaptable expected = Adaptable.newBuilder(topicPath)
+                .withPayload(Payload.newBuilder(path)
+                        .withValue(JsonObject.of(String.format(
+                                "{\"subscriptionId\": \"%s\", \"thingId\": \"ns:thing\", \"change\": \"leave\"}",
+                                TestConstants.SUBSCRIPTION_ID)))
+                        .build())
+                .withHeaders(TestConstants.DITTO_HEADERS_V_2_NO_STATUS)
+                .build();
+
+        final SubscriptionHasChange subscriptionHasChange =
+                SubscriptionHasChange.of(TestConstants.SUBSCRIPTION_ID, "ns:thing",
+                        SubscriptionHasChange.Change.LEAVE, null, TestConstants.DITTO_HEADERS_V_2_NO_STATUS);
+        final Adaptable actual = underTest.toAdaptable(subscriptionHasChange, TopicPath.Channel.TWIN);
+
+        assertWithExternalHeadersThat(actual).isEqualTo(expected);
+    }
+
     @AllValuesAreNonnullByDefault
     private static final class UnknownSubscriptionEvent implements SubscriptionEvent<UnknownSubscriptionEvent> {
 
@@ -132,6 +132,19 @@ public final class ThingSearchCommandAdapterTest implements ProtocolAdapterTest
                 .build());
     }
 
+    @Test
+    public void continuousCreateSubscriptionToAndFromAdaptable() {
+        final CreateSubscription createSubscription =
+                CreateSubscription.of(TestConstants.FILTER, null, null, null, TestConstants.DITTO_HEADERS_V_2_NO_STATUS)
+                        .setContinuous(true);
+        final Adaptable adaptable = underTest.toAdaptable(createSubscription, TopicPath.Channel.TWIN);
+        assertThat(adaptable.getPayload().getValue()).contains(JsonObject.newBuilder()
+                .set("filter", TestConstants.FILTER)
+                .set("continuous", true)
+                .build());
+        assertWithExternalHeadersThat(underTest.fromAdaptable(adaptable)).isEqualTo(createSubscription);
+    }
+
     @Test
     public void createSubscriptionWithFieldsFromAdaptable() {
         final CreateSubscription expected =
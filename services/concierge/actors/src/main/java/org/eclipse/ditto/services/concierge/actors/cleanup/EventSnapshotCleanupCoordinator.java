@@ -17,15 +17,19 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
@@ -37,11 +41,13 @@ import org.eclipse.ditto.services.concierge.common.PersistenceCleanupConfig;
 import org.eclipse.ditto.services.models.connectivity.ConnectionTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
+import org.eclipse.ditto.services.models.streaming.SudoCleanupPersistenceBatch;
 import org.eclipse.ditto.services.models.things.ThingSnapshotTaken;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.utils.akka.controlflow.Transistor;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.health.AbstractBackgroundStreamingActorWithConfigWithStatusReport;
+import org.eclipse.ditto.services.utils.persistence.mongo.AbstractPersistenceStreamingActor;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.signals.commands.connectivity.ConnectivityCommand;
@@ -97,6 +103,12 @@ import scala.PartialFunction;
  *
  *
  * }</pre>
+ * <p>
+ * If bulk cleanup is enabled, the persistence actors are not involved in the background cleanup. Instead, the
+ * persistence streaming actor of the persistence service cleans up batches of persistence IDs directly in the journal
+ * and snapshot store. As for the persistence actors, each credit permits the cleanup of 1 persistence ID: the credits
+ * accumulated while a batch is cleaned up determine the size of the next batch up to the configured batch size.
+ * </p>
  */
 public final class EventSnapshotCleanupCoordinator
         extends AbstractBackgroundStreamingActorWithConfigWithStatusReport<PersistenceCleanupConfig> {
@@ -234,21 +246,24 @@ public final class EventSnapshotCleanupCoordinator
         return PersistenceCleanupConfig.fromConfig(config);
     }
 
-    @SuppressWarnings("unchecked") // java type checker can't handle GraphDSL
     private Source<EntityIdWithRevision<?>, NotUsed> getEntityIdWithRevisionSource() {
-        final Graph<SourceShape<EntityIdWithRevision<?>>, NotUsed> graph = GraphDSL.create(builder -> {
-            final SourceShape<EntityIdWithRevision<?>> persistenceIds = builder.add(persistenceIdSource());
+        return throttleByCredit(persistenceIdSource()).log("pid-source", log);
+    }
+
+    @SuppressWarnings("unchecked") // java type checker can't handle GraphDSL
+    private <T> Source<T, NotUsed> throttleByCredit(final Graph<SourceShape<T>, NotUsed> source) {
+        final Graph<SourceShape<T>, NotUsed> graph = GraphDSL.create(builder -> {
+            final SourceShape<T> elements = builder.add(source);
             final SourceShape<Integer> credit = builder.add(creditSource());
-            final FanInShape2<EntityIdWithRevision<?>, Integer, EntityIdWithRevision<?>> transistor =
-                    builder.add(Transistor.of());
+            final FanInShape2<T, Integer, T> transistor = builder.add(Transistor.of());
 
-            builder.from(persistenceIds.out()).toInlet(transistor.in0());
+            builder.from(elements.out()).toInlet(transistor.in0());
             builder.from(credit.out()).toInlet(transistor.in1());
 
             return SourceShape.of(transistor.out());
         });
 
-        return Source.fromGraph(graph).log("pid-source", log);
+        return Source.fromGraph(graph);
     }
 
     private Source<Integer, NotUsed> creditSource() {
@@ -264,6 +279,9 @@ public final class EventSnapshotCleanupCoordinator
 
     @Override
     protected Source<CleanupPersistenceResponse, NotUsed> getSource() {
+        if (config.isBulkCleanupEnabled()) {
+            return getBulkCleanupSource();
+        }
 
         final PartialFunction<EntityIdWithRevision<?>, CompletionStage<CleanupPersistenceResponse>>
                 askShardRegionForCleanupByTagType =
@@ -293,6 +311,44 @@ public final class EventSnapshotCleanupCoordinator
                 .log(EventSnapshotCleanupCoordinator.class.getSimpleName(), log);
     }
 
+    private Source<CleanupPersistenceResponse, NotUsed> getBulkCleanupSource() {
+        final int numberOfPaths = PersistenceIdSource.PERSISTENCE_STREAMING_ACTOR_PATHS.size();
+        final int maxBatchSize = config.getBulkCleanupBatchSize();
+        return throttleByCredit(Source.repeat(NotUsed.getInstance()))
+                .batch(maxBatchSize, permit -> 1, (batchSize, permit) -> batchSize + 1)
+                .scanAsync(BulkCleanupCursor.start(), this::cleanUpNextBatch)
+                .takeWhile(cursor -> cursor.pathIndex < numberOfPaths, true)
+                .mapConcat(BulkCleanupCursor::getResponse)
+                .via(reportToSelf()) // include self-reporting for acknowledged
+                .log(EventSnapshotCleanupCoordinator.class.getSimpleName(), log);
+    }
+
+    private CompletionStage<BulkCleanupCursor> cleanUpNextBatch(final BulkCleanupCursor cursor,
+            final Integer batchSize) {
+
+        final String path = PersistenceIdSource.PERSISTENCE_STREAMING_ACTOR_PATHS.get(cursor.pathIndex);
+        final SudoCleanupPersistenceBatch command =
+                SudoCleanupPersistenceBatch.of(cursor.lowerBound, batchSize, getCleanupHeaders());
+        return Patterns.ask(pubSubMediator, DistPubSubAccess.send(path, command, false), config.getCleanupTimeout())
+                .handle((result, error) -> {
+                    if (result instanceof CleanupPersistenceResponse) {
+                        final CleanupPersistenceResponse response = (CleanupPersistenceResponse) result;
+                        // skip the remaining persistence IDs of a failed persistence service until the next round
+                        return response.getHttpStatus().isSuccess()
+                                ? cursor.advance(response)
+                                : cursor.nextPath(response);
+                    } else {
+                        final String errorMessage =
+                                String.format("Unexpected response from <%s>: result=<%s> error=<%s>",
+                                        path, result, error);
+                        return cursor.nextPath(CleanupPersistenceResponse.failure(DefaultEntityId.dummy(),
+                                command.getDittoHeaders().toBuilder()
+                                        .putHeader(ERROR_MESSAGE_HEADER, errorMessage)
+                                        .build()));
+                    }
+                });
+    }
+
     private CompletionStage<CleanupPersistenceResponse> askShardRegionForCleanup(final ActorRef shardRegion,
             final String resourceType, final EntityIdWithRevision<?> tag) {
 
@@ -361,15 +417,63 @@ public final class EventSnapshotCleanupCoordinator
                 messageBuilder.append(": ").append(dittoHeaders.get(ERROR_MESSAGE_HEADER));
             }
         } else {
-            messageBuilder.append(dittoHeaders.get(ERROR_MESSAGE_HEADER));
+            messageBuilder.append(dittoHeaders.getOrDefault(ERROR_MESSAGE_HEADER, "no further persistence IDs"));
+        }
+        final String deleted = dittoHeaders.get(AbstractPersistenceStreamingActor.DELETED_HEADER);
+        if (null != deleted) {
+            messageBuilder.append(" deleted=").append(deleted);
         }
         return messageBuilder.toString();
     }
 
     private static CleanupPersistence getCleanupCommand(final EntityId id) {
-        final DittoHeaders headers = DittoHeaders.newBuilder()
+        return CleanupPersistence.of(id, getCleanupHeaders());
+    }
+
+    private static DittoHeaders getCleanupHeaders() {
+        return DittoHeaders.newBuilder()
                 .putHeader(START, Instant.now().toString())
                 .build();
-        return CleanupPersistence.of(id, headers);
     }
+
+    /**
+     * Position of the bulk cleanup in the persistence IDs of all persistence services together with the response to
+     * the cleanup of the last batch.
+     */
+    private static final class BulkCleanupCursor {
+
+        private final int pathIndex;
+        private final String lowerBound;
+        @Nullable private final CleanupPersistenceResponse response;
+
+        private BulkCleanupCursor(final int pathIndex, final String lowerBound,
+                @Nullable final CleanupPersistenceResponse response) {
+
+            this.pathIndex = pathIndex;
+            this.lowerBound = lowerBound;
+            this.response = response;
+        }
+
+        private static BulkCleanupCursor start() {
+            return new BulkCleanupCursor(0, "", null);
+        }
+
+        private BulkCleanupCursor advance(final CleanupPersistenceResponse response) {
+            // the entity ID of the response is the last persistence ID of the batch or a dummy after the last batch
+            final EntityId lastPid = response.getEntityId();
+            return lastPid.isDummy()
+                    ? nextPath(response)
+                    : new BulkCleanupCursor(pathIndex, lastPid.toString(), response);
+        }
+
+        private BulkCleanupCursor nextPath(final CleanupPersistenceResponse response) {
+            return new BulkCleanupCursor(pathIndex + 1, "", response);
+        }
+
+        private List<CleanupPersistenceResponse> getResponse() {
+            return null != response ? List.of(response) : List.of();
+        }
+
+    }
+
 }
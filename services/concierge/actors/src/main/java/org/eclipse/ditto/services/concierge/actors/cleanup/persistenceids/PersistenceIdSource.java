@@ -12,7 +12,6 @@
  */
 package org.eclipse.ditto.services.concierge.actors.cleanup.persistenceids;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -44,8 +43,11 @@ import akka.stream.javadsl.Source;
  */
 public final class PersistenceIdSource {
 
-    private static final List<String> PERSISTENCE_STREAMING_ACTOR_PATHS =
-            Arrays.asList(ThingsMessagingConstants.THINGS_STREAM_PROVIDER_ACTOR_PATH,
+    /**
+     * Paths of the actors streaming the persistence IDs of the persistence services.
+     */
+    public static final List<String> PERSISTENCE_STREAMING_ACTOR_PATHS =
+            List.of(ThingsMessagingConstants.THINGS_STREAM_PROVIDER_ACTOR_PATH,
                     PoliciesMessagingConstants.POLICIES_STREAM_PROVIDER_ACTOR_PATH,
                     ConnectivityMessagingConstants.STREAM_PROVIDER_ACTOR_PATH);
 
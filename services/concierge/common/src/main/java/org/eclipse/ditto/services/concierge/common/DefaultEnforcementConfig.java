@@ -32,12 +32,15 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     private final Duration askTimeout;
     private final int bufferSize;
     private final boolean globalLiveResponseDispatching;
+    private final boolean publishThingCacheInvalidations;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(EnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
         bufferSize = configWithFallback.getInt(EnforcementConfigValue.BUFFER_SIZE.getConfigPath());
         globalLiveResponseDispatching =
                 configWithFallback.getBoolean(EnforcementConfigValue.GLOBAL_LIVE_RESPONSE_DISPATCHING.getConfigPath());
+        publishThingCacheInvalidations =
+                configWithFallback.getBoolean(EnforcementConfigValue.PUBLISH_THING_CACHE_INVALIDATIONS.getConfigPath());
     }
 
     /**
@@ -67,6 +70,11 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return globalLiveResponseDispatching;
     }
 
+    @Override
+    public boolean shouldPublishThingCacheInvalidations() {
+        return publishThingCacheInvalidations;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,12 +85,13 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         }
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return bufferSize == that.bufferSize && askTimeout.equals(that.askTimeout) &&
-                globalLiveResponseDispatching == that.globalLiveResponseDispatching;
+                globalLiveResponseDispatching == that.globalLiveResponseDispatching &&
+                publishThingCacheInvalidations == that.publishThingCacheInvalidations;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching);
+        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching, publishThingCacheInvalidations);
     }
 
     @Override
@@ -91,6 +100,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 "askTimeout=" + askTimeout +
                 ", bufferSize=" + bufferSize +
                 ", globalLiveResponseDispatching=" + globalLiveResponseDispatching +
+                ", publishThingCacheInvalidations=" + publishThingCacheInvalidations +
                 "]";
     }
 
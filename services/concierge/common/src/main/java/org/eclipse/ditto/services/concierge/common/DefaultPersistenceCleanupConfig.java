@@ -27,6 +27,8 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
     private final Duration quietPeriod;
     private final Duration cleanupTimeout;
     private final int parallelism;
+    private final boolean bulkCleanupEnabled;
+    private final int bulkCleanupBatchSize;
     private final int keptCreditDecisions;
     private final int keptActions;
     private final int keptEvents;
@@ -39,6 +41,8 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
         this.quietPeriod = config.getDuration(ConfigValue.QUIET_PERIOD.getConfigPath());
         this.cleanupTimeout = config.getDuration(ConfigValue.CLEANUP_TIMEOUT.getConfigPath());
         this.parallelism = config.getInt(ConfigValue.PARALLELISM.getConfigPath());
+        this.bulkCleanupEnabled = config.getBoolean(ConfigValue.BULK_CLEANUP_ENABLED.getConfigPath());
+        this.bulkCleanupBatchSize = config.getInt(ConfigValue.BULK_CLEANUP_BATCH_SIZE.getConfigPath());
         this.keptCreditDecisions = config.getInt(ConfigValue.KEEP_CREDIT_DECISIONS.getConfigPath());
         this.keptActions = config.getInt(ConfigValue.KEEP_ACTIONS.getConfigPath());
         this.keptEvents = config.getInt(ConfigValue.KEEP_EVENTS.getConfigPath());
@@ -76,6 +80,16 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
         return parallelism;
     }
 
+    @Override
+    public boolean isBulkCleanupEnabled() {
+        return bulkCleanupEnabled;
+    }
+
+    @Override
+    public int getBulkCleanupBatchSize() {
+        return bulkCleanupBatchSize;
+    }
+
     @Override
     public CreditDecisionConfig getCreditDecisionConfig() {
         return creditDecisionConfig;
@@ -114,6 +128,8 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
                     Objects.equals(quietPeriod, that.quietPeriod) &&
                     Objects.equals(cleanupTimeout, that.cleanupTimeout) &&
                     parallelism == that.parallelism &&
+                    bulkCleanupEnabled == that.bulkCleanupEnabled &&
+                    bulkCleanupBatchSize == that.bulkCleanupBatchSize &&
                     keptCreditDecisions == that.keptCreditDecisions &&
                     keptActions == that.keptActions &&
                     keptEvents == that.keptEvents &&
@@ -127,8 +143,9 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
 
     @Override
     public int hashCode() {
-        return Objects.hash(enabled, quietPeriod, cleanupTimeout, parallelism, keptCreditDecisions, keptActions,
-                keptEvents, creditDecisionConfig, persistenceIdsConfig, config);
+        return Objects.hash(enabled, quietPeriod, cleanupTimeout, parallelism, bulkCleanupEnabled,
+                bulkCleanupBatchSize, keptCreditDecisions, keptActions, keptEvents, creditDecisionConfig,
+                persistenceIdsConfig, config);
     }
 
     @Override
@@ -138,6 +155,8 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
                 ", quietPeriod=" + quietPeriod +
                 ", cleanupTimeout=" + cleanupTimeout +
                 ", parallelism=" + parallelism +
+                ", bulkCleanupEnabled=" + bulkCleanupEnabled +
+                ", bulkCleanupBatchSize=" + bulkCleanupBatchSize +
                 ", keptCreditDecisions" + keptCreditDecisions +
                 ", keptActions" + keptActions +
                 ", keptEvents" + keptEvents +
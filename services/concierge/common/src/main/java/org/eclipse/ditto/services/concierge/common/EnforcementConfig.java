@@ -45,6 +45,15 @@ public interface EnforcementConfig {
      */
     boolean shouldDispatchLiveResponsesGlobally();
 
+    /**
+     * Returns whether invalidations of cached thing-to-policy relations should be published to gateways which enforce
+     * live signals themselves.
+     *
+     * @return whether thing cache invalidations are published.
+     * @since 2.0.0
+     */
+    boolean shouldPublishThingCacheInvalidations();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -64,7 +73,12 @@ public interface EnforcementConfig {
         /**
          * Whether to enable dispatching live responses from channels other than the subscribers.
          */
-        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false);
+        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false),
+
+        /**
+         * Whether to publish invalidations of cached thing-to-policy relations to gateways enforcing live signals.
+         */
+        PUBLISH_THING_CACHE_INVALIDATIONS("publish-thing-cache-invalidations", false);
 
         private final String path;
         private final Object defaultValue;
@@ -47,6 +47,24 @@ public interface PersistenceCleanupConfig extends BackgroundStreamingConfig {
      */
     int getParallelism();
 
+    /**
+     * Returns whether to clean up the persistence IDs of the background stream in batches directly in the journals of
+     * the persistence services instead of by sending a cleanup command to each persistence actor.
+     *
+     * @return whether bulk cleanup is enabled.
+     * @since 2.0.0
+     */
+    boolean isBulkCleanupEnabled();
+
+    /**
+     * Returns how many persistence IDs to clean up at most per bulk cleanup action. Each persistence ID consumes 1
+     * credit, so that a batch is only as large as the credit accumulated while the previous batch was cleaned up.
+     *
+     * @return the batch size of bulk cleanup.
+     * @since 2.0.0
+     */
+    int getBulkCleanupBatchSize();
+
     /**
      * Returns configuration settings for credit decision.
      *
@@ -113,10 +131,20 @@ public interface PersistenceCleanupConfig extends BackgroundStreamingConfig {
         CLEANUP_TIMEOUT("cleanup-timeout", Duration.ofSeconds(30L)),
 
         /**
-         * Number of clewanup commands to execute in parallel.
+         * Number of cleanup commands to execute in parallel.
          */
         PARALLELISM("parallelism", 1),
 
+        /**
+         * Whether to clean up the persistence IDs of the background stream in batches directly in the journals.
+         */
+        BULK_CLEANUP_ENABLED("bulk.enabled", false),
+
+        /**
+         * Maximum number of persistence IDs to clean up per bulk cleanup action.
+         */
+        BULK_CLEANUP_BATCH_SIZE("bulk.batch-size", 50),
+
         /**
          * How many credit decisions to keep in the actor state.
          */
@@ -64,6 +64,10 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.shouldPublishThingCacheInvalidations())
+                .as(EnforcementConfig.EnforcementConfigValue.PUBLISH_THING_CACHE_INVALIDATIONS.getConfigPath())
+                .isEqualTo(
+                        EnforcementConfig.EnforcementConfigValue.PUBLISH_THING_CACHE_INVALIDATIONS.getDefaultValue());
     }
 
     @Test
@@ -76,6 +80,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(1337);
+        softly.assertThat(underTest.shouldPublishThingCacheInvalidations())
+                .as(EnforcementConfig.EnforcementConfigValue.PUBLISH_THING_CACHE_INVALIDATIONS.getConfigPath())
+                .isTrue();
     }
 
 }
@@ -79,6 +79,14 @@ public final class DefaultPersistenceCleanupConfigTest {
                 .as(PersistenceCleanupConfig.ConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(160L);
 
+        softly.assertThat(underTest.isBulkCleanupEnabled())
+                .as(PersistenceCleanupConfig.ConfigValue.BULK_CLEANUP_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getBulkCleanupBatchSize())
+                .as(PersistenceCleanupConfig.ConfigValue.BULK_CLEANUP_BATCH_SIZE.getConfigPath())
+                .isEqualTo(165);
+
         softly.assertThat(underTest.getKeptCreditDecisions())
                 .as(PersistenceCleanupConfig.ConfigValue.KEEP_CREDIT_DECISIONS.getConfigPath())
                 .isEqualTo(170L);
@@ -145,6 +145,7 @@ public final class ThingCommandEnforcement
     private final PreEnforcer preEnforcer;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
     private final PolicyIdReferencePlaceholderResolver policyIdReferencePlaceholderResolver;
+    private final boolean publishThingCacheInvalidations;
 
     private ThingCommandEnforcement(final Contextual<ThingCommand<?>> data,
             final ActorRef thingsShardRegion,
@@ -153,7 +154,8 @@ public final class ThingCommandEnforcement
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
             final PreEnforcer preEnforcer,
-            final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
+            final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+            final boolean publishThingCacheInvalidations) {
 
         super(data, ThingQueryCommandResponse.class);
         this.thingsShardRegion = requireNonNull(thingsShardRegion);
@@ -164,6 +166,7 @@ public final class ThingCommandEnforcement
         this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
         this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
         this.preEnforcer = preEnforcer;
+        this.publishThingCacheInvalidations = publishThingCacheInvalidations;
         thingEnforcerRetriever =
                 PolicyOrAclEnforcerRetrieverFactory.create(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         policyEnforcerRetriever = new EnforcerRetriever<Enforcer>(IdentityCache.INSTANCE, policyEnforcerCache);
@@ -590,6 +593,12 @@ public final class ThingCommandEnforcement
                 InvalidateCacheEntry.of(entityId),
                 true),
                 self());
+        if (publishThingCacheInvalidations) {
+            // the relation of things to their policies is also cached by gateways enforcing live signals
+            pubSubMediator().tell(DistPubSubAccess.publish(InvalidateCacheEntry.PUB_SUB_TOPIC_INVALIDATE_CACHE_ENTRIES,
+                    InvalidateCacheEntry.of(entityId)),
+                    self());
+        }
     }
 
     private void invalidatePolicyCache(final PolicyId policyId) {
@@ -1218,6 +1227,7 @@ public final class ThingCommandEnforcement
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
         private final PreEnforcer preEnforcer;
         private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
+        private final boolean publishThingCacheInvalidations;
 
         /**
          * Constructor.
@@ -1237,7 +1247,32 @@ public final class ThingCommandEnforcement
                 @Nullable final PreEnforcer preEnforcer) {
 
             this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
-                    preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION);
+                    preEnforcer, false);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param thingsShardRegion the ActorRef to the Things shard region.
+         * @param policiesShardRegion the ActorRef to the Policies shard region.
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param preEnforcer pre-enforcer function to block undesirable messages to policies shard region.
+         * @param publishThingCacheInvalidations whether to publish invalidations of the thing-id-cache to gateways
+         * enforcing live signals.
+         * @since 2.0.0
+         */
+        public Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                final boolean publishThingCacheInvalidations) {
+
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION, publishThingCacheInvalidations);
         }
 
         /**
@@ -1261,6 +1296,19 @@ public final class ThingCommandEnforcement
                 @Nullable final PreEnforcer preEnforcer,
                 final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
 
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, subjectIssuersForPolicyMigration, false);
+        }
+
+        private Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+                final boolean publishThingCacheInvalidations) {
+
             this.thingsShardRegion = requireNonNull(thingsShardRegion);
             this.policiesShardRegion = requireNonNull(policiesShardRegion);
             this.thingIdCache = requireNonNull(thingIdCache);
@@ -1268,6 +1316,7 @@ public final class ThingCommandEnforcement
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
             this.preEnforcer = Optional.ofNullable(preEnforcer).orElse(CompletableFuture::completedFuture);
             this.subjectIssuersForPolicyMigration = requireNonNull(subjectIssuersForPolicyMigration);
+            this.publishThingCacheInvalidations = publishThingCacheInvalidations;
         }
 
         @Override
@@ -1291,7 +1340,8 @@ public final class ThingCommandEnforcement
         @Override
         public AbstractEnforcement<ThingCommand<?>> createEnforcement(final Contextual<ThingCommand<?>> context) {
             return new ThingCommandEnforcement(context, thingsShardRegion, policiesShardRegion, thingIdCache,
-                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration);
+                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration,
+                    publishThingCacheInvalidations);
         }
 
     }
@@ -17,21 +17,14 @@ import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingCons
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 
-import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.base.auth.AuthorizationContext;
-import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
-import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
-import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
-import org.eclipse.ditto.model.things.Thing;
-import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
+import org.eclipse.ditto.services.concierge.enforcement.DefaultPreEnforcer;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
@@ -39,7 +32,6 @@ import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
-import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
@@ -55,13 +47,11 @@ import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
-import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespacesUpdater;
 import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.services.utils.pubsub.LiveSignalPub;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
-import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -75,11 +65,6 @@ import akka.actor.Props;
  */
 public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<ConciergeConfig> {
 
-    /**
-     * Default namespace for {@code CreateThing} commands without any namespace.
-     */
-    private static final String DEFAULT_NAMESPACE = "org.eclipse.ditto";
-
     private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_enforcer_cache_";
     private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_id_cache_";
 
@@ -120,14 +105,16 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final PreEnforcer preEnforcer = newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance());
+        final PreEnforcer preEnforcer =
+                DefaultPreEnforcer.of(blockedNamespaces, PlaceholderSubstitution.newInstance());
 
         final DistributedAcks distributedAcks = DistributedAcks.lookup(actorSystem);
         final LiveSignalPub liveSignalPub = LiveSignalPub.of(context, distributedAcks);
 
         final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegionProxy,
-                policiesShardRegionProxy, thingIdCache, projectedEnforcerCache, aclEnforcerCache, preEnforcer));
+                policiesShardRegionProxy, thingIdCache, projectedEnforcerCache, aclEnforcerCache, preEnforcer,
+                conciergeConfig.getEnforcementConfig().shouldPublishThingCacheInvalidations()));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache));
         enforcementProviders.add(new LiveSignalEnforcement.Provider(thingIdCache, projectedEnforcerCache,
                 aclEnforcerCache, liveSignalPub));
@@ -171,43 +158,7 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
      * @return A copy of the signal with the header "ditto-originator" set.
      */
     public static WithDittoHeaders<?> setOriginatorHeader(final WithDittoHeaders<?> originalSignal) {
-        final DittoHeaders dittoHeaders = originalSignal.getDittoHeaders();
-        final AuthorizationContext authorizationContext = dittoHeaders.getAuthorizationContext();
-        return authorizationContext.getFirstAuthorizationSubject()
-                .map(AuthorizationSubject::getId)
-                .map(originatorSubjectId -> DittoHeaders.newBuilder(dittoHeaders)
-                        .putHeader(DittoHeaderDefinition.ORIGINATOR.getKey(), originatorSubjectId)
-                        .build())
-                .<WithDittoHeaders<?>>map(originalSignal::setDittoHeaders)
-                .orElse(originalSignal);
-    }
-
-    private static PreEnforcer newPreEnforcer(final BlockedNamespaces blockedNamespaces,
-            final PlaceholderSubstitution placeholderSubstitution) {
-
-        return withDittoHeaders ->
-                BlockNamespaceBehavior.of(blockedNamespaces)
-                        .block(withDittoHeaders)
-                        .thenApply(CommandWithOptionalEntityValidator.getInstance())
-                        .thenApply(DefaultEnforcerActorFactory::prependDefaultNamespaceToCreateThing)
-                        .thenApply(DefaultEnforcerActorFactory::setOriginatorHeader)
-                        .thenCompose(placeholderSubstitution);
-    }
-
-    private static WithDittoHeaders<?> prependDefaultNamespaceToCreateThing(final WithDittoHeaders<?> signal) {
-        if (signal instanceof CreateThing) {
-            final CreateThing createThing = (CreateThing) signal;
-            final Thing thing = createThing.getThing();
-            final Optional<String> namespace = thing.getNamespace();
-            if (namespace.isEmpty()) {
-                final Thing thingInDefaultNamespace = thing.toBuilder()
-                        .setId(ThingId.of(DEFAULT_NAMESPACE, createThing.getThingEntityId().toString()))
-                        .build();
-                final JsonObject initialPolicy = createThing.getInitialPolicy().orElse(null);
-                return CreateThing.of(thingInDefaultNamespace, initialPolicy, createThing.getDittoHeaders());
-            }
-        }
-        return signal;
+        return DefaultPreEnforcer.setOriginatorHeader(originalSignal);
     }
 
 }
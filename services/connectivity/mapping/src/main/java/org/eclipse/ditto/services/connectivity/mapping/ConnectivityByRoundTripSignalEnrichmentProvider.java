@@ -43,8 +43,9 @@ public final class ConnectivityByRoundTripSignalEnrichmentProvider extends Conne
         final ActorSelection commandHandler = actorSystem.actorSelection(PROXY_ACTOR_PATH);
         final SignalEnrichmentFacadeByRoundTripConfig config =
                 DefaultSignalEnrichmentFacadeByRoundTripConfig.of(signalEnrichmentConfig.getProviderConfig());
-        byRoundTripSignalEnrichmentFacade =
-                ByRoundTripSignalEnrichmentFacade.of(commandHandler, config.getAskTimeout());
+        // the proxy actor answers retrieve-things commands by the things aggregator
+        byRoundTripSignalEnrichmentFacade = ByRoundTripSignalEnrichmentFacade.of(commandHandler, commandHandler,
+                config.getAskTimeout(), config.getBatchWindow(), actorSystem);
     }
 
     @Override
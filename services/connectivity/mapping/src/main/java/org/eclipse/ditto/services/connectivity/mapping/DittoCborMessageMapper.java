@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping;
+
+import static java.util.Collections.singletonList;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.protocol.CborAdaptableCodec;
+
+/**
+ * A message mapper implementation for the Ditto Protocol encoded in CBOR.
+ * Expects messages to contain a CBOR serialized Ditto Protocol message as bytes payload and publishes outgoing
+ * messages in the same format with content-type {@value CborAdaptableCodec#DITTO_PROTOCOL_CBOR_CONTENT_TYPE}.
+ */
+@PayloadMapper(alias = "DittoCbor")
+public final class DittoCborMessageMapper extends AbstractMessageMapper {
+
+    private final CborAdaptableCodec codec = CborAdaptableCodec.getInstance();
+
+    @Override
+    public List<Adaptable> map(final ExternalMessage message) {
+        final ByteBuffer payload = message.getBytePayload()
+                .filter(ByteBuffer::hasRemaining)
+                .orElseThrow(() -> MessageMappingFailedException.newBuilder(message.findContentType().orElse(""))
+                        .description("The Ditto Protocol in CBOR requires a non-empty bytes payload.")
+                        .dittoHeaders(DittoHeaders.of(message.getHeaders()))
+                        .build());
+        final JsonifiableAdaptable jsonifiableAdaptable = codec.fromCbor(payload.asReadOnlyBuffer());
+
+        return singletonList(ProtocolFactory.newAdaptableBuilder(jsonifiableAdaptable)
+                .withHeaders(jsonifiableAdaptable.getDittoHeaders())
+                .build());
+    }
+
+    @Override
+    public List<ExternalMessage> map(final Adaptable adaptable) {
+        final DittoHeaders externalHeaders = DittoHeaders.newBuilder()
+                .contentType(CborAdaptableCodec.DITTO_PROTOCOL_CBOR_CONTENT_TYPE)
+                .correlationId(adaptable.getDittoHeaders().getCorrelationId().orElse(null))
+                .build();
+        return List.of(ExternalMessageFactory.newExternalMessageBuilder(externalHeaders)
+                .withTopicPath(adaptable.getTopicPath())
+                .withBytes(codec.toCbor(adaptable))
+                .asResponse(adaptable.getPayload().getHttpStatus().isPresent())
+                .asError(TopicPath.Criterion.ERRORS.equals(adaptable.getTopicPath().getCriterion()))
+                .build());
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.protocol.CborAdaptableCodec;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoCborMessageMapper}.
+ */
+public final class DittoCborMessageMapperTest {
+
+    private DittoCborMessageMapper underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new DittoCborMessageMapper();
+    }
+
+    @Test
+    public void mapAdaptableToCborAndBack() {
+        final Adaptable adaptable = ProtocolFactory.newAdaptableBuilder(
+                ProtocolFactory.newTopicPathBuilder(ThingId.of("org.eclipse.ditto:thing1"))
+                        .things().twin().commands().modify().build())
+                .withHeaders(DittoHeaders.newBuilder().correlationId("cbor").build())
+                .withPayload(ProtocolFactory.newPayloadBuilder(JsonPointer.of("/attributes/a"))
+                        .withValue(JsonFactory.newValue(42))
+                        .build())
+                .build();
+
+        final List<ExternalMessage> externalMessages = underTest.map(adaptable);
+
+        assertThat(externalMessages).hasSize(1);
+        final ExternalMessage externalMessage = externalMessages.get(0);
+        assertThat(externalMessage.isBytesMessage()).isTrue();
+        assertThat(externalMessage.findContentType()).contains(CborAdaptableCodec.DITTO_PROTOCOL_CBOR_CONTENT_TYPE);
+
+        final List<Adaptable> mapped = underTest.map(externalMessage);
+        assertThat(mapped).hasSize(1);
+        assertThat(ProtocolFactory.wrapAsJsonifiableAdaptable(mapped.get(0)).toJson())
+                .isEqualTo(ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJson());
+    }
+
+    @Test
+    public void mapTextMessageFails() {
+        final ExternalMessage textMessage = ExternalMessageFactory.newExternalMessageBuilder(Map.of())
+                .withText("{}")
+                .build();
+
+        assertThatExceptionOfType(MessageMappingFailedException.class).isThrownBy(() -> underTest.map(textMessage));
+    }
+
+}
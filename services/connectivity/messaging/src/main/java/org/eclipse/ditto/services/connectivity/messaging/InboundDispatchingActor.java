@@ -427,8 +427,8 @@ public final class InboundDispatchingActor extends AbstractActor
                         sender.tell(responseSignal, ActorRef.noSender());
                     }
                 },
-                ackregator -> {
-                    proxyActor.tell(signal, ackregator);
+                (signalToForward, ackregator) -> {
+                    proxyActor.tell(signalToForward, ackregator);
                     return null;
                 });
     }
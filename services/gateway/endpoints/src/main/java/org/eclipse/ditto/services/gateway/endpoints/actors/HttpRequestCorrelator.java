@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.common.HttpStatus;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayServiceUnavailableException;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorRefFactory;
+import akka.actor.Status;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Correlates the commands of HTTP requests with their responses without creating an actor for each request.
+ * The pending requests are sharded by correlation ID among a few long-lived {@link RequestCorrelationActor}s which
+ * send the commands, aggregate acknowledgements, apply timeouts and fulfill the promises of the HTTP responses with
+ * the same rendering as {@link AbstractHttpRequestActor}.
+ */
+@Immutable
+public final class HttpRequestCorrelator {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(HttpRequestCorrelator.class);
+
+    private final List<ActorRef> receivers;
+    private final HeaderTranslator headerTranslator;
+    private final Duration requestTimeout;
+
+    private HttpRequestCorrelator(final List<ActorRef> receivers, final HeaderTranslator headerTranslator,
+            final Duration requestTimeout) {
+
+        this.receivers = receivers;
+        this.headerTranslator = headerTranslator;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Returns a new {@code HttpRequestCorrelator} and starts its correlating actors.
+     *
+     * @param actorRefFactory the factory to start the correlating actors with.
+     * @param numberOfReceivers the number of correlating actors to start.
+     * @param proxyActor proxy actor to forward all commands.
+     * @param headerTranslator translator of Ditto headers.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @param commandConfig the configuration settings for incoming commands (via HTTP requests) in the gateway.
+     * @param fallbackPropsFactory creates the actors of requests which cannot be correlated by correlation ID.
+     * @return the correlator.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code numberOfReceivers} is not positive.
+     */
+    public static HttpRequestCorrelator of(final ActorRefFactory actorRefFactory,
+            final int numberOfReceivers,
+            final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final HttpConfig httpConfig,
+            final CommandConfig commandConfig,
+            final HttpRequestActorPropsFactory fallbackPropsFactory) {
+
+        checkNotNull(actorRefFactory, "actorRefFactory");
+        checkArgument(numberOfReceivers, n -> 0 < n, () -> "The number of receivers must be positive!");
+        checkNotNull(proxyActor, "proxyActor");
+        checkNotNull(headerTranslator, "headerTranslator");
+        checkNotNull(httpConfig, "httpConfig");
+        checkNotNull(commandConfig, "commandConfig");
+        checkNotNull(fallbackPropsFactory, "fallbackPropsFactory");
+
+        final List<ActorRef> receivers = new ArrayList<>(numberOfReceivers);
+        for (int i = 0; i < numberOfReceivers; i++) {
+            receivers.add(actorRefFactory.actorOf(RequestCorrelationActor.props(proxyActor, headerTranslator,
+                    httpConfig, commandConfig, fallbackPropsFactory)));
+        }
+        return new HttpRequestCorrelator(Collections.unmodifiableList(receivers), headerTranslator,
+                httpConfig.getRequestTimeout());
+    }
+
+    /**
+     * Returns a sink which takes the command of an HTTP request (or the failure to create it) and fulfills the promise
+     * of the HTTP response with the rendered response of the command.
+     * It accepts the same elements as the actor of an HTTP request created by a {@link HttpRequestActorPropsFactory}.
+     *
+     * @param httpRequest the HTTP request.
+     * @param httpResponseFuture promise of the HTTP response to fulfill.
+     * @return the sink.
+     */
+    public Sink<Object, NotUsed> newRequestSink(final HttpRequest httpRequest,
+            final CompletableFuture<HttpResponse> httpResponseFuture) {
+
+        return Sink.<Object>headOption().mapMaterializedValue(firstElement -> {
+            // the command is expected within the request timeout as with the actor of an HTTP request
+            final CompletableFuture<Optional<Object>> commandFuture = new CompletableFuture<>();
+            firstElement.whenComplete((element, error) -> {
+                if (null != error) {
+                    commandFuture.completeExceptionally(error);
+                } else {
+                    commandFuture.complete(element);
+                }
+            });
+            commandFuture.orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((element, error) -> {
+                        if (null != error) {
+                            onFailure(httpRequest, httpResponseFuture, error);
+                        } else {
+                            dispatch(httpRequest, httpResponseFuture, element);
+                        }
+                    });
+            return NotUsed.getInstance();
+        });
+    }
+
+    private void dispatch(final HttpRequest httpRequest, final CompletableFuture<HttpResponse> httpResponseFuture,
+            final Optional<Object> element) {
+
+        @Nullable final Object message = element.orElse(null);
+        if (message instanceof Command) {
+            final Command<?> command = (Command<?>) message;
+            getReceiver(command).tell(new RequestCorrelationActor.CorrelateCommand(command, httpRequest,
+                    httpResponseFuture), ActorRef.noSender());
+        } else if (message instanceof Status.Failure) {
+            final HttpResponseRenderer renderer = HttpResponseRenderer.of(headerTranslator, httpRequest);
+            complete(httpResponseFuture, renderer, renderer.renderCommandFailure(((Status.Failure) message).cause()));
+        } else if (message instanceof DittoRuntimeException) {
+            final HttpResponseRenderer renderer = HttpResponseRenderer.of(headerTranslator, httpRequest);
+            complete(httpResponseFuture, renderer,
+                    renderer.renderDittoRuntimeException((DittoRuntimeException) message));
+        } else {
+            LOGGER.warn("Got unknown message, expected a 'Command': {}", message);
+            final HttpResponseRenderer renderer = HttpResponseRenderer.of(headerTranslator, httpRequest);
+            complete(httpResponseFuture, renderer,
+                    HttpResponseRenderer.createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    private void onFailure(final HttpRequest httpRequest, final CompletableFuture<HttpResponse> httpResponseFuture,
+            final Throwable error) {
+
+        final Throwable cause = error instanceof CompletionException && null != error.getCause()
+                ? error.getCause()
+                : error;
+        final HttpResponseRenderer renderer = HttpResponseRenderer.of(headerTranslator, httpRequest);
+        if (cause instanceof TimeoutException) {
+            complete(httpResponseFuture, renderer, renderer.renderDittoRuntimeException(
+                    GatewayServiceUnavailableException.newBuilder().dittoHeaders(DittoHeaders.empty()).build()));
+        } else {
+            complete(httpResponseFuture, renderer, renderer.renderCommandFailure(cause));
+        }
+    }
+
+    private static void complete(final CompletableFuture<HttpResponse> httpResponseFuture,
+            final HttpResponseRenderer renderer, final HttpResponse httpResponse) {
+
+        httpResponseFuture.complete(renderer.toCompletionResponse(httpResponse));
+    }
+
+    private ActorRef getReceiver(final Command<?> command) {
+        final int index = command.getDittoHeaders()
+                .getCorrelationId()
+                .map(correlationId -> Math.floorMod(correlationId.hashCode(), receivers.size()))
+                .orElse(0);
+        return receivers.get(index);
+    }
+
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.common.HttpStatus;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.contenttype.ContentType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.services.utils.cluster.JsonValueSourceRef;
+import org.eclipse.ditto.signals.acks.base.Acknowledgement;
+import org.eclipse.ditto.signals.acks.base.Acknowledgements;
+import org.eclipse.ditto.signals.base.WithOptionalEntity;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
+
+import akka.actor.Status;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.Uri;
+import akka.http.javadsl.model.headers.Location;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.http.scaladsl.model.ContentType$;
+import akka.http.scaladsl.model.EntityStreamSizeException;
+import akka.pattern.AskTimeoutException;
+import akka.util.ByteString;
+import scala.util.Either;
+
+/**
+ * Renders the command responses, acknowledgements and errors of one HTTP request into HTTP responses.
+ * An instance holds the state of its request, i. e. the headers of the incoming command and the URI of the
+ * {@code Location} header of a created entity; it is confined to whichever party correlates the request with its
+ * response.
+ */
+@NotThreadSafe
+final class HttpResponseRenderer {
+
+    private static final akka.http.javadsl.model.ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(HttpResponseRenderer.class);
+
+    private final HeaderTranslator headerTranslator;
+    private final HttpRequest httpRequest;
+    private final BiFunction<HttpRequest, CommandResponse<?>, Uri> uriForLocationHeaderFunction;
+    private final UnaryOperator<HttpResponse> responseModifier;
+    @Nullable private Uri responseLocationUri;
+    @Nullable private DittoHeaders incomingCommandHeaders;
+
+    private HttpResponseRenderer(final HeaderTranslator headerTranslator,
+            final HttpRequest httpRequest,
+            final BiFunction<HttpRequest, CommandResponse<?>, Uri> uriForLocationHeaderFunction,
+            @Nullable final UnaryOperator<HttpResponse> responseModifier) {
+
+        this.headerTranslator = headerTranslator;
+        this.httpRequest = httpRequest;
+        this.uriForLocationHeaderFunction = uriForLocationHeaderFunction;
+        this.responseModifier = null != responseModifier ? responseModifier : this::addLocationHeader;
+        responseLocationUri = null;
+        incomingCommandHeaders = null;
+    }
+
+    /**
+     * Returns a renderer which adds the {@code Location} header of created entities as determined by
+     * {@link UriForLocationHeaderSupplier}.
+     *
+     * @param headerTranslator translates the Ditto headers of responses to external headers.
+     * @param httpRequest the HTTP request to render responses for.
+     * @return the renderer.
+     */
+    static HttpResponseRenderer of(final HeaderTranslator headerTranslator, final HttpRequest httpRequest) {
+        return new HttpResponseRenderer(headerTranslator, httpRequest,
+                (request, commandResponse) -> new UriForLocationHeaderSupplier(request, commandResponse).get(), null);
+    }
+
+    /**
+     * Returns a renderer which determines the {@code Location} header and modifies rendered responses by the given
+     * functions.
+     *
+     * @param headerTranslator translates the Ditto headers of responses to external headers.
+     * @param httpRequest the HTTP request to render responses for.
+     * @param uriForLocationHeaderFunction determines the URI of the {@code Location} header of created entities.
+     * @param responseModifier modifies each rendered response of a command; it may delegate to
+     * {@link #addLocationHeader(HttpResponse)}.
+     * @return the renderer.
+     */
+    static HttpResponseRenderer of(final HeaderTranslator headerTranslator, final HttpRequest httpRequest,
+            final BiFunction<HttpRequest, CommandResponse<?>, Uri> uriForLocationHeaderFunction,
+            final UnaryOperator<HttpResponse> responseModifier) {
+
+        return new HttpResponseRenderer(headerTranslator, httpRequest, uriForLocationHeaderFunction,
+                responseModifier);
+    }
+
+    static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
+        return HttpResponse.create().withStatus(httpStatus.getCode());
+    }
+
+    /**
+     * Remembers the headers of the command of the request; they determine whether a response is required.
+     *
+     * @param dittoHeaders the headers of the incoming command.
+     */
+    void setIncomingCommandHeaders(final DittoHeaders dittoHeaders) {
+        incomingCommandHeaders = dittoHeaders;
+    }
+
+    /**
+     * Renders a failure of the stream delivering the command of the request.
+     *
+     * @param failure the failure.
+     * @return the HTTP response.
+     */
+    HttpResponse renderCommandFailure(final Throwable failure) {
+        Throwable cause = failure;
+        if (cause instanceof JsonRuntimeException) {
+            // wrap JsonRuntimeExceptions
+            cause = new DittoJsonException((RuntimeException) cause);
+        }
+        if (cause instanceof DittoRuntimeException) {
+            return renderDittoRuntimeException((DittoRuntimeException) cause);
+        } else if (cause instanceof EntityStreamSizeException) {
+            LOGGER.warn("Got EntityStreamSizeException when a 'Command' was expected which means that" +
+                    " the max. allowed http payload size configured in Akka was overstepped in this request.");
+            return createHttpResponse(HttpStatus.REQUEST_ENTITY_TOO_LARGE);
+        } else {
+            LOGGER.error("Got unknown Status.Failure when a 'Command' was expected.", cause);
+            return createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Renders a message received in reply to the command of the request.
+     *
+     * @param response the reply.
+     * @return the HTTP response.
+     */
+    HttpResponse renderResponse(final Object response) {
+        final HttpResponse result;
+        if (response instanceof Acknowledgements) {
+            result = renderAcknowledgements((Acknowledgements) response);
+        } else if (response instanceof HttpResponse) {
+            // If an actor downstream replies with an HTTP response, simply forward it.
+            result = (HttpResponse) response;
+        } else if (response instanceof MessageCommandResponse) {
+            result = renderMessageCommandResponse((MessageCommandResponse<?, ?>) response);
+        } else if (response instanceof CommandResponse && response instanceof WithEntity) {
+            result = renderCommandResponseWithEntity((CommandResponse<?>) response);
+        } else if (response instanceof CommandResponse && response instanceof WithOptionalEntity) {
+            final CommandResponse<?> commandResponse = (CommandResponse<?>) response;
+            LOGGER.withCorrelationId(commandResponse).debug("Got <{}> message.", commandResponse.getType());
+            rememberResponseLocationUri(commandResponse);
+            result = createCommandResponse(commandResponse.getDittoHeaders(), commandResponse.getHttpStatus(),
+                    (WithOptionalEntity) commandResponse);
+        } else if (response instanceof ErrorResponse) {
+            result = renderDittoRuntimeException(((ErrorResponse<?>) response).getDittoRuntimeException());
+        } else if (response instanceof CommandResponse) {
+            LOGGER.withCorrelationId((CommandResponse<?>) response)
+                    .error("Got 'CommandResponse' message which did neither implement 'WithEntity' nor" +
+                            " 'WithOptionalEntity': <{}>!", response);
+            result = createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        } else if (response instanceof JsonValueSourceRef) {
+            result = renderJsonValueSourceRef((JsonValueSourceRef) response);
+        } else if (response instanceof JsonRuntimeException) {
+            // wrap JsonRuntimeExceptions
+            result = renderDittoRuntimeException(new DittoJsonException((JsonRuntimeException) response));
+        } else if (response instanceof DittoRuntimeException) {
+            result = renderDittoRuntimeException((DittoRuntimeException) response);
+        } else if (response instanceof Status.Failure) {
+            result = renderResponseFailure(((Status.Failure) response).cause());
+        } else {
+            LOGGER.error("Got unknown message when a command response was expected: <{}>!", response);
+            result = createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        return result;
+    }
+
+    /**
+     * Renders the aggregated acknowledgements of the command of the request.
+     *
+     * @param acks the acknowledgements.
+     * @return the HTTP response.
+     */
+    HttpResponse renderAcknowledgements(final Acknowledgements acks) {
+        return createCommandResponse(acks.getDittoHeaders(), acks.getHttpStatus(), mapAcknowledgementsForHttp(acks));
+    }
+
+    /**
+     * Renders an error.
+     *
+     * @param exception the error.
+     * @return the HTTP response.
+     */
+    HttpResponse renderDittoRuntimeException(final DittoRuntimeException exception) {
+        LOGGER.withCorrelationId(exception)
+                .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
+
+        final HttpResponse responseWithoutHeaders = buildResponseWithoutHeadersFromDittoRuntimeException(exception);
+        return enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders, exception.getDittoHeaders());
+    }
+
+    /**
+     * Determines the response to complete the HTTP request with: a successful response is replaced by
+     * "202 Accepted" if the command of the request did not require a response.
+     *
+     * @param response the rendered HTTP response.
+     * @return the HTTP response to complete the request with.
+     */
+    HttpResponse toCompletionResponse(final HttpResponse response) {
+        final HttpResponse completionResponse;
+        if (isResponseRequired() || !response.status().isSuccess()) {
+            // if either response was required or the response was not a success, respond with the custom response:
+            completionResponse = response;
+        } else {
+            // when no response was required but response would have been successful, respond with 202 "Accepted":
+            completionResponse = createHttpResponse(HttpStatus.ACCEPTED);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Responding with HTTP response code <{}>.", completionResponse.status().intValue());
+            LOGGER.debug("Responding with entity <{}>.", completionResponse.entity());
+        }
+        return completionResponse;
+    }
+
+    /**
+     * Adds the {@code Location} header if the status of the response is {@link HttpStatus#CREATED} and the URI of the
+     * created entity is known.
+     *
+     * @param response the candidate HTTP response.
+     * @return the modified HTTP response.
+     */
+    HttpResponse addLocationHeader(final HttpResponse response) {
+        final var status = response.status();
+        if (HttpStatus.CREATED.getCode() == status.intValue() && null != responseLocationUri) {
+            return response.addHeader(Location.create(responseLocationUri));
+        } else {
+            return response;
+        }
+    }
+
+    private HttpResponse renderResponseFailure(final Throwable cause) {
+        if (cause instanceof AskTimeoutException) {
+            LOGGER.error("Got <{}> when a command response was expected: <{}>!", cause.getClass().getSimpleName(),
+                    cause.getMessage(), cause);
+            return createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        } else if (cause instanceof DittoRuntimeException) {
+            return renderDittoRuntimeException((DittoRuntimeException) cause);
+        } else {
+            LOGGER.error("Got <Status.Failure> when a command response was expected: <{}>!", cause.getMessage(),
+                    cause);
+            return createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private HttpResponse renderCommandResponseWithEntity(final CommandResponse<?> commandResponse) {
+        LOGGER.withCorrelationId(commandResponse).debug("Got <{}> message.", commandResponse.getType());
+        rememberResponseLocationUri(commandResponse);
+
+        final WithEntity<?> withEntity = (WithEntity<?>) commandResponse;
+
+        final var responseWithoutHeaders = createHttpResponse(commandResponse.getHttpStatus());
+        final HttpResponse responseWithoutBody = enhanceResponseWithExternalDittoHeaders(
+                responseWithoutHeaders, commandResponse.getDittoHeaders());
+
+        final Optional<String> entityPlainStringOptional = withEntity.getEntityPlainString();
+        final ContentType contentType = getContentType(commandResponse.getDittoHeaders());
+        if (entityPlainStringOptional.isPresent()) {
+            return addEntityAccordingToContentType(responseWithoutBody, entityPlainStringOptional.get(), contentType);
+        } else {
+            return addEntityAccordingToContentType(responseWithoutBody,
+                    withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(), contentType);
+        }
+    }
+
+    private HttpResponse renderMessageCommandResponse(final MessageCommandResponse<?, ?> messageCommandResponse) {
+        HttpResponse httpResponse;
+
+        final Message<?> message = messageCommandResponse.getMessage();
+        final Optional<?> optionalPayload = message.getPayload();
+        final Optional<ByteBuffer> optionalRawPayload = message.getRawPayload();
+        final var responseStatus = Optional.of(messageCommandResponse.getHttpStatus())
+                .filter(httpStatus -> StatusCodes.lookup(httpStatus.getCode()).isPresent())
+                // only allow HTTP status which are known to akka-http
+                .filter(httpStatus -> !HttpStatus.BAD_GATEWAY.equals(httpStatus));
+        // filter "bad gateway" 502 from being used as this is used Ditto internally for graceful HTTP shutdown
+
+        // if statusCode is != NO_CONTENT
+        if (responseStatus.map(status -> !HttpStatus.NO_CONTENT.equals(status)).orElse(true)) {
+            // this is on purpose not .map(ContentTypes:parse) as this would throw an exception:
+            final Optional<akka.http.scaladsl.model.ContentType> optionalContentType =
+                    message.getContentType().map(ContentType$.MODULE$::parse)
+                            .filter(Either::isRight)
+                            .map(Either::right)
+                            .map(Either.RightProjection::get);
+
+            final boolean isBinary = optionalContentType
+                    .map(akka.http.scaladsl.model.ContentType::value)
+                    .map(ContentType::of)
+                    .filter(ContentType::isBinary)
+                    .isPresent();
+
+            httpResponse = createHttpResponse(responseStatus.orElse(HttpStatus.OK));
+
+            if (optionalPayload.isPresent() && optionalContentType.isPresent() && !isBinary) {
+                final akka.http.scaladsl.model.ContentType contentType = optionalContentType.get();
+                final Object payload = optionalPayload.get();
+                final ByteString responsePayload = ByteString.fromString(payload.toString());
+                httpResponse = httpResponse.withEntity(HttpEntities.create(contentType, responsePayload));
+            } else if (optionalRawPayload.isPresent() && optionalContentType.isPresent() && isBinary) {
+                final akka.http.scaladsl.model.ContentType contentType = optionalContentType.get();
+                final ByteBuffer rawPayload = optionalRawPayload.get();
+                httpResponse = httpResponse.withEntity(HttpEntities.create(contentType, rawPayload.array()));
+            } else if (optionalRawPayload.isPresent()) {
+                final ByteBuffer rawPayload = optionalRawPayload.get();
+                httpResponse = httpResponse.withEntity(HttpEntities.create(rawPayload.array()));
+            }
+        } else {
+            // if payload was missing OR HTTP status was NO_CONTENT:
+            optionalRawPayload.ifPresent(byteBuffer -> LOGGER.withCorrelationId(messageCommandResponse)
+                    .info("Response payload was set but response status code was also set to <{}>." +
+                                    " Ignoring the response payload. Command=<{}>", responseStatus,
+                            messageCommandResponse));
+            httpResponse = createHttpResponse(HttpStatus.NO_CONTENT);
+        }
+
+        return enhanceResponseWithExternalDittoHeaders(httpResponse, messageCommandResponse.getDittoHeaders());
+    }
+
+    private HttpResponse renderJsonValueSourceRef(final JsonValueSourceRef jsonValueSourceRef) {
+        LOGGER.debug("Received <{}>.", jsonValueSourceRef.getClass().getSimpleName());
+        final var jsonValueSourceToHttpResponse = JsonValueSourceToHttpResponse.getInstance();
+        return jsonValueSourceToHttpResponse.apply(jsonValueSourceRef.getSource());
+    }
+
+    private void rememberResponseLocationUri(final CommandResponse<?> commandResponse) {
+        if (HttpStatus.CREATED.equals(commandResponse.getHttpStatus())) {
+            responseLocationUri = uriForLocationHeaderFunction.apply(httpRequest, commandResponse);
+        }
+    }
+
+    private static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
+            final DittoRuntimeException exception) {
+
+        final var httpStatus = exception.getHttpStatus();
+        final var responseWithoutHeaders = createHttpResponse(httpStatus);
+        if (HttpStatus.NOT_MODIFIED.equals(httpStatus)) {
+            return responseWithoutHeaders;
+        }
+        return responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(exception.toJsonString()));
+    }
+
+    private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
+            final DittoHeaders allDittoHeaders) {
+
+        final ThreadSafeDittoLogger logger = LOGGER.withCorrelationId(allDittoHeaders);
+        final Map<String, String> externalHeaders = getExternalHeaders(allDittoHeaders);
+
+        if (externalHeaders.isEmpty()) {
+            logger.debug("No external headers for enhancing the response, returning it as-is.");
+            return response;
+        }
+
+        logger.debug("Enhancing response with external headers <{}>.", externalHeaders);
+        final List<HttpHeader> externalHttpHeaders = externalHeaders
+                .entrySet()
+                .stream()
+                /*
+                 * Content type is set by the entity. See response.entity().getContentType().
+                 * If we set it here this will cause a WARN log.
+                 */
+                .filter(entry -> !entry.getKey().equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey()))
+                .map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+
+        return response.withHeaders(externalHttpHeaders);
+    }
+
+    private DittoHeaders getExternalHeaders(final DittoHeaders dittoHeaders) {
+        return DittoHeaders.of(headerTranslator.toExternalAndRetainKnownHeaders(dittoHeaders));
+    }
+
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
+            final ContentType contentType) {
+
+        final ByteString byteString;
+
+        if (contentType.isBinary()) {
+            byteString = ByteString.fromArray(Base64.getDecoder().decode(entityPlain));
+        } else {
+            byteString = ByteString.fromString(entityPlain);
+        }
+
+        return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
+    }
+
+    private static ContentType getContentType(final DittoHeaders dittoHeaders) {
+        return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
+    }
+
+    private HttpResponse createCommandResponse(final DittoHeaders dittoHeaders, final HttpStatus httpStatus,
+            final WithOptionalEntity withOptionalEntity) {
+
+        final UnaryOperator<HttpResponse> addExternalDittoHeaders =
+                response -> enhanceResponseWithExternalDittoHeaders(response, dittoHeaders);
+        final var addHeaders = addExternalDittoHeaders.andThen(responseModifier);
+        final var addBodyIfEntityExists = createBodyAddingResponseMapper(dittoHeaders, withOptionalEntity);
+        return addBodyIfEntityExists.apply(addHeaders.apply(createHttpResponse(httpStatus)));
+    }
+
+    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
+            final WithOptionalEntity withOptionalEntity) {
+
+        return response -> {
+            if (StatusCodes.NO_CONTENT.equals(response.status())) {
+                return response;
+            }
+            final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion()
+                    .orElse(dittoHeaders.getImplementedSchemaVersion());
+            return withOptionalEntity.getEntity(schemaVersion)
+                    .map(entity -> addEntityAccordingToContentType(response, entity.toString(),
+                            getContentType(dittoHeaders)))
+                    .orElse(response);
+        };
+    }
+
+    private Acknowledgements mapAcknowledgementsForHttp(final Acknowledgements acks) {
+        if (!isResponseRequired()) {
+            if (acks.getHttpStatus().isSuccess()) {
+                // no need to minimize payload because the response will have no body
+                return acks;
+            } else {
+                // minimize payload to status codes
+
+                final var acknowledgementList = acks.stream()
+                        .map(ack -> Acknowledgement.of(ack.getLabel(), ack.getEntityId(), ack.getHttpStatus(),
+                                DittoHeaders.empty()))
+                        .collect(Collectors.toList());
+                return Acknowledgements.of(acknowledgementList, acks.getDittoHeaders());
+            }
+        } else {
+            return Acknowledgements.of(
+                    acks.stream().map(this::setResponseLocationForAcknowledgement).collect(Collectors.toList()),
+                    acks.getDittoHeaders()
+            );
+        }
+    }
+
+    private boolean isResponseRequired() {
+        return incomingCommandHeaders == null || incomingCommandHeaders.isResponseRequired();
+    }
+
+    private Acknowledgement setResponseLocationForAcknowledgement(final Acknowledgement acknowledgement) {
+        if (DittoAcknowledgementLabel.TWIN_PERSISTED.equals(acknowledgement.getLabel())) {
+            rememberResponseLocationUri(acknowledgement);
+            if (responseLocationUri != null) {
+                final Location location = Location.create(responseLocationUri);
+                return acknowledgement.setDittoHeaders(acknowledgement.getDittoHeaders()
+                        .toBuilder()
+                        .putHeader(location.lowercaseName(), location.value())
+                        .build());
+            }
+        }
+        return acknowledgement;
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.eclipse.ditto.model.base.common.HttpStatus;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.routes.whoami.Whoami;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
+import org.eclipse.ditto.services.models.acks.AcknowledgementAggregatorActorStarter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayCommandTimeoutException;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayServiceUnavailableException;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+
+/**
+ * Long-lived actor which correlates the commands of many HTTP requests with their responses.
+ * It sends each command to the proxy actor on behalf of its request, keeps the promise of the HTTP response in a map
+ * of pending requests and fulfills it with the rendered response, acknowledgements or timeout error.
+ * <p>
+ * Pending requests are keyed by a request ID generated by this actor rather than by the correlation ID chosen by the
+ * client, so that a late response to a request whose correlation ID is reused never completes another request.
+ * Responses and failures are correlated with their request by that ID, not by their headers.
+ * </p>
+ * <p>
+ * Commands without correlation ID, {@link Whoami} and DevOps commands are handed to a child actor created for the
+ * request by the {@link HttpRequestActorPropsFactory}.
+ * </p>
+ */
+final class RequestCorrelationActor extends AbstractActorWithTimers {
+
+    private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ActorRef proxyActor;
+    private final HeaderTranslator headerTranslator;
+    private final HttpConfig httpConfig;
+    private final CommandConfig commandConfig;
+    private final HttpRequestActorPropsFactory fallbackPropsFactory;
+    private final AcknowledgementAggregatorActorStarter ackregatorStarter;
+    private final Map<String, PendingRequest> pendingRequests;
+
+    @SuppressWarnings("unused")
+    private RequestCorrelationActor(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final HttpConfig httpConfig,
+            final CommandConfig commandConfig,
+            final HttpRequestActorPropsFactory fallbackPropsFactory) {
+
+        this.proxyActor = proxyActor;
+        this.headerTranslator = headerTranslator;
+        this.httpConfig = httpConfig;
+        this.commandConfig = commandConfig;
+        this.fallbackPropsFactory = fallbackPropsFactory;
+        ackregatorStarter =
+                AbstractHttpRequestActor.newAckregatorStarter(getContext(), httpConfig, headerTranslator);
+        pendingRequests = new HashMap<>();
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @param proxyActor proxy actor to forward all commands.
+     * @param headerTranslator translator of Ditto headers.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @param commandConfig the configuration settings for incoming commands (via HTTP requests) in the gateway.
+     * @param fallbackPropsFactory creates the actors of requests which are not correlated by this actor.
+     * @return the Props.
+     */
+    static Props props(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final HttpConfig httpConfig,
+            final CommandConfig commandConfig,
+            final HttpRequestActorPropsFactory fallbackPropsFactory) {
+
+        return Props.create(RequestCorrelationActor.class, proxyActor, headerTranslator, httpConfig, commandConfig,
+                fallbackPropsFactory);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        final DittoRuntimeException serviceUnavailable = GatewayServiceUnavailableException.newBuilder()
+                .dittoHeaders(DittoHeaders.empty())
+                .build();
+        pendingRequests.values()
+                .forEach(pending -> pending.complete(renderer -> renderer.renderDittoRuntimeException(
+                        serviceUnavailable)));
+        pendingRequests.clear();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(CorrelateCommand.class, this::correlate)
+                .match(CorrelatedResponse.class,
+                        correlated -> completeWith(correlated.requestId, correlated.responseOrError))
+                .match(RequestTimeout.class, this::timeout)
+                .matchAny(message -> logger.warning("Dropping uncorrelated message: <{}>", message))
+                .build();
+    }
+
+    private void correlate(final CorrelateCommand correlateCommand) {
+        final Command<?> command = correlateCommand.command;
+        final Optional<String> correlationIdOptional = command.getDittoHeaders().getCorrelationId();
+        if (correlationIdOptional.isEmpty() || command instanceof Whoami ||
+                AbstractHttpRequestActor.isDevOpsCommand(command)) {
+            startRequestActor(correlateCommand);
+        } else {
+            final String correlationId = correlationIdOptional.get();
+            final String requestId = UUID.randomUUID().toString();
+            logger.withCorrelationId(correlationId)
+                    .debug("Got <{}> as request <{}>. Telling the target actor about it.", command, requestId);
+            final HttpResponseRenderer renderer =
+                    HttpResponseRenderer.of(headerTranslator, correlateCommand.httpRequest);
+            renderer.setIncomingCommandHeaders(command.getDittoHeaders());
+            pendingRequests.put(requestId,
+                    new PendingRequest(correlationId, renderer, correlateCommand.httpResponseFuture));
+            // as long as no ackregator or command timeout applies, the request timeout does
+            scheduleTimeout(requestId, command, httpConfig.getRequestTimeout());
+            final ActorRef self = getSelf();
+            try {
+                ackregatorStarter.start(command,
+                        responseOrError -> {
+                            self.tell(new CorrelatedResponse(requestId, responseOrError), ActorRef.noSender());
+                            return null;
+                        },
+                        (signal, aggregator) -> {
+                            proxyActor.tell(signal, aggregator);
+                            return null;
+                        },
+                        signal -> {
+                            forwardWithoutAckregator(requestId, signal);
+                            return null;
+                        });
+            } catch (final DittoRuntimeException e) {
+                completeWith(requestId, e);
+            }
+        }
+    }
+
+    private void startRequestActor(final CorrelateCommand correlateCommand) {
+        final Props props = fallbackPropsFactory.props(proxyActor, headerTranslator, correlateCommand.httpRequest,
+                correlateCommand.httpResponseFuture, httpConfig, commandConfig);
+        getContext().actorOf(props).tell(correlateCommand.command, ActorRef.noSender());
+    }
+
+    private void forwardWithoutAckregator(final String requestId, final Signal<?> signal) {
+        if (AbstractHttpRequestActor.shallAcceptImmediately(signal)) {
+            logger.withCorrelationId(signal)
+                    .debug("Received <{}> that doesn't expect a response. Answering with status code 202 ...", signal);
+            proxyActor.tell(signal, ActorRef.noSender());
+            completeWith(requestId, HttpResponseRenderer.createHttpResponse(HttpStatus.ACCEPTED));
+        } else {
+            // if no specific timeout was configured, use the default command timeout
+            final Duration timeout = signal.getDittoHeaders().getTimeout().orElse(commandConfig.getDefaultTimeout());
+            scheduleTimeout(requestId, signal, timeout);
+            // the ask outlives the timer so that only failures of the proxy actor complete it exceptionally
+            final ActorRef self = getSelf();
+            Patterns.ask(proxyActor, signal, timeout.multipliedBy(2L))
+                    .whenComplete((response, error) -> self.tell(
+                            new CorrelatedResponse(requestId, null != error ? toFailure(error, signal) : response),
+                            ActorRef.noSender()));
+        }
+    }
+
+    private void scheduleTimeout(final String requestId, final WithDittoHeaders<?> command,
+            final Duration timeout) {
+
+        // a timer with the same key replaces the previous one
+        getTimers().startSingleTimer(requestId, new RequestTimeout(requestId, command.getDittoHeaders(),
+                timeout), timeout);
+    }
+
+    private void timeout(final RequestTimeout requestTimeout) {
+        logger.withCorrelationId(requestTimeout.dittoHeaders)
+                .info("Got no response within timeout <{}>.", requestTimeout.timeout);
+        completeWith(requestTimeout.requestId, GatewayCommandTimeoutException.newBuilder(requestTimeout.timeout)
+                .dittoHeaders(requestTimeout.dittoHeaders)
+                .build());
+    }
+
+    private void completeWith(final String requestId, final Object response) {
+        final PendingRequest pendingRequest = pendingRequests.remove(requestId);
+        if (null != pendingRequest) {
+            getTimers().cancel(requestId);
+            logger.withCorrelationId(pendingRequest.correlationId)
+                    .debug("Completing request <{}> with <{}>.", requestId, response);
+            pendingRequest.complete(renderer -> renderer.renderResponse(response));
+        } else {
+            logger.debug("Dropping response of request <{}> which is no longer pending: <{}>", requestId, response);
+        }
+    }
+
+    private static DittoRuntimeException toFailure(final Throwable error, final WithDittoHeaders<?> signal) {
+        final Throwable cause = error instanceof CompletionException && null != error.getCause()
+                ? error.getCause()
+                : error;
+        if (cause instanceof DittoRuntimeException) {
+            return (DittoRuntimeException) cause;
+        } else {
+            return GatewayInternalErrorException.newBuilder()
+                    .dittoHeaders(signal.getDittoHeaders())
+                    .cause(cause)
+                    .build();
+        }
+    }
+
+    /**
+     * Asks the actor to send the command of an HTTP request and to fulfill the promise of its HTTP response.
+     */
+    static final class CorrelateCommand {
+
+        private final Command<?> command;
+        private final HttpRequest httpRequest;
+        private final CompletableFuture<HttpResponse> httpResponseFuture;
+
+        CorrelateCommand(final Command<?> command, final HttpRequest httpRequest,
+                final CompletableFuture<HttpResponse> httpResponseFuture) {
+
+            this.command = command;
+            this.httpRequest = httpRequest;
+            this.httpResponseFuture = httpResponseFuture;
+        }
+
+    }
+
+    private static final class PendingRequest {
+
+        private final String correlationId;
+        private final HttpResponseRenderer renderer;
+        private final CompletableFuture<HttpResponse> httpResponseFuture;
+
+        private PendingRequest(final String correlationId, final HttpResponseRenderer renderer,
+                final CompletableFuture<HttpResponse> httpResponseFuture) {
+
+            this.correlationId = correlationId;
+            this.renderer = renderer;
+            this.httpResponseFuture = httpResponseFuture;
+        }
+
+        private void complete(final Function<HttpResponseRenderer, HttpResponse> rendering) {
+            httpResponseFuture.complete(renderer.toCompletionResponse(rendering.apply(renderer)));
+        }
+
+    }
+
+    private static final class CorrelatedResponse {
+
+        private final String requestId;
+        private final Object responseOrError;
+
+        private CorrelatedResponse(final String requestId, final Object responseOrError) {
+            this.requestId = requestId;
+            this.responseOrError = responseOrError;
+        }
+
+    }
+
+    private static final class RequestTimeout {
+
+        private final String requestId;
+        private final DittoHeaders dittoHeaders;
+        private final Duration timeout;
+
+        private RequestTimeout(final String requestId, final DittoHeaders dittoHeaders, final Duration timeout) {
+            this.requestId = requestId;
+            this.dittoHeaders = dittoHeaders;
+            this.timeout = timeout;
+        }
+
+    }
+
+}
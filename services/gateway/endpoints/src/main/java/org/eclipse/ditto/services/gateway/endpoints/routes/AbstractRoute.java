@@ -39,7 +39,9 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.base.config.ThrottlingConfig;
 import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
+import org.eclipse.ditto.services.gateway.endpoints.actors.DefaultHttpRequestActorPropsFactory;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActorPropsFactory;
+import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestCorrelator;
 import org.eclipse.ditto.services.gateway.endpoints.directives.ContentTypeValidationDirective;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
@@ -96,6 +98,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final CommandConfig commandConfig;
     private final HeaderTranslator headerTranslator;
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    @Nullable private final HttpRequestCorrelator httpRequestCorrelator;
     private final Attributes supervisionStrategy;
     private final Set<String> mediaTypeJsonWithFallbacks;
 
@@ -130,10 +133,22 @@ public abstract class AbstractRoute extends AllDirectives {
         httpRequestActorPropsFactory =
                 AkkaClassLoader.instantiate(actorSystem, HttpRequestActorPropsFactory.class,
                         httpConfig.getActorPropsFactoryFullQualifiedClassname());
+        httpRequestCorrelator = createHttpRequestCorrelator();
 
         supervisionStrategy = createSupervisionStrategy();
     }
 
+    @Nullable
+    private HttpRequestCorrelator createHttpRequestCorrelator() {
+        final int receivers = httpConfig.getRequestCorrelationReceivers();
+        // actors of custom props factories may render responses differently and have to handle each request
+        if (0 < receivers && httpRequestActorPropsFactory instanceof DefaultHttpRequestActorPropsFactory) {
+            return HttpRequestCorrelator.of(actorSystem, receivers, proxyActor, headerTranslator, httpConfig,
+                    commandConfig, httpRequestActorPropsFactory);
+        }
+        return null;
+    }
+
     private Attributes createSupervisionStrategy() {
         return ActorAttributes.withSupervisionStrategy(exc -> {
             if (exc instanceof DittoRuntimeException) {
@@ -258,8 +273,7 @@ public abstract class AbstractRoute extends AllDirectives {
                         return new Status.Failure(e);
                     }
                 })
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
+                .to(createHttpPerRequestSink(ctx, httpResponseFuture))
         );
 
         // optional step: transform the response entity:
@@ -304,6 +318,25 @@ public abstract class AbstractRoute extends AllDirectives {
         return responseStage; // default: do nothing
     }
 
+    /**
+     * Create the sink of the command of an HTTP request which fulfills the promise of its response. The command is
+     * correlated with its response by the long-lived actors of the {@link HttpRequestCorrelator} if configured and
+     * otherwise by an HTTP request actor created for the request.
+     *
+     * @param ctx the request context.
+     * @param httpResponseFuture the promise of a response to be fulfilled.
+     * @return the sink.
+     */
+    protected Sink<Object, NotUsed> createHttpPerRequestSink(final RequestContext ctx,
+            final CompletableFuture<HttpResponse> httpResponseFuture) {
+
+        if (null != httpRequestCorrelator) {
+            return httpRequestCorrelator.newRequestSink(ctx.getRequest(), httpResponseFuture);
+        }
+        return Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
+                AbstractHttpRequestActor.COMPLETE_MESSAGE);
+    }
+
     /**
      * Create HTTP request actor by the dynamically loaded props factory.
      *
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.signals.base.Signal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the encodings of signals published to many streaming sessions of a gateway, so that each distinct
+ * encoding of a signal is computed once instead of once per session.
+ * <p>
+ * Signals are compared by identity: all sessions of a gateway receive the same signal instance from pub-sub, whereas
+ * a signal altered for a session is a different instance. Entries are dropped once their signal is no longer
+ * referenced by any session.
+ * </p>
+ *
+ * @param <T> type of the encodings.
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class SignalEncodingCache<T> {
+
+    private static final long MAXIMUM_SIZE = 10_000L;
+
+    private final Cache<Signal<?>, Map<Object, T>> cache;
+
+    private SignalEncodingCache(final long maximumSize) {
+        cache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Create an empty cache.
+     *
+     * @param <T> type of the encodings.
+     * @return the cache.
+     */
+    public static <T> SignalEncodingCache<T> newInstance() {
+        return new SignalEncodingCache<>(MAXIMUM_SIZE);
+    }
+
+    /**
+     * Get the encoding of a signal, encoding it if no session requested the same encoding before.
+     * Concurrent requests for the same encoding wait for the first one to finish.
+     *
+     * @param signal the signal.
+     * @param variant everything the encoding depends on other than the signal, e.g. the protocol adapter and the
+     * field selector. Must implement {@code equals} and {@code hashCode}.
+     * @param encoder computes the encoding.
+     * @return the encoding.
+     */
+    public T getOrEncode(final Signal<?> signal, final Object variant, final Supplier<T> encoder) {
+        return cache.get(signal, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(variant, key -> encoder.get());
+    }
+
+}
@@ -34,7 +34,6 @@ import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
-import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CloudEventsConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
@@ -53,7 +52,6 @@ import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
-import akka.stream.javadsl.Sink;
 import akka.util.ByteString;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
@@ -151,8 +149,7 @@ public final class CloudEventsRoute extends AbstractRoute {
                             return new Status.Failure(e);
                         }
                     })
-                    .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                            AbstractHttpRequestActor.COMPLETE_MESSAGE))
+                    .to(createHttpPerRequestSink(ctx, httpResponseFuture))
             );
 
             return completeWithFuture(httpResponseFuture);
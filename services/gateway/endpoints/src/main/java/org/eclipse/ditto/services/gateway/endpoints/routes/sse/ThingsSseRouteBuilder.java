@@ -48,6 +48,7 @@ import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFacto
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
+import org.eclipse.ditto.services.gateway.endpoints.routes.SignalEncodingCache;
 import org.eclipse.ditto.services.gateway.endpoints.routes.things.ThingsParameter;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
 import org.eclipse.ditto.services.gateway.endpoints.utils.GatewaySignalEnrichmentProvider;
@@ -102,6 +103,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private static final String PARAM_OPTION = "option";
     private static final String PARAM_NAMESPACES = "namespaces";
     private static final String PARAM_EXTRA_FIELDS = "extraFields";
+    private static final String PARAM_CONFLATE = "conflate";
     private static final PartialFunction<HttpHeader, Accept> ACCEPT_HEADER_EXTRACTOR = newAcceptHeaderExtractor();
 
     private static final Counter THINGS_SSE_COUNTER = getCounterFor(PATH_THINGS);
@@ -116,6 +118,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private final StreamingConfig streamingConfig;
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ActorRef pubSubMediator;
+    private final SignalEncodingCache<String> encodingCache;
 
     private SseAuthorizationEnforcer sseAuthorizationEnforcer;
     private SseConnectionSupervisor sseConnectionSupervisor;
@@ -132,6 +135,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         this.streamingConfig = streamingConfig;
         this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
         this.pubSubMediator = pubSubMediator;
+        encodingCache = SignalEncodingCache.newInstance();
         sseAuthorizationEnforcer = new NoOpSseAuthorizationEnforcer();
         sseConnectionSupervisor = new NoOpSseConnectionSupervisor();
         eventSniffer = EventSniffer.noOp();
@@ -253,7 +257,9 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                     }
 
                     final Source<SessionedJsonifiable, SupervisedStream.WithQueue> publisherSource =
-                            SupervisedStream.sourceQueue(10);
+                            Boolean.parseBoolean(parameters.get(PARAM_CONFLATE))
+                                    ? SupervisedStream.conflatingSourceQueue(10)
+                                    : SupervisedStream.sourceQueue(10);
 
                     return publisherSource.viaMat(KillSwitches.single(), Keep.both())
                             .mapMaterializedValue(pair -> {
@@ -291,10 +297,10 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                             })
                             .mapAsync(streamingConfig.getParallelism(), jsonifiable ->
                                     postprocess(jsonifiable, facade, targetThingIds, namespaces, fields))
-                            .mapConcat(jsonObjects -> jsonObjects)
-                            .map(jsonValue -> {
+                            .mapConcat(jsonStrings -> jsonStrings)
+                            .map(jsonString -> {
                                 THINGS_SSE_COUNTER.increment();
-                                return ServerSentEvent.create(jsonValue.toString());
+                                return ServerSentEvent.create(jsonString);
                             })
                             .log("SSE " + PATH_THINGS)
                             // sniffer shouldn't sniff heartbeats
@@ -354,13 +360,13 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return completeOKWithFuture(sseSourceStage, EventStreamMarshalling.toEventStream());
     }
 
-    private CompletionStage<Collection<JsonObject>> postprocess(final SessionedJsonifiable jsonifiable,
+    private CompletionStage<Collection<String>> postprocess(final SessionedJsonifiable jsonifiable,
             @Nullable final SignalEnrichmentFacade facade,
             final Collection<ThingId> targetThingIds,
             final Collection<String> namespaces,
             @Nullable final JsonFieldSelector fields) {
 
-        final Supplier<CompletableFuture<Collection<JsonObject>>> emptySupplier =
+        final Supplier<CompletableFuture<Collection<String>>> emptySupplier =
                 () -> CompletableFuture.completedFuture(Collections.emptyList());
 
         if (jsonifiable.getJsonifiable() instanceof ThingEvent) {
@@ -372,14 +378,15 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                                 .thenApply(extra ->
                                         Optional.of(session.mergeThingWithExtra(event, extra))
                                                 .filter(session::matchesFilter)
-                                                .map(thing -> toNonemptyThingJson(thing, event, fields))
+                                                .map(thing -> toNonemptyThingJson(thing, event, fields,
+                                                        extra.isEmpty() && session.getExtraFields().isEmpty()))
                                                 .orElseGet(Collections::emptyList)
                                 )
                                 .exceptionally(error -> {
                                     final DittoRuntimeException errorToReport = error instanceof DittoRuntimeException
                                             ? ((DittoRuntimeException) error)
                                             : SignalEnrichmentFailedException.newBuilder().build();
-                                    return Collections.singletonList(errorToReport.toJson());
+                                    return Collections.singletonList(errorToReport.toJsonString());
                                 })
                         )
                         .orElseGet(emptySupplier);
@@ -396,15 +403,28 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return targetThingIds.isEmpty() || targetThingIds.contains(event.getEntityId());
     }
 
-    private static Collection<JsonObject> toNonemptyThingJson(final Thing thing, final ThingEvent<?> event,
-            @Nullable final JsonFieldSelector fields) {
+    /**
+     * Serialize the thing of an event. If the thing does not depend on the session, i. e. no extra fields are
+     * involved, then the serialization is shared by all sessions with the same field selector.
+     */
+    private Collection<String> toNonemptyThingJson(final Thing thing, final ThingEvent<?> event,
+            @Nullable final JsonFieldSelector fields, final boolean independentOfSession) {
         final JsonSchemaVersion jsonSchemaVersion = event.getDittoHeaders()
                 .getSchemaVersion()
                 .orElse(event.getImplementedSchemaVersion());
+        final String thingJson = independentOfSession
+                ? encodingCache.getOrEncode(event, Arrays.asList(jsonSchemaVersion, fields),
+                () -> toThingJsonString(thing, jsonSchemaVersion, fields))
+                : toThingJsonString(thing, jsonSchemaVersion, fields);
+        return thingJson.isEmpty() ? Collections.emptyList() : Collections.singletonList(thingJson);
+    }
+
+    private static String toThingJsonString(final Thing thing, final JsonSchemaVersion jsonSchemaVersion,
+            @Nullable final JsonFieldSelector fields) {
         final JsonObject thingJson = null != fields
                 ? thing.toJson(jsonSchemaVersion, fields)
                 : thing.toJson(jsonSchemaVersion);
-        return thingJson.isEmpty() ? Collections.emptyList() : Collections.singletonList(thingJson);
+        return thingJson.isEmpty() ? "" : thingJson.toString();
     }
 
     private static List<String> getNamespaces(@Nullable final String namespacesParameter) {
@@ -33,7 +33,6 @@ import org.eclipse.ditto.model.messages.SubjectInvalidException;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
-import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
@@ -56,7 +55,6 @@ import akka.http.javadsl.server.PathMatchers;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
 import akka.japi.function.Function;
-import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.util.ByteString;
 
@@ -381,8 +379,7 @@ final class MessagesRoute extends AbstractRoute {
                 .map(ByteString::toArray)
                 .map(ByteBuffer::wrap)
                 .map(requestPayloadToCommandFunction)
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
+                .to(createHttpPerRequestSink(ctx, httpResponseFuture))
         );
 
         return completeWithFuture(preprocessResponse(httpResponseFuture));
@@ -26,6 +26,7 @@ import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.Prot
 import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.ProtocolMessageType.STOP_SEND_POLICY_ANNOUNCEMENTS;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -36,6 +37,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -70,6 +72,7 @@ import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
+import org.eclipse.ditto.services.gateway.endpoints.routes.SignalEncodingCache;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
 import org.eclipse.ditto.services.gateway.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.services.gateway.security.HttpHeader;
@@ -89,6 +92,7 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.protocol.CborAdaptableCodec;
 import org.eclipse.ditto.services.utils.pubsub.StreamingType;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
@@ -105,6 +109,7 @@ import akka.actor.ActorRef;
 import akka.event.Logging;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.ws.BinaryMessage;
 import akka.http.javadsl.model.ws.Message;
 import akka.http.javadsl.model.ws.TextMessage;
 import akka.http.javadsl.model.ws.WebSocketUpgrade;
@@ -126,6 +131,7 @@ import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Merge;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 import scala.util.Either;
 import scala.util.Left;
 import scala.util.Right;
@@ -142,6 +148,18 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
      */
     private static final String PROTOCOL_CMD_ACK_SUFFIX = ":ACK";
 
+    /**
+     * WebSocket subprotocol which clients request to exchange Ditto Protocol messages encoded in CBOR in binary frames
+     * instead of JSON in text frames. Stream control messages such as {@code START-SEND-EVENTS} remain text frames.
+     */
+    public static final String DITTO_PROTOCOL_CBOR_SUBPROTOCOL = "ditto-cbor";
+
+    /**
+     * Query parameter with which clients opt in to receive only the latest of the thing events on the same thing and
+     * resource path which were queued while they were too slow to keep up.
+     */
+    public static final String CONFLATE_PARAMETER = "conflate";
+
     private static final String STREAMING_TYPE_WS = "WS";
 
     private static final String BEARER = "Bearer";
@@ -170,6 +188,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
     private final Materializer materializer;
+    private final SignalEncodingCache<Message> encodingCache;
 
     private EventSniffer<String> incomingMessageSniffer;
     private EventSniffer<String> outgoingMessageSniffer;
@@ -194,6 +213,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         signalEnrichmentProvider = null;
         headerTranslator = HeaderTranslator.empty();
         this.materializer = materializer;
+        encodingCache = SignalEncodingCache.newInstance();
     }
 
     /**
@@ -291,23 +311,39 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final ThreadSafeDittoLogger logger = LOGGER.withCorrelationId(connectionCorrelationId);
         logger.info("Creating WebSocket for connection authContext: <{}>", authContext);
 
+        @Nullable final CborAdaptableCodec cborCodec = isCborRequested(upgradeToWebSocket)
+                ? CborAdaptableCodec.getInstance()
+                : null;
+
         return retrieveWebsocketConfig()
                 .thenApply(overwriteWebSocketConfig(dittoHeaders))
                 .thenApply(websocketConfig -> {
                     final Pair<Connect, Flow<DittoRuntimeException, Message, NotUsed>> outgoing =
                             createOutgoing(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
                                     request,
-                                    websocketConfig, signalEnrichmentFacade, logger);
+                                    websocketConfig, signalEnrichmentFacade, cborCodec, logger);
 
                     final Flow<Message, DittoRuntimeException, NotUsed> incoming =
                             createIncoming(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
                                     request,
-                                    websocketConfig, outgoing.first(), logger);
+                                    websocketConfig, outgoing.first(), cborCodec, logger);
 
-                    return upgradeToWebSocket.handleMessagesWith(incoming.via(outgoing.second()));
+                    final Flow<Message, Message, NotUsed> handler = incoming.via(outgoing.second());
+                    return cborCodec == null
+                            ? upgradeToWebSocket.handleMessagesWith(handler)
+                            : upgradeToWebSocket.handleMessagesWith(handler, DITTO_PROTOCOL_CBOR_SUBPROTOCOL);
                 });
     }
 
+    private static boolean isCborRequested(final WebSocketUpgrade upgradeToWebSocket) {
+        return StreamSupport.stream(upgradeToWebSocket.getRequestedProtocols().spliterator(), false)
+                .anyMatch(DITTO_PROTOCOL_CBOR_SUBPROTOCOL::equals);
+    }
+
+    private static boolean isConflationRequested(final HttpRequest request) {
+        return request.getUri().query().get(CONFLATE_PARAMETER).map(Boolean::parseBoolean).orElse(false);
+    }
+
     private java.util.function.Function<WebsocketConfig, WebsocketConfig> overwriteWebSocketConfig(
             final DittoHeaders dittoHeaders) {
         return wsConfig -> webSocketConfigProvider.apply(dittoHeaders, wsConfig);
@@ -319,7 +355,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
      *                  +
      *                  | strictify+sniffer
      *                  v
-     *                String
+     *   Either<String, ByteString> (text or CBOR)
      *                  +
      *                  |
      *                  v                   bad cast/bad signal
@@ -346,17 +382,19 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             final Connect connect,
+            @Nullable final CborAdaptableCodec cborCodec,
             final ThreadSafeDittoLogger logger) {
 
         return Flow.fromGraph(GraphDSL.create(builder -> {
 
-            final FlowShape<Message, String> strictify =
-                    builder.add(getStrictifyFlow(request, logger)
+            final FlowShape<Message, Either<String, ByteString>> strictify =
+                    builder.add(getStrictifyFlow(request, cborCodec != null, logger)
                             .via(AbstractRoute.throttleByConfig(websocketConfig.getThrottlingConfig())));
 
-            final FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException> select =
+            final FanOutShape2<Either<String, ByteString>, Either<StreamControlMessage, Signal<?>>,
+                    DittoRuntimeException> select =
                     builder.add(selectStreamControlOrSignal(version, connectionCorrelationId, connectionAuthContext,
-                            dittoHeaders, adapter, logger));
+                            dittoHeaders, adapter, cborCodec, logger));
 
             final FanOutShape2<Either<StreamControlMessage, Signal<?>>, Either<StreamControlMessage, Signal<?>>,
                     DittoRuntimeException> rateLimiter = builder.add(getRateLimiter(websocketConfig));
@@ -402,25 +440,21 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     }
 
 
-    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request, final Logger logger) {
+    private Flow<Message, Either<String, ByteString>, NotUsed> getStrictifyFlow(final HttpRequest request,
+            final boolean acceptBinary, final Logger logger) {
+
         return Flow.<Message>create()
                 .via(Flow.fromFunction(msg -> {
                     IN_COUNTER.increment();
                     return msg;
                 }))
-                .filter(Message::isText)
-                .map(Message::asTextMessage)
-                .map(textMsg -> {
-                    if (textMsg.isStrict()) {
-                        return Source.single(textMsg.getStrictText());
-                    } else {
-                        return textMsg.getStreamedText();
-                    }
-                })
-                .flatMapConcat(textMsg -> textMsg.fold("", (str1, str2) -> str1 + str2))
-                .via(incomingMessageSniffer.toAsyncFlow(request))
+                .filter(msg -> msg.isText() || acceptBinary)
+                .flatMapConcat(WebSocketRoute::strictify)
+                .via(incomingMessageSniffer.<Either<String, ByteString>>filterMap(
+                        payload -> payload.isLeft() ? Optional.of(payload.left().get()) : Optional.empty())
+                        .toAsyncFlow(request))
                 .via(Flow.fromFunction(result -> {
-                    logger.debug("Received incoming WebSocket message: {}", result);
+                    logger.debug("Received incoming WebSocket message: {}", describe(result));
                     return result;
                 }))
                 .withAttributes(Attributes.createLogLevels(Logging.DebugLevel(), Logging.DebugLevel(),
@@ -428,37 +462,63 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     }
 
-    private Graph<FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException>, NotUsed>
-    selectStreamControlOrSignal(
+    private static Source<Either<String, ByteString>, ?> strictify(final Message message) {
+        if (message.isText()) {
+            final TextMessage textMsg = message.asTextMessage();
+            final Source<String, ?> text =
+                    textMsg.isStrict() ? Source.single(textMsg.getStrictText()) : textMsg.getStreamedText();
+            return text.fold("", (str1, str2) -> str1 + str2)
+                    .<Either<String, ByteString>>map(Left::apply);
+        } else {
+            final BinaryMessage binaryMsg = message.asBinaryMessage();
+            final Source<ByteString, ?> data =
+                    binaryMsg.isStrict() ? Source.single(binaryMsg.getStrictData()) : binaryMsg.getStreamedData();
+            return data.fold(ByteString.emptyByteString(), ByteString::concat)
+                    .<Either<String, ByteString>>map(Right::apply);
+        }
+    }
+
+    private static String describe(final Either<String, ByteString> payload) {
+        return payload.isLeft()
+                ? payload.left().get()
+                : "<CBOR of " + payload.right().get().size() + " bytes>";
+    }
+
+    private Graph<FanOutShape2<Either<String, ByteString>, Either<StreamControlMessage, Signal<?>>,
+            DittoRuntimeException>, NotUsed> selectStreamControlOrSignal(
             final JsonSchemaVersion version,
             final CharSequence connectionCorrelationId,
             final AuthorizationContext connectionAuthContext,
             final DittoHeaders additionalHeaders,
             final ProtocolAdapter adapter,
+            @Nullable final CborAdaptableCodec cborCodec,
             final ThreadSafeDittoLogger logger) {
 
         final ProtocolMessageExtractor protocolMessageExtractor =
                 new ProtocolMessageExtractor(connectionAuthContext, connectionCorrelationId);
 
         return Filter.multiplexByEither(
-                cmdString -> {
-                    final Optional<StreamControlMessage> streamControlMessage =
-                            protocolMessageExtractor.apply(cmdString);
+                payload -> {
+                    final Optional<StreamControlMessage> streamControlMessage = payload.isLeft()
+                            ? protocolMessageExtractor.apply(payload.left().get())
+                            : Optional.empty();
                     Either<DittoRuntimeException, Either<StreamControlMessage, Signal<?>>> result;
                     if (streamControlMessage.isPresent()) {
                         result = Right.apply(Left.apply(streamControlMessage.get()));
                     } else {
                         try {
-                            final Signal<?> signal = buildSignal(cmdString, version, connectionCorrelationId,
-                                    connectionAuthContext, additionalHeaders, adapter, headerTranslator, logger);
+                            final Signal<?> signal = buildSignal(payload, version, connectionCorrelationId,
+                                    connectionAuthContext, additionalHeaders, adapter, headerTranslator, cborCodec,
+                                    logger);
                             result = Right.apply(Right.apply(signal));
                         } catch (final DittoRuntimeException dre) {
                             // This is a client error usually; log at level DEBUG without stack trace.
                             logger.withCorrelationId(dre)
-                                    .debug("DittoRuntimeException building signal from <{}>: <{}>", cmdString, dre);
+                                    .debug("DittoRuntimeException building signal from <{}>: <{}>",
+                                            describe(payload), dre);
                             result = Left.apply(dre);
                         } catch (final Exception throwable) {
-                            logger.warn("Error building signal from <{}>: {}: <{}>", cmdString,
+                            logger.warn("Error building signal from <{}>: {}: <{}>", describe(payload),
                                     throwable.getClass().getSimpleName(), throwable.getMessage());
                             final DittoRuntimeException dittoRuntimeException =
                                     GatewayInternalErrorException.newBuilder()
@@ -480,12 +540,16 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             @Nullable final SignalEnrichmentFacade signalEnrichmentFacade,
+            @Nullable final CborAdaptableCodec cborCodec,
             final ThreadSafeDittoLogger logger) {
 
         final Optional<JsonWebToken> optJsonWebToken = extractJwtFromRequestIfPresent(request);
 
+        final int queueSize = websocketConfig.getPublisherBackpressureBufferSize();
         final Source<SessionedJsonifiable, SupervisedStream.WithQueue> publisherSource =
-                SupervisedStream.sourceQueue(websocketConfig.getPublisherBackpressureBufferSize());
+                isConflationRequested(request)
+                        ? SupervisedStream.conflatingSourceQueue(queueSize)
+                        : SupervisedStream.sourceQueue(queueSize);
 
         final Source<SessionedJsonifiable, Connect> sourceToPreMaterialize = publisherSource.mapMaterializedValue(
                 withQueue -> {
@@ -521,14 +585,17 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final int signalEnrichmentParallelism = streamingConfig.getParallelism();
         final Flow<SessionedJsonifiable, Message, NotUsed> messageFlow =
                 Flow.<SessionedJsonifiable>create()
-                        .mapAsync(signalEnrichmentParallelism, postprocess(adapter, signalEnrichmentFacade, logger))
+                        .mapAsync(signalEnrichmentParallelism,
+                                postprocess(adapter, signalEnrichmentFacade, cborCodec, logger))
                         .mapConcat(x -> x)
                         .via(Flow.fromFunction(result -> {
                             logger.debug("Sending outgoing WebSocket message: {}", result);
                             return result;
                         }))
-                        .via(outgoingMessageSniffer.toAsyncFlow(request))
-                        .<Message>map(TextMessage::create)
+                        .via(outgoingMessageSniffer.<Message>filterMap(msg -> msg.isText()
+                                ? Optional.of(msg.asTextMessage().getStrictText())
+                                : Optional.empty())
+                                .toAsyncFlow(request))
                         .via(Flow.fromFunction(msg -> {
                             OUT_COUNTER.increment();
                             return msg;
@@ -585,13 +652,14 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         });
     }
 
-    private static Signal<?> buildSignal(final String cmdString,
+    private static Signal<?> buildSignal(final Either<String, ByteString> payload,
             final JsonSchemaVersion version,
             final CharSequence connectionCorrelationId,
             final AuthorizationContext connectionAuthContext,
             final DittoHeaders additionalHeaders,
             final ProtocolAdapter adapter,
             final HeaderTranslator headerTranslator,
+            @Nullable final CborAdaptableCodec cborCodec,
             final ThreadSafeDittoLogger logger) {
 
         // initial internal header values
@@ -602,15 +670,21 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 .origin(connectionCorrelationId)
                 .build();
 
-        if (cmdString.isEmpty()) {
-            final RuntimeException cause = new IllegalArgumentException("Empty json.");
-            throw new DittoJsonException(cause, initialInternalHeaders);
+        final JsonifiableAdaptable jsonifiableAdaptable;
+        if (payload.isLeft()) {
+            final String cmdString = payload.left().get();
+            if (cmdString.isEmpty()) {
+                final RuntimeException cause = new IllegalArgumentException("Empty json.");
+                throw new DittoJsonException(cause, initialInternalHeaders);
+            }
+            jsonifiableAdaptable = wrapJsonRuntimeException(cmdString,
+                    DittoHeaders.empty(), // unused
+                    (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(s)));
+        } else {
+            // binary frames pass the strictify flow only if the CBOR subprotocol was negotiated
+            jsonifiableAdaptable = checkNotNull(cborCodec, "cborCodec").fromCbor(payload.right().get().asByteBuffer());
         }
 
-        final JsonifiableAdaptable jsonifiableAdaptable = wrapJsonRuntimeException(cmdString,
-                DittoHeaders.empty(), // unused
-                (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(s)));
-
         final Signal<?> signal;
         try {
             signal = adapter.fromAdaptable(jsonifiableAdaptable);
@@ -645,30 +719,46 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return signal.setDittoHeaders(internalHeadersBuilder.build());
     }
 
-    private Function<SessionedJsonifiable, CompletionStage<Collection<String>>> postprocess(
+    private Function<SessionedJsonifiable, CompletionStage<Collection<Message>>> postprocess(
             final ProtocolAdapter adapter, @Nullable final SignalEnrichmentFacade facade,
+            @Nullable final CborAdaptableCodec cborCodec,
             final ThreadSafeDittoLogger logger) {
 
         return sessionedJsonifiable -> {
             final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
             if (jsonifiable instanceof StreamingAck) {
                 return CompletableFuture.completedFuture(
-                        Collections.singletonList(streamingAckToString((StreamingAck) jsonifiable))
+                        Collections.singletonList(TextMessage.create(streamingAckToString((StreamingAck) jsonifiable)))
                 );
             }
 
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
-            return extraFuture.<Collection<String>>thenApply(extra -> {
+            return extraFuture.<Collection<Message>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    return Collections.singletonList(toJsonStringWithExtra(adaptable, extra));
+                    return Collections.singletonList(toMessage(sessionedJsonifiable, extra, adapter, cborCodec));
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 return Collections.emptyList();
-            }).exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter, adaptable, logger));
+            }).exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter,
+                    jsonifiableToAdaptable(jsonifiable, adapter), cborCodec, logger));
         };
     }
 
+    /**
+     * Encode a Jsonifiable as message. Signals published to sessions without extra fields are encoded once for all
+     * sessions using the same protocol adapter and codec.
+     */
+    private Message toMessage(final SessionedJsonifiable sessionedJsonifiable, final JsonObject extra,
+            final ProtocolAdapter adapter, @Nullable final CborAdaptableCodec cborCodec) {
+
+        final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
+        if (extra.isEmpty() && jsonifiable instanceof Signal && sessionedJsonifiable.getSession().isPresent()) {
+            return encodingCache.getOrEncode((Signal<?>) jsonifiable, Arrays.asList(adapter, cborCodec != null),
+                    () -> toMessage(jsonifiableToAdaptable(jsonifiable, adapter), cborCodec));
+        }
+        return toMessage(withExtra(jsonifiableToAdaptable(jsonifiable, adapter), extra), cborCodec);
+    }
+
     private void issuePotentialWeakAcknowledgements(final SessionedJsonifiable sessionedJsonifiable) {
         sessionedJsonifiable.getSession().ifPresent(session -> {
             final DittoHeaders dittoHeaders = sessionedJsonifiable.getDittoHeaders();
@@ -698,9 +788,10 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Acknowledgement.weak(label, entityId, dittoHeaders, payload);
     }
 
-    private static Collection<String> reportEnrichmentError(final Throwable error,
+    private static Collection<Message> reportEnrichmentError(final Throwable error,
             final ProtocolAdapter adapter,
             final Adaptable adaptable,
+            @Nullable final CborAdaptableCodec cborCodec,
             final ThreadSafeDittoLogger logger) {
 
         final DittoRuntimeException errorToReport;
@@ -715,20 +806,25 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         logger.withCorrelationId(adaptable.getDittoHeaders())
                 .error("Signal enrichment failed due to: {}", error.getMessage(), errorToReport);
 
-        final JsonifiableAdaptable errorAdaptable =
-                ProtocolFactory.wrapAsJsonifiableAdaptable(adapter.toAdaptable((Signal<?>)
-                        ThingErrorResponse.of(
-                                ThingId.of(adaptable.getTopicPath().getNamespace(), adaptable.getTopicPath().getId()),
-                                errorToReport,
-                                adaptable.getDittoHeaders()
-                        )
-                ));
-        return Collections.singletonList(errorAdaptable.toJsonString());
+        final Adaptable errorAdaptable = adapter.toAdaptable((Signal<?>)
+                ThingErrorResponse.of(
+                        ThingId.of(adaptable.getTopicPath().getNamespace(), adaptable.getTopicPath().getId()),
+                        errorToReport,
+                        adaptable.getDittoHeaders()
+                )
+        );
+        return Collections.singletonList(toMessage(errorAdaptable, cborCodec));
+    }
+
+    private static Adaptable withExtra(final Adaptable adaptable, final JsonObject extra) {
+        return extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
     }
 
-    private static String toJsonStringWithExtra(final Adaptable adaptable, final JsonObject extra) {
-        final Adaptable enrichedAdaptable = extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
-        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJsonString();
+    private static Message toMessage(final Adaptable adaptable, @Nullable final CborAdaptableCodec cborCodec) {
+        if (cborCodec != null) {
+            return BinaryMessage.create(ByteString.fromArrayUnsafe(cborCodec.toCbor(adaptable)));
+        }
+        return TextMessage.create(ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString());
     }
 
     /**
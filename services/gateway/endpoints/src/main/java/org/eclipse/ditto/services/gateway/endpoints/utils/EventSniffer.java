@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.utils;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import akka.NotUsed;
 import akka.http.javadsl.model.HttpRequest;
@@ -49,6 +51,23 @@ public interface EventSniffer<T> {
                                 createSink(request)))));
     }
 
+    /**
+     * Create an event sniffer for events of another type which passes those events to this sniffer that can be
+     * converted to events of this sniffer.
+     *
+     * @param converter converts an event to sniff to an event of this sniffer, or to an empty optional to skip it.
+     * @param <S> type of the events to sniff.
+     * @return the event sniffer.
+     * @since 2.0.0
+     */
+    default <S> EventSniffer<S> filterMap(final Function<S, Optional<T>> converter) {
+        return request -> Flow.<S>create()
+                .map(converter::apply)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .to(createSink(request));
+    }
+
     /**
      * Create an event sniffer that does not do anything.
      *
@@ -77,6 +96,11 @@ public interface EventSniffer<T> {
         public Flow<T, T, NotUsed> toAsyncFlow(final HttpRequest request) {
             return Flow.create();
         }
+
+        @Override
+        public <S> EventSniffer<S> filterMap(final Function<S, Optional<T>> converter) {
+            return noOp();
+        }
     }
 
 }
@@ -27,6 +27,7 @@ import akka.http.javadsl.model.HttpRequest;
 public final class GatewayByRoundTripSignalEnrichmentProvider implements GatewaySignalEnrichmentProvider {
 
     private static final String CONCIERGE_FORWARDER = "/user/gatewayRoot/" + ConciergeForwarderActor.ACTOR_NAME;
+    private static final String PROXY_ACTOR = "/user/gatewayRoot/proxy";
 
     private final ByRoundTripSignalEnrichmentFacade byRoundTripSignalEnrichmentFacade;
 
@@ -39,8 +40,10 @@ public final class GatewayByRoundTripSignalEnrichmentProvider implements Gateway
     public GatewayByRoundTripSignalEnrichmentProvider(final ActorSystem actorSystem,
             final GatewaySignalEnrichmentConfig signalEnrichmentConfig) {
         final ActorSelection commandHandler = actorSystem.actorSelection(CONCIERGE_FORWARDER);
-        byRoundTripSignalEnrichmentFacade =
-                ByRoundTripSignalEnrichmentFacade.of(commandHandler, signalEnrichmentConfig.getAskTimeout());
+        // the proxy actor answers retrieve-things commands by the things aggregator
+        final ActorSelection batchHandler = actorSystem.actorSelection(PROXY_ACTOR);
+        byRoundTripSignalEnrichmentFacade = ByRoundTripSignalEnrichmentFacade.of(commandHandler, batchHandler,
+                signalEnrichmentConfig.getAskTimeout(), signalEnrichmentConfig.getBatchWindow(), actorSystem);
     }
 
     @Override
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributeResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.Status;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+
+/**
+ * Tests {@link HttpRequestCorrelator}.
+ */
+public final class HttpRequestCorrelatorTest extends AbstractHttpRequestActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("foo");
+    private static final HttpRequest REQUEST = HttpRequest.GET("/api/2/things/thing:id/attributes/foo");
+
+    private TestProbe proxyActorProbe;
+    private HttpRequestCorrelator underTest;
+
+    @Before
+    public void setUp() {
+        proxyActorProbe = TestProbe.apply(system);
+        underTest = HttpRequestCorrelator.of(system, 2, proxyActorProbe.ref(), HEADER_TRANSLATOR,
+                gatewayConfig.getHttpConfig(), gatewayConfig.getCommandConfig(),
+                new DefaultHttpRequestActorPropsFactory());
+    }
+
+    @Test
+    public void correlatesResponseByCorrelationId() throws Exception {
+        final RetrieveAttribute command = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, createAuthorizedHeaders());
+
+        final CompletableFuture<HttpResponse> responseFuture = send(command);
+        proxyActorProbe.expectMsg(command);
+        proxyActorProbe.reply(RetrieveAttributeResponse.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("bar"),
+                command.getDittoHeaders()));
+
+        final HttpResponse response = responseFuture.get(5, TimeUnit.SECONDS);
+        assertThat(response.status()).isEqualTo(StatusCodes.OK);
+    }
+
+    @Test
+    public void aggregatesAcknowledgements() throws Exception {
+        final ModifyAttribute command =
+                ModifyAttribute.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("bar"), createAuthorizedHeaders());
+        final DittoHeaders expectedHeaders = command.getDittoHeaders()
+                .toBuilder()
+                .responseRequired(true)
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .build();
+
+        final CompletableFuture<HttpResponse> responseFuture = send(command);
+        proxyActorProbe.expectMsg(command.setDittoHeaders(expectedHeaders));
+        proxyActorProbe.reply(ModifyAttributeResponse.modified(THING_ID, ATTRIBUTE_POINTER, expectedHeaders));
+
+        final HttpResponse response = responseFuture.get(5, TimeUnit.SECONDS);
+        assertThat(response.status()).isEqualTo(StatusCodes.NO_CONTENT);
+    }
+
+    @Test
+    public void rendersErrors() throws Exception {
+        final RetrieveAttribute command = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, createAuthorizedHeaders());
+
+        final CompletableFuture<HttpResponse> responseFuture = send(command);
+        proxyActorProbe.expectMsg(command);
+        proxyActorProbe.reply(ThingNotAccessibleException.newBuilder(THING_ID)
+                .dittoHeaders(command.getDittoHeaders())
+                .build());
+
+        final HttpResponse response = responseFuture.get(5, TimeUnit.SECONDS);
+        assertThat(response.status()).isEqualTo(StatusCodes.NOT_FOUND);
+    }
+
+    @Test
+    public void timesOutWithoutResponse() throws Exception {
+        final RetrieveAttribute command = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER,
+                createAuthorizedHeaders().toBuilder().timeout(Duration.ofMillis(500)).build());
+
+        final CompletableFuture<HttpResponse> responseFuture = send(command);
+        proxyActorProbe.expectMsg(command);
+
+        final HttpResponse response = responseFuture.get(5, TimeUnit.SECONDS);
+        assertThat(response.status()).isEqualTo(StatusCodes.REQUEST_TIMEOUT);
+    }
+
+    @Test
+    public void correlatesRequestsWithSameCorrelationIdSeparately() throws Exception {
+        final RetrieveAttribute command = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, createAuthorizedHeaders());
+
+        final CompletableFuture<HttpResponse> firstResponseFuture = send(command);
+        proxyActorProbe.expectMsg(command);
+        final ActorRef firstSender = proxyActorProbe.sender();
+        final CompletableFuture<HttpResponse> secondResponseFuture = send(command);
+        proxyActorProbe.expectMsg(command);
+        final ActorRef secondSender = proxyActorProbe.sender();
+
+        secondSender.tell(ThingNotAccessibleException.newBuilder(THING_ID)
+                .dittoHeaders(command.getDittoHeaders())
+                .build(), proxyActorProbe.ref());
+        assertThat(secondResponseFuture.get(5, TimeUnit.SECONDS).status()).isEqualTo(StatusCodes.NOT_FOUND);
+        assertThat(firstResponseFuture).isNotDone();
+
+        firstSender.tell(RetrieveAttributeResponse.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("bar"),
+                command.getDittoHeaders()), proxyActorProbe.ref());
+        assertThat(firstResponseFuture.get(5, TimeUnit.SECONDS).status()).isEqualTo(StatusCodes.OK);
+    }
+
+    @Test
+    public void rendersFailuresWithoutHeadersAsInternalError() throws Exception {
+        final RetrieveAttribute command = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, createAuthorizedHeaders());
+
+        final CompletableFuture<HttpResponse> responseFuture = send(command);
+        proxyActorProbe.expectMsg(command);
+        proxyActorProbe.reply(new Status.Failure(new IllegalStateException("proxy actor failed")));
+
+        final HttpResponse response = responseFuture.get(5, TimeUnit.SECONDS);
+        assertThat(response.status()).isEqualTo(StatusCodes.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    public void rendersFailedCommandCreation() throws Exception {
+        final CompletableFuture<HttpResponse> responseFuture = new CompletableFuture<>();
+        Source.single((Object) ThingNotAccessibleException.newBuilder(THING_ID).build())
+                .runWith(underTest.newRequestSink(REQUEST, responseFuture), system);
+
+        final HttpResponse response = responseFuture.get(5, TimeUnit.SECONDS);
+        assertThat(response.status()).isEqualTo(StatusCodes.NOT_FOUND);
+        proxyActorProbe.expectNoMessage();
+    }
+
+    private CompletableFuture<HttpResponse> send(final Object command) {
+        final CompletableFuture<HttpResponse> responseFuture = new CompletableFuture<>();
+        Source.single(command).runWith(underTest.newRequestSink(REQUEST, responseFuture), system);
+        return responseFuture;
+    }
+
+}
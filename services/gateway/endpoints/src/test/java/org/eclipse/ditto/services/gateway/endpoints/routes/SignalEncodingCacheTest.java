@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Test;
+
+/**
+ * Tests {@link SignalEncodingCache}.
+ */
+public final class SignalEncodingCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("namespace", "thing");
+
+    @Test
+    public void encodeEachSignalOncePerVariant() {
+        final SignalEncodingCache<String> underTest = SignalEncodingCache.newInstance();
+        final ThingDeleted signal = ThingDeleted.of(THING_ID, 1L, DittoHeaders.empty());
+        final AtomicInteger encodings = new AtomicInteger();
+
+        assertThat(underTest.getOrEncode(signal, "json", () -> "json-" + encodings.incrementAndGet()))
+                .isEqualTo("json-1");
+        assertThat(underTest.getOrEncode(signal, "json", () -> "json-" + encodings.incrementAndGet()))
+                .isEqualTo("json-1");
+        assertThat(underTest.getOrEncode(signal, "cbor", () -> "cbor-" + encodings.incrementAndGet()))
+                .isEqualTo("cbor-2");
+        assertThat(encodings).hasValue(2);
+    }
+
+    @Test
+    public void equalSignalsAreEncodedSeparately() {
+        final SignalEncodingCache<String> underTest = SignalEncodingCache.newInstance();
+        final ThingDeleted signal1 = ThingDeleted.of(THING_ID, 1L, DittoHeaders.empty());
+        final ThingDeleted signal2 = ThingDeleted.of(THING_ID, 1L, DittoHeaders.empty());
+
+        assertThat(underTest.getOrEncode(signal1, "json", () -> "signal1")).isEqualTo("signal1");
+        assertThat(underTest.getOrEncode(signal2, "json", () -> "signal2")).isEqualTo("signal2");
+    }
+
+}
@@ -12,11 +12,25 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.services.gateway.util.config.security.LiveEnforcementConfig;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.utils.aggregator.ThingsAggregatorProxyActor;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 
@@ -33,18 +47,51 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
     private final ActorSelection devOpsCommandsActor;
     private final ActorRef conciergeForwarder;
     private final ActorRef aggregatorProxyActor;
+    @Nullable private final LiveSignalEnforcer liveSignalEnforcer;
+    private final Map<EntityId, Queue<LiveSignalEnforced>> pendingLiveSignals;
 
     protected AbstractThingProxyActor(final ActorRef pubSubMediator,
             final ActorSelection devOpsCommandsActor,
             final ActorRef conciergeForwarder) {
 
+        this(pubSubMediator, devOpsCommandsActor, conciergeForwarder, null, 0);
+    }
+
+    /**
+     * Constructs a thing proxy actor which enforces live signals itself if enabled by the live enforcement config.
+     *
+     * @param pubSubMediator the Pub/Sub mediator.
+     * @param devOpsCommandsActor the Actor ref to the local DevOpsCommandsActor.
+     * @param conciergeForwarder the Actor ref to forward commands to the Concierge service.
+     * @param liveEnforcementConfig the live enforcement config or {@code null} if the Concierge service enforces
+     * all live signals.
+     * @param numberOfShards the number of shards of the things and policies shard regions.
+     * @since 2.0.0
+     */
+    protected AbstractThingProxyActor(final ActorRef pubSubMediator,
+            final ActorSelection devOpsCommandsActor,
+            final ActorRef conciergeForwarder,
+            @Nullable final LiveEnforcementConfig liveEnforcementConfig,
+            final int numberOfShards) {
+
         super(pubSubMediator);
 
         this.devOpsCommandsActor = devOpsCommandsActor;
         this.conciergeForwarder = conciergeForwarder;
 
+        pendingLiveSignals = new HashMap<>();
         aggregatorProxyActor = getContext().actorOf(ThingsAggregatorProxyActor.props(conciergeForwarder),
                 ThingsAggregatorProxyActor.ACTOR_NAME);
+
+        if (null != liveEnforcementConfig && liveEnforcementConfig.isEnabled()) {
+            liveSignalEnforcer = LiveSignalEnforcer.of(getContext(), liveEnforcementConfig, numberOfShards);
+            pubSubMediator.tell(DistPubSubAccess.subscribe(PolicyTag.PUB_SUB_TOPIC_INVALIDATE_ENFORCERS, getSelf()),
+                    getSelf());
+            pubSubMediator.tell(DistPubSubAccess.subscribe(
+                    InvalidateCacheEntry.PUB_SUB_TOPIC_INVALIDATE_CACHE_ENTRIES, getSelf()), getSelf());
+        } else {
+            liveSignalEnforcer = null;
+        }
     }
 
     @Override
@@ -68,6 +115,14 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
                     conciergeForwarder.tell(qt, responseActor);
                 })
 
+                /* enforce live signals in the gateway if enabled */
+                .match(Signal.class, this::isEnforcedLocally, this::enforceLiveSignal)
+                .match(LiveSignalEnforced.class, this::liveSignalEnforced)
+                .match(PolicyTag.class, policyTag -> invalidateLiveEnforcementCaches(
+                        EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyTag.getEntityId())))
+                .match(InvalidateCacheEntry.class, invalidateCacheEntry ->
+                        invalidateLiveEnforcementCaches(invalidateCacheEntry.getEntityId()))
+
                 /* send all other Commands to Concierge Service */
                 .match(Command.class, this::forwardToConciergeService)
 
@@ -89,4 +144,66 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
         conciergeForwarder.forward(signal, getContext());
     }
 
+    private boolean isEnforcedLocally(final Signal<?> signal) {
+        return null != liveSignalEnforcer && LiveSignalEnforcer.isApplicable(signal);
+    }
+
+    private void enforceLiveSignal(final Signal<?> signal) {
+        final LiveSignalEnforced pending = new LiveSignalEnforced(signal, getSender(), false);
+        @Nullable final Queue<LiveSignalEnforced> queue = pendingLiveSignals.get(signal.getEntityId());
+        if (null != queue) {
+            // live signals of a thing are enforced one after another so that they are dispatched in order
+            queue.add(pending);
+        } else {
+            pendingLiveSignals.put(signal.getEntityId(), new ArrayDeque<>());
+            startLiveSignalEnforcement(pending);
+        }
+    }
+
+    private void startLiveSignalEnforcement(final LiveSignalEnforced pending) {
+        final ActorRef self = getSelf();
+        liveSignalEnforcer.enforceAndPublish(pending.signal, pending.sender)
+                .thenAccept(published -> self.tell(
+                        new LiveSignalEnforced(pending.signal, pending.sender, published), ActorRef.noSender()));
+    }
+
+    private void liveSignalEnforced(final LiveSignalEnforced enforced) {
+        if (!enforced.published) {
+            // the concierge service decides about signals which are not granted by the cached enforcers
+            conciergeForwarder.tell(enforced.signal, enforced.sender);
+        }
+        final EntityId entityId = enforced.signal.getEntityId();
+        @Nullable final Queue<LiveSignalEnforced> queue = pendingLiveSignals.get(entityId);
+        @Nullable final LiveSignalEnforced next = null != queue ? queue.poll() : null;
+        if (null != next) {
+            startLiveSignalEnforcement(next);
+        } else {
+            pendingLiveSignals.remove(entityId);
+        }
+    }
+
+    private void invalidateLiveEnforcementCaches(final EntityIdWithResourceType entityId) {
+        if (null != liveSignalEnforcer) {
+            getLogger().debug("Received invalidation of <{}>", entityId);
+            liveSignalEnforcer.invalidate(entityId);
+        }
+    }
+
+    /**
+     * Live signal of which the enforcement is pending or completed.
+     */
+    private static final class LiveSignalEnforced {
+
+        private final Signal<?> signal;
+        private final ActorRef sender;
+        private final boolean published;
+
+        private LiveSignalEnforced(final Signal<?> signal, final ActorRef sender, final boolean published) {
+            this.signal = signal;
+            this.sender = sender;
+            this.published = published;
+        }
+
+    }
+
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.proxy.actors;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.concierge.enforcement.DefaultPreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
+import org.eclipse.ditto.services.gateway.util.config.security.LiveEnforcementConfig;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
+import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
+import org.eclipse.ditto.services.utils.pubsub.LiveSignalPub;
+import org.eclipse.ditto.services.utils.pubsub.StreamingType;
+import org.eclipse.ditto.services.utils.pubsub.extractors.AckExtractor;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.messages.MessageCommand;
+import org.eclipse.ditto.signals.commands.messages.SendClaimMessage;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+import akka.actor.ActorContext;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.sharding.ClusterSharding;
+import akka.dispatch.MessageDispatcher;
+
+/**
+ * Enforces live signals (messages, live commands and live events) in the Gateway with cached policy enforcers and
+ * publishes the authorized ones directly via pub/sub, sparing them the hop via the Concierge service.
+ * <p>
+ * Signals pass the same pre-enforcement as in the Concierge service before they are enforced. Only signals which
+ * pass it and are granted from the cached state are published. All other signals, e. g. those to blocked
+ * namespaces, unknown things, things with ACLs or which would be rejected, are left to the Concierge service, which
+ * stays the only authority to reject live signals. Commands which require a response are left to the Concierge
+ * service as well, because it registers the receiver of their responses.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class LiveSignalEnforcer {
+
+    private static final String CACHE_DISPATCHER = "live-enforcement-cache-dispatcher";
+    private static final String ID_CACHE_METRIC_NAME = "ditto_gateway_live_enforcement_id_cache";
+    private static final String ENFORCER_CACHE_METRIC_NAME = "ditto_gateway_live_enforcement_enforcer_cache";
+
+    private static final AckExtractor<ThingCommand<?>> THING_COMMAND_ACK_EXTRACTOR =
+            AckExtractor.of(ThingCommand::getEntityId, ThingCommand::getDittoHeaders);
+    private static final AckExtractor<ThingEvent<?>> THING_EVENT_ACK_EXTRACTOR =
+            AckExtractor.of(ThingEvent::getEntityId, ThingEvent::getDittoHeaders);
+    private static final AckExtractor<MessageCommand<?, ?>> MESSAGE_COMMAND_ACK_EXTRACTOR =
+            AckExtractor.of(MessageCommand::getEntityId, MessageCommand::getDittoHeaders);
+
+    private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final PreEnforcer preEnforcer;
+    private final LiveSignalPub liveSignalPub;
+
+    LiveSignalEnforcer(final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final PreEnforcer preEnforcer,
+            final LiveSignalPub liveSignalPub) {
+
+        this.thingIdCache = thingIdCache;
+        this.policyEnforcerCache = policyEnforcerCache;
+        this.preEnforcer = preEnforcer;
+        this.liveSignalPub = liveSignalPub;
+    }
+
+    /**
+     * Creates the caches and the live signal publisher of a live signal enforcer.
+     *
+     * @param context context of the actor under which the publisher is started.
+     * @param config the live enforcement config.
+     * @param numberOfShards the number of shards of the things and policies shard regions.
+     * @return the live signal enforcer.
+     */
+    static LiveSignalEnforcer of(final ActorContext context, final LiveEnforcementConfig config,
+            final int numberOfShards) {
+
+        final ActorSystem actorSystem = context.system();
+        final ShardRegionExtractor extractor = ShardRegionExtractor.of(numberOfShards, actorSystem);
+        final ClusterSharding clusterSharding = ClusterSharding.get(actorSystem);
+        final ActorRef thingsShardRegion = clusterSharding.startProxy(ThingsMessagingConstants.SHARD_REGION,
+                Optional.of(ThingsMessagingConstants.CLUSTER_ROLE), extractor);
+        final ActorRef policiesShardRegion = clusterSharding.startProxy(PoliciesMessagingConstants.SHARD_REGION,
+                Optional.of(PoliciesMessagingConstants.CLUSTER_ROLE), extractor);
+        final MessageDispatcher cacheDispatcher = actorSystem.dispatchers().lookup(CACHE_DISPATCHER);
+
+        final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
+                CacheFactory.createCache(new ThingEnforcementIdCacheLoader(config.getAskTimeout(), thingsShardRegion),
+                        config.getIdCacheConfig(), ID_CACHE_METRIC_NAME, cacheDispatcher);
+        final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache =
+                CacheFactory.createCache(new PolicyEnforcerCacheLoader(config.getAskTimeout(), policiesShardRegion),
+                        config.getEnforcerCacheConfig(), ENFORCER_CACHE_METRIC_NAME, cacheDispatcher);
+
+        return new LiveSignalEnforcer(thingIdCache,
+                policyEnforcerCache.projectValues(PolicyEnforcer::project, PolicyEnforcer::embed),
+                DefaultPreEnforcer.of(BlockedNamespaces.of(actorSystem), PlaceholderSubstitution.newInstance()),
+                LiveSignalPub.of(context, DistributedAcks.lookup(actorSystem)));
+    }
+
+    /**
+     * Tests whether a signal is a live signal which may be enforced by the Gateway.
+     *
+     * @param signal the signal to test.
+     * @return whether the signal is a message, live command or live event.
+     */
+    static boolean isApplicable(final Signal<?> signal) {
+        return StreamingType.fromSignal(signal)
+                .filter(streamingType -> isOfStreamingType(signal, streamingType))
+                .isPresent();
+    }
+
+    /**
+     * Publishes a live signal if it is granted by the cached policy enforcer of its thing.
+     * The returned future never fails.
+     *
+     * @param signal the live signal.
+     * @param sender the sender of the live signal, which receives responses and acknowledgements.
+     * @return a future which is {@code true} if the signal was published, or {@code false} if the signal must be
+     * enforced by the Concierge service.
+     */
+    CompletionStage<Boolean> enforceAndPublish(final Signal<?> signal, final ActorRef sender) {
+        if (!isApplicable(signal) || signal.getDittoHeaders().getCorrelationId().isEmpty() ||
+                isResponseRequiredCommand(signal)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        // signals rejected by the pre-enforcement are left to the Concierge service to reject
+        return preEnforcer.apply(signal)
+                .thenCompose(preEnforced -> {
+                    final Signal<?> preEnforcedSignal = (Signal<?>) preEnforced;
+                    return retrievePolicyEnforcer(ThingId.of(preEnforcedSignal.getEntityId()))
+                            .thenApply(enforcer -> enforcer.filter(e -> isGranted(preEnforcedSignal, e))
+                                    .map(e -> {
+                                        publish(preEnforcedSignal, e, sender);
+                                        return true;
+                                    })
+                                    .orElse(false));
+                })
+                .exceptionally(error -> false);
+    }
+
+    /**
+     * Invalidates the cached entries of a thing or a policy.
+     *
+     * @param entityId the ID of the thing or policy.
+     */
+    void invalidate(final EntityIdWithResourceType entityId) {
+        thingIdCache.invalidate(entityId);
+        policyEnforcerCache.invalidate(entityId);
+    }
+
+    private CompletionStage<Optional<Enforcer>> retrievePolicyEnforcer(final ThingId thingId) {
+        final EntityIdWithResourceType thingKey = EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
+        return thingIdCache.get(thingKey).thenCompose(thingIdEntry -> {
+            final Optional<EntityIdWithResourceType> policyKey = thingIdEntry.filter(Entry::exists)
+                    .map(Entry::getValueOrThrow)
+                    // things with ACLs are enforced by the Concierge service
+                    .filter(key -> PolicyCommand.RESOURCE_TYPE.equals(key.getResourceType()));
+            if (policyKey.isPresent()) {
+                return policyEnforcerCache.get(policyKey.get())
+                        .thenApply(enforcerEntry -> enforcerEntry.filter(Entry::exists).map(Entry::getValueOrThrow));
+            } else {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+        });
+    }
+
+    private void publish(final Signal<?> signal, final Enforcer enforcer, final ActorRef sender) {
+        if (signal instanceof MessageCommand) {
+            final MessageCommand<?, ?> messageCommand = (MessageCommand<?, ?>) signal;
+            final ResourceKey resourceKey =
+                    ResourceKey.newInstance(MessageCommand.RESOURCE_TYPE, messageCommand.getResourcePath());
+            publish(messageCommand.setDittoHeaders(withReadSubjects(signal, enforcer, resourceKey)),
+                    MESSAGE_COMMAND_ACK_EXTRACTOR, liveSignalPub.message(), sender);
+        } else if (signal instanceof ThingCommand) {
+            final ThingCommand<?> thingCommand = (ThingCommand<?>) signal;
+            final ResourceKey resourceKey = PoliciesResourceType.thingResource(thingCommand.getResourcePath());
+            publish(thingCommand.setDittoHeaders(withReadSubjects(signal, enforcer, resourceKey)),
+                    THING_COMMAND_ACK_EXTRACTOR, liveSignalPub.command(), sender);
+        } else {
+            final ThingEvent<?> thingEvent = (ThingEvent<?>) signal;
+            final ResourceKey resourceKey = PoliciesResourceType.thingResource(thingEvent.getResourcePath());
+            publish(thingEvent.setDittoHeaders(withReadSubjects(signal, enforcer, resourceKey)),
+                    THING_EVENT_ACK_EXTRACTOR, liveSignalPub.event(), sender);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S extends T> void publish(final Object signal, final AckExtractor<S> ackExtractor,
+            final DistributedPub<T> pub, final ActorRef sender) {
+
+        pub.getPublisher().tell(pub.wrapForPublicationWithAcks((S) signal, ackExtractor), sender);
+    }
+
+    private static boolean isResponseRequiredCommand(final Signal<?> signal) {
+        // live command responses are routed by the Concierge service to the receivers it registered
+        return signal instanceof Command && signal.getDittoHeaders().isResponseRequired();
+    }
+
+    private static boolean isOfStreamingType(final Signal<?> signal, final StreamingType streamingType) {
+        switch (streamingType) {
+            case MESSAGES:
+                return signal instanceof MessageCommand;
+            case LIVE_COMMANDS:
+                return signal instanceof ThingCommand;
+            case LIVE_EVENTS:
+                return signal instanceof ThingEvent;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isGranted(final Signal<?> signal, final Enforcer enforcer) {
+        final AuthorizationContext authorizationContext = signal.getDittoHeaders().getAuthorizationContext();
+        if (signal instanceof SendClaimMessage) {
+            // claim messages require no enforcement
+            return true;
+        } else if (signal instanceof MessageCommand) {
+            return enforcer.hasUnrestrictedPermissions(
+                    PoliciesResourceType.messageResource(signal.getResourcePath()), authorizationContext,
+                    Permission.WRITE);
+        } else if (signal instanceof ThingCommand) {
+            // live commands which are only partially granted are left to the Concierge service
+            final String permission = Command.Category.QUERY == ((ThingCommand<?>) signal).getCategory()
+                    ? Permission.READ
+                    : Permission.WRITE;
+            return enforcer.hasUnrestrictedPermissions(
+                    PoliciesResourceType.thingResource(signal.getResourcePath()), authorizationContext, permission);
+        } else {
+            // only check access to root resource for live events, as the Concierge service does
+            return enforcer.hasUnrestrictedPermissions(PoliciesResourceType.thingResource("/"),
+                    authorizationContext, Permission.WRITE);
+        }
+    }
+
+    private static DittoHeaders withReadSubjects(final Signal<?> signal, final Enforcer enforcer,
+            final ResourceKey resourceKey) {
+
+        final EffectedSubjects effectedSubjects = enforcer.getSubjectsWithPermission(resourceKey, Permission.READ);
+        return DittoHeaders.newBuilder(signal.getDittoHeaders())
+                .readGrantedSubjects(effectedSubjects.getGranted())
+                .readRevokedSubjects(effectedSubjects.getRevoked())
+                .build();
+    }
+
+}
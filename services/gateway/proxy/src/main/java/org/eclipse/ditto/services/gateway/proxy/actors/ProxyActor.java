@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import org.eclipse.ditto.services.gateway.util.config.security.LiveEnforcementConfig;
 import org.eclipse.ditto.signals.commands.base.Command;
 
 import akka.actor.ActorRef;
@@ -26,9 +27,11 @@ public final class ProxyActor extends AbstractThingProxyActor {
     @SuppressWarnings("unused")
     private ProxyActor(final ActorRef pubSubMediator,
             final ActorSelection devOpsCommandsActor,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final LiveEnforcementConfig liveEnforcementConfig,
+            final int numberOfShards) {
 
-        super(pubSubMediator, devOpsCommandsActor, conciergeForwarder);
+        super(pubSubMediator, devOpsCommandsActor, conciergeForwarder, liveEnforcementConfig, numberOfShards);
     }
 
     /**
@@ -36,13 +39,19 @@ public final class ProxyActor extends AbstractThingProxyActor {
      *
      * @param pubSubMediator the Pub/Sub mediator to use for subscribing for events.
      * @param devOpsCommandsActor the Actor ref to the local DevOpsCommandsActor.
+     * @param conciergeForwarder the Actor ref to forward commands to the Concierge service.
+     * @param liveEnforcementConfig the config of enforcing live signals in the gateway.
+     * @param numberOfShards the number of shards of the things and policies shard regions.
      * @return the Akka configuration Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorSelection devOpsCommandsActor,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final LiveEnforcementConfig liveEnforcementConfig,
+            final int numberOfShards) {
 
-        return Props.create(ProxyActor.class, pubSubMediator, devOpsCommandsActor, conciergeForwarder);
+        return Props.create(ProxyActor.class, pubSubMediator, devOpsCommandsActor, conciergeForwarder,
+                liveEnforcementConfig, numberOfShards);
     }
 
 }
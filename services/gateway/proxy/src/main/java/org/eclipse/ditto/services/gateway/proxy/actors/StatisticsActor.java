@@ -48,6 +48,7 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.cluster.ShardingStatistics;
 import org.eclipse.ditto.services.utils.cluster.config.DefaultClusterConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.health.cluster.ClusterRoleStatus;
@@ -63,6 +64,9 @@ import akka.actor.ActorSystem;
 import akka.actor.Address;
 import akka.actor.Props;
 import akka.cluster.Cluster;
+import akka.cluster.ClusterEvent;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.Replicator;
 import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.cluster.sharding.ClusterSharding;
 import akka.cluster.sharding.ShardRegion;
@@ -90,7 +94,10 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
     private final ActorRef pubSubMediator;
     private final ClusterSharding clusterSharding;
     private final ClusterStatusSupplier clusterStatusSupplier;
+    private final Cluster cluster;
+    @Nullable private final ShardingStatistics shardingStatistics;
     private List<NamedShardGauge> gauges;
+    private LWWMap<String, Long> latestShardingStatistics = LWWMap.empty();
     private Statistics currentStatistics;
     private StatisticsDetails currentStatisticsDetails;
 
@@ -104,8 +111,15 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
         final ActorSystem actorSystem = getContext().getSystem();
         final int numberOfShards = getNumberOfShards(actorSystem);
         clusterSharding = initClusterSharding(actorSystem, statisticsConfig, numberOfShards);
-        clusterStatusSupplier = new ClusterStatusSupplier(Cluster.get(getContext().getSystem()));
-        scheduleInternalRetrieveHotEntities();
+        cluster = Cluster.get(actorSystem);
+        clusterStatusSupplier = new ClusterStatusSupplier(cluster);
+        if (statisticsConfig.isIncremental()) {
+            shardingStatistics = ShardingStatistics.of(actorSystem);
+            subscribeForShardingStatistics();
+        } else {
+            shardingStatistics = null;
+            scheduleInternalRetrieveHotEntities();
+        }
         subscribeForStatisticsCommands();
     }
 
@@ -126,6 +140,36 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
                 statisticsConfig.getUpdateInterval());
     }
 
+    private void subscribeForShardingStatistics() {
+        initGauges();
+        currentStatistics = Statistics.fromGauges(gauges);
+        shardingStatistics.subscribeForChanges(getSelf());
+        cluster.subscribe(getSelf(), ClusterEvent.MemberRemoved.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void shardingStatisticsChanged(final Replicator.Changed<?> changed) {
+        latestShardingStatistics = (LWWMap<String, Long>) changed.dataValue();
+        updateStatisticsFromShardingStatistics();
+    }
+
+    private void memberRemoved(final ClusterEvent.MemberRemoved memberRemoved) {
+        if (shardingStatistics != null) {
+            // best effort: entity counts of members no longer in the cluster are ignored in any case
+            log.debug("Removing sharding statistics of removed member <{}>", memberRemoved.member());
+            shardingStatistics.removeMember(memberRemoved.member().uniqueAddress());
+            updateStatisticsFromShardingStatistics();
+        }
+    }
+
+    private void updateStatisticsFromShardingStatistics() {
+        final Map<String, Long> entityCounts =
+                ShardingStatistics.sumEntityCounts(latestShardingStatistics, cluster.state().getMembers());
+        gauges.forEach(namedShardGauge ->
+                namedShardGauge.gauge.set(entityCounts.getOrDefault(namedShardGauge.shard, 0L)));
+        currentStatistics = Statistics.fromGauges(gauges);
+    }
+
     private void updateGauges(final Map<String, ShardStatisticsWrapper> shardStatisticsWrapperMap) {
         gauges.forEach(namedShardGauge ->
                 shardStatisticsWrapperMap.computeIfPresent(namedShardGauge.shard, (k, wrapper) -> {
@@ -157,6 +201,9 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
                     becomeStatisticsAwaiting();
                 })
                 .matchEquals(InternalResetStatisticsDetails.INSTANCE, this::resetStatisticsDetails)
+                .match(Replicator.Changed.class, this::shardingStatisticsChanged)
+                .match(ClusterEvent.MemberRemoved.class, this::memberRemoved)
+                .match(ClusterEvent.CurrentClusterState.class, state -> log.debug("Got <{}>", state))
                 .match(ShardRegion.CurrentShardRegionState.class, this::unhandled) // ignore, the message is too late
                 .match(ShardRegion.ClusterShardingStats.class, this::unhandled) // ignore, the message is too late
                 .match(RetrieveStatisticsDetailsResponse.class, this::unhandled) // ignore, the message is too late
@@ -36,12 +36,14 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
     private final Duration askTimeout;
     private final Duration updateInterval;
     private final Duration detailsExpireAfter;
+    private final boolean incremental;
     private final List<StatisticsShardConfig> shards;
 
     private DefaultStatisticsConfig(final ScopedConfig scopedConfig) {
         askTimeout = scopedConfig.getDuration(ConfigValues.ASK_TIMEOUT.getConfigPath());
         updateInterval = scopedConfig.getDuration(ConfigValues.UPDATE_INTERVAL.getConfigPath());
         detailsExpireAfter = scopedConfig.getDuration(ConfigValues.DETAILS_EXPIRE_AFTER.getConfigPath());
+        incremental = scopedConfig.getBoolean(ConfigValues.INCREMENTAL.getConfigPath());
         shards = scopedConfig.getConfigList(ConfigValues.SHARDS.getConfigPath())
                 .stream()
                 .map(DefaultStatisticsShardConfig::of)
@@ -74,6 +76,11 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
         return detailsExpireAfter;
     }
 
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
     @Override
     public List<StatisticsShardConfig> getShards() {
         return shards;
@@ -96,7 +103,8 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
             return false;
         }
         final DefaultStatisticsConfig that = (DefaultStatisticsConfig) o;
-        return askTimeout.equals(that.askTimeout) &&
+        return incremental == that.incremental &&
+                askTimeout.equals(that.askTimeout) &&
                 updateInterval.equals(that.updateInterval) &&
                 detailsExpireAfter.equals(that.detailsExpireAfter) &&
                 shards.equals(that.shards);
@@ -104,7 +112,7 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, updateInterval, detailsExpireAfter, shards);
+        return Objects.hash(askTimeout, updateInterval, detailsExpireAfter, incremental, shards);
     }
 
     @Override
@@ -113,6 +121,7 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
                 "askTimeout=" + askTimeout +
                 ", updateInterval=" + updateInterval +
                 ", detailsExpireAfter=" + updateInterval +
+                ", incremental=" + incremental +
                 ", shards=" + shards +
                 "]";
     }
@@ -52,6 +52,16 @@ public interface StatisticsConfig {
      */
     Duration getDetailsExpireAfter();
 
+    /**
+     * Indicates whether hot entity counts are read from the local replica of the distributed sharding statistics,
+     * to which each cluster member reports the entity counts of its own shard regions, instead of asking all shard
+     * regions in the cluster at each update interval.
+     *
+     * @return whether statistics are aggregated incrementally.
+     * @since 2.0.0
+     */
+    boolean isIncremental();
+
     /**
      * Returns the configuration settings of shards for which statistics are reported..
      *
@@ -67,7 +77,18 @@ public interface StatisticsConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     static StatisticsConfig forActor(final ActorContext context) {
-        final Config systemConfig = context.system().settings().config();
+        return of(context.system().settings().config());
+    }
+
+    /**
+     * Returns an instance of {@code StatisticsConfig} based on the settings of an actor system.
+     *
+     * @param systemConfig the config of the actor system.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     * @since 2.0.0
+     */
+    static StatisticsConfig of(final Config systemConfig) {
         final String configPath = String.format("%s.%s", ScopedConfig.DITTO_SCOPE, "gateway");
         return DefaultStatisticsConfig.of(systemConfig.getConfig(configPath));
     }
@@ -92,6 +113,13 @@ public interface StatisticsConfig {
          */
         DETAILS_EXPIRE_AFTER("details-expire-after", Duration.ofSeconds(1L)),
 
+        /**
+         * Whether hot entity counts are read from the distributed sharding statistics.
+         *
+         * @since 2.0.0
+         */
+        INCREMENTAL("incremental", false),
+
         /**
          * Configuration for individual shards.
          */
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.proxy.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.model.messages.MessageDirection;
+import org.eclipse.ditto.model.messages.MessageHeaders;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.concierge.enforcement.DefaultPreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
+import org.eclipse.ditto.services.utils.pubsub.LiveSignalPub;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link LiveSignalEnforcer}.
+ */
+public final class LiveSignalEnforcerTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing.namespace:thing");
+    private static final PolicyId POLICY_ID = PolicyId.of("thing.namespace:policy");
+    private static final String GRANTED_SUBJECT = SubjectIssuer.GOOGLE + ":granted";
+    private static final String OTHER_SUBJECT = SubjectIssuer.GOOGLE + ":other";
+
+    private ActorSystem actorSystem;
+    private TestProbe publisher;
+    private TestProbe sender;
+    private BlockedNamespaces blockedNamespaces;
+    private LiveSignalPub liveSignalPub;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName());
+        publisher = TestProbe.apply("publisher", actorSystem);
+        sender = TestProbe.apply("sender", actorSystem);
+        blockedNamespaces = mock(BlockedNamespaces.class);
+        when(blockedNamespaces.contains(anyString())).thenReturn(CompletableFuture.completedFuture(false));
+        final DistributedPub<Signal> messagePub = mock(DistributedPub.class);
+        when(messagePub.getPublisher()).thenReturn(publisher.ref());
+        when(messagePub.wrapForPublicationWithAcks(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        liveSignalPub = mock(LiveSignalPub.class);
+        when(liveSignalPub.message()).thenReturn(messagePub);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void grantedMessageIsPublishedWithReadSubjects() {
+        final LiveSignalEnforcer underTest = newLiveSignalEnforcer(Entry.of(1L, policyEnforcer()));
+        final SendThingMessage<?> message = thingMessage(GRANTED_SUBJECT, false);
+
+        assertThat(underTest.enforceAndPublish(message, sender.ref()).toCompletableFuture().join()).isTrue();
+
+        final SendThingMessage<?> published = publisher.expectMsgClass(SendThingMessage.class);
+        assertThat(publisher.lastSender()).isEqualTo(sender.ref());
+        assertThat(published.getDittoHeaders().getReadGrantedSubjects())
+                .extracting(AuthorizationSubject::getId)
+                .containsExactly(GRANTED_SUBJECT);
+        assertThat(published.getDittoHeaders().get(DittoHeaderDefinition.ORIGINATOR.getKey()))
+                .isEqualTo(GRANTED_SUBJECT);
+    }
+
+    @Test
+    public void messageRequiringResponseIsLeftToConcierge() {
+        final LiveSignalEnforcer underTest = newLiveSignalEnforcer(Entry.of(1L, policyEnforcer()));
+
+        assertThat(underTest.enforceAndPublish(thingMessage(GRANTED_SUBJECT, true), sender.ref())
+                .toCompletableFuture()
+                .join()).isFalse();
+        publisher.expectNoMessage();
+    }
+
+    @Test
+    public void messageWithoutPermissionIsLeftToConcierge() {
+        final LiveSignalEnforcer underTest = newLiveSignalEnforcer(Entry.of(1L, policyEnforcer()));
+
+        assertThat(underTest.enforceAndPublish(thingMessage(OTHER_SUBJECT, false), sender.ref())
+                .toCompletableFuture()
+                .join()).isFalse();
+        publisher.expectNoMessage();
+    }
+
+    @Test
+    public void messageToUnknownPolicyIsLeftToConcierge() {
+        final LiveSignalEnforcer underTest = newLiveSignalEnforcer(Entry.nonexistent());
+
+        assertThat(underTest.enforceAndPublish(thingMessage(GRANTED_SUBJECT, false), sender.ref())
+                .toCompletableFuture()
+                .join()).isFalse();
+        publisher.expectNoMessage();
+    }
+
+    @Test
+    public void messageToBlockedNamespaceIsLeftToConcierge() {
+        when(blockedNamespaces.contains(THING_ID.getNamespace())).thenReturn(CompletableFuture.completedFuture(true));
+        final LiveSignalEnforcer underTest = newLiveSignalEnforcer(Entry.of(1L, policyEnforcer()));
+
+        assertThat(underTest.enforceAndPublish(thingMessage(GRANTED_SUBJECT, false), sender.ref())
+                .toCompletableFuture()
+                .join()).isFalse();
+        publisher.expectNoMessage();
+    }
+
+    @Test
+    public void twinCommandsAreNotApplicable() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+
+        assertThat(LiveSignalEnforcer.isApplicable(RetrieveThing.of(THING_ID, dittoHeaders))).isFalse();
+        assertThat(LiveSignalEnforcer.isApplicable(
+                RetrieveThing.of(THING_ID, dittoHeaders.toBuilder().channel("live").build()))).isTrue();
+    }
+
+    private LiveSignalEnforcer newLiveSignalEnforcer(final Entry<Enforcer> policyEnforcerEntry) {
+        final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
+                CacheFactory.createCache((key, executor) -> CompletableFuture.completedFuture(
+                        Entry.of(1L, EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, POLICY_ID))),
+                        DefaultCacheConfig.of(ConfigFactory.empty(), "id"), null, Runnable::run);
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                CacheFactory.createCache((key, executor) -> CompletableFuture.completedFuture(policyEnforcerEntry),
+                        DefaultCacheConfig.of(ConfigFactory.empty(), "enforcer"), null, Runnable::run);
+        return new LiveSignalEnforcer(thingIdCache, policyEnforcerCache,
+                DefaultPreEnforcer.of(blockedNamespaces, PlaceholderSubstitution.newInstance()), liveSignalPub);
+    }
+
+    private static Enforcer policyEnforcer() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .setRevision(1L)
+                .forLabel("granted")
+                .setSubject(SubjectIssuer.GOOGLE, "granted")
+                .setGrantedPermissions(PoliciesResourceType.messageResource(JsonPointer.empty()),
+                        Permission.READ, Permission.WRITE)
+                .build();
+        return PolicyEnforcers.defaultEvaluator(policy);
+    }
+
+    private static SendThingMessage<?> thingMessage(final String subject, final boolean responseRequired) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance(subject)))
+                .channel("live")
+                .correlationId(UUID.randomUUID().toString())
+                .responseRequired(responseRequired)
+                .build();
+        final Message<Object> message = Message.newBuilder(
+                MessageHeaders.newBuilder(MessageDirection.TO, THING_ID, "my-subject")
+                        .contentType("text/plain")
+                        .build())
+                .payload("Hello you!")
+                .build();
+        return SendThingMessage.of(THING_ID, message, dittoHeaders);
+    }
+
+}
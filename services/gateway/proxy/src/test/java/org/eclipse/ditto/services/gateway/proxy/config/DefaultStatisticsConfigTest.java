@@ -62,6 +62,10 @@ public final class DefaultStatisticsConfigTest {
                 .as(StatisticsConfig.ConfigValues.DETAILS_EXPIRE_AFTER.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(1L));
 
+        softly.assertThat(underTest.isIncremental())
+                .as(StatisticsConfig.ConfigValues.INCREMENTAL.getConfigPath())
+                .isFalse();
+
         softly.assertThat(underTest.getShards())
                 .as(StatisticsConfig.ConfigValues.SHARDS.getConfigPath())
                 .isEmpty();
@@ -83,6 +87,10 @@ public final class DefaultStatisticsConfigTest {
                 .as(StatisticsConfig.ConfigValues.DETAILS_EXPIRE_AFTER.getConfigPath())
                 .isEqualTo(Duration.ofDays(9L));
 
+        softly.assertThat(underTest.isIncremental())
+                .as(StatisticsConfig.ConfigValues.INCREMENTAL.getConfigPath())
+                .isTrue();
+
         softly.assertThat(underTest.getShards())
                 .as(StatisticsConfig.ConfigValues.SHARDS.getConfigPath())
                 .containsExactly(
@@ -123,7 +123,8 @@ final class GatewayRootActor extends DittoRootActor {
                 ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter));
 
         final ActorRef proxyActor = startChildActor(AbstractProxyActor.ACTOR_NAME,
-                ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder));
+                ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder,
+                        gatewayConfig.getLiveEnforcementConfig(), numberOfShards));
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
@@ -12,15 +12,26 @@
  */
 package org.eclipse.ditto.services.gateway.starter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.ditto.services.base.DittoService;
+import org.eclipse.ditto.services.gateway.proxy.config.StatisticsConfig;
 import org.eclipse.ditto.services.gateway.util.config.DittoGatewayConfig;
 import org.eclipse.ditto.services.gateway.util.config.GatewayConfig;
+import org.eclipse.ditto.services.utils.cluster.ShardingStatistics;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.utils.jsr305.annotations.AllParametersAndReturnValuesAreNonnullByDefault;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
+
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
 
 /**
@@ -36,6 +47,8 @@ public final class GatewayService extends DittoService<GatewayConfig> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GatewayService.class);
 
+    private static final String CLUSTER_ROLES_PATH = "akka.cluster.roles";
+
     private GatewayService() {
         super(LOGGER, SERVICE_NAME, GatewayRootActor.ACTOR_NAME);
     }
@@ -55,10 +68,44 @@ public final class GatewayService extends DittoService<GatewayConfig> {
         return DittoGatewayConfig.of(dittoConfig);
     }
 
+    /**
+     * Creates the actor system. Gateway members only replicate the blocked namespaces if they enforce live signals
+     * themselves, and only replicate the sharding statistics if they aggregate statistics incrementally, because
+     * nothing else in the Gateway reads them.
+     *
+     * @param config the configuration settings of this service.
+     * @return the actor system.
+     */
+    @Override
+    protected ActorSystem createActorSystem(final Config config) {
+        final GatewayConfig gatewayConfig = DittoGatewayConfig.of(DefaultScopedConfig.dittoScoped(config));
+        final List<String> additionalRoles = new ArrayList<>();
+        if (gatewayConfig.getLiveEnforcementConfig().isEnabled()) {
+            additionalRoles.add(BlockedNamespaces.CLUSTER_ROLE);
+        }
+        if (StatisticsConfig.of(config).isIncremental()) {
+            additionalRoles.add(ShardingStatistics.CLUSTER_ROLE);
+        }
+        return super.createActorSystem(withRoles(config, additionalRoles));
+    }
+
     @Override
     protected Props getMainRootActorProps(final GatewayConfig gatewayConfig, final ActorRef pubSubMediator) {
 
         return GatewayRootActor.props(gatewayConfig, pubSubMediator);
     }
 
+    private static Config withRoles(final Config config, final List<String> additionalRoles) {
+        if (additionalRoles.isEmpty()) {
+            return config;
+        }
+        final List<String> roles = new ArrayList<>(config.getStringList(CLUSTER_ROLES_PATH));
+        for (final String role : additionalRoles) {
+            if (!roles.contains(role)) {
+                roles.add(role);
+            }
+        }
+        return config.withValue(CLUSTER_ROLES_PATH, ConfigValueFactory.fromIterable(roles));
+    }
+
 }
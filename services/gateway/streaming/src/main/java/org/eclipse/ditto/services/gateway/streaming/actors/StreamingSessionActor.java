@@ -434,7 +434,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         final Optional<DittoHeaderInvalidException> headerInvalid = checkForAcksWithoutResponse(s);
                         return headerInvalid.map(this::publishResponseOrError)
                                 .orElseGet(() -> ackregatorStarter.doStart(s, this::publishResponseOrError,
-                                        ackregator -> forwardToCommandRouterAndReturnDone(s, ackregator)));
+                                        this::forwardToCommandRouterAndReturnDone));
                     } else {
                         return doNothing(s);
                     }
@@ -45,6 +45,18 @@ public interface SupervisedStream {
                 });
     }
 
+    /**
+     * Create a source queue that materializes an additional value for supervision and conflates thing events of the
+     * same thing and resource path while downstream is slower than upstream, keeping only the latest of them.
+     *
+     * @param queueSize size of the source queue, also the maximum number of conflated elements.
+     * @return the source queue.
+     * @since 2.0.0
+     */
+    static Source<SessionedJsonifiable, WithQueue> conflatingSourceQueue(final int queueSize) {
+        return sourceQueue(queueSize).via(ThingEventConflation.flow(queueSize));
+    }
+
     /**
      * Add a listener for stream termination.
      *
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.services.utils.pubsub.StreamingType;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingMerged;
+
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.stream.BufferOverflowException;
+import akka.stream.javadsl.Flow;
+
+/**
+ * Conflates the thing events published to a streaming session while its consumer is slower than the event rate:
+ * of the queued events with the same thing ID and resource path, only the latest one is kept. Because a later event
+ * on a resource path determines the whole state at that path, the state resulting from the conflated events equals
+ * the state resulting from all events.
+ * <p>
+ * Merge events, live events, events requesting acknowledgements and everything which is not a thing event are never
+ * dropped.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class ThingEventConflation {
+
+    private final int maxSize;
+    private final Map<Object, SessionedJsonifiable> pending;
+
+    private ThingEventConflation(final int maxSize) {
+        this.maxSize = maxSize;
+        pending = new LinkedHashMap<>();
+    }
+
+    /**
+     * Create a flow conflating thing events of the same thing and resource path whenever downstream backpressures.
+     *
+     * @param maxSize maximum number of conflated elements to hold; the flow fails with a
+     * {@link akka.stream.BufferOverflowException} if more are pending.
+     * @return the flow.
+     */
+    static Flow<SessionedJsonifiable, SessionedJsonifiable, NotUsed> flow(final int maxSize) {
+        return Flow.<SessionedJsonifiable>create()
+                .conflateWithSeed(element -> seed(maxSize, element), ThingEventConflation::add)
+                .mapConcat(ThingEventConflation::getPending);
+    }
+
+    static ThingEventConflation seed(final int maxSize, final SessionedJsonifiable element) {
+        return new ThingEventConflation(maxSize).add(element);
+    }
+
+    ThingEventConflation add(final SessionedJsonifiable element) {
+        final Object key = getConflationKey(element);
+        // move replaced events to the end so that events on parent paths in between cannot override them
+        pending.remove(key);
+        pending.put(key, element);
+        if (pending.size() > maxSize) {
+            throw new BufferOverflowException("Exceeded the maximum of <" + maxSize + "> conflated elements.");
+        }
+        return this;
+    }
+
+    List<SessionedJsonifiable> getPending() {
+        return new ArrayList<>(pending.values());
+    }
+
+    private static Object getConflationKey(final SessionedJsonifiable element) {
+        final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = element.getJsonifiable();
+        if (element.getSession().isPresent() && jsonifiable instanceof ThingEvent &&
+                !(jsonifiable instanceof ThingMerged)) {
+            final ThingEvent<?> event = (ThingEvent<?>) jsonifiable;
+            if (!StreamingType.isLiveSignal(event) &&
+                    event.getDittoHeaders().getAcknowledgementRequests().isEmpty()) {
+                return Pair.create(event.getEntityId(), event.getResourcePath());
+            }
+        }
+        // unique key: never replaced
+        return new Object();
+    }
+
+}
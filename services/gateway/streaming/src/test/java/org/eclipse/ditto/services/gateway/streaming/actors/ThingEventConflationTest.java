@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.pubsub.StreamingType;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.stream.BufferOverflowException;
+
+/**
+ * Tests {@link ThingEventConflation}.
+ */
+public final class ThingEventConflationTest {
+
+    private static final ThingId THING_ID = ThingId.of("namespace", "thing");
+    private static final StreamingSession SESSION = StreamingSession.of(List.of(), null, null, ActorRef.noSender());
+
+    @Test
+    public void keepLatestEventOfEachResourcePath() {
+        final SessionedJsonifiable x1 = sessioned(attributeModified("x", 1, DittoHeaders.empty()));
+        final SessionedJsonifiable y2 = sessioned(attributeModified("y", 2, DittoHeaders.empty()));
+        final SessionedJsonifiable ack = SessionedJsonifiable.ack(StreamingType.EVENTS, true, "correlation-id");
+        final SessionedJsonifiable x3 = sessioned(attributeModified("x", 3, DittoHeaders.empty()));
+
+        final ThingEventConflation underTest = ThingEventConflation.seed(10, x1).add(y2).add(ack).add(x3);
+
+        assertThat(underTest.getPending()).containsExactly(y2, ack, x3);
+    }
+
+    @Test
+    public void keepEventsRequestingAcknowledgements() {
+        final DittoHeaders headers = DittoHeaders.newBuilder()
+                .acknowledgementRequest(AcknowledgementRequest.of(AcknowledgementLabel.of("custom")))
+                .build();
+        final SessionedJsonifiable x1 = sessioned(attributeModified("x", 1, headers));
+        final SessionedJsonifiable x2 = sessioned(attributeModified("x", 2, headers));
+
+        final ThingEventConflation underTest = ThingEventConflation.seed(10, x1).add(x2);
+
+        assertThat(underTest.getPending()).containsExactly(x1, x2);
+    }
+
+    @Test
+    public void failIfTooManyElementsArePending() {
+        final ThingEventConflation underTest =
+                ThingEventConflation.seed(2, sessioned(attributeModified("x", 1, DittoHeaders.empty())))
+                        .add(sessioned(attributeModified("y", 2, DittoHeaders.empty())));
+
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> underTest.add(sessioned(attributeModified("z", 3, DittoHeaders.empty()))));
+    }
+
+    private static AttributeModified attributeModified(final String attribute, final long revision,
+            final DittoHeaders headers) {
+
+        return AttributeModified.of(THING_ID, JsonPointer.of(attribute), JsonValue.of(revision), revision, headers);
+    }
+
+    private static SessionedJsonifiable sessioned(final Signal<?> signal) {
+        return SessionedJsonifiable.signal(signal, DittoHeaders.empty(), SESSION);
+    }
+
+}
@@ -22,6 +22,7 @@ import org.eclipse.ditto.services.models.connectivity.ConnectivityMappingStrateg
 import org.eclipse.ditto.services.models.policies.PoliciesMappingStrategies;
 import org.eclipse.ditto.services.models.things.ThingsMappingStrategies;
 import org.eclipse.ditto.services.models.thingsearch.ThingSearchMappingStrategies;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cluster.GlobalMappingStrategies;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategies;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategiesBuilder;
@@ -67,6 +68,7 @@ public final class GatewayMappingStrategies extends MappingStrategies {
                 .putAll(PoliciesMappingStrategies.getInstance())
                 .putAll(ThingSearchMappingStrategies.getInstance())
                 .putAll(ConnectivityMappingStrategies.getInstance())
+                .add(InvalidateCacheEntry.class, jsonObject -> InvalidateCacheEntry.fromJson(jsonObject)) // do not replace with lambda!
                 .putAll(GlobalMappingStrategies.getInstance())
                 .build();
     }
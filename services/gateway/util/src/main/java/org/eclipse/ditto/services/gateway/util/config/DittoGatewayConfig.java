@@ -33,6 +33,8 @@ import org.eclipse.ditto.services.gateway.util.config.security.AuthenticationCon
 import org.eclipse.ditto.services.gateway.util.config.security.CachesConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.DefaultAuthenticationConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.DefaultCachesConfig;
+import org.eclipse.ditto.services.gateway.util.config.security.DefaultLiveEnforcementConfig;
+import org.eclipse.ditto.services.gateway.util.config.security.LiveEnforcementConfig;
 import org.eclipse.ditto.services.gateway.util.config.streaming.DefaultStreamingConfig;
 import org.eclipse.ditto.services.gateway.util.config.streaming.StreamingConfig;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
@@ -62,6 +64,7 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
     private final StreamingConfig streamingConfig;
     private final PublicHealthConfig publicHealthConfig;
     private final DefaultCloudEventsConfig cloudEventsConfig;
+    private final LiveEnforcementConfig liveEnforcementConfig;
 
     private DittoGatewayConfig(final ScopedConfig dittoScopedConfig) {
 
@@ -77,6 +80,7 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
         streamingConfig = DefaultStreamingConfig.of(dittoServiceConfig);
         publicHealthConfig = DefaultPublicHealthConfig.of(dittoServiceConfig);
         cloudEventsConfig = DefaultCloudEventsConfig.of(dittoServiceConfig);
+        liveEnforcementConfig = DefaultLiveEnforcementConfig.of(dittoServiceConfig);
     }
 
     /**
@@ -161,6 +165,11 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
         return cloudEventsConfig;
     }
 
+    @Override
+    public LiveEnforcementConfig getLiveEnforcementConfig() {
+        return liveEnforcementConfig;
+    }
+
     /**
      * @return always {@value #CONFIG_PATH}.
      */
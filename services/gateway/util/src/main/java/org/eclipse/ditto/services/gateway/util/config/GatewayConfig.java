@@ -21,6 +21,7 @@ import org.eclipse.ditto.services.gateway.util.config.endpoints.PublicHealthConf
 import org.eclipse.ditto.services.gateway.util.config.health.HealthCheckConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.AuthenticationConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.CachesConfig;
+import org.eclipse.ditto.services.gateway.util.config.security.LiveEnforcementConfig;
 import org.eclipse.ditto.services.gateway.util.config.streaming.StreamingConfig;
 import org.eclipse.ditto.services.utils.protocol.config.WithProtocolConfig;
 
@@ -95,4 +96,12 @@ public interface GatewayConfig extends ServiceSpecificConfig, WithProtocolConfig
      * @return the config.
      */
     CloudEventsConfig getCloudEventsConfig();
+
+    /**
+     * Returns the configuration for enforcing live signals in the Gateway.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    LiveEnforcementConfig getLiveEnforcementConfig();
 }
@@ -51,6 +51,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final boolean enableCors;
     private final Duration requestTimeout;
     private final String actorPropsFactoryFullQualifiedClassname;
+    private final int requestCorrelationReceivers;
     private final Set<HeaderDefinition> queryParamsAsHeaders;
     private final Set<String> additionalAcceptedMediaTypes;
     private final Duration coordinatedShutdownTimeout;
@@ -67,6 +68,8 @@ public final class GatewayHttpConfig implements HttpConfig {
         requestTimeout = scopedConfig.getDuration(GatewayHttpConfigValue.REQUEST_TIMEOUT.getConfigPath());
         actorPropsFactoryFullQualifiedClassname = scopedConfig.getString(
                 GatewayHttpConfigValue.ACTOR_PROPS_FACTORY.getConfigPath());
+        requestCorrelationReceivers =
+                scopedConfig.getInt(GatewayHttpConfigValue.REQUEST_CORRELATION_RECEIVERS.getConfigPath());
         queryParamsAsHeaders = Collections.unmodifiableSet(getQueryParameterNamesAsHeaderDefinitions(scopedConfig));
         additionalAcceptedMediaTypes =
                 Set.of(scopedConfig.getString(GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
@@ -199,6 +202,11 @@ public final class GatewayHttpConfig implements HttpConfig {
         return actorPropsFactoryFullQualifiedClassname;
     }
 
+    @Override
+    public int getRequestCorrelationReceivers() {
+        return requestCorrelationReceivers;
+    }
+
     @Override
     public Set<HeaderDefinition> getQueryParametersAsHeaders() {
         return queryParamsAsHeaders;
@@ -229,6 +237,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 redirectToHttpsBlocklistPattern.equals(that.redirectToHttpsBlocklistPattern) &&
                 requestTimeout.equals(that.requestTimeout) &&
                 actorPropsFactoryFullQualifiedClassname.equals(that.actorPropsFactoryFullQualifiedClassname) &&
+                requestCorrelationReceivers == that.requestCorrelationReceivers &&
                 queryParamsAsHeaders.equals(that.queryParamsAsHeaders) &&
                 additionalAcceptedMediaTypes.equals(that.additionalAcceptedMediaTypes);
     }
@@ -237,7 +246,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     public int hashCode() {
         return Objects.hash(hostname, port, coordinatedShutdownTimeout, schemaVersions, forceHttps, redirectToHttps,
                 redirectToHttpsBlocklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname,
-                queryParamsAsHeaders, additionalAcceptedMediaTypes);
+                requestCorrelationReceivers, queryParamsAsHeaders, additionalAcceptedMediaTypes);
     }
 
     @Override
@@ -253,6 +262,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", enableCors=" + enableCors +
                 ", requestTimeout=" + requestTimeout +
                 ", actorPropsFactoryFullQualifiedClassname=" + actorPropsFactoryFullQualifiedClassname +
+                ", requestCorrelationReceivers=" + requestCorrelationReceivers +
                 ", queryParamsAsHeaders=" + queryParamsAsHeaders +
                 ", additionalAcceptedMediaTypes=" + additionalAcceptedMediaTypes +
                 "]";
@@ -85,6 +85,14 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
      */
     String getActorPropsFactoryFullQualifiedClassname();
 
+    /**
+     * Returns the number of long-lived actors of each route which correlate the commands of HTTP requests with their
+     * responses. If it is zero, an actor is created for each HTTP request instead.
+     *
+     * @return the number of correlating actors per route.
+     */
+    int getRequestCorrelationReceivers();
+
     /**
      * Returns definitions of headers which should be derived from query parameters.
      * I. e. if query parameters are supplied with the same name as the configured header keys then the query parameters
@@ -148,6 +156,12 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
         ACTOR_PROPS_FACTORY("actor-props-factory",
                 "org.eclipse.ditto.services.gateway.endpoints.actors.DefaultHttpRequestActorPropsFactory"),
 
+        /**
+         * The number of long-lived actors of each route which correlate commands with their responses; 0 creates an
+         * actor for each HTTP request instead.
+         */
+        REQUEST_CORRELATION_RECEIVERS("request-correlation-receivers", 4),
+
         /**
          * Denotes the name of query parameters that equal the names of well-known headers; the here defined query
          * parameters will be converted to key-value pairs of request headers for further processing.
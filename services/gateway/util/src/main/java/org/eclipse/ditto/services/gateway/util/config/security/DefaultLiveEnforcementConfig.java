@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.util.config.security;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link LiveEnforcementConfig}.
+ */
+@Immutable
+public final class DefaultLiveEnforcementConfig implements LiveEnforcementConfig {
+
+    private static final String CONFIG_PATH = "live-enforcement";
+
+    private final boolean enabled;
+    private final Duration askTimeout;
+    private final CacheConfig idCacheConfig;
+    private final CacheConfig enforcerCacheConfig;
+
+    private DefaultLiveEnforcementConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(LiveEnforcementConfigValue.ENABLED.getConfigPath());
+        askTimeout = config.getDuration(LiveEnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
+        idCacheConfig = DefaultCacheConfig.of(config, "id");
+        enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+    }
+
+    /**
+     * Returns an instance of {@code DefaultLiveEnforcementConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the live enforcement config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultLiveEnforcementConfig of(final Config config) {
+        return new DefaultLiveEnforcementConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, LiveEnforcementConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getAskTimeout() {
+        return askTimeout;
+    }
+
+    @Override
+    public CacheConfig getIdCacheConfig() {
+        return idCacheConfig;
+    }
+
+    @Override
+    public CacheConfig getEnforcerCacheConfig() {
+        return enforcerCacheConfig;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultLiveEnforcementConfig that = (DefaultLiveEnforcementConfig) o;
+        return enabled == that.enabled &&
+                Objects.equals(askTimeout, that.askTimeout) &&
+                Objects.equals(idCacheConfig, that.idCacheConfig) &&
+                Objects.equals(enforcerCacheConfig, that.enforcerCacheConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, askTimeout, idCacheConfig, enforcerCacheConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", askTimeout=" + askTimeout +
+                ", idCacheConfig=" + idCacheConfig +
+                ", enforcerCacheConfig=" + enforcerCacheConfig +
+                "]";
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.util.config.security;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for enforcing live signals (messages, live commands and live events) directly in
+ * the Gateway instead of forwarding them to the Concierge service.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface LiveEnforcementConfig {
+
+    /**
+     * Indicates whether live signals are enforced and published by the Gateway.
+     * Live signals which cannot be authorized by the Gateway are still forwarded to the Concierge service.
+     *
+     * @return {@code true} if the Gateway enforces live signals, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the timeout for asking the shard regions of things and policies when loading cache entries.
+     *
+     * @return the ask timeout.
+     */
+    Duration getAskTimeout();
+
+    /**
+     * Returns the configuration settings of the cache of the policy IDs of things.
+     *
+     * @return the config.
+     */
+    CacheConfig getIdCacheConfig();
+
+    /**
+     * Returns the configuration settings of the cache of policy enforcers.
+     *
+     * @return the config.
+     */
+    CacheConfig getEnforcerCacheConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code LiveEnforcementConfig}.
+     */
+    enum LiveEnforcementConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether live signals are enforced by the Gateway.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The timeout for loading cache entries.
+         */
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        LiveEnforcementConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -34,12 +34,15 @@ public final class DefaultGatewaySignalEnrichmentConfig implements GatewaySignal
     private static final String CACHE_CONFIG_PATH = "cache";
 
     private final Duration askTimeout;
+    private final Duration batchWindow;
     private final boolean cachingEnabled;
     private final CacheConfig cacheConfig;
 
     private DefaultGatewaySignalEnrichmentConfig(final ConfigWithFallback configWithFallback) {
         this.askTimeout = configWithFallback.getDuration(
                 CachingSignalEnrichmentFacadeConfigValue.ASK_TIMEOUT.getConfigPath());
+        batchWindow = configWithFallback.getDuration(
+                CachingSignalEnrichmentFacadeConfigValue.BATCH_WINDOW.getConfigPath());
         cacheConfig = DefaultCacheConfig.of(configWithFallback, CACHE_CONFIG_PATH);
         cachingEnabled =
                 configWithFallback.getBoolean(CachingSignalEnrichmentFacadeConfigValue.CACHING_ENABLED.getConfigPath());
@@ -62,6 +65,11 @@ public final class DefaultGatewaySignalEnrichmentConfig implements GatewaySignal
         return askTimeout;
     }
 
+    @Override
+    public Duration getBatchWindow() {
+        return batchWindow;
+    }
+
     @Override
     public CacheConfig getCacheConfig() {
         return cacheConfig;
@@ -77,6 +85,8 @@ public final class DefaultGatewaySignalEnrichmentConfig implements GatewaySignal
         return ConfigFactory.empty()
                 .withValue(CachingSignalEnrichmentFacadeConfigValue.ASK_TIMEOUT.getConfigPath(),
                         ConfigValueFactory.fromAnyRef(askTimeout))
+                .withValue(CachingSignalEnrichmentFacadeConfigValue.BATCH_WINDOW.getConfigPath(),
+                        ConfigValueFactory.fromAnyRef(batchWindow))
                 .withValue(CachingSignalEnrichmentFacadeConfigValue.CACHING_ENABLED.getConfigPath(),
                         ConfigValueFactory.fromAnyRef(cachingEnabled))
                 .withFallback(cacheConfig.render().atKey(CACHE_CONFIG_PATH))
@@ -94,19 +104,21 @@ public final class DefaultGatewaySignalEnrichmentConfig implements GatewaySignal
         final DefaultGatewaySignalEnrichmentConfig
                 that = (DefaultGatewaySignalEnrichmentConfig) o;
         return Objects.equals(askTimeout, that.askTimeout) &&
+                Objects.equals(batchWindow, that.batchWindow) &&
                 Objects.equals(cacheConfig, that.cacheConfig) &&
                 cachingEnabled == that.cachingEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, cacheConfig, cachingEnabled);
+        return Objects.hash(askTimeout, batchWindow, cacheConfig, cachingEnabled);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "askTimeout=" + askTimeout +
+                ", batchWindow=" + batchWindow +
                 ", cacheConfig=" + cacheConfig +
                 ", cachingEnabled" + cachingEnabled +
                 "]";
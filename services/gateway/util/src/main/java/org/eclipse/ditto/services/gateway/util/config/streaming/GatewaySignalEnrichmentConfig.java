@@ -38,6 +38,14 @@ public interface GatewaySignalEnrichmentConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns how long to collect retrievals of different things before retrieving them in one batch.
+     * Batching is disabled if the duration is zero.
+     *
+     * @return the batch window.
+     */
+    Duration getBatchWindow();
+
     /**
      * Indicates whether the signal enrichment should make use of caching or not.
      *
@@ -75,7 +83,12 @@ public interface GatewaySignalEnrichmentConfig {
         /**
          * The ask timeout duration: the duration to wait for cache retrievals.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10)),
+
+        /**
+         * The batch window: how long to collect retrievals of different things before retrieving them in one batch.
+         */
+        BATCH_WINDOW("batch-window", Duration.ZERO);
 
         private final String path;
         private final Object defaultValue;
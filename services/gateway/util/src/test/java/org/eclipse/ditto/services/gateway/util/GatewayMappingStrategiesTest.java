@@ -34,6 +34,7 @@ import org.eclipse.ditto.model.policies.SubjectId;
 import org.eclipse.ditto.services.models.policies.PoliciesMappingStrategies;
 import org.eclipse.ditto.services.models.things.ThingsMappingStrategies;
 import org.eclipse.ditto.services.models.thingsearch.ThingSearchMappingStrategies;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.signals.base.JsonParsable;
 import org.eclipse.ditto.signals.commands.devops.ChangeLogLevel;
 import org.eclipse.ditto.signals.commands.devops.ChangeLogLevelResponse;
@@ -110,6 +111,11 @@ public final class GatewayMappingStrategiesTest {
                 .knows(RetrieveStatisticsResponse.TYPE);
     }
 
+    @Test
+    public void cacheInvalidationsAreKnown() {
+        assertThatStrategy().knows(InvalidateCacheEntry.class.getSimpleName());
+    }
+
     @Test
     public void deserializeSubjectDeletionAnnouncement() {
         final Instant expiry = Instant.now();
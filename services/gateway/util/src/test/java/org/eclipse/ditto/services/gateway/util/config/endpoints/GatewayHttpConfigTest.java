@@ -178,6 +178,16 @@ public final class GatewayHttpConfigTest {
                 .contains(MediaTypes.APPLICATION_OCTET_STREAM.toString());
     }
 
+    @Test
+    public void getRequestCorrelationReceivers() {
+        softly.assertThat(GatewayHttpConfig.of(ConfigFactory.empty()).getRequestCorrelationReceivers())
+                .as(HttpConfig.GatewayHttpConfigValue.REQUEST_CORRELATION_RECEIVERS.getConfigPath())
+                .isEqualTo(HttpConfig.GatewayHttpConfigValue.REQUEST_CORRELATION_RECEIVERS.getDefaultValue());
+        softly.assertThat(GatewayHttpConfig.of(gatewayHttpTestConfig).getRequestCorrelationReceivers())
+                .as(HttpConfig.GatewayHttpConfigValue.REQUEST_CORRELATION_RECEIVERS.getConfigPath())
+                .isEqualTo(2);
+    }
+
     @Test
     public void testMultipleCommaSeparatedMediaTypes() {
         final Config gatewayTestConfig = ConfigFactory.parseString("http {\n additional-accepted-media-types = " +
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.util.config.security;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultLiveEnforcementConfig}.
+ */
+public final class DefaultLiveEnforcementConfigTest {
+
+    private static Config liveEnforcementTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        liveEnforcementTestConfig = ConfigFactory.load("live-enforcement-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultLiveEnforcementConfig.class, areImmutable(),
+                provided(CacheConfig.class, Duration.class).areAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultLiveEnforcementConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final LiveEnforcementConfig underTest = DefaultLiveEnforcementConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(LiveEnforcementConfig.LiveEnforcementConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(LiveEnforcementConfig.LiveEnforcementConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getAskTimeout())
+                .as(LiveEnforcementConfig.LiveEnforcementConfigValue.ASK_TIMEOUT.getConfigPath())
+                .isEqualTo(LiveEnforcementConfig.LiveEnforcementConfigValue.ASK_TIMEOUT.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final LiveEnforcementConfig underTest = DefaultLiveEnforcementConfig.of(liveEnforcementTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(LiveEnforcementConfig.LiveEnforcementConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getAskTimeout())
+                .as(LiveEnforcementConfig.LiveEnforcementConfigValue.ASK_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(7L));
+        softly.assertThat(underTest.getIdCacheConfig().getMaximumSize()).as("id.maximum-size").isEqualTo(1234L);
+        softly.assertThat(underTest.getIdCacheConfig().getExpireAfterWrite())
+                .as("id.expire-after-write")
+                .isEqualTo(Duration.ofMinutes(2L));
+        softly.assertThat(underTest.getEnforcerCacheConfig().getMaximumSize())
+                .as("enforcer.maximum-size")
+                .isEqualTo(567L);
+        softly.assertThat(underTest.getEnforcerCacheConfig().getExpireAfterAccess())
+                .as("enforcer.expire-after-access")
+                .isEqualTo(Duration.ofMinutes(3L));
+    }
+
+}
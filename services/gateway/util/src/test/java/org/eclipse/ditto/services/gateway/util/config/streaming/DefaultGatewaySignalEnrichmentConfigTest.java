@@ -68,6 +68,10 @@ public final class DefaultGatewaySignalEnrichmentConfigTest {
                 .as(GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(
                         GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.getBatchWindow())
+                .as(GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.BATCH_WINDOW.getConfigPath())
+                .isEqualTo(
+                        GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.BATCH_WINDOW.getDefaultValue());
         softly.assertThat(underTest.isCachingEnabled())
                 .as(GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.CACHING_ENABLED.getConfigPath())
                 .isEqualTo(
@@ -82,6 +86,9 @@ public final class DefaultGatewaySignalEnrichmentConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as(GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(20));
+        softly.assertThat(underTest.getBatchWindow())
+                .as(GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.BATCH_WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMillis(15));
         softly.assertThat(underTest.isCachingEnabled())
                 .as(GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.CACHING_ENABLED.getConfigPath())
                 .isEqualTo(false);
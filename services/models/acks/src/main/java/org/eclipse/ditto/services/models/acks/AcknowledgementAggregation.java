@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.acks;
+
+import static org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel.LIVE_RESPONSE;
+import static org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel.TWIN_PERSISTED;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.WithThingId;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.signals.acks.base.Acknowledgement;
+import org.eclipse.ditto.signals.acks.base.Acknowledgements;
+import org.eclipse.ditto.signals.acks.things.ThingAcknowledgementFactory;
+import org.eclipse.ditto.signals.base.WithOptionalEntity;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayCommandTimeoutException;
+import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
+import org.eclipse.ditto.signals.commands.things.ThingCommandResponse;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+
+/**
+ * The aggregation of the acknowledgements requested by a single signal.
+ * It translates command responses into built-in acknowledgements, aggregates them with an
+ * {@link AcknowledgementAggregator} and hands the aggregated response or error to a consumer once all requested
+ * acknowledgements were received, an error was received or the aggregation timed out.
+ * <p>
+ * The aggregation does not apply its timeout itself; this is up to the actor driving it. Received messages may carry
+ * a correlation ID which differs from the one of the aggregation, e.g. the unique one of the
+ * {@link AcknowledgementAggregationRegistry}; the aggregation restores its own correlation ID in them.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@NotThreadSafe
+final class AcknowledgementAggregation {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(AcknowledgementAggregation.class);
+
+    private final String correlationId;
+    private final DittoHeaders requestCommandHeaders;
+    private final AcknowledgementAggregator ackregator;
+    private final Consumer<Object> responseSignalConsumer;
+    private final Duration timeout;
+
+    private AcknowledgementAggregation(final ThingId thingId,
+            final String correlationId,
+            final DittoHeaders requestCommandHeaders,
+            final AcknowledgementConfig acknowledgementConfig,
+            final HeaderTranslator headerTranslator,
+            final Consumer<Object> responseSignalConsumer) {
+
+        this.correlationId = correlationId;
+        this.requestCommandHeaders = requestCommandHeaders;
+        this.responseSignalConsumer = responseSignalConsumer;
+        timeout = requestCommandHeaders.getTimeout().orElseGet(acknowledgementConfig::getForwarderFallbackTimeout);
+
+        final Set<AcknowledgementRequest> acknowledgementRequests = requestCommandHeaders.getAcknowledgementRequests();
+        ackregator = AcknowledgementAggregator.getInstance(thingId, correlationId, timeout, headerTranslator);
+        ackregator.addAcknowledgementRequests(acknowledgementRequests);
+        LOGGER.withCorrelationId(correlationId)
+                .info("Starting to wait for all requested acknowledgements <{}> for a maximum duration of <{}>.",
+                        acknowledgementRequests, timeout);
+    }
+
+    /**
+     * Returns a new aggregation of the acknowledgements requested by the given headers.
+     *
+     * @param thingId the ID of the thing the acknowledgements are requested for.
+     * @param correlationId the correlation ID of the signal requesting the acknowledgements.
+     * @param requestCommandHeaders the headers of the signal requesting the acknowledgements.
+     * @param acknowledgementConfig provides configuration setting regarding acknowledgement handling.
+     * @param headerTranslator translates headers from external sources or to external sources.
+     * @param responseSignalConsumer a consumer which is invoked with the response signal, e.g. in order to send the
+     * response over a channel to the user.
+     * @return the aggregation.
+     * @throws org.eclipse.ditto.model.base.acks.AcknowledgementRequestParseException if a contained acknowledgement
+     * request could not be parsed.
+     */
+    static AcknowledgementAggregation of(final ThingId thingId,
+            final String correlationId,
+            final DittoHeaders requestCommandHeaders,
+            final AcknowledgementConfig acknowledgementConfig,
+            final HeaderTranslator headerTranslator,
+            final Consumer<Object> responseSignalConsumer) {
+
+        return new AcknowledgementAggregation(thingId, correlationId, requestCommandHeaders, acknowledgementConfig,
+                headerTranslator, responseSignalConsumer);
+    }
+
+    /**
+     * Returns the duration after which the aggregation is to be timed out.
+     *
+     * @return the timeout.
+     */
+    Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Adds a received command response, acknowledgement(s) or error to the aggregation.
+     *
+     * @param receivedMessage the received message.
+     * @return {@code true} if the aggregation is complete, i.e. the consumer was invoked with the response, and
+     * {@code false} if further acknowledgements are expected.
+     */
+    boolean handle(final Object receivedMessage) {
+        final Object message = receivedMessage instanceof WithDittoHeaders
+                ? restoreCorrelationId((WithDittoHeaders<?>) receivedMessage)
+                : receivedMessage;
+        final boolean complete;
+        if (message instanceof ThingCommandResponse) {
+            complete = handleThingCommandResponse((ThingCommandResponse<?>) message);
+        } else if (message instanceof MessageCommandResponse) {
+            final MessageCommandResponse<?, ?> messageCommandResponse = (MessageCommandResponse<?, ?>) message;
+            complete = addCommandResponse(messageCommandResponse, messageCommandResponse, true);
+        } else if (message instanceof Acknowledgement) {
+            complete = handleAcknowledgement((Acknowledgement) message);
+        } else if (message instanceof Acknowledgements) {
+            complete = handleAcknowledgements((Acknowledgements) message);
+        } else if (message instanceof DittoRuntimeException) {
+            complete = handleDittoRuntimeException((DittoRuntimeException) message);
+        } else {
+            LOGGER.withCorrelationId(correlationId).warn("Received unexpected message: <{}>", message);
+            complete = false;
+        }
+        return complete;
+    }
+
+    /**
+     * Completes the aggregation with the acknowledgements received so far and timeouts for the missing ones.
+     */
+    void timeOut() {
+        LOGGER.withCorrelationId(correlationId).info("Timed out waiting for all requested acknowledgements, " +
+                "completing Acknowledgements with timeouts...");
+        completeAcknowledgements(null);
+    }
+
+    private boolean handleThingCommandResponse(final ThingCommandResponse<?> thingCommandResponse) {
+        final boolean isLiveResponse = thingCommandResponse.getDittoHeaders().getChannel().stream()
+                .anyMatch(TopicPath.Channel.LIVE.getName()::equals);
+        return addCommandResponse(thingCommandResponse, thingCommandResponse, isLiveResponse);
+    }
+
+    private boolean addCommandResponse(final CommandResponse<?> commandResponse, final WithThingId withThingId,
+            final boolean isLiveResponse) {
+
+        LOGGER.withCorrelationId(correlationId).debug("Received command response <{}>.", commandResponse);
+        final Acknowledgement acknowledgement;
+        if (isLiveResponse) {
+            acknowledgement = toLiveResponseAcknowledgement(commandResponse, withThingId);
+        } else {
+            acknowledgement = toTwinPersistedAcknowledgement(commandResponse, withThingId);
+        }
+        ackregator.addReceivedAcknowledgment(acknowledgement);
+        return potentiallyCompleteAcknowledgements(commandResponse);
+    }
+
+    private static Acknowledgement toLiveResponseAcknowledgement(final CommandResponse<?> commandResponse,
+            final WithThingId withThingId) {
+
+        final DittoHeaders liveResponseAckHeaders;
+        if (commandResponse instanceof MessageCommandResponse) {
+            liveResponseAckHeaders = commandResponse.getDittoHeaders().toBuilder()
+                    .putHeaders(((MessageCommandResponse<?, ?>) commandResponse).getMessage().getHeaders())
+                    .build();
+        } else {
+            liveResponseAckHeaders = commandResponse.getDittoHeaders();
+        }
+
+        return ThingAcknowledgementFactory.newAcknowledgement(
+                LIVE_RESPONSE,
+                withThingId.getThingEntityId(),
+                commandResponse.getHttpStatus(),
+                liveResponseAckHeaders,
+                getPayload(commandResponse).orElse(null));
+    }
+
+    private static Acknowledgement toTwinPersistedAcknowledgement(final CommandResponse<?> commandResponse,
+            final WithThingId withThingId) {
+        return ThingAcknowledgementFactory.newAcknowledgement(
+                TWIN_PERSISTED,
+                withThingId.getThingEntityId(),
+                commandResponse.getHttpStatus(),
+                commandResponse.getDittoHeaders(),
+                getPayload(commandResponse).orElse(null)
+        );
+    }
+
+    private static Optional<JsonValue> getPayload(final CommandResponse<?> response) {
+        final Optional<JsonValue> result;
+        if (response instanceof WithOptionalEntity) {
+            result = ((WithOptionalEntity) response).getEntity(response.getImplementedSchemaVersion());
+        } else if (response instanceof MessageCommandResponse) {
+            result = response.toJson().getValue(MessageCommandResponse.JsonFields.JSON_MESSAGE.getPointer()
+                    .append(MessageCommandResponse.JsonFields.JSON_MESSAGE_PAYLOAD.getPointer()));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    private boolean handleAcknowledgement(final Acknowledgement acknowledgement) {
+        LOGGER.withCorrelationId(correlationId).debug("Received acknowledgement <{}>.", acknowledgement);
+        ackregator.addReceivedAcknowledgment(acknowledgement);
+        return potentiallyCompleteAcknowledgements(null);
+    }
+
+    private boolean handleAcknowledgements(final Acknowledgements acknowledgements) {
+        LOGGER.withCorrelationId(correlationId).debug("Received acknowledgements <{}>.", acknowledgements);
+        acknowledgements.stream()
+                .map(this::restoreCorrelationId)
+                .forEach(ackregator::addReceivedAcknowledgment);
+        return potentiallyCompleteAcknowledgements(null);
+    }
+
+    private boolean handleDittoRuntimeException(final DittoRuntimeException dittoRuntimeException) {
+        LOGGER.withCorrelationId(correlationId)
+                .info("Stopped waiting for acknowledgements because of ditto runtime exception <{}>.",
+                        dittoRuntimeException);
+        // abort on DittoRuntimeException
+        handleSignal(dittoRuntimeException);
+        return true;
+    }
+
+    private boolean potentiallyCompleteAcknowledgements(@Nullable final CommandResponse<?> response) {
+        final boolean complete = ackregator.receivedAllRequestedAcknowledgements();
+        if (complete) {
+            completeAcknowledgements(response);
+        }
+        return complete;
+    }
+
+    private void completeAcknowledgements(@Nullable final CommandResponse<?> response) {
+        final Acknowledgements aggregatedAcknowledgements =
+                ackregator.getAggregatedAcknowledgements(requestCommandHeaders);
+        final boolean builtInAcknowledgementOnly = containsOnlyTwinPersistedOrLiveResponse(aggregatedAcknowledgements);
+        if (null != response && builtInAcknowledgementOnly) {
+            // in this case, only the implicit "twin-persisted" acknowledgement was asked for, respond with the signal:
+            handleSignal(response);
+        } else if (builtInAcknowledgementOnly && !ackregator.receivedAllRequestedAcknowledgements()) {
+            // there is no response. send an error according to channel
+            handleSignal(asThingErrorResponse(aggregatedAcknowledgements));
+        } else {
+            LOGGER.withCorrelationId(requestCommandHeaders)
+                    .debug("Completing with collected acknowledgements: {}", aggregatedAcknowledgements);
+            handleSignal(aggregatedAcknowledgements);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends WithDittoHeaders<?>> T restoreCorrelationId(final T withDittoHeaders) {
+        final DittoHeaders dittoHeaders = withDittoHeaders.getDittoHeaders();
+        if (dittoHeaders.getCorrelationId().filter(correlationId::equals).isPresent()) {
+            return withDittoHeaders;
+        }
+        return (T) withDittoHeaders.setDittoHeaders(dittoHeaders.toBuilder().correlationId(correlationId).build());
+    }
+
+    private void handleSignal(final WithDittoHeaders<?> signal) {
+        responseSignalConsumer.accept(
+                AcknowledgementAggregatorActor.restoreCommandConnectivityHeaders(signal, requestCommandHeaders));
+    }
+
+    /**
+     * Convert aggregated acknowledgements to a single error response in case only built-in acknowledgements
+     * are requested.
+     *
+     * @param aggregatedAcknowledgements the aggregated acknowledgements.
+     * @return the error response.
+     */
+    private ThingErrorResponse asThingErrorResponse(final Acknowledgements aggregatedAcknowledgements) {
+        final ThingId thingId = ThingId.of(aggregatedAcknowledgements.getEntityId());
+        final DittoRuntimeException dittoRuntimeException = GatewayCommandTimeoutException.newBuilder(timeout)
+                .dittoHeaders(aggregatedAcknowledgements.getDittoHeaders())
+                .build();
+
+        return ThingErrorResponse.of(thingId, dittoRuntimeException);
+    }
+
+    private static boolean containsOnlyTwinPersistedOrLiveResponse(final Acknowledgements aggregatedAcknowledgements) {
+        return aggregatedAcknowledgements.getSize() == 1 &&
+                aggregatedAcknowledgements.stream()
+                        .anyMatch(ack -> {
+                            final AcknowledgementLabel label = ack.getLabel();
+                            return TWIN_PERSISTED.equals(label) ||
+                                    LIVE_RESPONSE.equals(label);
+                        });
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.acks;
+
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Long-lived actor which drives the acknowledgement aggregations of the {@link AcknowledgementAggregationRegistry}
+ * whose unique correlation IDs are assigned to it.
+ * It receives the responses, acknowledgements and errors of the aggregated signals as well as the timeouts of the
+ * aggregations and removes each aggregation from the registry once it is complete. Each message which does not
+ * complete an aggregation restarts its timeout.
+ *
+ * @since 2.0.0
+ */
+final class AcknowledgementAggregationActor extends AbstractActor {
+
+    /**
+     * Prefix of the names of the actors.
+     */
+    static final String ACTOR_NAME_PREFIX = "ackregator";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final Map<String, AcknowledgementAggregationRegistry.PendingAggregation> pendingAggregations;
+
+    @SuppressWarnings("unused")
+    private AcknowledgementAggregationActor(
+            final Map<String, AcknowledgementAggregationRegistry.PendingAggregation> pendingAggregations) {
+
+        this.pendingAggregations = pendingAggregations;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @param pendingAggregations the pending aggregations of the registry by unique correlation ID.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final Map<String, AcknowledgementAggregationRegistry.PendingAggregation> pendingAggregations) {
+        return Props.create(AcknowledgementAggregationActor.class, pendingAggregations);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(AggregationTimeout.class, this::handleTimeout)
+                .match(WithDittoHeaders.class, this::handleCorrelated)
+                .matchAny(m -> log.warning("Received unexpected message: <{}>", m))
+                .build();
+    }
+
+    private void handleTimeout(final AggregationTimeout timeout) {
+        // the aggregation may have been completed or its timeout restarted in the meantime
+        if (timeout.pendingAggregation.isCurrentTimer(timeout.generation) &&
+                pendingAggregations.remove(timeout.correlationId, timeout.pendingAggregation)) {
+            timeout.pendingAggregation.getAggregation().timeOut();
+        }
+    }
+
+    private void handleCorrelated(final WithDittoHeaders<?> message) {
+        final String correlationId = message.getDittoHeaders().getCorrelationId().orElse(null);
+        final AcknowledgementAggregationRegistry.PendingAggregation pendingAggregation =
+                null != correlationId ? pendingAggregations.get(correlationId) : null;
+        if (null == pendingAggregation) {
+            log.withCorrelationId(correlationId)
+                    .debug("Dropping message of an aggregation which is no longer pending: <{}>", message);
+        } else if (pendingAggregation.getAggregation().handle(message)) {
+            pendingAggregations.remove(correlationId, pendingAggregation);
+            pendingAggregation.cancelTimer();
+        } else {
+            pendingAggregation.scheduleTimeout(getContext().getSystem().scheduler(), getContext().getDispatcher(),
+                    getSelf(), correlationId);
+        }
+    }
+
+    /**
+     * Message to time out a pending aggregation.
+     */
+    static final class AggregationTimeout {
+
+        private final String correlationId;
+        private final AcknowledgementAggregationRegistry.PendingAggregation pendingAggregation;
+        private final int generation;
+
+        AggregationTimeout(final String correlationId,
+                final AcknowledgementAggregationRegistry.PendingAggregation pendingAggregation,
+                final int generation) {
+
+            this.correlationId = correlationId;
+            this.pendingAggregation = pendingAggregation;
+            this.generation = generation;
+        }
+
+    }
+
+}
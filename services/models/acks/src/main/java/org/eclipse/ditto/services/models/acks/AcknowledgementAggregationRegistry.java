@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.acks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
+import org.eclipse.ditto.signals.base.Signal;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Cancellable;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.actor.Scheduler;
+import akka.japi.Pair;
+import scala.concurrent.ExecutionContext;
+
+/**
+ * Registry of the acknowledgement aggregations of an actor system.
+ * Instead of an actor per signal requesting acknowledgements, the pending aggregations are kept in a concurrent map
+ * and driven by a few long-lived {@link AcknowledgementAggregationActor}s. The timeouts of the aggregations are
+ * scheduled on the timer wheel of the actor system's scheduler and delivered to the same actor as the responses of the
+ * aggregation, so that each aggregation is only ever touched by a single actor.
+ * <p>
+ * Like the response receivers of live signals in concierge, each aggregation is keyed by a unique correlation ID.
+ * The correlation ID of the signal is kept unless another aggregation is pending for it; only then it is replaced by
+ * the original one suffixed by {@code #x} and a random hex string, so that responses and acknowledgements of the
+ * other signal never reach the aggregation. The aggregation restores the original correlation ID in everything it
+ * hands to its consumer.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class AcknowledgementAggregationRegistry implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private final ActorSystem actorSystem;
+    private final Map<String, PendingAggregation> pendingAggregations;
+    private final List<ActorRef> aggregationActors;
+
+    private AcknowledgementAggregationRegistry(final ActorSystem actorSystem, final int numberOfAggregationActors) {
+        this.actorSystem = actorSystem;
+        pendingAggregations = new ConcurrentHashMap<>();
+        final List<ActorRef> actors = new ArrayList<>(numberOfAggregationActors);
+        for (int i = 0; i < numberOfAggregationActors; i++) {
+            actors.add(actorSystem.actorOf(AcknowledgementAggregationActor.props(pendingAggregations),
+                    AcknowledgementAggregationActor.ACTOR_NAME_PREFIX + i));
+        }
+        aggregationActors = Collections.unmodifiableList(actors);
+    }
+
+    /**
+     * Returns the acknowledgement aggregation registry of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the registry.
+     */
+    static AcknowledgementAggregationRegistry get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Registers the aggregation of the acknowledgements requested by a signal.
+     * Signals without correlation ID cannot be told apart from each other by their responses; for those no
+     * aggregation is registered.
+     *
+     * @param signal the signal requesting acknowledgements.
+     * @param acknowledgementConfig provides configuration setting regarding acknowledgement handling.
+     * @param headerTranslator translates headers from external sources or to external sources.
+     * @param responseSignalConsumer a consumer which is invoked with the response signal.
+     * @return the signal to forward with the unique correlation ID of the aggregation, which is the original one unless
+     * another aggregation is pending for it, together with the actor to send its responses and acknowledgements to
+     * or an empty Optional if no aggregation was registered.
+     * @throws org.eclipse.ditto.model.base.acks.AcknowledgementRequestParseException if a contained acknowledgement
+     * request could not be parsed.
+     */
+    Optional<Pair<Signal<?>, ActorRef>> register(final Signal<?> signal,
+            final AcknowledgementConfig acknowledgementConfig,
+            final HeaderTranslator headerTranslator,
+            final Consumer<Object> responseSignalConsumer) {
+
+        final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+        @Nullable final String correlationId = dittoHeaders.getCorrelationId().orElse(null);
+        if (null == correlationId) {
+            return Optional.empty();
+        }
+        final AcknowledgementAggregation aggregation = AcknowledgementAggregation.of((ThingId) signal.getEntityId(),
+                correlationId, dittoHeaders, acknowledgementConfig, headerTranslator, responseSignalConsumer);
+        final PendingAggregation pendingAggregation = new PendingAggregation(aggregation);
+        String uniqueCorrelationId = correlationId;
+        while (null != pendingAggregations.putIfAbsent(uniqueCorrelationId, pendingAggregation)) {
+            uniqueCorrelationId = correlationId + "#x" + getNextSuffix();
+        }
+
+        // schedule the timeout only after registering, else it could be delivered before and get lost
+        final ActorRef aggregationActor = getAggregationActor(uniqueCorrelationId);
+        pendingAggregation.scheduleTimeout(actorSystem.scheduler(), actorSystem.dispatcher(), aggregationActor,
+                uniqueCorrelationId);
+        final Signal<?> signalToForward;
+        if (correlationId.equals(uniqueCorrelationId)) {
+            signalToForward = signal;
+        } else {
+            signalToForward =
+                    signal.setDittoHeaders(dittoHeaders.toBuilder().correlationId(uniqueCorrelationId).build());
+        }
+        return Optional.of(Pair.create(signalToForward, aggregationActor));
+    }
+
+    private ActorRef getAggregationActor(final String uniqueCorrelationId) {
+        return aggregationActors.get(Math.floorMod(uniqueCorrelationId.hashCode(), aggregationActors.size()));
+    }
+
+    private static String getNextSuffix() {
+        // random UUIDs are not guessable, hence knowing the correlation ID of the aggregation authorizes to answer it
+        final UUID uuid = UUID.randomUUID();
+        return Long.toHexString(uuid.getMostSignificantBits()) + Long.toHexString(uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * An aggregation waiting for acknowledgements together with its timer.
+     * Like the receive timeout of an {@link AcknowledgementAggregatorActor}, the timer is restarted whenever the
+     * aggregation receives a message without completing.
+     */
+    static final class PendingAggregation {
+
+        private final AcknowledgementAggregation aggregation;
+        @Nullable private volatile Cancellable timer;
+        private volatile int timerGeneration;
+
+        private PendingAggregation(final AcknowledgementAggregation aggregation) {
+            this.aggregation = aggregation;
+            timer = null;
+            timerGeneration = 0;
+        }
+
+        AcknowledgementAggregation getAggregation() {
+            return aggregation;
+        }
+
+        /**
+         * Schedules the timeout of the aggregation, replacing the previously scheduled one.
+         * Only ever invoked by one thread at a time: the registering one before the signal is forwarded and the
+         * aggregation actor afterwards.
+         *
+         * @param scheduler the scheduler to schedule the timeout with.
+         * @param executionContext the execution context to deliver the timeout with.
+         * @param aggregationActor the actor driving the aggregation.
+         * @param uniqueCorrelationId the correlation ID the aggregation is registered with.
+         */
+        void scheduleTimeout(final Scheduler scheduler, final ExecutionContext executionContext,
+                final ActorRef aggregationActor, final String uniqueCorrelationId) {
+
+            cancelTimer();
+            final int generation = timerGeneration + 1;
+            timerGeneration = generation;
+            timer = scheduler.scheduleOnce(aggregation.getTimeout(), aggregationActor,
+                    new AcknowledgementAggregationActor.AggregationTimeout(uniqueCorrelationId, this, generation),
+                    executionContext, ActorRef.noSender());
+        }
+
+        boolean isCurrentTimer(final int generation) {
+            // a replaced timer may have fired before it could be cancelled
+            return timerGeneration == generation;
+        }
+
+        void cancelTimer() {
+            @Nullable final Cancellable currentTimer = timer;
+            if (null != currentTimer) {
+                currentTimer.cancel();
+            }
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<AcknowledgementAggregationRegistry> {
+
+        @Override
+        public AcknowledgementAggregationRegistry createExtension(final ExtendedActorSystem system) {
+            // aggregating is cheap compared to (de-)serializing the aggregated signals; one actor per core suffices
+            return new AcknowledgementAggregationRegistry(system, Runtime.getRuntime().availableProcessors());
+        }
+
+    }
+
+}
@@ -154,18 +154,13 @@ public final class AcknowledgementAggregator {
 
     /**
      * Adds the given received acknowledgement and processes it accordingly.
-     * An acknowledgement which as not requested will be ignored by this method, i. e. it does not affect the result of
-     * ACK handling.
+     * An acknowledgement which was not requested or which is about another entity than the one of this aggregator
+     * will be ignored by this method, i. e. it does not affect the result of ACK handling.
      * If an acknowledgement <em>with the same label</em> was already received, the new acknowledgement is discarded,
      * i. e. only the already received ACK is taken into account.
      *
      * @param acknowledgement the acknowledgement to be added.
      * @throws NullPointerException if {@code acknowledgement} is {@code null}.
-     * @throws IllegalArgumentException <ul>
-     * <li>if {@code acknowledgement} did not provide a correlation ID at all,</li>
-     * <li>the provided correlation ID differs from the correlation ID of this aggregator instance or</li>
-     * <li>if acknowledgement provides an unexpected entity ID.</li>
-     * </ul>
      */
     public void addReceivedAcknowledgment(final Acknowledgement acknowledgement) {
         checkNotNull(acknowledgement, "acknowledgement");
@@ -180,7 +175,7 @@ public final class AcknowledgementAggregator {
 
     private boolean isExpected(final Acknowledgement acknowledgement) {
         final AcknowledgementLabel ackLabel = acknowledgement.getLabel();
-        return expectedLabels.contains(ackLabel);
+        return expectedLabels.contains(ackLabel) && entityId.equals(acknowledgement.getEntityId());
     }
 
     private DittoHeaders filterHeaders(final DittoHeaders dittoHeaders) {
@@ -39,12 +39,18 @@ import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import scala.PartialFunction;
 
 /**
  * Starting an acknowledgement aggregator actor is more complex than simply call {@code actorOf}.
  * Thus starting logic is worth to be handled within its own class.
+ * <p>
+ * Signals with a correlation ID are aggregated by the long-lived actors of the
+ * {@link AcknowledgementAggregationRegistry} of the actor system; an {@link AcknowledgementAggregatorActor} is only
+ * started for the others.
+ * </p>
  *
  * @since 1.1.0
  */
@@ -55,6 +61,7 @@ public final class AcknowledgementAggregatorActorStarter {
     protected final HeaderTranslator headerTranslator;
     protected final PartialFunction<Signal<?>, Signal<?>> ackRequestSetter;
 
+    private final AcknowledgementAggregationRegistry aggregationRegistry;
     private int childCounter = 0;
 
     private AcknowledgementAggregatorActorStarter(final ActorContext context,
@@ -66,6 +73,7 @@ public final class AcknowledgementAggregatorActorStarter {
         this.ackRequestSetter = ackRequestSetter;
         this.acknowledgementConfig = checkNotNull(acknowledgementConfig, "acknowledgementConfig");
         this.headerTranslator = checkNotNull(headerTranslator, "headerTranslator");
+        aggregationRegistry = AcknowledgementAggregationRegistry.get(context.system());
     }
 
     /**
@@ -93,7 +101,7 @@ public final class AcknowledgementAggregatorActorStarter {
      * @param signal the signal to start the aggregator actor for.
      * @param responseSignalConsumer consumer of the aggregated response or error.
      * @param ackregatorStartedFunction what to do if the aggregator actor started. The first argument is
-     * the signal after setting requested-acks and response-required.
+     * the signal to forward after setting requested-acks, response-required and possibly a unique correlation ID.
      * @param ackregatorNotStartedFunction what to do if the aggregator actor did not start.
      * @param <T> type of the result.
      * @return the result.
@@ -106,8 +114,7 @@ public final class AcknowledgementAggregatorActorStarter {
         return preprocess(signal,
                 (s, shouldStart) -> {
                     if (shouldStart) {
-                        return doStart(s, responseSignalConsumer::apply,
-                                ackregator -> ackregatorStartedFunction.apply(s, ackregator));
+                        return doStart(s, responseSignalConsumer::apply, ackregatorStartedFunction);
                     } else {
                         return ackregatorNotStartedFunction.apply(s);
                     }
@@ -138,24 +145,33 @@ public final class AcknowledgementAggregatorActorStarter {
     /**
      * Start an acknowledgement aggregator actor for a signal with acknowledgement requests.
      *
-     * @param signalToForward the signal. Must have nonempty acknowledgement requests.
+     * @param signal the signal. Must have nonempty acknowledgement requests.
      * @param responseSignalConsumer consumer of the aggregated response or error.
-     * @param forwarderStartedFunction what to do after the aggregator actor started.
+     * @param forwarderStartedFunction what to do after the aggregator actor started. The first argument is the signal
+     * to forward instead of the passed one, which carries the unique correlation ID of a shared aggregation if one was
+     * registered.
      * @param <T> type of results.
      * @return the result.
      */
-    public <T> T doStart(final Signal<?> signalToForward,
+    public <T> T doStart(final Signal<?> signal,
             final Consumer<Object> responseSignalConsumer,
-            final Function<ActorRef, T> forwarderStartedFunction) {
-        return forwarderStartedFunction.apply(startAckAggregatorActor(signalToForward, responseSignalConsumer));
+            final BiFunction<Signal<?>, ActorRef, T> forwarderStartedFunction) {
+        final Pair<Signal<?>, ActorRef> signalToForwardAndAckregator =
+                startAckAggregatorActor(signal, responseSignalConsumer);
+        return forwarderStartedFunction.apply(signalToForwardAndAckregator.first(),
+                signalToForwardAndAckregator.second());
     }
 
-    private ActorRef startAckAggregatorActor(final Signal<?> signal,
+    private Pair<Signal<?>, ActorRef> startAckAggregatorActor(final Signal<?> signal,
             final Consumer<Object> responseSignalConsumer) {
-        final Props props = AcknowledgementAggregatorActor.props(signal, acknowledgementConfig, headerTranslator,
-                responseSignalConsumer);
-        final String actorName = getNextActorName(signal);
-        return actorContext.actorOf(props, actorName);
+        // only signals which cannot be correlated by the shared aggregation registry get an actor of their own
+        return aggregationRegistry.register(signal, acknowledgementConfig, headerTranslator, responseSignalConsumer)
+                .orElseGet(() -> {
+                    final Props props = AcknowledgementAggregatorActor.props(signal, acknowledgementConfig,
+                            headerTranslator, responseSignalConsumer);
+                    final String actorName = getNextActorName(signal);
+                    return Pair.create(signal, actorContext.actorOf(props, actorName));
+                });
     }
 
     private String getNextActorName(final Signal<?> signal) {
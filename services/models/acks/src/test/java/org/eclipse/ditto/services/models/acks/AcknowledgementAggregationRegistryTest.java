@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.acks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.common.HttpStatus;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
+import org.eclipse.ditto.services.models.acks.config.DefaultAcknowledgementConfig;
+import org.eclipse.ditto.signals.acks.base.Acknowledgement;
+import org.eclipse.ditto.signals.acks.base.Acknowledgements;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayCommandTimeoutException;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link AcknowledgementAggregationRegistry}.
+ */
+public final class AcknowledgementAggregationRegistryTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+    private static final AcknowledgementConfig ACKNOWLEDGEMENT_CONFIG =
+            DefaultAcknowledgementConfig.of(ConfigFactory.empty());
+
+    private ActorSystem actorSystem;
+    private HeaderTranslator headerTranslator;
+    private AcknowledgementAggregationRegistry underTest;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create();
+        headerTranslator = HeaderTranslator.of();
+        underTest = AcknowledgementAggregationRegistry.get(actorSystem);
+    }
+
+    @After
+    public void cleanUp() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void returnSingleResponseForTwin() {
+        new TestKit(actorSystem) {{
+            final DeleteThing command = deleteThing("singleResponseTwin", Duration.ofSeconds(10L),
+                    AcknowledgementLabel.of("twin-persisted"));
+            final Pair<Signal<?>, ActorRef> registration = register(command, this).orElseThrow();
+
+            final DeleteThingResponse response = DeleteThingResponse.of(THING_ID, command.getDittoHeaders());
+            registration.second()
+                    .tell(DeleteThingResponse.of(THING_ID, registration.first().getDittoHeaders()),
+                            ActorRef.noSender());
+
+            expectMsg(response);
+        }};
+    }
+
+    @Test
+    public void aggregateAcknowledgements() {
+        new TestKit(actorSystem) {{
+            final String correlationId = "aggregateAcknowledgements";
+            final AcknowledgementLabel label1 = AcknowledgementLabel.of("ack1");
+            final AcknowledgementLabel label2 = AcknowledgementLabel.of("ack2");
+            final DeleteThing command = deleteThing(correlationId, Duration.ofSeconds(10L), label1, label2);
+            final Pair<Signal<?>, ActorRef> registration = register(command, this).orElseThrow();
+            final ActorRef aggregator = registration.second();
+
+            final DittoHeaders ackHeaders = DittoHeaders.newBuilder()
+                    .correlationId(registration.first().getDittoHeaders().getCorrelationId().orElseThrow())
+                    .build();
+            aggregator.tell(Acknowledgement.of(label1, THING_ID, HttpStatus.OK, ackHeaders), ActorRef.noSender());
+            expectNoMessage(Duration.ofMillis(200L));
+            aggregator.tell(Acknowledgement.of(label2, THING_ID, HttpStatus.NO_CONTENT, ackHeaders),
+                    ActorRef.noSender());
+
+            final DittoHeaders restoredHeaders = DittoHeaders.newBuilder().correlationId(correlationId).build();
+            final Acknowledgements acks = expectMsgClass(Acknowledgements.class);
+            assertThat(acks.getDittoHeaders().getCorrelationId()).contains(correlationId);
+            assertThat(acks.getAcknowledgement(label1))
+                    .contains(Acknowledgement.of(label1, THING_ID, HttpStatus.OK, restoredHeaders));
+            assertThat(acks.getAcknowledgement(label2))
+                    .contains(Acknowledgement.of(label2, THING_ID, HttpStatus.NO_CONTENT, restoredHeaders));
+        }};
+    }
+
+    @Test
+    public void forwardSignalWithUniqueCorrelationId() {
+        new TestKit(actorSystem) {{
+            final DeleteThing command = deleteThing("uniqueCorrelationId", Duration.ofSeconds(10L),
+                    AcknowledgementLabel.of("twin-persisted"));
+
+            final Signal<?> first = register(command, this).orElseThrow().first();
+            final Signal<?> second = register(command, this).orElseThrow().first();
+
+            // the correlation ID is only replaced while another aggregation is pending for it
+            assertThat(first).isSameAs(command);
+            assertThat(second.getDittoHeaders().getCorrelationId().orElseThrow()).startsWith("uniqueCorrelationId#x");
+        }};
+    }
+
+    @Test
+    public void separateAggregationsOfSignalsWithTheSameCorrelationId() {
+        new TestKit(actorSystem) {{
+            final DeleteThing command = deleteThing("sameCorrelationId", Duration.ofSeconds(10L),
+                    AcknowledgementLabel.of("twin-persisted"));
+            final TestKit firstConsumer = new TestKit(actorSystem);
+            register(command, firstConsumer).orElseThrow();
+            final Pair<Signal<?>, ActorRef> registration = register(command, this).orElseThrow();
+
+            registration.second()
+                    .tell(DeleteThingResponse.of(THING_ID, registration.first().getDittoHeaders()),
+                            ActorRef.noSender());
+
+            expectMsg(DeleteThingResponse.of(THING_ID, command.getDittoHeaders()));
+            firstConsumer.expectNoMessage(Duration.ofMillis(200L));
+        }};
+    }
+
+    @Test
+    public void ignoreAcknowledgementsOfOtherEntities() {
+        new TestKit(actorSystem) {{
+            final AcknowledgementLabel label = AcknowledgementLabel.of("ack1");
+            final DeleteThing command = deleteThing("otherEntity", Duration.ofMillis(500L), label);
+            final Pair<Signal<?>, ActorRef> registration = register(command, this).orElseThrow();
+
+            registration.second().tell(Acknowledgement.of(label, ThingId.of("thing:other"), HttpStatus.OK,
+                    registration.first().getDittoHeaders()), ActorRef.noSender());
+
+            final Acknowledgements acks = expectMsgClass(Acknowledgements.class);
+            assertThat(acks.getAcknowledgement(label).orElseThrow().getHttpStatus())
+                    .isEqualTo(HttpStatus.REQUEST_TIMEOUT);
+        }};
+    }
+
+    @Test
+    public void restartTimeoutOnReceivedAcknowledgement() {
+        new TestKit(actorSystem) {{
+            final AcknowledgementLabel label1 = AcknowledgementLabel.of("ack1");
+            final AcknowledgementLabel label2 = AcknowledgementLabel.of("ack2");
+            final DeleteThing command = deleteThing("restartTimeout", Duration.ofMillis(1000L), label1, label2);
+            final Pair<Signal<?>, ActorRef> registration = register(command, this).orElseThrow();
+            final DittoHeaders ackHeaders = registration.first().getDittoHeaders();
+
+            expectNoMessage(Duration.ofMillis(700L));
+            registration.second().tell(Acknowledgement.of(label1, THING_ID, HttpStatus.OK, ackHeaders),
+                    ActorRef.noSender());
+            // the initial timeout has passed, the restarted one not yet
+            expectNoMessage(Duration.ofMillis(700L));
+
+            final Acknowledgements acks = expectMsgClass(Acknowledgements.class);
+            assertThat(acks.getAcknowledgement(label1).orElseThrow().getHttpStatus()).isEqualTo(HttpStatus.OK);
+            assertThat(acks.getAcknowledgement(label2).orElseThrow().getHttpStatus())
+                    .isEqualTo(HttpStatus.REQUEST_TIMEOUT);
+        }};
+    }
+
+    @Test
+    public void abortOnError() {
+        new TestKit(actorSystem) {{
+            final DeleteThing command = deleteThing("abortOnError", Duration.ofSeconds(10L),
+                    AcknowledgementLabel.of("ack1"));
+            final Pair<Signal<?>, ActorRef> registration = register(command, this).orElseThrow();
+
+            registration.second().tell(ThingNotAccessibleException.newBuilder(THING_ID)
+                    .dittoHeaders(registration.first().getDittoHeaders())
+                    .build(), ActorRef.noSender());
+
+            assertThat(expectMsgClass(ThingNotAccessibleException.class).getDittoHeaders().getCorrelationId())
+                    .contains("abortOnError");
+        }};
+    }
+
+    @Test
+    public void returnErrorResponseOnTimeout() {
+        new TestKit(actorSystem) {{
+            final DeleteThing command = deleteThing("errorResponseTwin", Duration.ofMillis(1L),
+                    AcknowledgementLabel.of("twin-persisted"));
+
+            assertThat(register(command, this)).isPresent();
+
+            assertThat(expectMsgClass(ThingErrorResponse.class).getDittoRuntimeException())
+                    .isInstanceOf(GatewayCommandTimeoutException.class);
+        }};
+    }
+
+    @Test
+    public void doNotRegisterSignalsWithoutCorrelationId() {
+        new TestKit(actorSystem) {{
+            final DeleteThing command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                    .acknowledgementRequest(AcknowledgementRequest.of(AcknowledgementLabel.of("twin-persisted")))
+                    .build());
+
+            assertThat(register(command, this)).isEmpty();
+        }};
+    }
+
+    private Optional<Pair<Signal<?>, ActorRef>> register(final DeleteThing command, final TestKit testKit) {
+        return underTest.register(command, ACKNOWLEDGEMENT_CONFIG, headerTranslator, tellThis(testKit));
+    }
+
+    private static DeleteThing deleteThing(final String correlationId, final Duration timeout,
+            final AcknowledgementLabel... labels) {
+
+        return DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(correlationId)
+                .timeout(timeout)
+                .acknowledgementRequests(Arrays.stream(labels)
+                        .map(AcknowledgementRequest::of)
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static Consumer<Object> tellThis(final TestKit testKit) {
+        return result -> testKit.getRef().tell(result, ActorRef.noSender());
+    }
+
+}
@@ -257,6 +257,18 @@ public final class AcknowledgementAggregatorTest {
         }
     }
 
+    @Test
+    public void acknowledgementsOfOtherEntitiesAreIgnored() {
+        final AcknowledgementAggregator underTest =
+                AcknowledgementAggregator.getInstance(ENTITY_ID, correlationId, TIMEOUT, HEADER_TRANSLATOR);
+        final AcknowledgementLabel ackLabel = AcknowledgementLabel.of("custom-ack");
+        underTest.addAcknowledgementRequest(AcknowledgementRequest.of(ackLabel));
+        underTest.addReceivedAcknowledgment(
+                Acknowledgement.of(ackLabel, ThingId.generateRandom(), HttpStatus.NO_CONTENT, dittoHeaders));
+
+        assertThat(underTest.receivedAllRequestedAcknowledgements()).isFalse();
+    }
+
     @Test
     public void successfulAcknowledgementsAreInExpectedOrder() {
         final AcknowledgementAggregator underTest =
@@ -15,39 +15,80 @@ package org.eclipse.ditto.services.models.signalenrichment;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 import org.eclipse.ditto.signals.events.things.ThingDeleted;
 
 import akka.actor.ActorSelection;
+import akka.actor.ActorSystem;
+import akka.actor.Scheduler;
 import akka.pattern.Patterns;
+import scala.concurrent.ExecutionContext;
 
 /**
  * Retrieve fixed parts of things by asking an actor.
+ * <p>
+ * Concurrent retrievals of the same fields of the same thing with the same headers share one round-trip.
+ * If a batch window is configured, retrievals of different things with the same fields and headers arriving within
+ * the window are sent as one {@link RetrieveThings} command to the batch handler.
+ * </p>
  */
 public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichmentFacade {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final ActorSelection commandHandler;
+    private final ActorSelection batchHandler;
     private final Duration askTimeout;
+    private final Duration batchWindow;
+    @Nullable private final Scheduler scheduler;
+    @Nullable private final ExecutionContext executionContext;
+    private final Map<Retrieval, CompletableFuture<JsonObject>> pendingRetrievals;
+    private final Map<BatchKey, Batch> openBatches;
+
+    private ByRoundTripSignalEnrichmentFacade(final ActorSelection commandHandler,
+            final ActorSelection batchHandler,
+            final Duration askTimeout,
+            final Duration batchWindow,
+            @Nullable final Scheduler scheduler,
+            @Nullable final ExecutionContext executionContext) {
 
-    private ByRoundTripSignalEnrichmentFacade(final ActorSelection commandHandler, final Duration askTimeout) {
         this.commandHandler = checkNotNull(commandHandler, "commandHandler");
+        this.batchHandler = checkNotNull(batchHandler, "batchHandler");
         this.askTimeout = checkNotNull(askTimeout, "askTimeout");
+        this.batchWindow = checkNotNull(batchWindow, "batchWindow");
+        this.scheduler = scheduler;
+        this.executionContext = executionContext;
+        pendingRetrievals = new ConcurrentHashMap<>();
+        openBatches = new ConcurrentHashMap<>();
     }
 
     /**
@@ -59,7 +100,33 @@ public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichment
      * @throws java.lang.NullPointerException if any argument is null.
      */
     public static ByRoundTripSignalEnrichmentFacade of(final ActorSelection commandHandler, final Duration askTimeout) {
-        return new ByRoundTripSignalEnrichmentFacade(commandHandler, askTimeout);
+        return new ByRoundTripSignalEnrichmentFacade(commandHandler, commandHandler, askTimeout, Duration.ZERO, null,
+                null);
+    }
+
+    /**
+     * Create a signal-enriching facade that retrieves partial things by round-trip and batches the retrievals of
+     * different things within a time window.
+     *
+     * @param commandHandler The recipient of retrieve-thing commands.
+     * @param batchHandler The recipient of retrieve-things commands. Must reply with a
+     * {@link RetrieveThingsResponse}.
+     * @param askTimeout How long to wait for each response.
+     * @param batchWindow How long to collect retrievals of different things before sending them as one batch.
+     * Batching is disabled if the window is zero or negative.
+     * @param actorSystem The actor system whose scheduler closes the batch windows on its default dispatcher.
+     * @return The facade.
+     * @throws java.lang.NullPointerException if any argument is null.
+     */
+    public static ByRoundTripSignalEnrichmentFacade of(final ActorSelection commandHandler,
+            final ActorSelection batchHandler,
+            final Duration askTimeout,
+            final Duration batchWindow,
+            final ActorSystem actorSystem) {
+
+        checkNotNull(actorSystem, "actorSystem");
+        return new ByRoundTripSignalEnrichmentFacade(commandHandler, batchHandler, askTimeout, batchWindow,
+                actorSystem.scheduler(), actorSystem.dispatcher());
     }
 
     @Override
@@ -84,8 +151,39 @@ public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichment
         }
         final DittoHeaders headersWithoutChannel = dittoHeadersBuilder.build();
 
+        // retrievals differing only in their correlation IDs yield the same result
+        final DittoHeaders sharedHeaders = headersWithoutChannel.toBuilder()
+                .removeHeader(DittoHeaderDefinition.CORRELATION_ID.getKey())
+                .build();
+        final Retrieval retrieval = new Retrieval(thingId, jsonFieldSelector, sharedHeaders);
+        final CompletableFuture<JsonObject> newResult = new CompletableFuture<>();
+        final CompletableFuture<JsonObject> pendingResult = pendingRetrievals.putIfAbsent(retrieval, newResult);
+        if (pendingResult != null) {
+            return pendingResult.copy();
+        }
+
+        final CompletionStage<JsonObject> result;
+        if (isBatchingEnabled()) {
+            result = addToBatch(new BatchKey(jsonFieldSelector, sharedHeaders), thingId, headersWithoutChannel);
+        } else {
+            result = retrieveThing(thingId, jsonFieldSelector, headersWithoutChannel);
+        }
+        result.whenComplete((jsonObject, error) -> {
+            pendingRetrievals.remove(retrieval, newResult);
+            complete(newResult, jsonObject, error);
+        });
+        return newResult.copy();
+    }
+
+    private boolean isBatchingEnabled() {
+        return null != scheduler && !batchWindow.isZero() && !batchWindow.isNegative();
+    }
+
+    private CompletionStage<JsonObject> retrieveThing(final ThingId thingId, final JsonFieldSelector jsonFieldSelector,
+            final DittoHeaders dittoHeaders) {
+
         final RetrieveThing command =
-                RetrieveThing.getBuilder(thingId, headersWithoutChannel)
+                RetrieveThing.getBuilder(thingId, dittoHeaders)
                         .withSelectedFields(jsonFieldSelector)
                         .build();
 
@@ -94,6 +192,106 @@ public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichment
         return askResult.thenCompose(ByRoundTripSignalEnrichmentFacade::extractPartialThing);
     }
 
+    private CompletionStage<JsonObject> addToBatch(final BatchKey batchKey, final ThingId thingId,
+            final DittoHeaders dittoHeaders) {
+
+        final CompletableFuture<JsonObject> result = new CompletableFuture<>();
+        final Batch[] fullBatch = new Batch[1];
+        // add atomically with respect to the removal of the batch from the open batches
+        openBatches.compute(batchKey, (key, openBatch) -> {
+            final Batch batch;
+            if (openBatch == null) {
+                batch = new Batch(dittoHeaders);
+                scheduler.scheduleOnce(batchWindow, () -> closeBatch(key, batch), executionContext);
+            } else {
+                batch = openBatch;
+            }
+            batch.results.put(thingId, result);
+            if (batch.results.size() >= MAX_BATCH_SIZE) {
+                fullBatch[0] = batch;
+                return null;
+            }
+            return batch;
+        });
+        if (fullBatch[0] != null) {
+            sendBatch(batchKey, fullBatch[0]);
+        }
+        return result;
+    }
+
+    private void closeBatch(final BatchKey batchKey, final Batch batch) {
+        // the batch may have been sent already because it became full
+        if (openBatches.remove(batchKey, batch)) {
+            sendBatch(batchKey, batch);
+        }
+    }
+
+    private void sendBatch(final BatchKey batchKey, final Batch batch) {
+        final Map<ThingId, CompletableFuture<JsonObject>> results = batch.results;
+        if (results.size() == 1) {
+            results.forEach((thingId, result) ->
+                    retrieveThing(thingId, batchKey.selector, batch.dittoHeaders)
+                            .whenComplete((jsonObject, error) -> complete(result, jsonObject, error)));
+            return;
+        }
+
+        // select the thing ID additionally in order to assign the retrieved things
+        final JsonFieldSelector selectorWithThingId = JsonFactory.newFieldSelectorBuilder()
+                .addPointers(batchKey.selector)
+                .addFieldDefinition(Thing.JsonFields.ID)
+                .build();
+        final RetrieveThings command = RetrieveThings.getBuilder(new ArrayList<>(results.keySet()))
+                .selectedFields(selectorWithThingId)
+                .dittoHeaders(batch.dittoHeaders)
+                .build();
+        Patterns.ask(batchHandler, command, askTimeout).whenComplete((response, error) -> {
+            if (error != null) {
+                results.values().forEach(result -> result.completeExceptionally(unwrap(error)));
+            } else if (response instanceof RetrieveThingsResponse) {
+                completeBatch((RetrieveThingsResponse) response, batchKey.selector, batch);
+            } else {
+                final Throwable throwable = toThrowable(response);
+                results.values().forEach(result -> result.completeExceptionally(throwable));
+            }
+        });
+    }
+
+    private static void completeBatch(final RetrieveThingsResponse response, final JsonFieldSelector selector,
+            final Batch batch) {
+
+        final JsonSchemaVersion jsonSchemaVersion = response.getDittoHeaders()
+                .getSchemaVersion()
+                .orElse(JsonSchemaVersion.LATEST);
+        response.getEntity(jsonSchemaVersion).asArray().stream()
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .forEach(thingJson -> thingJson.getValue(Thing.JsonFields.ID)
+                        .map(ThingId::of)
+                        .map(batch.results::get)
+                        .ifPresent(result -> result.complete(thingJson.get(selector))));
+        // things missing from the response are not accessible to the requester
+        batch.results.forEach((thingId, result) -> result.completeExceptionally(
+                ThingNotAccessibleException.newBuilder(thingId).dittoHeaders(batch.dittoHeaders).build()));
+    }
+
+    private static void complete(final CompletableFuture<JsonObject> result, @Nullable final JsonObject jsonObject,
+            @Nullable final Throwable error) {
+
+        if (error != null) {
+            result.completeExceptionally(unwrap(error));
+        } else {
+            result.complete(jsonObject);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        } else {
+            return error;
+        }
+    }
+
     private static CompletionStage<JsonObject> extractPartialThing(final Object object) {
         if (object instanceof RetrieveThingResponse) {
             final RetrieveThingResponse retrieveThingResponse = (RetrieveThingResponse) object;
@@ -115,4 +313,79 @@ public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichment
             return new IllegalStateException("Unexpected message: " + object);
         }
     }
+
+    private static final class Retrieval {
+
+        private final ThingId thingId;
+        private final JsonFieldSelector selector;
+        private final DittoHeaders dittoHeaders;
+
+        private Retrieval(final ThingId thingId, final JsonFieldSelector selector, final DittoHeaders dittoHeaders) {
+            this.thingId = thingId;
+            this.selector = selector;
+            this.dittoHeaders = dittoHeaders;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Retrieval that = (Retrieval) o;
+            return Objects.equals(thingId, that.thingId) &&
+                    Objects.equals(selector, that.selector) &&
+                    Objects.equals(dittoHeaders, that.dittoHeaders);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(thingId, selector, dittoHeaders);
+        }
+
+    }
+
+    private static final class BatchKey {
+
+        private final JsonFieldSelector selector;
+        private final DittoHeaders dittoHeaders;
+
+        private BatchKey(final JsonFieldSelector selector, final DittoHeaders dittoHeaders) {
+            this.selector = selector;
+            this.dittoHeaders = dittoHeaders;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final BatchKey that = (BatchKey) o;
+            return Objects.equals(selector, that.selector) && Objects.equals(dittoHeaders, that.dittoHeaders);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(selector, dittoHeaders);
+        }
+
+    }
+
+    private static final class Batch {
+
+        private final DittoHeaders dittoHeaders;
+        private final Map<ThingId, CompletableFuture<JsonObject>> results;
+
+        private Batch(final DittoHeaders dittoHeaders) {
+            this.dittoHeaders = dittoHeaders;
+            results = new LinkedHashMap<>();
+        }
+
+    }
+
 }
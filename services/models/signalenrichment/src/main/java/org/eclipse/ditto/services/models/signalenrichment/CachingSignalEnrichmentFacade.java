@@ -137,8 +137,9 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
         return doCacheLookup(idWithResourceType, dittoHeaders).thenCompose(cachedJsonObject -> {
             final JsonObjectBuilder jsonObjectBuilder = cachedJsonObject.toBuilder();
             final long cachedRevision = cachedJsonObject.getValue(Thing.JsonFields.REVISION).orElse(0L);
-            if (cachedRevision == thingEvent.getRevision()) {
-                // the cache entry was not present before and just loaded
+            if (cachedRevision >= thingEvent.getRevision()) {
+                // the cache entry was not present before and just loaded, or it was reloaded by the enrichment of
+                // this or a later event for another session; a further roundtrip would not be more accurate
                 return CompletableFuture.completedFuture(cachedJsonObject);
             } else if (cachedRevision + 1 == thingEvent.getRevision()) {
                 // the cache entry was already present and the thingEvent was the next expected revision no
@@ -147,7 +148,8 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
                         jsonObjectBuilder);
             } else {
                 // the cache entry was already present, but we missed sth and need to invalidate the cache
-                // and to another cache lookup (via roundtrip)
+                // and to another cache lookup (via roundtrip); concurrent reloads for the same entry share one
+                // roundtrip in the cache loader facade
                 extraFieldsCache.invalidate(idWithResourceType);
                 return doCacheLookup(idWithResourceType, dittoHeaders);
             }
@@ -28,10 +28,13 @@ import com.typesafe.config.Config;
 public final class DefaultSignalEnrichmentFacadeByRoundTripConfig implements SignalEnrichmentFacadeByRoundTripConfig {
 
     private final Duration askTimeout;
+    private final Duration batchWindow;
 
     private DefaultSignalEnrichmentFacadeByRoundTripConfig(final ConfigWithFallback configWithFallback) {
         this.askTimeout = configWithFallback.getDuration(
                 SignalEnrichmentFacadeByRoundTripConfigValue.ASK_TIMEOUT.getConfigPath());
+        batchWindow = configWithFallback.getDuration(
+                SignalEnrichmentFacadeByRoundTripConfigValue.BATCH_WINDOW.getConfigPath());
     }
 
     /**
@@ -51,6 +54,11 @@ public final class DefaultSignalEnrichmentFacadeByRoundTripConfig implements Sig
         return askTimeout;
     }
 
+    @Override
+    public Duration getBatchWindow() {
+        return batchWindow;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +68,20 @@ public final class DefaultSignalEnrichmentFacadeByRoundTripConfig implements Sig
             return false;
         }
         final DefaultSignalEnrichmentFacadeByRoundTripConfig that = (DefaultSignalEnrichmentFacadeByRoundTripConfig) o;
-        return Objects.equals(askTimeout, that.askTimeout);
+        return Objects.equals(askTimeout, that.askTimeout) &&
+                Objects.equals(batchWindow, that.batchWindow);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout);
+        return Objects.hash(askTimeout, batchWindow);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "askTimeout=" + askTimeout +
+                ", batchWindow=" + batchWindow +
                 "]";
     }
 }
@@ -35,6 +35,14 @@ public interface SignalEnrichmentFacadeByRoundTripConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns how long to collect retrievals of different things before retrieving them in one batch.
+     * Batching is disabled if the duration is zero.
+     *
+     * @return the batch window.
+     */
+    Duration getBatchWindow();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SignalEnrichmentFacadeByRoundTripConfig}.
@@ -44,7 +52,12 @@ public interface SignalEnrichmentFacadeByRoundTripConfig {
         /**
          * The ask timeout duration: the duration to wait for retrievals by roundtrip.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10)),
+
+        /**
+         * The batch window: how long to collect retrievals of different things before retrieving them in one batch.
+         */
+        BATCH_WINDOW("batch-window", Duration.ZERO);
 
         private final String path;
         private final Object defaultValue;
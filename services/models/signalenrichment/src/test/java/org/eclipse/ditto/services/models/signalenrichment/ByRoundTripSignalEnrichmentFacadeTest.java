@@ -12,7 +12,23 @@
  */
 package org.eclipse.ditto.services.models.signalenrichment;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.DittoTestSystem;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
+import org.junit.Test;
 
 import akka.actor.ActorSelection;
 import akka.testkit.javadsl.TestKit;
@@ -27,4 +43,67 @@ public final class ByRoundTripSignalEnrichmentFacadeTest extends AbstractSignalE
         final ActorSelection commandHandler = ActorSelection.apply(kit.getRef(), "");
         return ByRoundTripSignalEnrichmentFacade.of(commandHandler, duration);
     }
+
+    @Test
+    public void concurrentRetrievalsShareOneRoundTrip() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: the same partial thing is retrieved twice for different correlation IDs
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.dummy();
+            final DittoHeaders headers1 = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final DittoHeaders headers2 = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final CompletionStage<JsonObject> askResult1 =
+                    underTest.retrievePartialThing(thingId, SELECTOR, headers1, THING_EVENT);
+            final CompletionStage<JsonObject> askResult2 =
+                    underTest.retrievePartialThing(thingId, SELECTOR, headers2, THING_EVENT);
+
+            // WHEN: Command handler receives only one RetrieveThing and responds with RetrieveThingResponse
+            kit.expectMsgClass(RetrieveThing.class);
+            kit.expectNoMessage(Duration.ofMillis(200L));
+            kit.reply(RetrieveThingResponse.of(thingId, getThingResponseThingJson(), headers1));
+
+            // THEN: both result futures complete with the entity of the RetrieveThingResponse
+            askResult1.toCompletableFuture().join();
+            askResult2.toCompletableFuture().join();
+            assertThat(askResult1).isCompletedWithValue(getExpectedThingJson());
+            assertThat(askResult2).isCompletedWithValue(getExpectedThingJson());
+        });
+    }
+
+    @Test
+    public void retrievalsOfDifferentThingsWithinBatchWindowAreBatched() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: partial things of 2 different things are retrieved within the batch window
+            final ActorSelection commandHandler = ActorSelection.apply(kit.getRef(), "");
+            final SignalEnrichmentFacade underTest = ByRoundTripSignalEnrichmentFacade.of(commandHandler,
+                    commandHandler, Duration.ofSeconds(10L), Duration.ofMillis(200L), kit.getSystem());
+            final ThingId thingId1 = ThingId.of("namespace", "thing1");
+            final ThingId thingId2 = ThingId.of("namespace", "thing2");
+            final DittoHeaders headers = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final CompletionStage<JsonObject> askResult1 =
+                    underTest.retrievePartialThing(thingId1, SELECTOR, headers, THING_EVENT);
+            final CompletionStage<JsonObject> askResult2 =
+                    underTest.retrievePartialThing(thingId2, SELECTOR, headers, THING_EVENT);
+
+            // WHEN: Batch handler receives one RetrieveThings and responds with only the first thing
+            final RetrieveThings retrieveThings = kit.expectMsgClass(RetrieveThings.class);
+            assertThat(retrieveThings.getThingEntityIds()).containsExactly(thingId1, thingId2);
+            assertThat(retrieveThings.getSelectedFields()).hasValueSatisfying(selectedFields ->
+                    assertThat(selectedFields.getPointers()).contains(Thing.JsonFields.ID.getPointer()));
+            final JsonObject thing1Json = getThingResponseThingJson().toBuilder()
+                    .set(Thing.JsonFields.ID, thingId1.toString())
+                    .build();
+            kit.reply(RetrieveThingsResponse.of(JsonArray.newBuilder().add(thing1Json).build(), null, headers));
+
+            // THEN: the first result future completes with the selected fields of the first thing
+            askResult1.toCompletableFuture().join();
+            assertThat(askResult1).isCompletedWithValue(getExpectedThingJson());
+
+            // THEN: the second result future fails because the second thing was not accessible
+            askResult2.toCompletableFuture().exceptionally(e -> null).join();
+            assertThat(askResult2).hasFailedWithThrowableThat().isInstanceOf(ThingNotAccessibleException.class);
+        });
+    }
+
 }
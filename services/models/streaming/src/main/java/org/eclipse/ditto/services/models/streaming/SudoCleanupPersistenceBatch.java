@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.model.base.json.FieldType.REGULAR;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.common.ConditionChecker;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.base.WithIdButActuallyNot;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which cleans up the events and snapshots of the next batch of persistence IDs above a lower bound directly
+ * in the journal and snapshot store of a persistence, i. e. without waking up the persistence actors.
+ * It is answered with a {@code CleanupPersistenceResponse} whose entity ID is the last persistence ID of the batch,
+ * which is the lower bound of the next batch, or a dummy entity ID if there are no more persistence IDs.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = SudoCleanupPersistenceBatch.TYPE_PREFIX, name = SudoCleanupPersistenceBatch.NAME)
+public final class SudoCleanupPersistenceBatch extends AbstractCommand<SudoCleanupPersistenceBatch>
+        implements StreamingMessage, WithIdButActuallyNot {
+
+    static final String NAME = "SudoCleanupPersistenceBatch";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<String> JSON_LOWER_BOUND =
+            JsonFactory.newStringFieldDefinition("payload/lowerBound", REGULAR, V_2);
+
+    static final JsonFieldDefinition<Integer> JSON_BATCH_SIZE =
+            JsonFactory.newIntFieldDefinition("payload/batchSize", REGULAR, V_2);
+
+    private final String lowerBound;
+
+    private final int batchSize;
+
+    private SudoCleanupPersistenceBatch(final String lowerBound, final int batchSize,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+        this.lowerBound = lowerBound;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates a new {@code SudoCleanupPersistenceBatch} command.
+     *
+     * @param lowerBound the persistence ID after which the batch starts or an empty string to start with the first
+     * persistence ID.
+     * @param batchSize the maximum number of persistence IDs to clean up.
+     * @param dittoHeaders the command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code batchSize} is not positive.
+     */
+    public static SudoCleanupPersistenceBatch of(final CharSequence lowerBound, final int batchSize,
+            final DittoHeaders dittoHeaders) {
+
+        ConditionChecker.checkNotNull(lowerBound, "lowerBound");
+        ConditionChecker.checkArgument(batchSize, size -> size > 0, () -> "The batch size must be positive!");
+        return new SudoCleanupPersistenceBatch(lowerBound.toString(), batchSize, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoCleanupPersistenceBatch} from a JSON object.
+     *
+     * @param jsonObject the JSON representation of the command.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the
+     * expected format.
+     */
+    public static SudoCleanupPersistenceBatch fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        final String lowerBound = jsonObject.getValueOrThrow(JSON_LOWER_BOUND);
+        final int batchSize = jsonObject.getValueOrThrow(JSON_BATCH_SIZE);
+        return of(lowerBound, batchSize, dittoHeaders);
+    }
+
+    /**
+     * Returns the persistence ID after which the batch starts.
+     *
+     * @return the lower bound or an empty string if the batch starts with the first persistence ID.
+     */
+    public String getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Returns the maximum number of persistence IDs to clean up.
+     *
+     * @return the batch size.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_LOWER_BOUND, lowerBound, predicate);
+        jsonObjectBuilder.set(JSON_BATCH_SIZE, batchSize, predicate);
+    }
+
+    @Override
+    public String getTypePrefix() {
+        return TYPE_PREFIX;
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.MODIFY;
+    }
+
+    @Override
+    public SudoCleanupPersistenceBatch setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoCleanupPersistenceBatch(lowerBound, batchSize, dittoHeaders);
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public String getResourceType() {
+        return TYPE;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), lowerBound, batchSize);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (obj instanceof SudoCleanupPersistenceBatch) {
+            final SudoCleanupPersistenceBatch that = (SudoCleanupPersistenceBatch) obj;
+            return that.canEqual(this) && batchSize == that.batchSize && lowerBound.equals(that.lowerBound) &&
+                    super.equals(that);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoCleanupPersistenceBatch;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString()
+                + ", lowerBound=" + lowerBound
+                + ", batchSize=" + batchSize
+                + "]";
+    }
+
+}
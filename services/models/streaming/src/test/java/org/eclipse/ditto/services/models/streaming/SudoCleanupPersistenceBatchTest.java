@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link SudoCleanupPersistenceBatch}.
+ */
+public final class SudoCleanupPersistenceBatchTest {
+
+    private static final String KNOWN_LOWER_BOUND = "thing:ns:id";
+    private static final int KNOWN_BATCH_SIZE = 100;
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(Command.JsonFields.TYPE, SudoCleanupPersistenceBatch.TYPE)
+            .set(SudoCleanupPersistenceBatch.JSON_LOWER_BOUND, KNOWN_LOWER_BOUND)
+            .set(SudoCleanupPersistenceBatch.JSON_BATCH_SIZE, KNOWN_BATCH_SIZE)
+            .build();
+
+    private static final DittoHeaders EMPTY_DITTO_HEADERS = DittoHeaders.empty();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoCleanupPersistenceBatch.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoCleanupPersistenceBatch.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final SudoCleanupPersistenceBatch underTest =
+                SudoCleanupPersistenceBatch.of(KNOWN_LOWER_BOUND, KNOWN_BATCH_SIZE, EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final SudoCleanupPersistenceBatch underTest =
+                SudoCleanupPersistenceBatch.fromJson(KNOWN_JSON, EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest)
+                .isEqualTo(SudoCleanupPersistenceBatch.of(KNOWN_LOWER_BOUND, KNOWN_BATCH_SIZE, EMPTY_DITTO_HEADERS));
+    }
+
+    @Test
+    public void parseWithRegistry() {
+        final SudoCleanupPersistenceBatch expected =
+                SudoCleanupPersistenceBatch.fromJson(KNOWN_JSON, EMPTY_DITTO_HEADERS);
+
+        final Jsonifiable parsed = GlobalCommandRegistry.getInstance().parse(KNOWN_JSON, EMPTY_DITTO_HEADERS);
+
+        assertThat(parsed).isEqualTo(expected);
+    }
+
+    @Test
+    public void rejectNonPositiveBatchSize() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> SudoCleanupPersistenceBatch.of(KNOWN_LOWER_BOUND, 0, EMPTY_DITTO_HEADERS));
+    }
+
+}
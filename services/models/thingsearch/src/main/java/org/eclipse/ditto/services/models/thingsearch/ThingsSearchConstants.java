@@ -48,6 +48,13 @@ public final class ThingsSearchConstants {
      */
     public static final String SEARCH_ACTOR_PATH = ROOT_ACTOR_PATH + "/thingsSearch";
 
+    /**
+     * Pub-sub topic of continuous subscriptions, which are registered at the search updaters of all cluster members.
+     *
+     * @since 2.0.0
+     */
+    public static final String CONTINUOUS_SUBSCRIPTIONS_TOPIC = "thing-search.continuous-subscriptions";
+
     /*
      * Inhibit instantiation of this utility class.
      */
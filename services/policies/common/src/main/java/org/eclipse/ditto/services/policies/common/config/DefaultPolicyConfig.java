@@ -42,6 +42,8 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     private final Duration policySubjectExpiryGranularity;
     private final Duration policySubjectDeletionAnnouncementGranularity;
     private final String subjectIdResolver;
+    private final boolean subjectExpiryIndexEnabled;
+    private final Duration subjectExpiryIndexInterval;
 
     private DefaultPolicyConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
@@ -52,6 +54,10 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         policySubjectDeletionAnnouncementGranularity =
                 scopedConfig.getDuration(PolicyConfigValue.SUBJECT_DELETION_ANNOUNCEMENT_GRANULARITY.getConfigPath());
         subjectIdResolver = scopedConfig.getString(PolicyConfigValue.SUBJECT_ID_RESOLVER.getConfigPath());
+        subjectExpiryIndexEnabled =
+                scopedConfig.getBoolean(PolicyConfigValue.SUBJECT_EXPIRY_INDEX_ENABLED.getConfigPath());
+        subjectExpiryIndexInterval =
+                scopedConfig.getDuration(PolicyConfigValue.SUBJECT_EXPIRY_INDEX_INTERVAL.getConfigPath());
     }
 
     /**
@@ -97,6 +103,16 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         return subjectIdResolver;
     }
 
+    @Override
+    public boolean isSubjectExpiryIndexEnabled() {
+        return subjectExpiryIndexEnabled;
+    }
+
+    @Override
+    public Duration getSubjectExpiryIndexInterval() {
+        return subjectExpiryIndexInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -112,13 +128,16 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 Objects.equals(policySubjectExpiryGranularity, that.policySubjectExpiryGranularity) &&
                 Objects.equals(policySubjectDeletionAnnouncementGranularity,
                         that.policySubjectDeletionAnnouncementGranularity) &&
-                Objects.equals(subjectIdResolver, that.subjectIdResolver);
+                Objects.equals(subjectIdResolver, that.subjectIdResolver) &&
+                subjectExpiryIndexEnabled == that.subjectExpiryIndexEnabled &&
+                Objects.equals(subjectExpiryIndexInterval, that.subjectExpiryIndexInterval);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, policySubjectExpiryGranularity,
-                policySubjectDeletionAnnouncementGranularity, subjectIdResolver);
+                policySubjectDeletionAnnouncementGranularity, subjectIdResolver, subjectExpiryIndexEnabled,
+                subjectExpiryIndexInterval);
     }
 
     @Override
@@ -130,6 +149,8 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 ", policySubjectExpiryGranularity=" + policySubjectExpiryGranularity +
                 ", policySubjectDeletionAnnouncementGranularity=" + policySubjectDeletionAnnouncementGranularity +
                 ", subjectIdResolver=" + subjectIdResolver +
+                ", subjectExpiryIndexEnabled=" + subjectExpiryIndexEnabled +
+                ", subjectExpiryIndexInterval=" + subjectExpiryIndexInterval +
                 "]";
     }
 
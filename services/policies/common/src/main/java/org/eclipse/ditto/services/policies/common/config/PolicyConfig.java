@@ -58,6 +58,22 @@ public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckCon
      */
     String getSubjectIdResolver();
 
+    /**
+     * Returns whether the earliest subject expiry and deletion announcement of each policy are persisted in an expiry
+     * index, so that policies with expiring subjects may passivate and are woken up only shortly before their next
+     * expiry or announcement.
+     *
+     * @return whether the subject expiry index is enabled.
+     */
+    boolean isSubjectExpiryIndexEnabled();
+
+    /**
+     * Returns the interval in which the subject expiry index is scanned for policies to wake up.
+     *
+     * @return the scan interval of the subject expiry index.
+     */
+    Duration getSubjectExpiryIndexInterval();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for {@code PolicyConfig}.
      */
@@ -74,7 +90,17 @@ public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckCon
         SUBJECT_DELETION_ANNOUNCEMENT_GRANULARITY("subject-deletion-announcement-granularity", Duration.ofMinutes(1L)),
 
         SUBJECT_ID_RESOLVER("subject-id-resolver",
-                "org.eclipse.ditto.services.policies.persistence.actors.resolvers.DefaultSubjectIdFromActionResolver");
+                "org.eclipse.ditto.services.policies.persistence.actors.resolvers.DefaultSubjectIdFromActionResolver"),
+
+        /**
+         * Whether policies with expiring subjects are woken up by the subject expiry index instead of staying in memory.
+         */
+        SUBJECT_EXPIRY_INDEX_ENABLED("subject-expiry-index.enabled", false),
+
+        /**
+         * The interval in which the subject expiry index is scanned for policies to wake up.
+         */
+        SUBJECT_EXPIRY_INDEX_INTERVAL("subject-expiry-index.interval", Duration.ofSeconds(10L));
 
         private final String path;
         private final Object defaultValue;
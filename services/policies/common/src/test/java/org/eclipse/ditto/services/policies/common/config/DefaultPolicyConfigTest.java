@@ -73,6 +73,14 @@ public final class DefaultPolicyConfigTest {
         softly.assertThat(underTest.getSubjectIdResolver())
                 .as(PolicyConfig.PolicyConfigValue.SUBJECT_ID_RESOLVER.getConfigPath())
                 .isEqualTo(PolicyConfig.PolicyConfigValue.SUBJECT_ID_RESOLVER.getDefaultValue());
+
+        softly.assertThat(underTest.isSubjectExpiryIndexEnabled())
+                .as(PolicyConfig.PolicyConfigValue.SUBJECT_EXPIRY_INDEX_ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getSubjectExpiryIndexInterval())
+                .as(PolicyConfig.PolicyConfigValue.SUBJECT_EXPIRY_INDEX_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(10L));
     }
 
     @Test
@@ -90,6 +98,14 @@ public final class DefaultPolicyConfigTest {
         softly.assertThat(underTest.getSubjectIdResolver())
                 .as(PolicyConfig.PolicyConfigValue.SUBJECT_ID_RESOLVER.getConfigPath())
                 .isEqualTo("IrredeemableSubjectIdResolver");
+
+        softly.assertThat(underTest.isSubjectExpiryIndexEnabled())
+                .as(PolicyConfig.PolicyConfigValue.SUBJECT_EXPIRY_INDEX_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getSubjectExpiryIndexInterval())
+                .as(PolicyConfig.PolicyConfigValue.SUBJECT_EXPIRY_INDEX_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(12L));
     }
 
 }
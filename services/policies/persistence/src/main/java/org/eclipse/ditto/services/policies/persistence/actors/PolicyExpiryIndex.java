@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * MongoDB backed index of the policies which have subjects with an expiry.
+ * For each such policy, it stores the instant at which the policy has to be woken up to delete its next expired subject
+ * or to send its next subject deletion announcement, together with the cut-off of the last announcement sent.
+ * Thereby policies with expiring subjects need neither to be kept in memory nor to keep timers until then; they are
+ * woken up by the {@link PolicyExpiryWakeUpActor} which scans this index.
+ * <p>
+ * The index is created once per service on the database of the MongoDB client the service already uses and passed to
+ * the actors reading or writing it.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class PolicyExpiryIndex {
+
+    /**
+     * Name of the collection of the index.
+     */
+    static final String COLLECTION_NAME = "policies_expiry_index";
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_WAKE_UP_AT = "t";
+    private static final String FIELD_LAST_ANNOUNCEMENT = "a";
+
+    private final MongoCollection<BsonDocument> collection;
+    private final Materializer materializer;
+
+    private PolicyExpiryIndex(final MongoDatabase database, final Materializer materializer) {
+        collection = database.getCollection(COLLECTION_NAME, BsonDocument.class);
+        this.materializer = materializer;
+    }
+
+    /**
+     * Returns the policy expiry index in the given database and creates its missing indices.
+     *
+     * @param database the database of the policies service.
+     * @param materializer the materializer to run the queries of the index with.
+     * @return the index.
+     */
+    public static PolicyExpiryIndex of(final MongoDatabase database, final Materializer materializer) {
+        IndexInitializer.of(database, materializer)
+                .createNonExistingIndices(COLLECTION_NAME, List.of(
+                        IndexFactory.newInstance("wake_up_at", List.of(FIELD_WAKE_UP_AT), false)));
+        return new PolicyExpiryIndex(database, materializer);
+    }
+
+    /**
+     * Updates the index entry of a policy.
+     *
+     * @param policyId the ID of the policy.
+     * @param wakeUpAt when to wake up the policy next or {@code null} if the policy has no more expiring subjects,
+     * which removes the policy from the index.
+     * @param lastAnnouncement cut-off of the last subject deletion announcement sent by the policy.
+     * @return a future that completes after the index entry was written.
+     */
+    CompletionStage<Done> update(final PolicyId policyId, @Nullable final Instant wakeUpAt,
+            final Instant lastAnnouncement) {
+
+        final BsonDocument filter = new BsonDocument(FIELD_ID, new BsonString(policyId.toString()));
+        final Source<?, NotUsed> write;
+        if (null == wakeUpAt) {
+            write = Source.fromPublisher(collection.deleteOne(filter));
+        } else {
+            final BsonDocument document = filter.clone()
+                    .append(FIELD_WAKE_UP_AT, new BsonDateTime(wakeUpAt.toEpochMilli()))
+                    .append(FIELD_LAST_ANNOUNCEMENT, new BsonDateTime(lastAnnouncement.toEpochMilli()));
+            write = Source.fromPublisher(
+                    collection.replaceOne(filter, document, new ReplaceOptions().upsert(true)));
+        }
+        return write.runWith(Sink.ignore(), materializer);
+    }
+
+    /**
+     * Retrieves the cut-off of the last subject deletion announcement sent by a policy.
+     *
+     * @param policyId the ID of the policy.
+     * @return a future of the last announcement, which is {@link Instant#EPOCH} if the policy is not in the index.
+     */
+    CompletionStage<Instant> getLastAnnouncement(final PolicyId policyId) {
+        return Source.fromPublisher(collection.find(Filters.eq(FIELD_ID, policyId.toString()))
+                .projection(Projections.include(FIELD_LAST_ANNOUNCEMENT))
+                .limit(1))
+                .map(document -> Instant.ofEpochMilli(document.getDateTime(FIELD_LAST_ANNOUNCEMENT).getValue()))
+                .runWith(Sink.headOption(), materializer)
+                .thenApply(lastAnnouncement -> lastAnnouncement.orElse(Instant.EPOCH));
+    }
+
+    /**
+     * Streams the IDs of the policies which have to be woken up until the given instant, earliest first.
+     *
+     * @param until the instant until which policies are due.
+     * @return source of the IDs of the due policies.
+     */
+    Source<PolicyId, NotUsed> getPoliciesToWakeUp(final Instant until) {
+        final BsonDateTime untilDateTime = new BsonDateTime(until.toEpochMilli());
+        return Source.fromPublisher(collection.find(Filters.lte(FIELD_WAKE_UP_AT, untilDateTime))
+                .projection(Projections.include(FIELD_ID))
+                .sort(Sorts.ascending(FIELD_WAKE_UP_AT)))
+                .map(document -> PolicyId.of(document.getString(FIELD_ID).getValue()));
+    }
+
+}
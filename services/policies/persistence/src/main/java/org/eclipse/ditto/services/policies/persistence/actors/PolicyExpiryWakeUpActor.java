@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.utils.akka.PingCommand;
+import org.eclipse.ditto.services.utils.akka.PingCommandResponse;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.services.utils.persistentactors.config.RateConfig;
+
+import akka.NotUsed;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cluster singleton which periodically scans the {@link PolicyExpiryIndex} and pings the policies that have to delete
+ * an expired subject or to send a subject deletion announcement before the next scan.
+ * Thereby the policy persistence actors with expiring subjects may passivate in the meantime.
+ *
+ * @since 2.0.0
+ */
+public final class PolicyExpiryWakeUpActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor.
+     */
+    public static final String ACTOR_NAME = "policyExpiryWakeUp";
+
+    private static final String CORRELATION_ID_PREFIX = "policy-expiry-wake-up:";
+
+    private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+
+    private final ActorRef policiesShardRegion;
+    private final Function<Instant, Source<PolicyId, NotUsed>> policiesToWakeUp;
+    private final Duration interval;
+    private final RateConfig rateConfig;
+    private final Materializer materializer;
+
+    private boolean scanInProgress = false;
+
+    @SuppressWarnings("unused")
+    private PolicyExpiryWakeUpActor(final ActorRef policiesShardRegion,
+            final Function<Instant, Source<PolicyId, NotUsed>> policiesToWakeUp,
+            final Duration interval,
+            final RateConfig rateConfig) {
+
+        this.policiesShardRegion = policiesShardRegion;
+        this.policiesToWakeUp = policiesToWakeUp;
+        this.interval = interval;
+        this.rateConfig = rateConfig;
+        materializer = Materializer.createMaterializer(this::getContext);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this Actor.
+     *
+     * @param policiesShardRegion the shard region of the policy persistence actors.
+     * @param expiryIndex the index to scan.
+     * @param interval the interval in which the expiry index is scanned.
+     * @param rateConfig the rate at which policies are pinged.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef policiesShardRegion, final PolicyExpiryIndex expiryIndex,
+            final Duration interval, final RateConfig rateConfig) {
+
+        final Function<Instant, Source<PolicyId, NotUsed>> policiesToWakeUp = expiryIndex::getPoliciesToWakeUp;
+        return Props.create(PolicyExpiryWakeUpActor.class, policiesShardRegion, policiesToWakeUp, interval,
+                rateConfig);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this Actor.
+     *
+     * @param policiesShardRegion the shard region of the policy persistence actors.
+     * @param policiesToWakeUp function from the end of the next scan interval to the IDs of the policies to wake up.
+     * @param interval the interval in which the policies to wake up are determined.
+     * @param rateConfig the rate at which policies are pinged.
+     * @return the Akka configuration Props object.
+     */
+    static Props propsForTests(final ActorRef policiesShardRegion,
+            final Function<Instant, Source<PolicyId, NotUsed>> policiesToWakeUp,
+            final Duration interval,
+            final RateConfig rateConfig) {
+
+        return Props.create(PolicyExpiryWakeUpActor.class, policiesShardRegion, policiesToWakeUp, interval,
+                rateConfig);
+    }
+
+    /**
+     * Checks whether a ping was sent by this actor to wake up a policy for its subject expiry.
+     *
+     * @param correlationId the correlation ID of the ping.
+     * @return whether the ping was a wake-up by this actor.
+     */
+    static boolean isWakeUp(final String correlationId) {
+        return correlationId.startsWith(CORRELATION_ID_PREFIX);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        log.info("Scanning the policy expiry index every <{}>.", interval);
+        timers().startTimerWithFixedDelay(Control.SCAN, Control.SCAN, interval);
+        getSelf().tell(Control.SCAN, ActorRef.noSender());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.SCAN, msg -> scan())
+                .matchEquals(Control.SCAN_FINISHED, msg -> scanInProgress = false)
+                .match(PingCommandResponse.class, response ->
+                        log.debug("Received <{}> from <{}>", response, getSender()))
+                .match(DittoRuntimeException.class, exception ->
+                        log.debug("Received <{}> for correlation-id <{}>: {}",
+                                exception.getClass().getSimpleName(),
+                                exception.getDittoHeaders().getCorrelationId().orElse("unknown"),
+                                exception.getMessage()))
+                .matchAny(message -> {
+                    log.warning("Unknown message: {}", message);
+                    unhandled(message);
+                })
+                .build();
+    }
+
+    private void scan() {
+        if (scanInProgress) {
+            log.info("The previous scan of the policy expiry index is still in progress, skipping this one.");
+        } else {
+            scanInProgress = true;
+            // wake up policies before the next scan, so that they may schedule their expiries themselves in time
+            final Instant until = Instant.now().plus(interval);
+            final ActorRef self = getSelf();
+            policiesToWakeUp.apply(until)
+                    .throttle(rateConfig.getEntityAmount(), rateConfig.getFrequency())
+                    .runForeach(this::wakeUp, materializer)
+                    .whenComplete((done, error) -> {
+                        if (null != error) {
+                            log.error(error, "Failed to scan the policy expiry index.");
+                        }
+                        self.tell(Control.SCAN_FINISHED, ActorRef.noSender());
+                    });
+        }
+    }
+
+    private void wakeUp(final PolicyId policyId) {
+        log.debug("Waking up policy <{}> for its subject expiry.", policyId);
+        final PingCommand ping = PingCommand.of(policyId, CORRELATION_ID_PREFIX + policyId, JsonValue.of(ACTOR_NAME));
+        policiesShardRegion.tell(ping, getSelf());
+    }
+
+    private enum Control {
+        SCAN,
+        SCAN_FINISHED
+    }
+
+}
@@ -20,6 +20,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -48,6 +50,7 @@ import org.eclipse.ditto.services.policies.common.config.DittoPoliciesConfig;
 import org.eclipse.ditto.services.policies.common.config.PolicyConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.strategies.commands.PolicyCommandStrategies;
 import org.eclipse.ditto.services.policies.persistence.actors.strategies.events.PolicyEventStrategies;
+import org.eclipse.ditto.services.utils.akka.PingCommand;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
@@ -65,10 +68,12 @@ import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibl
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 import akka.persistence.RecoveryCompleted;
 
 /**
@@ -107,12 +112,18 @@ public final class PolicyPersistenceActor
     private final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub;
     private final PolicyConfig policyConfig;
 
+    @Nullable private final PolicyExpiryIndex expiryIndex;
+
     private Instant lastAnnouncement = Instant.EPOCH;
+    private boolean lastAnnouncementLoaded = true;
+    @Nullable private Pair<Instant, Instant> indexedExpiry = null;
+    private CompletionStage<Done> expiryIndexUpdate = CompletableFuture.completedFuture(Done.getInstance());
 
     PolicyPersistenceActor(final PolicyId policyId,
             final SnapshotAdapter<Policy> snapshotAdapter,
             final ActorRef pubSubMediator,
-            final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub) {
+            final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub,
+            @Nullable final PolicyExpiryIndex expiryIndex) {
         super(policyId, snapshotAdapter);
         this.pubSubMediator = pubSubMediator;
         this.policyAnnouncementPub = policyAnnouncementPub;
@@ -120,6 +131,7 @@ public final class PolicyPersistenceActor
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
         this.policyConfig = policiesConfig.getPolicyConfig();
+        this.expiryIndex = expiryIndex;
     }
 
     /**
@@ -136,8 +148,28 @@ public final class PolicyPersistenceActor
             final ActorRef pubSubMediator,
             final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub) {
 
+        return props(policyId, snapshotAdapter, pubSubMediator, policyAnnouncementPub, null);
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this PolicyPersistenceActor.
+     *
+     * @param policyId the ID of the Policy this Actor manages.
+     * @param snapshotAdapter the adapter to serialize Policy snapshots.
+     * @param pubSubMediator the PubSub mediator actor.
+     * @param policyAnnouncementPub the publisher interface for policy announcements.
+     * @param expiryIndex the index to persist the next subject expiry of the policy in or {@code null} if the policy
+     * is to be kept in memory until then.
+     * @return the Akka configuration Props object
+     */
+    public static Props props(final PolicyId policyId,
+            final SnapshotAdapter<Policy> snapshotAdapter,
+            final ActorRef pubSubMediator,
+            final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub,
+            @Nullable final PolicyExpiryIndex expiryIndex) {
+
         return Props.create(PolicyPersistenceActor.class, policyId, snapshotAdapter, pubSubMediator,
-                policyAnnouncementPub);
+                policyAnnouncementPub, expiryIndex);
     }
 
     @Override
@@ -246,7 +278,18 @@ public final class PolicyPersistenceActor
 
     @Override
     protected boolean isEntityAlwaysAlive() {
-        return findEarliestAnnouncement(entity, lastAnnouncement).isPresent();
+        // with the expiry index, the policy is woken up for its next announcement instead of staying in memory
+        return null == expiryIndex && findEarliestAnnouncement(entity, lastAnnouncement).isPresent();
+    }
+
+    @Override
+    protected void processPingCommand(final PingCommand ping) {
+        super.processPingCommand(ping);
+        if (null != expiryIndex && ping.getCorrelationId().filter(PolicyExpiryWakeUpActor::isWakeUp).isPresent()) {
+            // re-write the index entry in case it became stale, else the policy would be woken up again and again
+            indexedExpiry = null;
+            updateExpiryIndex();
+        }
     }
 
     @Override
@@ -254,12 +297,15 @@ public final class PolicyPersistenceActor
         return ReceiveBuilder.create()
                 .matchEquals(DeleteOldestExpiredSubject.INSTANCE, d -> handleDeleteExpiredSubjects())
                 .match(AnnounceSubjectDeletion.class, this::sendAnnouncement)
+                .match(LastAnnouncementLoaded.class, this::lastAnnouncementLoaded)
+                .match(ExpiryIndexUpdateFailed.class, this::expiryIndexUpdateFailed)
                 .matchAny(message -> log.warning("Unknown message: {}", message))
                 .build();
     }
 
     @Override
     protected void recoveryCompleted(final RecoveryCompleted event) {
+        loadLastAnnouncement();
         if (entity != null) {
             sendOrScheduleAnnouncement();
             // if we have an expired subject at this point (after recovery), it must first be removed before e.g.
@@ -273,7 +319,7 @@ public final class PolicyPersistenceActor
     protected PolicyEvent<?> modifyEventBeforePersist(final PolicyEvent<?> event) {
         final PolicyEvent<?> superEvent = super.modifyEventBeforePersist(event);
 
-        if (alwaysAlive = willEntityBeAlwaysAlive(event)) {
+        if (alwaysAlive = null == expiryIndex && willEntityBeAlwaysAlive(event)) {
             final DittoHeaders headersWithJournalTags = superEvent.getDittoHeaders().toBuilder()
                     .journalTags(Set.of(JOURNAL_TAG_ALWAYS_ALIVE))
                     .build();
@@ -287,6 +333,7 @@ public final class PolicyPersistenceActor
     protected void onEntityModified() {
         sendOrScheduleAnnouncement();
         scheduleNextSubjectExpiryCheck();
+        updateExpiryIndex();
     }
 
     private boolean willEntityBeAlwaysAlive(final PolicyEvent<?> policyEvent) {
@@ -297,6 +344,10 @@ public final class PolicyPersistenceActor
     }
 
     private void sendOrScheduleAnnouncement() {
+        if (!lastAnnouncementLoaded) {
+            // the announcements are sent or scheduled as soon as it is known which were sent already
+            return;
+        }
         final var earliestAnnouncement = findEarliestAnnouncement(entity, lastAnnouncement);
         if (earliestAnnouncement.isPresent()) {
             final Instant cutOff = earliestAnnouncement.get();
@@ -316,6 +367,62 @@ public final class PolicyPersistenceActor
         lastAnnouncement = cutOff;
         // schedule the next announcement after updating lastAnnouncement
         sendOrScheduleAnnouncement();
+        updateExpiryIndex();
+    }
+
+    private void loadLastAnnouncement() {
+        if (null != expiryIndex && findEarliestSubjectExpiryTimestamp(entity).isPresent()) {
+            // only policies with expiring subjects are in the index
+            lastAnnouncementLoaded = false;
+            final CompletionStage<LastAnnouncementLoaded> loaded = expiryIndex.getLastAnnouncement(entityId)
+                    .handle((instant, error) -> new LastAnnouncementLoaded(instant, error));
+            Patterns.pipe(loaded, getContext().getDispatcher()).to(getSelf());
+        } else {
+            indexedExpiry = Pair.create(null, lastAnnouncement);
+        }
+    }
+
+    private void lastAnnouncementLoaded(final LastAnnouncementLoaded loaded) {
+        if (null != loaded.error) {
+            // announcing twice is preferable to not announcing at all
+            log.warning("Failed to load the last announcement from the expiry index: <{}>", loaded.error);
+        } else if (lastAnnouncement.isBefore(loaded.lastAnnouncement)) {
+            lastAnnouncement = loaded.lastAnnouncement;
+        }
+        lastAnnouncementLoaded = true;
+        sendOrScheduleAnnouncement();
+        updateExpiryIndex();
+    }
+
+    private void updateExpiryIndex() {
+        if (null == expiryIndex || !lastAnnouncementLoaded) {
+            return;
+        }
+        @Nullable final Instant wakeUpAt = Stream.concat(
+                findEarliestSubjectExpiryTimestamp(entity).map(SubjectExpiry::getTimestamp).stream(),
+                findEarliestAnnouncement(entity, lastAnnouncement).stream())
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        final boolean unchanged = null != indexedExpiry && (null == wakeUpAt
+                ? null == indexedExpiry.first()
+                : indexedExpiry.equals(Pair.create(wakeUpAt, lastAnnouncement)));
+        if (!unchanged) {
+            indexedExpiry = Pair.create(wakeUpAt, lastAnnouncement);
+            final Instant announced = lastAnnouncement;
+            final ActorRef self = getSelf();
+            // chain the updates so that they are written in order
+            expiryIndexUpdate = expiryIndexUpdate.thenCompose(done -> expiryIndex.update(entityId, wakeUpAt, announced))
+                    .exceptionally(error -> {
+                        self.tell(new ExpiryIndexUpdateFailed(error), ActorRef.noSender());
+                        return Done.getInstance();
+                    });
+        }
+    }
+
+    private void expiryIndexUpdateFailed(final ExpiryIndexUpdateFailed failed) {
+        log.warning("Failed to update the expiry index: <{}>", failed.error);
+        // write the entry again on the next update
+        indexedExpiry = null;
     }
 
     private void publishExpiryAnnouncementsByTimestamp(final Stream<Subject> relevantSubjects) {
@@ -543,6 +650,26 @@ public final class PolicyPersistenceActor
         private static final DeleteOldestExpiredSubject INSTANCE = new DeleteOldestExpiredSubject();
     }
 
+    private static final class LastAnnouncementLoaded {
+
+        private final Instant lastAnnouncement;
+        @Nullable private final Throwable error;
+
+        private LastAnnouncementLoaded(@Nullable final Instant lastAnnouncement, @Nullable final Throwable error) {
+            this.lastAnnouncement = null != lastAnnouncement ? lastAnnouncement : Instant.EPOCH;
+            this.error = error;
+        }
+    }
+
+    private static final class ExpiryIndexUpdateFailed {
+
+        private final Throwable error;
+
+        private ExpiryIndexUpdateFailed(final Throwable error) {
+            this.error = error;
+        }
+    }
+
     private static final class AnnounceSubjectDeletion {
 
         private final Instant cutOff;
@@ -47,12 +47,15 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
     private final ActorRef pubSubMediator;
     private final SnapshotAdapter<Policy> snapshotAdapter;
     private final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub;
+    @Nullable private final PolicyExpiryIndex expiryIndex;
 
     private PolicySupervisorActor(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter,
-            DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub) {
+            DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub,
+            @Nullable final PolicyExpiryIndex expiryIndex) {
         this.pubSubMediator = pubSubMediator;
         this.snapshotAdapter = snapshotAdapter;
         this.policyAnnouncementPub = policyAnnouncementPub;
+        this.expiryIndex = expiryIndex;
     }
 
     /**
@@ -70,7 +73,25 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
     public static Props props(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter,
             final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub) {
 
-        return Props.create(PolicySupervisorActor.class, pubSubMediator, snapshotAdapter, policyAnnouncementPub);
+        return props(pubSubMediator, snapshotAdapter, policyAnnouncementPub, null);
+    }
+
+    /**
+     * Props for creating a {@code PolicySupervisorActor} whose policies persist their next subject expiry in an index.
+     *
+     * @param pubSubMediator the PubSub mediator actor.
+     * @param snapshotAdapter the adapter to serialize snapshots.
+     * @param policyAnnouncementPub publisher interface of policy announcements.
+     * @param expiryIndex the subject expiry index or {@code null} if policies with expiring subjects are to be kept
+     * in memory.
+     * @return the {@link Props} to create this actor.
+     */
+    public static Props props(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter,
+            final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub,
+            @Nullable final PolicyExpiryIndex expiryIndex) {
+
+        return Props.create(PolicySupervisorActor.class, pubSubMediator, snapshotAdapter, policyAnnouncementPub,
+                expiryIndex);
     }
 
     @Override
@@ -80,7 +101,8 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
 
     @Override
     protected Props getPersistenceActorProps(final PolicyId entityId) {
-        return PolicyPersistenceActor.props(entityId, snapshotAdapter, pubSubMediator, policyAnnouncementPub);
+        return PolicyPersistenceActor.props(entityId, snapshotAdapter, pubSubMediator, policyAnnouncementPub,
+                expiryIndex);
     }
 
     @Override
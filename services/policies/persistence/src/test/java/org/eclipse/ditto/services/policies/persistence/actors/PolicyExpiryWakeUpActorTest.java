@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.utils.akka.PingCommand;
+import org.eclipse.ditto.services.utils.persistentactors.config.DefaultRateConfig;
+import org.eclipse.ditto.services.utils.persistentactors.config.RateConfig;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PolicyExpiryWakeUpActor}.
+ */
+public final class PolicyExpiryWakeUpActorTest {
+
+    private static final RateConfig RATE_CONFIG = DefaultRateConfig.of(ConfigFactory.empty());
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void pingDuePolicies() {
+        final TestProbe shardRegion = new TestProbe(actorSystem);
+        final PolicyId policyId1 = PolicyId.of("policy:expiring-1");
+        final PolicyId policyId2 = PolicyId.of("policy:expiring-2");
+        final CompletableFuture<Instant> scanUntil = new CompletableFuture<>();
+        final Instant start = Instant.now();
+
+        final ActorRef underTest = actorSystem.actorOf(PolicyExpiryWakeUpActor.propsForTests(shardRegion.ref(),
+                until -> {
+                    scanUntil.complete(until);
+                    return Source.from(List.of(policyId1, policyId2));
+                }, Duration.ofMinutes(1L), RATE_CONFIG));
+
+        final PingCommand ping1 = shardRegion.expectMsgClass(PingCommand.class);
+        assertThat((CharSequence) ping1.getEntityId()).isEqualTo(policyId1);
+        assertThat(ping1.getCorrelationId()).hasValueSatisfying(cid ->
+                assertThat(PolicyExpiryWakeUpActor.isWakeUp(cid)).isTrue());
+        final PingCommand ping2 = shardRegion.expectMsgClass(PingCommand.class);
+        assertThat((CharSequence) ping2.getEntityId()).isEqualTo(policyId2);
+
+        // policies are woken up until the next scan, so that they may schedule their expiries in time
+        assertThat(scanUntil.join()).isAfterOrEqualTo(start.plus(Duration.ofMinutes(1L)));
+        actorSystem.stop(underTest);
+    }
+
+    @Test
+    public void continueScanningAfterFailure() {
+        final TestProbe shardRegion = new TestProbe(actorSystem);
+        final PolicyId policyId = PolicyId.of("policy:expiring-after-failure");
+        final int[] scans = {0};
+
+        final ActorRef underTest = actorSystem.actorOf(PolicyExpiryWakeUpActor.propsForTests(shardRegion.ref(),
+                until -> 0 == scans[0]++
+                        ? Source.<PolicyId>failed(new IllegalStateException("expected"))
+                        : Source.single(policyId),
+                Duration.ofMillis(200L), RATE_CONFIG));
+
+        final PingCommand ping = shardRegion.expectMsgClass(PingCommand.class);
+        assertThat((CharSequence) ping.getEntityId()).isEqualTo(policyId);
+        actorSystem.stop(underTest);
+    }
+
+    @Test
+    public void ignoreForeignCorrelationIds() {
+        assertThat(PolicyExpiryWakeUpActor.isWakeUp("persistence-ping-actor-triggered:policy:id")).isFalse();
+    }
+
+}
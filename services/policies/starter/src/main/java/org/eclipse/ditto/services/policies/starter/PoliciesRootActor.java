@@ -14,17 +14,24 @@ package org.eclipse.ditto.services.policies.starter;
 
 import static org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants.CLUSTER_ROLE;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.policies.common.config.PoliciesConfig;
+import org.eclipse.ditto.services.policies.common.config.PolicyConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.PoliciesPersistenceStreamingActorCreator;
+import org.eclipse.ditto.services.policies.persistence.actors.PolicyExpiryIndex;
+import org.eclipse.ditto.services.policies.persistence.actors.PolicyExpiryWakeUpActor;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceOperationsActor;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicySupervisorActor;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
+import org.eclipse.ditto.services.utils.cluster.ShardingStatistics;
+import org.eclipse.ditto.services.utils.cluster.ShardingStatisticsReporter;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
@@ -32,10 +39,12 @@ import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.persistentactors.PersistencePingActor;
+import org.eclipse.ditto.services.utils.persistentactors.config.RateConfig;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.services.utils.pubsub.PolicyAnnouncementPubSubFactory;
 import org.eclipse.ditto.signals.announcements.policies.PolicyAnnouncement;
@@ -49,6 +58,8 @@ import akka.cluster.sharding.ClusterShardingSettings;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
 
 /**
  * Parent Actor which takes care of supervision of all other Actors in our system.
@@ -76,8 +87,17 @@ public final class PoliciesRootActor extends DittoRootActor {
         final DistributedPub<PolicyAnnouncement<?>> policyAnnouncementPub =
                 PolicyAnnouncementPubSubFactory.of(getContext(), actorSystem).startDistributedPub();
 
+        // one client for the read journal and the subject expiry index
+        final MongoClientWrapper mongoClient = MongoClientWrapper.newInstance(policiesConfig.getMongoDbConfig());
+        actorSystem.registerOnTermination(mongoClient::close);
+        final PolicyConfig policyConfig = policiesConfig.getPolicyConfig();
+        final Materializer materializer = SystemMaterializer.get(actorSystem).materializer();
+        @Nullable final PolicyExpiryIndex expiryIndex = policyConfig.isSubjectExpiryIndexEnabled()
+                ? PolicyExpiryIndex.of(mongoClient.getDefaultDatabase(), materializer)
+                : null;
+
         final Props policySupervisorProps =
-                PolicySupervisorActor.props(pubSubMediator, snapshotAdapter, policyAnnouncementPub);
+                PolicySupervisorActor.props(pubSubMediator, snapshotAdapter, policyAnnouncementPub, expiryIndex);
 
         final TagsConfig tagsConfig = policiesConfig.getTagsConfig();
         final ActorRef persistenceStreamingActor = startChildActor(PoliciesPersistenceStreamingActorCreator.ACTOR_NAME,
@@ -92,15 +112,26 @@ public final class PoliciesRootActor extends DittoRootActor {
                         ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
 
         startClusterSingletonActor(PersistencePingActor.props(policiesShardRegion,
-                        policiesConfig.getPingConfig(), MongoReadJournal.newInstance(actorSystem)),
+                        policiesConfig.getPingConfig(),
+                        MongoReadJournal.newInstance(actorSystem.settings().config(), mongoClient, actorSystem)),
                 PersistencePingActor.ACTOR_NAME);
 
+        if (null != expiryIndex) {
+            final RateConfig wakeUpRateConfig = policiesConfig.getPingConfig().getRateConfig();
+            startClusterSingletonActor(PolicyExpiryWakeUpActor.props(policiesShardRegion, expiryIndex,
+                            policyConfig.getSubjectExpiryIndexInterval(), wakeUpRateConfig),
+                    PolicyExpiryWakeUpActor.ACTOR_NAME);
+        }
+
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig()));
 
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(policiesShardRegion,
                 PoliciesMessagingConstants.SHARD_REGION, log);
+        startChildActor(ShardingStatisticsReporter.ACTOR_NAME,
+                ShardingStatisticsReporter.props(policiesShardRegion, PoliciesMessagingConstants.SHARD_REGION,
+                        ShardingStatistics.of(actorSystem), clusterConfig.getShardingStatisticsReportInterval()));
 
         final HealthCheckConfig healthCheckConfig = policiesConfig.getHealthCheckConfig();
         final HealthCheckingActorOptions.Builder hcBuilder =
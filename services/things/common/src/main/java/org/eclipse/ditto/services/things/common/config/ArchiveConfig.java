@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the archive of cold things.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface ArchiveConfig {
+
+    /**
+     * Indicates whether cold things are moved from the event journal and the snapshot store into the archive.
+     * Archived things are always restored on access, regardless of this setting.
+     *
+     * @return {@code true} if archiving is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the name of the archive collection.
+     *
+     * @return the collection name.
+     */
+    String getCollection();
+
+    /**
+     * Returns the block compressor of the WiredTiger storage engine with which the archive collection is created.
+     *
+     * @return the block compressor.
+     */
+    String getBlockCompressor();
+
+    /**
+     * Returns how long a thing must not have been modified since its latest snapshot to be archived.
+     *
+     * @return the minimum age of the latest snapshot.
+     */
+    Duration getMinAge();
+
+    /**
+     * Returns the interval in which the snapshot store is scanned for cold things.
+     *
+     * @return the scan interval.
+     */
+    Duration getInterval();
+
+    /**
+     * Returns how many snapshots are read in 1 query of a scan.
+     *
+     * @return the batch size.
+     */
+    int getBatchSize();
+
+    /**
+     * Returns the delay between 2 batches of a scan, which bounds the load of archiving on the database.
+     *
+     * @return the delay between batches.
+     */
+    Duration getBatchDelay();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ArchiveConfig}.
+     */
+    enum ArchiveConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether cold things are archived.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * Name of the archive collection.
+         */
+        COLLECTION("collection", "things_archive"),
+
+        /**
+         * Block compressor of the archive collection.
+         */
+        BLOCK_COMPRESSOR("block-compressor", "zlib"),
+
+        /**
+         * Minimum age of the latest snapshot of an archived thing.
+         */
+        MIN_AGE("min-age", Duration.ofDays(90L)),
+
+        /**
+         * Interval of scans for cold things.
+         */
+        INTERVAL("interval", Duration.ofDays(1L)),
+
+        /**
+         * Number of snapshots read in 1 query.
+         */
+        BATCH_SIZE("batch-size", 100),
+
+        /**
+         * Delay between 2 batches of a scan.
+         */
+        BATCH_DELAY("batch-delay", Duration.ofSeconds(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        private ArchiveConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ArchiveConfig}.
+ */
+@Immutable
+public final class DefaultArchiveConfig implements ArchiveConfig {
+
+    private static final String CONFIG_PATH = "archive";
+
+    private final boolean enabled;
+    private final String collection;
+    private final String blockCompressor;
+    private final Duration minAge;
+    private final Duration interval;
+    private final int batchSize;
+    private final Duration batchDelay;
+
+    private DefaultArchiveConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(ArchiveConfigValue.ENABLED.getConfigPath());
+        collection = config.getString(ArchiveConfigValue.COLLECTION.getConfigPath());
+        blockCompressor = config.getString(ArchiveConfigValue.BLOCK_COMPRESSOR.getConfigPath());
+        minAge = config.getDuration(ArchiveConfigValue.MIN_AGE.getConfigPath());
+        interval = config.getDuration(ArchiveConfigValue.INTERVAL.getConfigPath());
+        batchSize = config.getInt(ArchiveConfigValue.BATCH_SIZE.getConfigPath());
+        batchDelay = config.getDuration(ArchiveConfigValue.BATCH_DELAY.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultArchiveConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the archive config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultArchiveConfig of(final Config config) {
+        return new DefaultArchiveConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ArchiveConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getCollection() {
+        return collection;
+    }
+
+    @Override
+    public String getBlockCompressor() {
+        return blockCompressor;
+    }
+
+    @Override
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    @Override
+    public Duration getInterval() {
+        return interval;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public Duration getBatchDelay() {
+        return batchDelay;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultArchiveConfig that = (DefaultArchiveConfig) o;
+        return enabled == that.enabled &&
+                batchSize == that.batchSize &&
+                Objects.equals(collection, that.collection) &&
+                Objects.equals(blockCompressor, that.blockCompressor) &&
+                Objects.equals(minAge, that.minAge) &&
+                Objects.equals(interval, that.interval) &&
+                Objects.equals(batchDelay, that.batchDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, collection, blockCompressor, minAge, interval, batchSize, batchDelay);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", collection=" + collection +
+                ", blockCompressor=" + blockCompressor +
+                ", minAge=" + minAge +
+                ", interval=" + interval +
+                ", batchSize=" + batchSize +
+                ", batchDelay=" + batchDelay +
+                "]";
+    }
+
+}
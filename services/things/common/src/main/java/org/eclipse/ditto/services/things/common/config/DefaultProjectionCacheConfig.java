@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ProjectionCacheConfig}.
+ */
+@Immutable
+public final class DefaultProjectionCacheConfig implements ProjectionCacheConfig {
+
+    private static final String CONFIG_PATH = "projection-cache";
+
+    private final boolean enabled;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+
+    private DefaultProjectionCacheConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(ProjectionCacheConfigValue.ENABLED.getConfigPath());
+        maximumSize = config.getLong(ProjectionCacheConfigValue.MAXIMUM_SIZE.getConfigPath());
+        expireAfterWrite = config.getDuration(ProjectionCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultProjectionCacheConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the projection cache config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultProjectionCacheConfig of(final Config config) {
+        return new DefaultProjectionCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ProjectionCacheConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultProjectionCacheConfig that = (DefaultProjectionCacheConfig) o;
+        return enabled == that.enabled &&
+                maximumSize == that.maximumSize &&
+                Objects.equals(expireAfterWrite, that.expireAfterWrite);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maximumSize, expireAfterWrite);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", expireAfterWrite=" + expireAfterWrite +
+                "]";
+    }
+
+}
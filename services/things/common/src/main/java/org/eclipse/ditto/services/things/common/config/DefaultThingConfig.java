@@ -38,11 +38,15 @@ public final class DefaultThingConfig implements ThingConfig {
     private final SupervisorConfig supervisorConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
+    private final ProjectionCacheConfig projectionCacheConfig;
+    private final ArchiveConfig archiveConfig;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
+        projectionCacheConfig = DefaultProjectionCacheConfig.of(scopedConfig);
+        archiveConfig = DefaultArchiveConfig.of(scopedConfig);
     }
 
     /**
@@ -71,6 +75,16 @@ public final class DefaultThingConfig implements ThingConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public ProjectionCacheConfig getProjectionCacheConfig() {
+        return projectionCacheConfig;
+    }
+
+    @Override
+    public ArchiveConfig getArchiveConfig() {
+        return archiveConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -82,12 +96,15 @@ public final class DefaultThingConfig implements ThingConfig {
         final DefaultThingConfig that = (DefaultThingConfig) o;
         return Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
-                Objects.equals(snapshotConfig, that.snapshotConfig);
+                Objects.equals(snapshotConfig, that.snapshotConfig) &&
+                Objects.equals(projectionCacheConfig, that.projectionCacheConfig) &&
+                Objects.equals(archiveConfig, that.archiveConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, projectionCacheConfig,
+                archiveConfig);
     }
 
     @Override
@@ -96,6 +113,8 @@ public final class DefaultThingConfig implements ThingConfig {
                 "supervisorConfig=" + supervisorConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", projectionCacheConfig=" + projectionCacheConfig +
+                ", archiveConfig=" + archiveConfig +
                 "]";
     }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the node-local cache of retrieved thing projections.
+ */
+@Immutable
+public interface ProjectionCacheConfig {
+
+    /**
+     * Indicates whether retrieved thing projections should be cached.
+     *
+     * @return {@code true} if the cache is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of cached projections.
+     *
+     * @return the maximum size.
+     */
+    long getMaximumSize();
+
+    /**
+     * Returns how long projections of things are cached after being written.
+     *
+     * @return the expiry duration.
+     */
+    Duration getExpireAfterWrite();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ProjectionCacheConfig}.
+     */
+    enum ProjectionCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether retrieved thing projections should be cached.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of cached projections.
+         */
+        MAXIMUM_SIZE("maximum-size", 100_000L),
+
+        /**
+         * How long revisions and projections are cached after being written.
+         */
+        EXPIRE_AFTER_WRITE("expire-after-write", Duration.ofMinutes(5L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        private ProjectionCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
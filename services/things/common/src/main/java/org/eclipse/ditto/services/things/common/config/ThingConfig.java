@@ -23,4 +23,21 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotCon
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+
+    /**
+     * Returns the config of the cache of retrieved thing projections.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    ProjectionCacheConfig getProjectionCacheConfig();
+
+    /**
+     * Returns the config of the archive of cold things.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    ArchiveConfig getArchiveConfig();
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.things.common.config.ArchiveConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoJournalArchive;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Archive of cold things, i. e. things not modified for a long time. Cold things are moved from the event journal and
+ * the snapshot store into a compressed archive collection by the {@link ThingArchiverActor} and restored by their
+ * {@link ThingSupervisorActor} before their persistence actors are started.
+ * <p>
+ * The archive is only created if archiving is enabled. Without it, things are neither archived nor restored. Things
+ * archived before remain hidden until archiving is enabled again.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class ThingArchive {
+
+    private final ArchiveConfig config;
+    private final MongoReadJournal readJournal;
+    private final MongoJournalArchive journalArchive;
+    private final CompletionStage<Done> archiveCreation;
+    private final Materializer materializer;
+
+    private ThingArchive(final ArchiveConfig config,
+            final MongoReadJournal readJournal,
+            final MongoJournalArchive journalArchive,
+            final Materializer materializer) {
+
+        this.config = config;
+        this.readJournal = readJournal;
+        this.journalArchive = journalArchive;
+        this.materializer = materializer;
+        archiveCreation = journalArchive.createArchiveCollection(config.getBlockCompressor())
+                .runWith(Sink.head(), materializer);
+    }
+
+    /**
+     * Create the thing archive on the database of a MongoDB client and create its collection if it does not exist.
+     *
+     * @param config the archive config.
+     * @param mongoClient the MongoDB client of the things service.
+     * @param actorSystem the actor system.
+     * @return the thing archive.
+     */
+    public static ThingArchive of(final ArchiveConfig config, final DittoMongoClient mongoClient,
+            final ActorSystem actorSystem) {
+
+        final MongoReadJournal readJournal =
+                MongoReadJournal.newInstance(actorSystem.settings().config(), mongoClient, actorSystem);
+        final MongoJournalArchive journalArchive =
+                MongoJournalArchive.newInstance(actorSystem.settings().config(), mongoClient, config.getCollection());
+        return new ThingArchive(config, readJournal, journalArchive,
+                SystemMaterializer.get(actorSystem).materializer());
+    }
+
+    /**
+     * Restore a thing from the archive.
+     *
+     * @param thingId the thing ID.
+     * @return a future that completes after the thing is restored or found not archived.
+     */
+    CompletionStage<Boolean> restore(final ThingId thingId) {
+        final String pid = ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+        return journalArchive.restore(pid).runWith(Sink.head(), materializer);
+    }
+
+    /**
+     * Retrieve the sequence numbers of the latest snapshots of 1 batch of things above a lower bound.
+     *
+     * @param lowerBoundPid the lower-bound PID, or an empty string to start with the first PID.
+     * @return source of 1 list of PIDs with the sequence numbers of their latest snapshots ordered by PID.
+     */
+    Source<List<PidWithSeqNr>, NotUsed> getNewestSnapshotSeqNrsAbove(final String lowerBoundPid) {
+        return readJournal.getNewestSnapshotSeqNrsAbove(lowerBoundPid, config.getBatchSize());
+    }
+
+    /**
+     * Move a thing into the archive if its latest snapshot is older than the given instant and it was not modified
+     * after its latest snapshot.
+     *
+     * @param latestSnapshot PID of the thing with the sequence number of its latest snapshot.
+     * @param snapshotOlderThan the instant before which the latest snapshot must have been taken.
+     * @return source of 1 element, whether the thing was archived.
+     */
+    Source<Boolean, NotUsed> archiveIfCold(final PidWithSeqNr latestSnapshot, final Instant snapshotOlderThan) {
+        return Source.completionStage(archiveCreation)
+                .flatMapConcat(done -> journalArchive.archiveIfCold(latestSnapshot, snapshotOlderThan));
+    }
+
+}
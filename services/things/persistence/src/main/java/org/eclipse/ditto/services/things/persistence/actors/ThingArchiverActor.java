@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.eclipse.ditto.services.things.common.config.ArchiveConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
+
+import akka.NotUsed;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cluster singleton which periodically scans the snapshot store for cold things, i. e. things whose latest snapshot
+ * is older than the configured minimum age and which were not modified since, and moves them into the
+ * {@link ThingArchive}.
+ *
+ * @since 2.0.0
+ */
+public final class ThingArchiverActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor.
+     */
+    public static final String ACTOR_NAME = "thingArchiver";
+
+    private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+
+    private final Function<String, Source<List<PidWithSeqNr>, NotUsed>> snapshotBatches;
+    private final BiFunction<PidWithSeqNr, Instant, Source<Boolean, NotUsed>> archiveIfCold;
+    private final ArchiveConfig archiveConfig;
+    private final Materializer materializer;
+
+    private boolean scanInProgress = false;
+
+    @SuppressWarnings("unused")
+    private ThingArchiverActor(final Function<String, Source<List<PidWithSeqNr>, NotUsed>> snapshotBatches,
+            final BiFunction<PidWithSeqNr, Instant, Source<Boolean, NotUsed>> archiveIfCold,
+            final ArchiveConfig archiveConfig) {
+
+        this.snapshotBatches = snapshotBatches;
+        this.archiveIfCold = archiveIfCold;
+        this.archiveConfig = archiveConfig;
+        materializer = Materializer.createMaterializer(this::getContext);
+    }
+
+    @SuppressWarnings("unused")
+    private ThingArchiverActor(final ArchiveConfig archiveConfig, final ThingArchive thingArchive) {
+        snapshotBatches = thingArchive::getNewestSnapshotSeqNrsAbove;
+        archiveIfCold = thingArchive::archiveIfCold;
+        this.archiveConfig = archiveConfig;
+        materializer = Materializer.createMaterializer(this::getContext);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this Actor.
+     *
+     * @param archiveConfig the archive config.
+     * @param thingArchive the archive to move cold things into.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ArchiveConfig archiveConfig, final ThingArchive thingArchive) {
+        return Props.create(ThingArchiverActor.class, archiveConfig, thingArchive);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this Actor.
+     *
+     * @param snapshotBatches function from a lower-bound PID to the next batch of latest snapshots.
+     * @param archiveIfCold function archiving a thing if its latest snapshot is older than an instant.
+     * @param archiveConfig the archive config.
+     * @return the Akka configuration Props object.
+     */
+    static Props propsForTests(final Function<String, Source<List<PidWithSeqNr>, NotUsed>> snapshotBatches,
+            final BiFunction<PidWithSeqNr, Instant, Source<Boolean, NotUsed>> archiveIfCold,
+            final ArchiveConfig archiveConfig) {
+
+        return Props.create(ThingArchiverActor.class, snapshotBatches, archiveIfCold, archiveConfig);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        log.info("Archiving things not modified for <{}> every <{}>.", archiveConfig.getMinAge(),
+                archiveConfig.getInterval());
+        timers().startTimerWithFixedDelay(Control.SCAN, Control.SCAN, archiveConfig.getInterval());
+        getSelf().tell(Control.SCAN, ActorRef.noSender());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.SCAN, msg -> scan())
+                .matchEquals(Control.SCAN_FINISHED, msg -> scanInProgress = false)
+                .matchAny(message -> {
+                    log.warning("Unknown message: {}", message);
+                    unhandled(message);
+                })
+                .build();
+    }
+
+    private void scan() {
+        if (scanInProgress) {
+            log.info("The previous scan for cold things is still in progress, skipping this one.");
+        } else {
+            scanInProgress = true;
+            final Instant snapshotOlderThan = Instant.now().minus(archiveConfig.getMinAge());
+            final ActorRef self = getSelf();
+            Source.unfoldAsync("", lowerBound -> snapshotBatches.apply(lowerBound)
+                    .runWith(Sink.head(), materializer)
+                    .thenApply(batch -> batch.isEmpty()
+                            ? Optional.<Pair<String, List<PidWithSeqNr>>>empty()
+                            : Optional.of(Pair.create(batch.get(batch.size() - 1).getPersistenceId(), batch))))
+                    .throttle(1, archiveConfig.getBatchDelay())
+                    .mapConcat(batch -> batch)
+                    .flatMapConcat(latestSnapshot -> archiveIfCold.apply(latestSnapshot, snapshotOlderThan))
+                    .runFold(0L, (count, archived) -> archived ? count + 1 : count, materializer)
+                    .whenComplete((count, error) -> {
+                        if (null != error) {
+                            log.error(error, "Failed to scan for cold things.");
+                        } else {
+                            log.info("Archived <{}> cold things.", count);
+                        }
+                        self.tell(Control.SCAN_FINISHED, ActorRef.noSender());
+                    });
+        }
+    }
+
+    private enum Control {
+        SCAN,
+        SCAN_FINISHED
+    }
+
+}
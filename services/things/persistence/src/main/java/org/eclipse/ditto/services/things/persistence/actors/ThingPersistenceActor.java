@@ -12,9 +12,12 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
+import java.util.Optional;
+
 import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingBuilder;
@@ -39,6 +42,8 @@ import org.eclipse.ditto.services.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.actor.ActorRef;
@@ -71,6 +76,7 @@ public final class ThingPersistenceActor
 
     private final ThingConfig thingConfig;
     private final DistributedPub<ThingEvent<?>> distributedPub;
+    private final ThingProjectionCache projectionCache;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId, final DistributedPub<ThingEvent<?>> distributedPub,
@@ -82,6 +88,7 @@ public final class ThingPersistenceActor
         );
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
+        projectionCache = ThingProjectionCache.get(getContext().getSystem());
     }
 
     /**
@@ -180,6 +187,31 @@ public final class ThingPersistenceActor
         super.recoveryCompleted(event);
     }
 
+    @Override
+    public void onQuery(final Command<?> command, final WithDittoHeaders<?> response) {
+        if (command instanceof RetrieveThing && response instanceof RetrieveThingResponse) {
+            // no event is being persisted while a query is processed
+            projectionCache.put((RetrieveThing) command, (RetrieveThingResponse) response, getRevisionNumber());
+        }
+        super.onQuery(command, response);
+    }
+
+    @Override
+    protected boolean answerWithoutCommandStrategy(final Command<?> command) {
+        if (command instanceof RetrieveThing) {
+            // only projections of the revision of the recovered entity are valid
+            final Optional<RetrieveThingResponse> cachedResponse =
+                    projectionCache.get((RetrieveThing) command, getRevisionNumber());
+            if (cachedResponse.isPresent()) {
+                if (command.getDittoHeaders().isResponseRequired()) {
+                    getSender().tell(cachedResponse.get(), getSelf());
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void publishEvent(final ThingEvent<?> event) {
         distributedPub.publishWithAcks(event, ACK_EXTRACTOR, getSender());
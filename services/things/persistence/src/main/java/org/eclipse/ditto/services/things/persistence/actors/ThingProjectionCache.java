@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
+import org.eclipse.ditto.services.things.common.config.ProjectionCacheConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Node-local cache of thing projections retrieved by {@link RetrieveThing}, keyed by thing ID, revision, schema
+ * version and selected fields.
+ * <p>
+ * Projections are only looked up by running persistence actors at the revision of their recovered entity. A
+ * projection cached before the shard of the thing moved to another cluster member is therefore never returned after
+ * the thing was modified elsewhere, because the persistence actor recovers a newer revision.
+ */
+public final class ThingProjectionCache implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private final boolean enabled;
+    @Nullable private final Cache<Key, Projection> projections;
+
+    private ThingProjectionCache(final ProjectionCacheConfig config) {
+        enabled = config.isEnabled();
+        if (enabled) {
+            projections = Caffeine.newBuilder()
+                    .maximumSize(config.getMaximumSize())
+                    .expireAfterWrite(config.getExpireAfterWrite())
+                    .build();
+        } else {
+            projections = null;
+        }
+    }
+
+    /**
+     * Create a projection cache independent of any actor system.
+     *
+     * @param config the projection cache config.
+     * @return the projection cache.
+     */
+    static ThingProjectionCache of(final ProjectionCacheConfig config) {
+        return new ThingProjectionCache(config);
+    }
+
+    /**
+     * Get the projection cache of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the projection cache.
+     */
+    public static ThingProjectionCache get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * @return whether the cache is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Add the response to a cacheable {@code RetrieveThing} command to the cache.
+     *
+     * @param command the command.
+     * @param response the response.
+     * @param revision revision of the thing in the response.
+     */
+    void put(final RetrieveThing command, final RetrieveThingResponse response, final long revision) {
+        if (projections != null && isCacheable(command)) {
+            final JsonSchemaVersion schemaVersion = command.getImplementedSchemaVersion();
+            projections.put(Key.of(command, revision),
+                    new Projection(response.getEntity(schemaVersion),
+                            response.getDittoHeaders().getETag().orElse(null)));
+        }
+    }
+
+    /**
+     * Look up the response to a {@code RetrieveThing} command at the current revision of the thing.
+     *
+     * @param command the command.
+     * @param revision the current revision of the thing known to its persistence actor.
+     * @return the response if cached, or an empty optional otherwise.
+     */
+    Optional<RetrieveThingResponse> get(final RetrieveThing command, final long revision) {
+        if (projections == null || !isCacheable(command)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(projections.getIfPresent(Key.of(command, revision)))
+                .map(projection -> projection.toResponse(command));
+    }
+
+    /**
+     * Check whether the response to a command may come from the cache. Commands with conditional headers or for
+     * older revisions always require the thing.
+     *
+     * @param command the command.
+     * @return whether the command is cacheable.
+     */
+    static boolean isCacheable(final RetrieveThing command) {
+        final DittoHeaders headers = command.getDittoHeaders();
+        return command.getSnapshotRevision().isEmpty() &&
+                headers.getIfMatch().isEmpty() &&
+                headers.getIfNoneMatch().isEmpty();
+    }
+
+    private static final class Key {
+
+        private final ThingId thingId;
+        private final long revision;
+        private final JsonSchemaVersion schemaVersion;
+        @Nullable private final JsonFieldSelector selectedFields;
+
+        private Key(final ThingId thingId, final long revision, final JsonSchemaVersion schemaVersion,
+                @Nullable final JsonFieldSelector selectedFields) {
+            this.thingId = thingId;
+            this.revision = revision;
+            this.schemaVersion = schemaVersion;
+            this.selectedFields = selectedFields;
+        }
+
+        private static Key of(final RetrieveThing command, final long revision) {
+            return new Key(command.getThingEntityId(), revision, command.getImplementedSchemaVersion(),
+                    command.getSelectedFields().orElse(null));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return revision == that.revision &&
+                    Objects.equals(thingId, that.thingId) &&
+                    schemaVersion == that.schemaVersion &&
+                    Objects.equals(selectedFields, that.selectedFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(thingId, revision, schemaVersion, selectedFields);
+        }
+    }
+
+    private static final class Projection {
+
+        private final JsonObject thingJson;
+        @Nullable private final EntityTag entityTag;
+
+        private Projection(final JsonObject thingJson, @Nullable final EntityTag entityTag) {
+            this.thingJson = thingJson;
+            this.entityTag = entityTag;
+        }
+
+        private RetrieveThingResponse toResponse(final RetrieveThing command) {
+            final DittoHeaders dittoHeaders = entityTag == null
+                    ? command.getDittoHeaders()
+                    : command.getDittoHeaders().toBuilder().eTag(entityTag).build();
+            return RetrieveThingResponse.of(command.getThingEntityId(), thingJson, dittoHeaders);
+        }
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<ThingProjectionCache> {
+
+        @Override
+        public ThingProjectionCache createExtension(final ExtendedActorSystem system) {
+            final DittoThingsConfig thingsConfig =
+                    DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()));
+            return new ThingProjectionCache(thingsConfig.getThingConfig().getProjectionCacheConfig());
+        }
+    }
+
+}
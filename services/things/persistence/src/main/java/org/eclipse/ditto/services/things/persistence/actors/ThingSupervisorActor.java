@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.things.persistence.actors;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -24,6 +26,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
+import org.eclipse.ditto.services.things.common.config.ThingConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
@@ -41,21 +44,27 @@ import akka.actor.Props;
  * Between the termination of the child and the restart, this actor answers to all requests with a
  * {@link ThingUnavailableException} as fail fast strategy.
  * </p>
+ * <p>
+ * If archiving is enabled, the thing is restored from the {@link ThingArchive} before the child is started.
+ * </p>
  */
 public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId> {
 
     private final ActorRef pubSubMediator;
     private final DistributedPub<ThingEvent<?>> distributedPub;
     private final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory;
+    @Nullable private final ThingArchive thingArchive;
 
     @SuppressWarnings("unused")
     private ThingSupervisorActor(final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent<?>> distributedPub,
-            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory) {
+            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory,
+            @Nullable final ThingArchive thingArchive) {
 
         this.pubSubMediator = pubSubMediator;
         this.distributedPub = distributedPub;
         this.thingPersistenceActorPropsFactory = thingPersistenceActorPropsFactory;
+        this.thingArchive = thingArchive;
     }
 
     /**
@@ -75,7 +84,27 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
             final DistributedPub<ThingEvent<?>> distributedPub,
             final ThingPersistenceActorPropsFactory propsFactory) {
 
-        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory);
+        return props(pubSubMediator, distributedPub, propsFactory, null);
+    }
+
+    /**
+     * Props for creating a {@code ThingSupervisorActor} which restores archived things before starting their
+     * {@link ThingPersistenceActor}.
+     *
+     * @param distributedPub distributed-pub access for publishing thing events.
+     * @param propsFactory factory for creating Props to be used for creating
+     * {@link ThingPersistenceActor}s.
+     * @param thingArchive the archive of cold things or {@code null} if archiving is disabled.
+     * @return the {@link Props} to create this actor.
+     * @since 2.0.0
+     */
+    public static Props props(
+            final ActorRef pubSubMediator,
+            final DistributedPub<ThingEvent<?>> distributedPub,
+            final ThingPersistenceActorPropsFactory propsFactory,
+            @Nullable final ThingArchive thingArchive) {
+
+        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory, thingArchive);
     }
 
     @Override
@@ -108,10 +137,20 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
     @Override
     @Nonnull
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
+        return getThingConfig().getSupervisorConfig().getExponentialBackOffConfig();
+    }
+
+    @Override
+    protected Optional<CompletionStage<?>> restoreBeforeChildStart(final ThingId entityId) {
+        if (null == thingArchive) {
+            return Optional.empty();
+        }
+        return Optional.of(thingArchive.restore(entityId));
+    }
+
+    private ThingConfig getThingConfig() {
         return DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
-                .getThingConfig()
-                .getSupervisorConfig()
-                .getExponentialBackOffConfig();
+                .getThingConfig();
     }
 
 }
@@ -19,6 +19,7 @@ import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.things.common.config.ArchiveConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.DefaultPersistenceStreamingActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.SnapshotStreamingActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
@@ -66,14 +67,23 @@ public final class ThingsPersistenceStreamingActorCreator {
     }
 
     /**
-     * Create an actor that streams from the snapshot store.
+     * Create an actor that streams from the snapshot store and, if archiving is enabled, from the archive.
      *
+     * @param archiveConfig the config of the archive of cold things.
      * @param actorCreator function to create a named actor with.
      * @return a reference of the created actor.
      */
-    public static ActorRef startSnapshotStreamingActor(final BiFunction<String, Props, ActorRef> actorCreator) {
-        final Props props = SnapshotStreamingActor.props(ThingsPersistenceStreamingActorCreator::pid2EntityId,
-                ThingsPersistenceStreamingActorCreator::entityId2Pid);
+    public static ActorRef startSnapshotStreamingActor(final ArchiveConfig archiveConfig,
+            final BiFunction<String, Props, ActorRef> actorCreator) {
+
+        final Props props;
+        if (archiveConfig.isEnabled()) {
+            props = SnapshotStreamingActor.propsWithArchive(ThingsPersistenceStreamingActorCreator::pid2EntityId,
+                    ThingsPersistenceStreamingActorCreator::entityId2Pid, archiveConfig.getCollection());
+        } else {
+            props = SnapshotStreamingActor.props(ThingsPersistenceStreamingActorCreator::pid2EntityId,
+                    ThingsPersistenceStreamingActorCreator::entityId2Pid);
+        }
         return actorCreator.apply(SNAPSHOT_STREAMING_ACTOR_NAME, props);
     }
 
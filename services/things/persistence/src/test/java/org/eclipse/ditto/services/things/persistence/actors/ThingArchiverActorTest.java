@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.things.common.config.ArchiveConfig;
+import org.eclipse.ditto.services.things.common.config.DefaultArchiveConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ThingArchiverActor}.
+ */
+public final class ThingArchiverActorTest {
+
+    private static final ArchiveConfig ARCHIVE_CONFIG = DefaultArchiveConfig.of(ConfigFactory.parseString(
+            "archive { enabled = true, min-age = 30d, interval = 1h, batch-delay = 10ms }"));
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void archiveColdThingsOfAllBatches() {
+        final TestProbe lowerBounds = new TestProbe(actorSystem);
+        final TestProbe archived = new TestProbe(actorSystem);
+        final PidWithSeqNr thing1 = new PidWithSeqNr("thing:namespace:thing1", 5L);
+        final PidWithSeqNr thing2 = new PidWithSeqNr("thing:namespace:thing2", 8L);
+        final PidWithSeqNr thing3 = new PidWithSeqNr("thing:namespace:thing3", 13L);
+        final Instant start = Instant.now();
+
+        final ActorRef underTest = actorSystem.actorOf(ThingArchiverActor.propsForTests(
+                lowerBound -> {
+                    lowerBounds.ref().tell(lowerBound, ActorRef.noSender());
+                    switch (lowerBound) {
+                        case "":
+                            return Source.single(List.of(thing1, thing2));
+                        case "thing:namespace:thing2":
+                            return Source.single(List.of(thing3));
+                        default:
+                            return Source.single(List.of());
+                    }
+                },
+                (latestSnapshot, snapshotOlderThan) -> {
+                    archived.ref().tell(latestSnapshot, ActorRef.noSender());
+                    archived.ref().tell(snapshotOlderThan, ActorRef.noSender());
+                    return Source.single(!latestSnapshot.equals(thing2));
+                },
+                ARCHIVE_CONFIG));
+
+        lowerBounds.expectMsg("");
+        assertThat(archived.expectMsgClass(PidWithSeqNr.class)).isEqualTo(thing1);
+        final Instant snapshotOlderThan = archived.expectMsgClass(Instant.class);
+        assertThat(snapshotOlderThan).isBeforeOrEqualTo(Instant.now().minus(Duration.ofDays(30L)))
+                .isAfterOrEqualTo(start.minus(Duration.ofDays(30L)));
+        assertThat(archived.expectMsgClass(PidWithSeqNr.class)).isEqualTo(thing2);
+        assertThat(archived.expectMsgClass(Instant.class)).isEqualTo(snapshotOlderThan);
+
+        lowerBounds.expectMsg("thing:namespace:thing2");
+        assertThat(archived.expectMsgClass(PidWithSeqNr.class)).isEqualTo(thing3);
+        assertThat(archived.expectMsgClass(Instant.class)).isEqualTo(snapshotOlderThan);
+
+        // the scan ends with the first empty batch
+        lowerBounds.expectMsg("thing:namespace:thing3");
+        lowerBounds.expectNoMessage(scala.concurrent.duration.Duration.create(200L, TimeUnit.MILLISECONDS));
+        archived.expectNoMessage(scala.concurrent.duration.Duration.create(200L, TimeUnit.MILLISECONDS));
+        actorSystem.stop(underTest);
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.things.common.config.DefaultProjectionCacheConfig;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link ThingProjectionCache}.
+ */
+public final class ThingProjectionCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+    private static final JsonFieldSelector FIELDS = JsonFieldSelector.newInstance("thingId", "attributes/x");
+    private static final JsonObject PROJECTION = JsonObject.newBuilder()
+            .set("thingId", THING_ID.toString())
+            .set("attributes", JsonObject.newBuilder().set("x", 5).build())
+            .build();
+
+    private ThingProjectionCache underTest;
+
+    @Before
+    public void init() {
+        underTest = ThingProjectionCache.of(
+                DefaultProjectionCacheConfig.of(ConfigFactory.parseString("projection-cache.enabled=true")));
+    }
+
+    @Test
+    public void returnsProjectionAtCurrentRevision() {
+        final RetrieveThing command = retrieveThing(DittoHeaders.empty());
+        underTest.put(command, response(command, 3L), 3L);
+
+        final RetrieveThing nextCommand = retrieveThing(DittoHeaders.newBuilder().correlationId("next").build());
+        assertThat(underTest.get(nextCommand, 3L)).hasValueSatisfying(response -> {
+            assertThat(response.getEntity(nextCommand.getImplementedSchemaVersion())).isEqualTo(PROJECTION);
+            assertThat(response.getDittoHeaders().getCorrelationId()).contains("next");
+            assertThat(response.getDittoHeaders().getETag()).contains(EntityTag.strong("rev:3"));
+        });
+    }
+
+    @Test
+    public void ignoresProjectionsOfOtherRevisions() {
+        final RetrieveThing command = retrieveThing(DittoHeaders.empty());
+        underTest.put(command, response(command, 3L), 3L);
+
+        // e.g. the thing was modified on another cluster member while its shard was away
+        assertThat(underTest.get(command, 4L)).isEmpty();
+        assertThat(underTest.get(command, 2L)).isEmpty();
+    }
+
+    @Test
+    public void distinguishesSelectedFields() {
+        final RetrieveThing command = retrieveThing(DittoHeaders.empty());
+        underTest.put(command, response(command, 3L), 3L);
+
+        assertThat(underTest.get(RetrieveThing.of(THING_ID, DittoHeaders.empty()), 3L)).isEmpty();
+    }
+
+    @Test
+    public void conditionalRequestsAreNotCacheable() {
+        final DittoHeaders conditionalHeaders = DittoHeaders.newBuilder()
+                .ifNoneMatch(EntityTagMatchers.fromCommaSeparatedString("\"rev:3\""))
+                .build();
+
+        assertThat(ThingProjectionCache.isCacheable(retrieveThing(DittoHeaders.empty()))).isTrue();
+        assertThat(ThingProjectionCache.isCacheable(retrieveThing(conditionalHeaders))).isFalse();
+    }
+
+    @Test
+    public void disabledCacheReturnsNothing() {
+        final ThingProjectionCache disabled =
+                ThingProjectionCache.of(DefaultProjectionCacheConfig.of(ConfigFactory.empty()));
+        final RetrieveThing command = retrieveThing(DittoHeaders.empty());
+        disabled.put(command, response(command, 3L), 3L);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get(command, 3L)).isEmpty();
+    }
+
+    private static RetrieveThing retrieveThing(final DittoHeaders dittoHeaders) {
+        return RetrieveThing.getBuilder(THING_ID, dittoHeaders).withSelectedFields(FIELDS).build();
+    }
+
+    private static RetrieveThingResponse response(final RetrieveThing command, final long revision) {
+        return RetrieveThingResponse.of(THING_ID, PROJECTION, command.getDittoHeaders()
+                .toBuilder()
+                .eTag(EntityTag.strong("rev:" + revision))
+                .build());
+    }
+
+}
@@ -14,9 +14,14 @@ package org.eclipse.ditto.services.things.starter;
 
 import static org.eclipse.ditto.services.models.things.ThingsMessagingConstants.CLUSTER_ROLE;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.things.common.config.ArchiveConfig;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
+import org.eclipse.ditto.services.things.persistence.actors.ThingArchive;
+import org.eclipse.ditto.services.things.persistence.actors.ThingArchiverActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceOperationsActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
@@ -24,12 +29,16 @@ import org.eclipse.ditto.services.things.persistence.actors.ThingsPersistenceStr
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
+import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.cluster.ShardingStatistics;
+import org.eclipse.ditto.services.utils.cluster.ShardingStatisticsReporter;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
@@ -77,9 +86,19 @@ public final class ThingsRootActor extends DittoRootActor {
                 ThingEventPubSubFactory.of(getContext(), shardRegionExtractor, distributedAcks);
         final DistributedPub<ThingEvent<?>> distributedPub = pubSubFactory.startDistributedPub();
 
+        final ArchiveConfig archiveConfig = thingsConfig.getThingConfig().getArchiveConfig();
+        @Nullable final ThingArchive thingArchive;
+        if (archiveConfig.isEnabled()) {
+            final MongoClientWrapper mongoClient = MongoClientWrapper.newInstance(thingsConfig.getMongoDbConfig());
+            actorSystem.registerOnTermination(mongoClient::close);
+            thingArchive = ThingArchive.of(archiveConfig, mongoClient, actorSystem);
+        } else {
+            thingArchive = null;
+        }
+
         final ActorRef thingsShardRegion = ClusterSharding.get(actorSystem)
                 .start(ThingsMessagingConstants.SHARD_REGION,
-                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
+                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory, thingArchive),
                         ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
                         shardRegionExtractor);
 
@@ -89,6 +108,9 @@ public final class ThingsRootActor extends DittoRootActor {
 
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(thingsShardRegion,
                 ThingsMessagingConstants.SHARD_REGION, log);
+        startChildActor(ShardingStatisticsReporter.ACTOR_NAME,
+                ShardingStatisticsReporter.props(thingsShardRegion, ThingsMessagingConstants.SHARD_REGION,
+                        ShardingStatistics.of(actorSystem), clusterConfig.getShardingStatisticsReportInterval()));
 
         final HealthCheckConfig healthCheckConfig = thingsConfig.getHealthCheckConfig();
         final HealthCheckingActorOptions.Builder hcBuilder =
@@ -115,7 +137,12 @@ public final class ThingsRootActor extends DittoRootActor {
                 ThingsPersistenceStreamingActorCreator.startEventStreamingActor(tagsConfig.getStreamingCacheSize(),
                         this::startChildActor);
         final ActorRef snapshotStreamingActor =
-                ThingsPersistenceStreamingActorCreator.startSnapshotStreamingActor(this::startChildActor);
+                ThingsPersistenceStreamingActorCreator.startSnapshotStreamingActor(archiveConfig,
+                        this::startChildActor);
+        if (null != thingArchive) {
+            ClusterUtil.startSingleton(getContext(), CLUSTER_ROLE, ThingArchiverActor.ACTOR_NAME,
+                    ThingArchiverActor.props(archiveConfig, thingArchive));
+        }
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(eventStreamingActor), getSelf());
@@ -156,9 +183,10 @@ public final class ThingsRootActor extends DittoRootActor {
     private static Props getThingSupervisorActorProps(
             final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent<?>> distributedPub,
-            final ThingPersistenceActorPropsFactory propsFactory) {
+            final ThingPersistenceActorPropsFactory propsFactory,
+            @Nullable final ThingArchive thingArchive) {
 
-        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory);
+        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory, thingArchive);
     }
 
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for tailing the things journal through a MongoDB change stream in order to
+ * update the search index without receiving thing events via distributed pub/sub.
+ */
+@Immutable
+public interface ChangeStreamConfig {
+
+    /**
+     * Indicates whether the things journal should be tailed by a change stream.
+     *
+     * @return {@code true} if the change stream is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the name of the database containing the things journal.
+     * The database must be reachable by the MongoDB client of the search service.
+     *
+     * @return the database name.
+     */
+    String getJournalDatabase();
+
+    /**
+     * Returns the name of the things journal collection.
+     *
+     * @return the collection name.
+     */
+    String getJournalCollection();
+
+    /**
+     * Returns the name of the capped collection in the search database in which resume tokens are stored.
+     *
+     * @return the collection name.
+     */
+    String getResumeTokenCollection();
+
+    /**
+     * Returns how often the resume token of the last processed change is persisted.
+     *
+     * @return the interval.
+     */
+    Duration getResumeTokenInterval();
+
+    /**
+     * Returns how many changes are forwarded to thing-updaters in parallel.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns how long to wait for a thing-updater to acknowledge a change.
+     *
+     * @return the ask timeout.
+     */
+    Duration getAskTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ChangeStreamConfig}.
+     */
+    enum ChangeStreamConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the things journal should be tailed by a change stream.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * Name of the database containing the things journal.
+         */
+        JOURNAL_DATABASE("journal-database", "things"),
+
+        /**
+         * Name of the things journal collection.
+         */
+        JOURNAL_COLLECTION("journal-collection", "things_journal"),
+
+        /**
+         * Name of the capped collection storing resume tokens.
+         */
+        RESUME_TOKEN_COLLECTION("resume-token-collection", "searchChangeStreamResumeToken"),
+
+        /**
+         * How often the resume token is persisted.
+         */
+        RESUME_TOKEN_INTERVAL("resume-token-interval", Duration.ofSeconds(1L)),
+
+        /**
+         * How many changes are forwarded in parallel.
+         */
+        PARALLELISM("parallelism", 16),
+
+        /**
+         * How long to wait for a thing-updater to acknowledge a change.
+         */
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        private ChangeStreamConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for evaluating continuous search subscriptions against the things written into the
+ * search index.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface ContinuousQueriesConfig {
+
+    /**
+     * Indicates whether continuous subscriptions are accepted and evaluated.
+     *
+     * @return {@code true} if continuous subscriptions are enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how many continuous subscriptions a search updater evaluates at most. Further subscriptions fail.
+     *
+     * @return the maximum number of continuous subscriptions.
+     */
+    int getMaxSubscriptions();
+
+    /**
+     * Returns how many written things may wait for the evaluation of the continuous subscriptions. Changes of things
+     * written while the buffer is full are not notified.
+     *
+     * @return the buffer size.
+     */
+    int getBufferSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ContinuousQueriesConfig}.
+     */
+    enum ContinuousQueriesConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether continuous subscriptions are enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * Maximum number of continuous subscriptions per search updater.
+         */
+        MAX_SUBSCRIPTIONS("max-subscriptions", 100),
+
+        /**
+         * How many written things may wait for evaluation.
+         */
+        BUFFER_SIZE("buffer-size", 1000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private ContinuousQueriesConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ChangeStreamConfig}.
+ */
+@Immutable
+public final class DefaultChangeStreamConfig implements ChangeStreamConfig {
+
+    /**
+     * Path where the change stream config values are expected.
+     */
+    static final String CONFIG_PATH = "change-stream";
+
+    private final boolean enabled;
+    private final String journalDatabase;
+    private final String journalCollection;
+    private final String resumeTokenCollection;
+    private final Duration resumeTokenInterval;
+    private final int parallelism;
+    private final Duration askTimeout;
+
+    private DefaultChangeStreamConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(ChangeStreamConfigValue.ENABLED.getConfigPath());
+        journalDatabase = config.getString(ChangeStreamConfigValue.JOURNAL_DATABASE.getConfigPath());
+        journalCollection = config.getString(ChangeStreamConfigValue.JOURNAL_COLLECTION.getConfigPath());
+        resumeTokenCollection = config.getString(ChangeStreamConfigValue.RESUME_TOKEN_COLLECTION.getConfigPath());
+        resumeTokenInterval = config.getDuration(ChangeStreamConfigValue.RESUME_TOKEN_INTERVAL.getConfigPath());
+        parallelism = config.getInt(ChangeStreamConfigValue.PARALLELISM.getConfigPath());
+        askTimeout = config.getDuration(ChangeStreamConfigValue.ASK_TIMEOUT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultChangeStreamConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the change stream config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultChangeStreamConfig of(final Config config) {
+        return new DefaultChangeStreamConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ChangeStreamConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getJournalDatabase() {
+        return journalDatabase;
+    }
+
+    @Override
+    public String getJournalCollection() {
+        return journalCollection;
+    }
+
+    @Override
+    public String getResumeTokenCollection() {
+        return resumeTokenCollection;
+    }
+
+    @Override
+    public Duration getResumeTokenInterval() {
+        return resumeTokenInterval;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getAskTimeout() {
+        return askTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultChangeStreamConfig that = (DefaultChangeStreamConfig) o;
+        return enabled == that.enabled &&
+                parallelism == that.parallelism &&
+                Objects.equals(journalDatabase, that.journalDatabase) &&
+                Objects.equals(journalCollection, that.journalCollection) &&
+                Objects.equals(resumeTokenCollection, that.resumeTokenCollection) &&
+                Objects.equals(resumeTokenInterval, that.resumeTokenInterval) &&
+                Objects.equals(askTimeout, that.askTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, journalDatabase, journalCollection, resumeTokenCollection, resumeTokenInterval,
+                parallelism, askTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", journalDatabase=" + journalDatabase +
+                ", journalCollection=" + journalCollection +
+                ", resumeTokenCollection=" + resumeTokenCollection +
+                ", resumeTokenInterval=" + resumeTokenInterval +
+                ", parallelism=" + parallelism +
+                ", askTimeout=" + askTimeout +
+                "]";
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ContinuousQueriesConfig}.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DefaultContinuousQueriesConfig implements ContinuousQueriesConfig {
+
+    /**
+     * Path where the continuous queries config values are expected.
+     */
+    static final String CONFIG_PATH = "continuous-queries";
+
+    private final boolean enabled;
+    private final int maxSubscriptions;
+    private final int bufferSize;
+
+    private DefaultContinuousQueriesConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(ContinuousQueriesConfigValue.ENABLED.getConfigPath());
+        maxSubscriptions = config.getInt(ContinuousQueriesConfigValue.MAX_SUBSCRIPTIONS.getConfigPath());
+        bufferSize = config.getInt(ContinuousQueriesConfigValue.BUFFER_SIZE.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultContinuousQueriesConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the continuous queries config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultContinuousQueriesConfig of(final Config config) {
+        return new DefaultContinuousQueriesConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ContinuousQueriesConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxSubscriptions() {
+        return maxSubscriptions;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultContinuousQueriesConfig that = (DefaultContinuousQueriesConfig) o;
+        return enabled == that.enabled &&
+                maxSubscriptions == that.maxSubscriptions &&
+                bufferSize == that.bufferSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxSubscriptions, bufferSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxSubscriptions=" + maxSubscriptions +
+                ", bufferSize=" + bufferSize +
+                "]";
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link PinnedCursorConfig}.
+ */
+@Immutable
+public final class DefaultPinnedCursorConfig implements PinnedCursorConfig {
+
+    /**
+     * Path where the pinned cursor config values are expected.
+     */
+    static final String CONFIG_PATH = "pinned-cursor";
+
+    private final boolean enabled;
+    private final Duration idleTimeout;
+    private final int maxSessions;
+    private final Duration askTimeout;
+
+    private DefaultPinnedCursorConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(PinnedCursorConfigValue.ENABLED.getConfigPath());
+        idleTimeout = config.getDuration(PinnedCursorConfigValue.IDLE_TIMEOUT.getConfigPath());
+        maxSessions = config.getInt(PinnedCursorConfigValue.MAX_SESSIONS.getConfigPath());
+        askTimeout = config.getDuration(PinnedCursorConfigValue.ASK_TIMEOUT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultPinnedCursorConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the pinned cursor config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultPinnedCursorConfig of(final Config config) {
+        return new DefaultPinnedCursorConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, PinnedCursorConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    @Override
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    @Override
+    public Duration getAskTimeout() {
+        return askTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPinnedCursorConfig that = (DefaultPinnedCursorConfig) o;
+        return enabled == that.enabled &&
+                maxSessions == that.maxSessions &&
+                Objects.equals(idleTimeout, that.idleTimeout) &&
+                Objects.equals(askTimeout, that.askTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, idleTimeout, maxSessions, askTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", idleTimeout=" + idleTimeout +
+                ", maxSessions=" + maxSessions +
+                ", askTimeout=" + askTimeout +
+                "]";
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link QueryPlannerConfig}.
+ */
+@Immutable
+public final class DefaultQueryPlannerConfig implements QueryPlannerConfig {
+
+    /**
+     * Path where the query planner config values are expected.
+     */
+    static final String CONFIG_PATH = "query-planner";
+
+    private final boolean enabled;
+    private final int sampleInterval;
+    private final Duration slowQueryThreshold;
+    private final int maxShapes;
+    private final boolean autoHintEnabled;
+
+    private DefaultQueryPlannerConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(QueryPlannerConfigValue.ENABLED.getConfigPath());
+        sampleInterval = Math.max(1, config.getInt(QueryPlannerConfigValue.SAMPLE_INTERVAL.getConfigPath()));
+        slowQueryThreshold = config.getDuration(QueryPlannerConfigValue.SLOW_QUERY_THRESHOLD.getConfigPath());
+        maxShapes = config.getInt(QueryPlannerConfigValue.MAX_SHAPES.getConfigPath());
+        autoHintEnabled = config.getBoolean(QueryPlannerConfigValue.AUTO_HINT_ENABLED.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultQueryPlannerConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the query planner config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultQueryPlannerConfig of(final Config config) {
+        return new DefaultQueryPlannerConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, QueryPlannerConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    @Override
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    @Override
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    @Override
+    public boolean isAutoHintEnabled() {
+        return autoHintEnabled;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultQueryPlannerConfig that = (DefaultQueryPlannerConfig) o;
+        return enabled == that.enabled &&
+                sampleInterval == that.sampleInterval &&
+                maxShapes == that.maxShapes &&
+                autoHintEnabled == that.autoHintEnabled &&
+                Objects.equals(slowQueryThreshold, that.slowQueryThreshold);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, sampleInterval, slowQueryThreshold, maxShapes, autoHintEnabled);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", sampleInterval=" + sampleInterval +
+                ", slowQueryThreshold=" + slowQueryThreshold +
+                ", maxShapes=" + maxShapes +
+                ", autoHintEnabled=" + autoHintEnabled +
+                "]";
+    }
+
+}
@@ -38,6 +38,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final boolean eventProcessingActive;
     private final BackgroundSyncConfig backgroundSyncConfig;
     private final StreamConfig streamConfig;
+    private final ChangeStreamConfig changeStreamConfig;
+    private final ContinuousQueriesConfig continuousQueriesConfig;
 
     private DefaultUpdaterConfig(final ConfigWithFallback updaterScopedConfig) {
         maxIdleTime = updaterScopedConfig.getDuration(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath());
@@ -48,6 +50,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 updaterScopedConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath());
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
         streamConfig = DefaultStreamConfig.of(updaterScopedConfig);
+        changeStreamConfig = DefaultChangeStreamConfig.of(updaterScopedConfig);
+        continuousQueriesConfig = DefaultContinuousQueriesConfig.of(updaterScopedConfig);
     }
 
     /**
@@ -92,6 +96,16 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return streamConfig;
     }
 
+    @Override
+    public ChangeStreamConfig getChangeStreamConfig() {
+        return changeStreamConfig;
+    }
+
+    @Override
+    public ContinuousQueriesConfig getContinuousQueriesConfig() {
+        return continuousQueriesConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -106,13 +120,15 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 Objects.equals(maxIdleTime, that.maxIdleTime) &&
                 Objects.equals(shardingStatePollInterval, that.shardingStatePollInterval) &&
                 Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig) &&
-                Objects.equals(streamConfig, that.streamConfig);
+                Objects.equals(streamConfig, that.streamConfig) &&
+                Objects.equals(changeStreamConfig, that.changeStreamConfig) &&
+                Objects.equals(continuousQueriesConfig, that.continuousQueriesConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(maxIdleTime, maxBulkSize, shardingStatePollInterval, eventProcessingActive,
-                backgroundSyncConfig, streamConfig);
+                backgroundSyncConfig, streamConfig, changeStreamConfig, continuousQueriesConfig);
     }
 
     @Override
@@ -124,6 +140,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", eventProcessingActive=" + eventProcessingActive +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
                 ", streamConfig=" + streamConfig +
+                ", changeStreamConfig=" + changeStreamConfig +
+                ", continuousQueriesConfig=" + continuousQueriesConfig +
                 "]";
     }
 
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -45,8 +46,13 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
 
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
+    @Nullable private final String promotedFieldsByNamespace;
+    @Nullable private final String partitionsByNamespace;
+    private final List<String> indexedSortOptions;
     private final String queryCriteriaValidator;
     private final UpdaterConfig updaterConfig;
+    private final PinnedCursorConfig pinnedCursorConfig;
+    private final QueryPlannerConfig queryPlannerConfig;
     private final HealthCheckConfig healthCheckConfig;
     private final IndexInitializationConfig indexInitializationConfig;
     private final PersistenceOperationsConfig persistenceOperationsConfig;
@@ -61,8 +67,15 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         final ConfigWithFallback configWithFallback =
                 ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, SearchConfigValue.values());
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
+        promotedFieldsByNamespace =
+                configWithFallback.getStringOrNull(SearchConfigValue.PROMOTED_FIELDS_BY_NAMESPACE);
+        partitionsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.PARTITIONS_BY_NAMESPACE);
+        indexedSortOptions = List.copyOf(
+                configWithFallback.getStringList(SearchConfigValue.INDEXED_SORT_OPTIONS.getConfigPath()));
         queryCriteriaValidator = configWithFallback.getStringOrNull(SearchConfigValue.QUERY_CRITERIA_VALIDATOR);
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
+        pinnedCursorConfig = DefaultPinnedCursorConfig.of(configWithFallback);
+        queryPlannerConfig = DefaultQueryPlannerConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
     }
 
@@ -83,6 +96,21 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return Optional.ofNullable(mongoHintsByNamespace);
     }
 
+    @Override
+    public Optional<String> getPromotedFieldsByNamespace() {
+        return Optional.ofNullable(promotedFieldsByNamespace);
+    }
+
+    @Override
+    public Optional<String> getPartitionsByNamespace() {
+        return Optional.ofNullable(partitionsByNamespace);
+    }
+
+    @Override
+    public List<String> getIndexedSortOptions() {
+        return indexedSortOptions;
+    }
+
     @Override
     public String getQueryValidatorImplementation() {
         return queryCriteriaValidator;
@@ -93,6 +121,16 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return updaterConfig;
     }
 
+    @Override
+    public PinnedCursorConfig getPinnedCursorConfig() {
+        return pinnedCursorConfig;
+    }
+
+    @Override
+    public QueryPlannerConfig getQueryPlannerConfig() {
+        return queryPlannerConfig;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -144,8 +182,13 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         }
         final DittoSearchConfig that = (DittoSearchConfig) o;
         return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
+                Objects.equals(promotedFieldsByNamespace, that.promotedFieldsByNamespace) &&
+                Objects.equals(partitionsByNamespace, that.partitionsByNamespace) &&
+                Objects.equals(indexedSortOptions, that.indexedSortOptions) &&
                 Objects.equals(queryCriteriaValidator, that.queryCriteriaValidator) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
+                Objects.equals(pinnedCursorConfig, that.pinnedCursorConfig) &&
+                Objects.equals(queryPlannerConfig, that.queryPlannerConfig) &&
                 Objects.equals(dittoServiceConfig, that.dittoServiceConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(indexInitializationConfig, that.indexInitializationConfig) &&
@@ -155,7 +198,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, queryCriteriaValidator, updaterConfig,
+        return Objects.hash(mongoHintsByNamespace, promotedFieldsByNamespace, partitionsByNamespace,
+                indexedSortOptions, queryCriteriaValidator, updaterConfig, pinnedCursorConfig, queryPlannerConfig,
                 dittoServiceConfig, healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig,
                 mongoDbConfig);
     }
@@ -164,8 +208,13 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
+                ", promotedFieldsByNamespace=" + promotedFieldsByNamespace +
+                ", partitionsByNamespace=" + partitionsByNamespace +
+                ", indexedSortOptions=" + indexedSortOptions +
                 ", queryCriteriaValidator=" + queryCriteriaValidator +
                 ", updaterConfig=" + updaterConfig +
+                ", pinnedCursorConfig=" + pinnedCursorConfig +
+                ", queryPlannerConfig=" + queryPlannerConfig +
                 ", dittoServiceConfig=" + dittoServiceConfig +
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", indexInitializationConfig=" + indexInitializationConfig +
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for pinning the MongoDB cursor of a paged search query in the search service,
+ * so that subsequent pages are read from the same cursor instead of executing the query again.
+ */
+@Immutable
+public interface PinnedCursorConfig {
+
+    /**
+     * Indicates whether cursors of paged search queries should be pinned.
+     *
+     * @return {@code true} if pinning is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long a pinned cursor may stay unused before it is closed.
+     * Should be well below the idle cursor timeout of the MongoDB server.
+     *
+     * @return the idle timeout.
+     */
+    Duration getIdleTimeout();
+
+    /**
+     * Returns the maximum number of pinned cursors kept open by one search actor.
+     * Queries exceeding the limit are paged by executing the query again for each page.
+     *
+     * @return the maximum number of pinned cursors.
+     */
+    int getMaxSessions();
+
+    /**
+     * Returns how long to wait for a page from a pinned cursor before falling back to executing the query again.
+     *
+     * @return the ask timeout.
+     */
+    Duration getAskTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code PinnedCursorConfig}.
+     */
+    enum PinnedCursorConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether cursors of paged search queries should be pinned.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How long a pinned cursor may stay unused before it is closed.
+         */
+        IDLE_TIMEOUT("idle-timeout", Duration.ofMinutes(1L)),
+
+        /**
+         * The maximum number of pinned cursors per search actor.
+         */
+        MAX_SESSIONS("max-sessions", 100),
+
+        /**
+         * How long to wait for a page from a pinned cursor.
+         */
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        private PinnedCursorConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
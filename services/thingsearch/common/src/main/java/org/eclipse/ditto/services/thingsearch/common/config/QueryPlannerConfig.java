@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the query planner of the search service, which samples the execution plans of
+ * search queries by their shape, i. e. their filter and sort without values.
+ */
+@Immutable
+public interface QueryPlannerConfig {
+
+    /**
+     * Indicates whether the execution plans of search queries should be sampled.
+     *
+     * @return {@code true} if sampling is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns after how many queries of a shape its execution plan is sampled again.
+     * The first query of each shape is always sampled.
+     *
+     * @return the sample interval.
+     */
+    int getSampleInterval();
+
+    /**
+     * Returns the execution time above which a sampled query is logged as slow.
+     *
+     * @return the slow query threshold.
+     */
+    Duration getSlowQueryThreshold();
+
+    /**
+     * Returns the maximum number of query shapes to keep statistics for.
+     * Queries of further shapes are neither sampled nor hinted.
+     *
+     * @return the maximum number of shapes.
+     */
+    int getMaxShapes();
+
+    /**
+     * Indicates whether queries of a shape should be hinted to use the index with the lowest measured cost after the
+     * plans of all candidate indices of the shape were sampled.
+     *
+     * @return {@code true} if hints are chosen automatically, {@code false} else.
+     */
+    boolean isAutoHintEnabled();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code QueryPlannerConfig}.
+     */
+    enum QueryPlannerConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the execution plans of search queries should be sampled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * After how many queries of a shape its execution plan is sampled again.
+         */
+        SAMPLE_INTERVAL("sample-interval", 100),
+
+        /**
+         * The execution time above which a sampled query is logged as slow.
+         */
+        SLOW_QUERY_THRESHOLD("slow-query-threshold", Duration.ofSeconds(1L)),
+
+        /**
+         * The maximum number of query shapes to keep statistics for.
+         */
+        MAX_SHAPES("max-shapes", 1000),
+
+        /**
+         * Whether queries should be hinted to use the index with the lowest measured cost.
+         */
+        AUTO_HINT_ENABLED("auto-hint-enabled", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private QueryPlannerConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.concurrent.Immutable;
@@ -32,6 +34,34 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
 
     Optional<String> getMongoHintsByNamespace();
 
+    /**
+     * Returns the JSON representation of the fields to promote out of the flattened key-value array of the search
+     * index into top-level fields with their own indexes, as JSON object mapping namespaces or {@code "*"} to arrays
+     * of JSON pointers.
+     *
+     * @return the promoted fields by namespace if configured.
+     * @since 2.0.0
+     */
+    Optional<String> getPromotedFieldsByNamespace();
+
+    /**
+     * Returns the JSON representation of the partitioning of the search index into one collection per group of
+     * namespaces, as JSON object mapping partition names to arrays of namespaces.
+     *
+     * @return the partitions by namespace if configured.
+     * @since 2.0.0
+     */
+    Optional<String> getPartitionsByNamespace();
+
+    /**
+     * Returns the RQL sort options for which indices are maintained, e.g. {@code sort(-_modified)}. Each index covers
+     * its sort fields, the thing ID appended to every sort as tie-breaker and the global-read field.
+     *
+     * @return the indexed sort options.
+     * @since 2.0.0
+     */
+    List<String> getIndexedSortOptions();
+
     /**
      * Returns the {@code QueryCriteriaValidator} to be used for validating and decoding
      * {@link org.eclipse.ditto.model.query.criteria.Criteria} of a
@@ -48,6 +78,21 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     UpdaterConfig getUpdaterConfig();
 
+    /**
+     * Returns the configuration settings for pinning cursors of paged search queries.
+     *
+     * @return the config.
+     */
+    PinnedCursorConfig getPinnedCursorConfig();
+
+    /**
+     * Returns the configuration settings for sampling the execution plans of search queries.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    QueryPlannerConfig getQueryPlannerConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -58,6 +103,27 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
          */
         MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null),
 
+        /**
+         * Default value is {@code null}.
+         *
+         * @since 2.0.0
+         */
+        PROMOTED_FIELDS_BY_NAMESPACE("promoted-fields-by-namespace", null),
+
+        /**
+         * Default value is {@code null}.
+         *
+         * @since 2.0.0
+         */
+        PARTITIONS_BY_NAMESPACE("partitions-by-namespace", null),
+
+        /**
+         * The RQL sort options for which indices are maintained.
+         *
+         * @since 2.0.0
+         */
+        INDEXED_SORT_OPTIONS("indexed-sort-options", Collections.emptyList()),
+
         /**
          * The {@code QueryCriteriaValidator} used for decoding and validating {@link org.eclipse.ditto.model.query.criteria.Criteria}
          * of a {@link org.eclipse.ditto.signals.commands.thingsearch.query.ThingSearchQueryCommand}.
@@ -67,6 +67,22 @@ public interface UpdaterConfig {
      */
     StreamConfig getStreamConfig();
 
+    /**
+     * Returns the configuration of the change stream tailing the things journal.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    ChangeStreamConfig getChangeStreamConfig();
+
+    /**
+     * Returns the configuration of the evaluation of continuous search subscriptions.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    ContinuousQueriesConfig getContinuousQueriesConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * UpdaterConfig.
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.ChangeStreamConfig.ChangeStreamConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultChangeStreamConfig}.
+ */
+public final class DefaultChangeStreamConfigTest {
+
+    private static Config updaterScopedTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        updaterScopedTestConfig = ConfigFactory.load("updater-test").getConfig(DefaultUpdaterConfig.CONFIG_PATH);
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultChangeStreamConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultChangeStreamConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultChangeStreamConfig underTest = DefaultChangeStreamConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ChangeStreamConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(ChangeStreamConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getJournalDatabase())
+                .as(ChangeStreamConfigValue.JOURNAL_DATABASE.getConfigPath())
+                .isEqualTo(ChangeStreamConfigValue.JOURNAL_DATABASE.getDefaultValue());
+        softly.assertThat(underTest.getJournalCollection())
+                .as(ChangeStreamConfigValue.JOURNAL_COLLECTION.getConfigPath())
+                .isEqualTo(ChangeStreamConfigValue.JOURNAL_COLLECTION.getDefaultValue());
+        softly.assertThat(underTest.getResumeTokenCollection())
+                .as(ChangeStreamConfigValue.RESUME_TOKEN_COLLECTION.getConfigPath())
+                .isEqualTo(ChangeStreamConfigValue.RESUME_TOKEN_COLLECTION.getDefaultValue());
+        softly.assertThat(underTest.getResumeTokenInterval())
+                .as(ChangeStreamConfigValue.RESUME_TOKEN_INTERVAL.getConfigPath())
+                .isEqualTo(ChangeStreamConfigValue.RESUME_TOKEN_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getParallelism())
+                .as(ChangeStreamConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(ChangeStreamConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getAskTimeout())
+                .as(ChangeStreamConfigValue.ASK_TIMEOUT.getConfigPath())
+                .isEqualTo(ChangeStreamConfigValue.ASK_TIMEOUT.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultChangeStreamConfig underTest = DefaultChangeStreamConfig.of(updaterScopedTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ChangeStreamConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getJournalDatabase())
+                .as(ChangeStreamConfigValue.JOURNAL_DATABASE.getConfigPath())
+                .isEqualTo("journal");
+        softly.assertThat(underTest.getJournalCollection())
+                .as(ChangeStreamConfigValue.JOURNAL_COLLECTION.getConfigPath())
+                .isEqualTo("journal_collection");
+        softly.assertThat(underTest.getResumeTokenCollection())
+                .as(ChangeStreamConfigValue.RESUME_TOKEN_COLLECTION.getConfigPath())
+                .isEqualTo("resumeTokens");
+        softly.assertThat(underTest.getResumeTokenInterval())
+                .as(ChangeStreamConfigValue.RESUME_TOKEN_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+        softly.assertThat(underTest.getParallelism())
+                .as(ChangeStreamConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(5);
+        softly.assertThat(underTest.getAskTimeout())
+                .as(ChangeStreamConfigValue.ASK_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(7L));
+    }
+
+}
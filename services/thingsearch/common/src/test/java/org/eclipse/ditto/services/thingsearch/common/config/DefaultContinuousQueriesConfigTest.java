@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.ContinuousQueriesConfig.ContinuousQueriesConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultContinuousQueriesConfig}.
+ */
+public final class DefaultContinuousQueriesConfigTest {
+
+    private static Config updaterScopedTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        updaterScopedTestConfig = ConfigFactory.load("updater-test").getConfig(DefaultUpdaterConfig.CONFIG_PATH);
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultContinuousQueriesConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultContinuousQueriesConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultContinuousQueriesConfig underTest = DefaultContinuousQueriesConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ContinuousQueriesConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(ContinuousQueriesConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxSubscriptions())
+                .as(ContinuousQueriesConfigValue.MAX_SUBSCRIPTIONS.getConfigPath())
+                .isEqualTo(ContinuousQueriesConfigValue.MAX_SUBSCRIPTIONS.getDefaultValue());
+        softly.assertThat(underTest.getBufferSize())
+                .as(ContinuousQueriesConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(ContinuousQueriesConfigValue.BUFFER_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultContinuousQueriesConfig underTest = DefaultContinuousQueriesConfig.of(updaterScopedTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ContinuousQueriesConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxSubscriptions())
+                .as(ContinuousQueriesConfigValue.MAX_SUBSCRIPTIONS.getConfigPath())
+                .isEqualTo(7);
+        softly.assertThat(underTest.getBufferSize())
+                .as(ContinuousQueriesConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(11);
+    }
+
+}
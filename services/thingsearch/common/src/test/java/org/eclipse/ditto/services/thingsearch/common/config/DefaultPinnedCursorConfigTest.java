@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.PinnedCursorConfig.PinnedCursorConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultPinnedCursorConfig}.
+ */
+public final class DefaultPinnedCursorConfigTest {
+
+    private static Config pinnedCursorTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        pinnedCursorTestConfig = ConfigFactory.load("pinned-cursor-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultPinnedCursorConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultPinnedCursorConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultPinnedCursorConfig underTest = DefaultPinnedCursorConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(PinnedCursorConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(PinnedCursorConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getIdleTimeout())
+                .as(PinnedCursorConfigValue.IDLE_TIMEOUT.getConfigPath())
+                .isEqualTo(PinnedCursorConfigValue.IDLE_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.getMaxSessions())
+                .as(PinnedCursorConfigValue.MAX_SESSIONS.getConfigPath())
+                .isEqualTo(PinnedCursorConfigValue.MAX_SESSIONS.getDefaultValue());
+        softly.assertThat(underTest.getAskTimeout())
+                .as(PinnedCursorConfigValue.ASK_TIMEOUT.getConfigPath())
+                .isEqualTo(PinnedCursorConfigValue.ASK_TIMEOUT.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultPinnedCursorConfig underTest = DefaultPinnedCursorConfig.of(pinnedCursorTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(PinnedCursorConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getIdleTimeout())
+                .as(PinnedCursorConfigValue.IDLE_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(23L));
+        softly.assertThat(underTest.getMaxSessions())
+                .as(PinnedCursorConfigValue.MAX_SESSIONS.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getAskTimeout())
+                .as(PinnedCursorConfigValue.ASK_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(7L));
+    }
+
+}
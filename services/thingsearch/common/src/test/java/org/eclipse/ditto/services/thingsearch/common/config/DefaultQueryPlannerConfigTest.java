@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryPlannerConfig.QueryPlannerConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultQueryPlannerConfig}.
+ */
+public final class DefaultQueryPlannerConfigTest {
+
+    private static Config queryPlannerTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        queryPlannerTestConfig = ConfigFactory.load("query-planner-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultQueryPlannerConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultQueryPlannerConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultQueryPlannerConfig underTest = DefaultQueryPlannerConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryPlannerConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(QueryPlannerConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getSampleInterval())
+                .as(QueryPlannerConfigValue.SAMPLE_INTERVAL.getConfigPath())
+                .isEqualTo(QueryPlannerConfigValue.SAMPLE_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getSlowQueryThreshold())
+                .as(QueryPlannerConfigValue.SLOW_QUERY_THRESHOLD.getConfigPath())
+                .isEqualTo(QueryPlannerConfigValue.SLOW_QUERY_THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryPlannerConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(QueryPlannerConfigValue.MAX_SHAPES.getDefaultValue());
+        softly.assertThat(underTest.isAutoHintEnabled())
+                .as(QueryPlannerConfigValue.AUTO_HINT_ENABLED.getConfigPath())
+                .isEqualTo(QueryPlannerConfigValue.AUTO_HINT_ENABLED.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultQueryPlannerConfig underTest = DefaultQueryPlannerConfig.of(queryPlannerTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryPlannerConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getSampleInterval())
+                .as(QueryPlannerConfigValue.SAMPLE_INTERVAL.getConfigPath())
+                .isEqualTo(7);
+        softly.assertThat(underTest.getSlowQueryThreshold())
+                .as(QueryPlannerConfigValue.SLOW_QUERY_THRESHOLD.getConfigPath())
+                .isEqualTo(Duration.ofMillis(250L));
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryPlannerConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.isAutoHintEnabled())
+                .as(QueryPlannerConfigValue.AUTO_HINT_ENABLED.getConfigPath())
+                .isTrue();
+    }
+
+}
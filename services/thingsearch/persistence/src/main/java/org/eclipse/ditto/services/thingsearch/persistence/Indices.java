@@ -18,16 +18,24 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_LOWER_CASE_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.DefaultIndexKey;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexDirection;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexKey;
 
 /**
  * Defines the MongoDB indices used by the things-search persistence.
@@ -44,6 +52,12 @@ public final class Indices {
     private static final Index KEY_VALUE = IndexFactory.newInstance("key-value",
             Arrays.asList(FIELD_GRANTED_PATH, FIELD_PATH_KEY, FIELD_PATH_VALUE, FIELD_ID), false);
 
+    /**
+     * Index for queries with case-insensitive filters on string values.
+     */
+    private static final Index KEY_LOWER_CASE_VALUE = IndexFactory.newInstance("key-lower-case-value",
+            Arrays.asList(FIELD_GRANTED_PATH, FIELD_PATH_KEY, FIELD_PATH_LOWER_CASE_VALUE, FIELD_ID), false);
+
     /**
      * Index for queries without effective filters to be executed as scans over all visible things.
      */
@@ -64,6 +78,34 @@ public final class Indices {
     private static final Index NAMESPACE = IndexFactory.newInstance("namespace",
             Arrays.asList(FIELD_NAMESPACE, FIELD_ID), false);
 
+    /**
+     * Create an index for queries sorted by the given sort options. The sort columns are followed by the thing ID as
+     * tie-breaker of cursor pagination and by the global-read field, so that invisible things are skipped without
+     * fetching them.
+     *
+     * @param sortOptions the sort options.
+     * @return the index.
+     * @since 2.0.0
+     */
+    public static Index sortIndex(final List<SortOption> sortOptions) {
+        final List<IndexKey> keys = new ArrayList<>();
+        final List<String> nameParts = new ArrayList<>();
+        for (final SortOption sortOption : sortOptions) {
+            final String path = GetSortBsonVisitor.path(sortOption.getSortExpression());
+            final IndexDirection direction = sortOption.getSortDirection() == SortDirection.ASC
+                    ? IndexDirection.ASCENDING
+                    : IndexDirection.DESCENDING;
+            keys.add(DefaultIndexKey.of(path, direction));
+            nameParts.add(path + "_" + direction.getBsonInt().getValue());
+        }
+        if (!nameParts.contains(FIELD_ID + "_1") && !nameParts.contains(FIELD_ID + "_-1")) {
+            keys.add(DefaultIndexKey.of(FIELD_ID));
+            nameParts.add(FIELD_ID + "_1");
+        }
+        keys.add(DefaultIndexKey.of(FIELD_GLOBAL_READ));
+        return IndexFactory.newInstanceWithCustomKeys("sort:" + String.join(",", nameParts), keys, false);
+    }
+
     /**
      * Gets all defined indices.
      *
@@ -71,7 +113,7 @@ public final class Indices {
      */
     public static List<Index> all() {
         return Collections.unmodifiableList(
-                Arrays.asList(KEY_VALUE, GLOBAL_READ, POLICY, NAMESPACE, DELETE_AT));
+                Arrays.asList(KEY_VALUE, KEY_LOWER_CASE_VALUE, GLOBAL_READ, POLICY, NAMESPACE, DELETE_AT));
     }
 
 }
@@ -146,6 +146,16 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_PATH_VALUE = FIELD_INTERNAL + DOT + FIELD_INTERNAL_VALUE;
 
+    /**
+     * Field name of the lower-cased shadow of a string attribute's value for case-insensitive queries.
+     */
+    public static final String FIELD_INTERNAL_LOWER_CASE_VALUE = "i";
+
+    /**
+     * Path to the lower-cased shadow of a string attribute's value.
+     */
+    public static final String FIELD_PATH_LOWER_CASE_VALUE = FIELD_INTERNAL + DOT + FIELD_INTERNAL_LOWER_CASE_VALUE;
+
     /**
      * Field name of a key of an attribute or feature property.
      */
@@ -156,6 +166,11 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_PATH_KEY = FIELD_INTERNAL + DOT + FIELD_INTERNAL_KEY;
 
+    /**
+     * Field name for the document of fields promoted out of the internal flat attributes.
+     */
+    public static final String FIELD_PROMOTED = "p";
+
     /**
      * Field name for policy read grants.
      */
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PROMOTED;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexFactory;
+
+/**
+ * Fields of things which are promoted out of the flattened key-value array into top-level fields of their search
+ * index documents. Each promoted field has its own compound index of value and read grants, so that queries on it
+ * do not scan the shared key-value index.
+ * <p>
+ * A promoted field holds the same elements as the key-value array for the field's key, without the key itself.
+ * Filters on promoted fields are therefore equivalent to filters on the key-value array as long as the field is
+ * promoted for all namespaces a query is restricted to. Things indexed before a field was promoted lack the promoted
+ * field until their next update, so filters combine the promoted field and the key-value array by {@code $or}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class PromotedFields {
+
+    /**
+     * Namespace key of fields promoted for all namespaces.
+     */
+    public static final String ALL_NAMESPACES = "*";
+
+    private static final String INDEX_NAME_PREFIX = "promoted:";
+
+    private final Map<String, Set<String>> pointersByNamespace;
+    private final Set<String> pointersOfAllNamespaces;
+
+    private PromotedFields(final Map<String, Set<String>> pointersByNamespace) {
+        this.pointersByNamespace = pointersByNamespace;
+        pointersOfAllNamespaces = pointersByNamespace.getOrDefault(ALL_NAMESPACES, Collections.emptySet());
+    }
+
+    /**
+     * @return promoted fields promoting nothing.
+     */
+    public static PromotedFields empty() {
+        return new PromotedFields(Collections.emptyMap());
+    }
+
+    /**
+     * Extract promoted fields from a JSON representation.
+     *
+     * @param jsonString text of a JSON object mapping namespaces to arrays of JSON pointers of the promoted fields,
+     * e.g. {@code {"org.eclipse.ditto":["/attributes/serialNumber"],"*":["/attributes/location"]}}.
+     * @return the promoted fields.
+     * @throws org.eclipse.ditto.json.JsonParseException if the string is not a JSON object.
+     * @throws IllegalArgumentException if a namespace is not mapped to an array of JSON pointers.
+     */
+    public static PromotedFields byNamespace(final String jsonString) {
+        final Map<String, Set<String>> pointersByNamespace = JsonObject.of(jsonString)
+                .stream()
+                .collect(Collectors.toMap(JsonField::getKeyName, PromotedFields::toPointers));
+        return new PromotedFields(Collections.unmodifiableMap(pointersByNamespace));
+    }
+
+    /**
+     * Get the JSON pointers of the fields promoted for things of a namespace.
+     *
+     * @param namespace the namespace of a thing.
+     * @return JSON pointers of the promoted fields.
+     */
+    public Set<String> getPointers(final String namespace) {
+        final Set<String> pointersOfNamespace = pointersByNamespace.getOrDefault(namespace, Collections.emptySet());
+        if (pointersOfNamespace.isEmpty() || pointersOfAllNamespaces.isEmpty()) {
+            return pointersOfNamespace.isEmpty() ? pointersOfAllNamespaces : pointersOfNamespace;
+        }
+        final Set<String> union = new TreeSet<>(pointersOfAllNamespaces);
+        union.addAll(pointersOfNamespace);
+        return union;
+    }
+
+    /**
+     * Check whether a field is promoted for all things a query may find.
+     *
+     * @param pointer JSON pointer of the field.
+     * @param namespaces namespaces the query is restricted to, or null if the query is not restricted by namespace.
+     * @return whether filters of the query may match the promoted field in addition to the key-value array.
+     */
+    public boolean isPromoted(final String pointer, @Nullable final Collection<String> namespaces) {
+        if (pointersOfAllNamespaces.contains(pointer)) {
+            return true;
+        }
+        return namespaces != null && !namespaces.isEmpty() && namespaces.stream()
+                .allMatch(namespace -> pointersByNamespace.getOrDefault(namespace, Collections.emptySet())
+                        .contains(pointer));
+    }
+
+    /**
+     * @return one index for each field promoted for any namespace.
+     */
+    public List<Index> getIndices() {
+        return pointersByNamespace.values()
+                .stream()
+                .flatMap(Set::stream)
+                .distinct()
+                .sorted()
+                .map(PromotedFields::toIndex)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the name of the promoted field of a JSON pointer inside the promoted document.
+     * Characters not allowed in MongoDB field names are percent-encoded.
+     *
+     * @param pointer the JSON pointer.
+     * @return the field name.
+     */
+    public static String getFieldName(final String pointer) {
+        return pointer.replace("%", "%25").replace(".", "%2E").replace("$", "%24");
+    }
+
+    /**
+     * Get the full path of the promoted field of a JSON pointer.
+     *
+     * @param pointer the JSON pointer.
+     * @return the full path.
+     */
+    public static String getFieldPath(final String pointer) {
+        return FIELD_PROMOTED + DOT + getFieldName(pointer);
+    }
+
+    private static Index toIndex(final String pointer) {
+        final String path = getFieldPath(pointer);
+        return IndexFactory.newInstance(INDEX_NAME_PREFIX + pointer,
+                Arrays.asList(path + DOT + FIELD_INTERNAL_VALUE, path + DOT + FIELD_GRANTED, FIELD_ID), false);
+    }
+
+    private static Set<String> toPointers(final JsonField field) {
+        final JsonValue value = field.getValue();
+        if (!value.isArray()) {
+            throw new IllegalArgumentException("Promoted fields of namespace <" + field.getKeyName() +
+                    "> are not an array of JSON pointers: " + value);
+        }
+        return value.asArray()
+                .stream()
+                .map(pointer -> {
+                    if (!pointer.isString() || !pointer.asString().startsWith(PersistenceConstants.SLASH)) {
+                        throw new IllegalArgumentException("Promoted field of namespace <" + field.getKeyName() +
+                                "> is not a JSON pointer: " + pointer);
+                    }
+                    return pointer.asString();
+                })
+                .collect(Collectors.collectingAndThen(Collectors.toCollection(TreeSet::new),
+                        Collections::unmodifiableSet));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PromotedFields that = (PromotedFields) o;
+        return Objects.equals(pointersByNamespace, that.pointersByNamespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pointersByNamespace);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "pointersByNamespace=" + pointersByNamespace +
+                "]";
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Partitioning of the search index into one collection per group of namespaces, so that the things of large
+ * namespaces do not share index B-trees, cache and counting cost with the things of all other namespaces.
+ * <p>
+ * Things of namespaces not assigned to any partition are indexed in the default collection
+ * {@value PersistenceConstants#THINGS_COLLECTION_NAME}. Things of a partition are indexed in the collection
+ * {@value PersistenceConstants#THINGS_COLLECTION_NAME} followed by an underscore and the name of the partition.
+ * Changing the partitioning does not move things already indexed; they must be updated in the search index again.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class SearchPartitions {
+
+    private static final String SEPARATOR = "_";
+    private static final Pattern PARTITION_NAME_PATTERN = Pattern.compile("[a-zA-Z0-9-]+");
+
+    private final Map<String, String> partitionsByNamespace;
+    private final List<String> collectionNames;
+
+    private SearchPartitions(final Map<String, String> partitionsByNamespace) {
+        this.partitionsByNamespace = partitionsByNamespace;
+        final List<String> names = new ArrayList<>();
+        names.add(THINGS_COLLECTION_NAME);
+        new TreeSet<>(partitionsByNamespace.values()).forEach(partition -> names.add(toCollectionName(partition)));
+        collectionNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * @return partitions indexing all things in the default collection.
+     */
+    public static SearchPartitions empty() {
+        return new SearchPartitions(Collections.emptyMap());
+    }
+
+    /**
+     * Extract search partitions from a JSON representation.
+     *
+     * @param jsonString text of a JSON object mapping partition names to arrays of the namespaces of each partition,
+     * e.g. {@code {"large-tenant":["com.example.large","com.example.large.sub"]}}.
+     * @return the search partitions.
+     * @throws org.eclipse.ditto.json.JsonParseException if the string is not a JSON object.
+     * @throws IllegalArgumentException if a partition name contains characters other than letters, digits and
+     * hyphens, if a partition is not mapped to an array of namespaces or if a namespace is assigned to more than
+     * one partition.
+     */
+    public static SearchPartitions byNamespace(final String jsonString) {
+        final Map<String, String> partitionsByNamespace = new HashMap<>();
+        for (final JsonField field : JsonObject.of(jsonString)) {
+            final String partition = field.getKeyName();
+            if (!PARTITION_NAME_PATTERN.matcher(partition).matches()) {
+                throw new IllegalArgumentException("Search partition name <" + partition +
+                        "> contains characters other than letters, digits and hyphens.");
+            }
+            for (final String namespace : toNamespaces(field)) {
+                final String otherPartition = partitionsByNamespace.put(namespace, partition);
+                if (otherPartition != null) {
+                    throw new IllegalArgumentException("Namespace <" + namespace +
+                            "> is assigned to the search partitions <" + otherPartition + "> and <" + partition +
+                            ">.");
+                }
+            }
+        }
+        return new SearchPartitions(Collections.unmodifiableMap(partitionsByNamespace));
+    }
+
+    /**
+     * @return whether any namespace is assigned to a partition other than the default collection.
+     */
+    public boolean isPartitioned() {
+        return !partitionsByNamespace.isEmpty();
+    }
+
+    /**
+     * Get the name of the collection indexing the things of a namespace.
+     *
+     * @param namespace the namespace of a thing.
+     * @return the collection name.
+     */
+    public String getCollectionName(final String namespace) {
+        final String partition = partitionsByNamespace.get(namespace);
+        return partition == null ? THINGS_COLLECTION_NAME : toCollectionName(partition);
+    }
+
+    /**
+     * @return names of all collections of the search index, starting with the default collection.
+     */
+    public List<String> getCollectionNames() {
+        return collectionNames;
+    }
+
+    /**
+     * Get the names of the collections a query may find things in.
+     *
+     * @param namespaces namespaces the query is restricted to, or null if the query is not restricted by namespace.
+     * @return the collection names.
+     */
+    public List<String> getCollectionNames(@Nullable final Collection<String> namespaces) {
+        if (namespaces == null || namespaces.isEmpty() || !isPartitioned()) {
+            return collectionNames;
+        }
+        final Set<String> names = new LinkedHashSet<>();
+        namespaces.forEach(namespace -> names.add(getCollectionName(namespace)));
+        return new ArrayList<>(names);
+    }
+
+    private static String toCollectionName(final String partition) {
+        return THINGS_COLLECTION_NAME + SEPARATOR + partition;
+    }
+
+    private static List<String> toNamespaces(final JsonField field) {
+        final JsonValue value = field.getValue();
+        if (!value.isArray()) {
+            throw new IllegalArgumentException("Namespaces of search partition <" + field.getKeyName() +
+                    "> are not an array of strings: " + value);
+        }
+        final List<String> namespaces = new ArrayList<>();
+        value.asArray().forEach(namespace -> {
+            if (!namespace.isString()) {
+                throw new IllegalArgumentException("Namespace of search partition <" + field.getKeyName() +
+                        "> is not a string: " + namespace);
+            }
+            namespaces.add(namespace.asString());
+        });
+        return namespaces;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SearchPartitions that = (SearchPartitions) o;
+        return Objects.equals(partitionsByNamespace, that.partitionsByNamespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partitionsByNamespace);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "partitionsByNamespace=" + partitionsByNamespace +
+                "]";
+    }
+
+}
@@ -12,14 +12,20 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.query;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.QueryBuilder;
 import org.eclipse.ditto.model.query.QueryBuilderFactory;
+import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.rql.ParserException;
@@ -28,6 +34,7 @@ import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThin
 import org.eclipse.ditto.services.models.thingsearch.query.filter.ParameterOptionVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.query.validation.QueryCriteriaValidator;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
+import org.eclipse.ditto.signals.commands.thingsearch.query.AggregateThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.ThingSearchQueryCommand;
@@ -98,6 +105,39 @@ public final class QueryParser {
         }
     }
 
+    /**
+     * Parses an aggregation command into the query selecting the things to aggregate and the fields to aggregate.
+     *
+     * @param aggregateThings the aggregation command.
+     * @return the aggregation.
+     * @throws InvalidRqlExpressionException if any field to aggregate is not searchable.
+     * @since 2.0.0
+     */
+    public ThingsAggregation parseAggregation(final AggregateThings aggregateThings) {
+        final Query query = parse(aggregateThings);
+        final DittoHeaders headers = aggregateThings.getDittoHeaders();
+        return ThingsAggregation.of(query,
+                parseFields(aggregateThings.getGroupBy(), headers),
+                parseFields(aggregateThings.getMin(), headers),
+                parseFields(aggregateThings.getMax(), headers));
+    }
+
+    private Map<String, FilterFieldExpression> parseFields(final List<String> fields, final DittoHeaders headers) {
+        final Map<String, FilterFieldExpression> expressions = new LinkedHashMap<>();
+        for (final String field : fields) {
+            try {
+                expressions.put(field, fieldExpressionFactory.filterBy(field));
+            } catch (final IllegalArgumentException e) {
+                throw InvalidRqlExpressionException.newBuilder()
+                        .message("The field <" + field + "> cannot be aggregated.")
+                        .cause(e)
+                        .dittoHeaders(headers)
+                        .build();
+            }
+        }
+        return expressions;
+    }
+
     private Criteria parseCriteria(final ThingSearchQueryCommand<?> command) {
         final DittoHeaders headers = command.getDittoHeaders();
         final Set<String> namespaces = command.getNamespaces().orElse(null);
@@ -122,6 +162,21 @@ public final class QueryParser {
         return queryBuilderFactory.newUnlimitedBuilder(criteria).build();
     }
 
+    /**
+     * Parses an RQL sort option such as {@code sort(-_modified,+thingId)} into sort options of queries.
+     *
+     * @param sortOption the RQL sort option.
+     * @return the parsed sort options.
+     * @throws InvalidOptionException if the sort option is invalid.
+     * @since 2.0.0
+     */
+    public List<SortOption> parseSortOptions(final String sortOption) {
+        final Criteria any = queryFilterCriteriaFactory.toCriteriaFactory().any();
+        final QueryBuilder queryBuilder = queryBuilderFactory.newUnlimitedBuilder(any);
+        setOptions(sortOption, queryBuilder, DittoHeaders.empty());
+        return queryBuilder.build().getSortOptions();
+    }
+
     /**
      * @return the criteria factory.
      */
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+
+/**
+ * Parsed aggregation of search results: the query selecting the things, the fields to group them by and the fields
+ * to compute the minimum and maximum values of per group. The fields are keyed by their names in the search command.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class ThingsAggregation {
+
+    private final Query query;
+    private final Map<String, FilterFieldExpression> groupBy;
+    private final Map<String, FilterFieldExpression> min;
+    private final Map<String, FilterFieldExpression> max;
+
+    private ThingsAggregation(final Query query,
+            final Map<String, FilterFieldExpression> groupBy,
+            final Map<String, FilterFieldExpression> min,
+            final Map<String, FilterFieldExpression> max) {
+
+        this.query = query;
+        this.groupBy = Collections.unmodifiableMap(new LinkedHashMap<>(groupBy));
+        this.min = Collections.unmodifiableMap(new LinkedHashMap<>(min));
+        this.max = Collections.unmodifiableMap(new LinkedHashMap<>(max));
+    }
+
+    /**
+     * Create an aggregation.
+     *
+     * @param query the query selecting the things to aggregate.
+     * @param groupBy the fields to group by.
+     * @param min the fields to compute the minimum values of per group.
+     * @param max the fields to compute the maximum values of per group.
+     * @return the aggregation.
+     */
+    public static ThingsAggregation of(final Query query,
+            final Map<String, FilterFieldExpression> groupBy,
+            final Map<String, FilterFieldExpression> min,
+            final Map<String, FilterFieldExpression> max) {
+
+        return new ThingsAggregation(Objects.requireNonNull(query), groupBy, min, max);
+    }
+
+    /**
+     * @return the query selecting the things to aggregate.
+     */
+    public Query getQuery() {
+        return query;
+    }
+
+    /**
+     * @return the fields to group by in the order of the command.
+     */
+    public Map<String, FilterFieldExpression> getGroupBy() {
+        return groupBy;
+    }
+
+    /**
+     * @return the fields to compute the minimum values of per group in the order of the command.
+     */
+    public Map<String, FilterFieldExpression> getMin() {
+        return min;
+    }
+
+    /**
+     * @return the fields to compute the maximum values of per group in the order of the command.
+     */
+    public Map<String, FilterFieldExpression> getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ThingsAggregation that = (ThingsAggregation) o;
+        return Objects.equals(query, that.query) &&
+                Objects.equals(groupBy, that.groupBy) &&
+                Objects.equals(min, that.min) &&
+                Objects.equals(max, that.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, groupBy, min, max);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" +
+                "query=" + query +
+                ", groupBy=" + groupBy.keySet() +
+                ", min=" + min.keySet() +
+                ", max=" + max.keySet() +
+                "]";
+    }
+}
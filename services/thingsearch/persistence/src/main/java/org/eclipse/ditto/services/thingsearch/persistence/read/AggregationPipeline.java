@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_COUNT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.services.thingsearch.persistence.query.ThingsAggregation;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetAggregationBsonVisitor;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.signals.commands.thingsearch.query.AggregateThings;
+
+import com.mongodb.client.model.Aggregates;
+
+/**
+ * Compiles an aggregation of search results into a MongoDB aggregation pipeline and converts the documents of the
+ * groups into aggregated search results.
+ * <p>
+ * The fields of the groups are named by the position of the aggregated fields in the aggregation rather than by the
+ * fields themselves, because the names of the fields may contain characters not allowed in names of MongoDB fields.
+ * </p>
+ */
+final class AggregationPipeline {
+
+    private static final String GROUP_BY_PREFIX = "g";
+    private static final String MIN_PREFIX = "min";
+    private static final String MAX_PREFIX = "max";
+
+    private final ThingsAggregation aggregation;
+    private final List<Bson> stages;
+
+    private AggregationPipeline(final ThingsAggregation aggregation, final List<Bson> stages) {
+        this.aggregation = aggregation;
+        this.stages = stages;
+    }
+
+    /**
+     * Compile an aggregation into a pipeline.
+     *
+     * @param aggregation the aggregation.
+     * @param filter the filter selecting the things to aggregate, including the visibility restriction.
+     * @param authorizationSubjectIds authorization subject IDs to restrict the aggregated values to.
+     * @return the pipeline.
+     */
+    static AggregationPipeline of(final ThingsAggregation aggregation, final Bson filter,
+            final List<String> authorizationSubjectIds) {
+
+        final Document groupId = new Document();
+        appendExpressions(groupId, GROUP_BY_PREFIX, "", aggregation.getGroupBy(), authorizationSubjectIds);
+        final Document group = new Document(FIELD_ID, groupId)
+                .append(FIELD_COUNT, new Document("$sum", 1));
+        appendExpressions(group, MIN_PREFIX, "$min", aggregation.getMin(), authorizationSubjectIds);
+        appendExpressions(group, MAX_PREFIX, "$max", aggregation.getMax(), authorizationSubjectIds);
+        final List<Bson> stages = List.of(Aggregates.match(filter), new Document("$group", group));
+        return new AggregationPipeline(aggregation, stages);
+    }
+
+    /**
+     * @return the stages of the pipeline.
+     */
+    List<Bson> getStages() {
+        return stages;
+    }
+
+    /**
+     * Convert the document of a group into an aggregated search result.
+     *
+     * @param document the document of a group produced by the pipeline.
+     * @return the aggregated search result.
+     */
+    JsonObject toResult(final BsonDocument document) {
+        final BsonDocument groupId = document.getDocument(FIELD_ID, new BsonDocument());
+        final JsonObjectBuilder builder = JsonObject.newBuilder()
+                .set(AggregateThings.ResultJsonFields.GROUP_BY,
+                        toJsonObject(groupId, GROUP_BY_PREFIX, aggregation.getGroupBy()))
+                .set(AggregateThings.ResultJsonFields.COUNT, document.getNumber(FIELD_COUNT).longValue());
+        if (!aggregation.getMin().isEmpty()) {
+            builder.set(AggregateThings.ResultJsonFields.MIN,
+                    toJsonObject(document, MIN_PREFIX, aggregation.getMin()));
+        }
+        if (!aggregation.getMax().isEmpty()) {
+            builder.set(AggregateThings.ResultJsonFields.MAX,
+                    toJsonObject(document, MAX_PREFIX, aggregation.getMax()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Merge the aggregated search results of the same group computed over different collections.
+     *
+     * @param result1 the first result.
+     * @param result2 the second result.
+     * @return the merged result.
+     */
+    static JsonObject merge(final JsonObject result1, final JsonObject result2) {
+        final long count = result1.getValueOrThrow(AggregateThings.ResultJsonFields.COUNT) +
+                result2.getValueOrThrow(AggregateThings.ResultJsonFields.COUNT);
+        final JsonObjectBuilder builder = result1.toBuilder()
+                .set(AggregateThings.ResultJsonFields.COUNT, count);
+        result1.getValue(AggregateThings.ResultJsonFields.MIN).ifPresent(min1 ->
+                builder.set(AggregateThings.ResultJsonFields.MIN,
+                        mergeValues(min1, result2.getValueOrThrow(AggregateThings.ResultJsonFields.MIN),
+                                (v1, v2) -> SortValuesComparator.compareValues(v1, v2) <= 0 ? v1 : v2)));
+        result1.getValue(AggregateThings.ResultJsonFields.MAX).ifPresent(max1 ->
+                builder.set(AggregateThings.ResultJsonFields.MAX,
+                        mergeValues(max1, result2.getValueOrThrow(AggregateThings.ResultJsonFields.MAX),
+                                (v1, v2) -> SortValuesComparator.compareValues(v1, v2) >= 0 ? v1 : v2)));
+        return builder.build();
+    }
+
+    private static void appendExpressions(final Document document, final String prefix, final String accumulator,
+            final Map<String, FilterFieldExpression> fields, final List<String> authorizationSubjectIds) {
+
+        final List<FilterFieldExpression> expressions = new ArrayList<>(fields.values());
+        for (int i = 0; i < expressions.size(); ++i) {
+            final Object expression = GetAggregationBsonVisitor.apply(expressions.get(i), authorizationSubjectIds);
+            document.append(prefix + i, accumulator.isEmpty() ? expression : new Document(accumulator, expression));
+        }
+    }
+
+    private static JsonObject toJsonObject(final BsonDocument document, final String prefix,
+            final Map<String, FilterFieldExpression> fields) {
+
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        int i = 0;
+        for (final String field : fields.keySet()) {
+            final BsonValue value = document.get(prefix + i++);
+            builder.set(JsonKey.of(field), value == null || value.isNull()
+                    ? JsonValue.nullLiteral()
+                    : DittoBsonJson.getInstance().serialize(value));
+        }
+        return builder.build();
+    }
+
+    private static JsonObject mergeValues(final JsonObject values1, final JsonObject values2,
+            final BinaryOperator<JsonValue> choice) {
+
+        // field names such as "attributes/firmware" are keys rather than pointers
+        final Map<JsonKey, JsonValue> valuesByKey2 = values2.stream()
+                .collect(Collectors.toMap(JsonField::getKey, JsonField::getValue));
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (final JsonField field : values1) {
+            final JsonValue value1 = field.getValue();
+            final JsonValue value2 = valuesByKey2.getOrDefault(field.getKey(), JsonValue.nullLiteral());
+            // null values are missing values which MongoDB does not take into account for minimum or maximum
+            builder.set(field.getKey(),
+                    value1.isNull() ? value2 : value2.isNull() ? value1 : choice.apply(value1, value2));
+        }
+        return builder.build();
+    }
+}
@@ -26,9 +26,13 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -39,6 +43,7 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -50,14 +55,19 @@ import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
 import org.eclipse.ditto.services.thingsearch.persistence.Indices;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchPartitions;
+import org.eclipse.ditto.services.thingsearch.persistence.query.ThingsAggregation;
 import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceededException;
+import org.eclipse.ditto.signals.commands.thingsearch.query.AggregateThings;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
@@ -74,6 +84,7 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Source;
@@ -84,12 +95,16 @@ import scala.PartialFunction;
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
-    private final MongoCollection<Document> collection;
+    private final MongoDatabase database;
     private final LoggingAdapter log;
 
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final PromotedFields promotedFields;
+    private final List<Index> sortIndices;
+    @Nullable private final QueryPlanner queryPlanner;
+    private final SearchPartitions partitions;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -99,26 +114,37 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      * @since 1.0.0
      */
     public MongoThingsSearchPersistence(final DittoMongoClient mongoClient, final ActorSystem actorSystem) {
-        final MongoDatabase database = mongoClient.getDefaultDatabase();
-        collection = database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME);
+        database = mongoClient.getDefaultDatabase();
         log = Logging.getLogger(actorSystem, getClass());
         indexInitializer = IndexInitializer.of(database, SystemMaterializer.get(actorSystem).materializer());
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        promotedFields = PromotedFields.empty();
+        sortIndices = Collections.emptyList();
+        queryPlanner = null;
+        partitions = SearchPartitions.empty();
     }
 
     private MongoThingsSearchPersistence(
-            final MongoCollection<Document> collection,
+            final MongoDatabase database,
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final PromotedFields promotedFields,
+            final List<Index> sortIndices,
+            @Nullable final QueryPlanner queryPlanner,
+            final SearchPartitions partitions) {
 
-        this.collection = collection;
+        this.database = database;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.promotedFields = promotedFields;
+        this.sortIndices = sortIndices;
+        this.queryPlanner = queryPlanner;
+        this.partitions = partitions;
     }
 
     /**
@@ -129,12 +155,76 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(database, log, indexInitializer, maxQueryTime, hints,
+                promotedFields, sortIndices, queryPlanner, partitions);
+    }
+
+    /**
+     * Create a copy of this object which filters on promoted fields and initializes their indices.
+     *
+     * @param jsonString JSON representation of the promoted fields of each namespace.
+     * @return copy of this object with promoted fields configured.
+     * @since 2.0.0
+     */
+    public MongoThingsSearchPersistence withPromotedFieldsByNamespace(final String jsonString) {
+        final PromotedFields promotedFields = PromotedFields.byNamespace(jsonString);
+        return new MongoThingsSearchPersistence(database, log, indexInitializer, maxQueryTime, hints,
+                promotedFields, sortIndices, queryPlanner, partitions);
+    }
+
+    /**
+     * Create a copy of this object which initializes indices for queries sorted by the given sort options, so that
+     * sorted queries and their cursors walk an index in sort order instead of sorting in memory.
+     *
+     * @param indexedSorts sort options of each index.
+     * @return copy of this object with sort indices configured.
+     * @since 2.0.0
+     */
+    public MongoThingsSearchPersistence withIndexedSorts(final List<List<SortOption>> indexedSorts) {
+        final List<Index> sortIndices = indexedSorts.stream()
+                .map(Indices::sortIndex)
+                .collect(Collectors.toList());
+        return new MongoThingsSearchPersistence(database, log, indexInitializer, maxQueryTime, hints,
+                promotedFields, sortIndices, queryPlanner, partitions);
+    }
+
+    /**
+     * Create a copy of this object which samples the execution plans of queries and hints queries to the indices
+     * chosen by the query planner.
+     *
+     * @param queryPlanner the query planner.
+     * @return copy of this object with the query planner configured.
+     * @since 2.0.0
+     */
+    public MongoThingsSearchPersistence withQueryPlanner(final QueryPlanner queryPlanner) {
+        return new MongoThingsSearchPersistence(database, log, indexInitializer, maxQueryTime, hints,
+                promotedFields, sortIndices, checkNotNull(queryPlanner, "queryPlanner"), partitions);
+    }
+
+    /**
+     * Create a copy of this object which reads the things of groups of namespaces from separate collections.
+     * Queries spanning several collections are executed against each of them and their results merged in sort order.
+     *
+     * @param jsonString JSON representation of the namespaces of each partition.
+     * @return copy of this object with search partitions configured.
+     * @since 2.0.0
+     */
+    public MongoThingsSearchPersistence withPartitionsByNamespace(final String jsonString) {
+        final SearchPartitions partitions = SearchPartitions.byNamespace(jsonString);
+        return new MongoThingsSearchPersistence(database, log, indexInitializer, maxQueryTime, hints,
+                promotedFields, sortIndices, queryPlanner, partitions);
     }
 
     @Override
     public CompletionStage<Void> initializeIndices() {
-        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, Indices.all())
+        final List<Index> indices = new ArrayList<>(Indices.all());
+        indices.addAll(promotedFields.getIndices());
+        indices.addAll(sortIndices);
+        CompletionStage<Void> initialization = CompletableFuture.completedFuture(null);
+        for (final String collectionName : partitions.getCollectionNames()) {
+            initialization = initialization.thenCompose(unused -> indexInitializer.initialize(collectionName, indices));
+        }
+        return initialization
                 .exceptionally(t -> {
                     log.error(t, "Index-Initialization failed: {}", t.getMessage());
                     return null;
@@ -143,52 +233,79 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
     @Override
     public Source<SearchNamespaceReportResult, NotUsed> generateNamespaceCountReport() {
-        final AggregatePublisher<Document> aggregatePublisher = collection.aggregate(
-                Collections.singletonList(
-                        new Document("$group",
-                                new Document(FIELD_ID, "$_namespace")
-                                        .append(PersistenceConstants.FIELD_COUNT, new Document("$sum", 1))
-                        )
+        final List<Document> pipeline = Collections.singletonList(
+                new Document("$group",
+                        new Document(FIELD_ID, "$_namespace")
+                                .append(PersistenceConstants.FIELD_COUNT, new Document("$sum", 1))
                 )
         );
 
-        return Source.fromPublisher(aggregatePublisher)
-                .map(document -> {
+        // a namespace may have things in several partitions after the partitioning was changed
+        return Source.from(partitions.getCollectionNames())
+                .flatMapConcat(collectionName -> {
+                    final AggregatePublisher<Document> aggregatePublisher =
+                            getCollection(collectionName).aggregate(pipeline);
+                    return Source.fromPublisher(aggregatePublisher);
+                })
+                .fold(new LinkedHashMap<String, Long>(), (countsByNamespace, document) -> {
                     final String namespace = document.get(FIELD_ID) != null
                             ? document.get(FIELD_ID).toString()
                             : "NOT_MIGRATED";
                     final long count = Long.parseLong(document.get(PersistenceConstants.FIELD_COUNT).toString());
-                    return new SearchNamespaceResultEntry(namespace, count);
-                })
-                .fold(new ArrayList<SearchNamespaceResultEntry>(), (list, entry) -> {
-                    list.add(entry);
-                    return list;
+                    countsByNamespace.merge(namespace, count, Long::sum);
+                    return countsByNamespace;
                 })
-                .map(SearchNamespaceReportResult::new);
+                .map(countsByNamespace -> {
+                    final List<SearchNamespaceResultEntry> entries = new ArrayList<>();
+                    countsByNamespace.forEach((namespace, count) ->
+                            entries.add(new SearchNamespaceResultEntry(namespace, count)));
+                    return new SearchNamespaceReportResult(entries);
+                });
     }
 
     @Override
     public Source<Long, NotUsed> count(final Query query,
-            @Nullable final List<String> authorizationSubjectIds) {
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds, namespaces);
         log.debug("count with query filter <{}>.", queryFilter);
 
+        final List<String> collectionNames = partitions.getCollectionNames(namespaces);
+        if (collectionNames.size() == 1) {
+            final CountOptions countOptions = new CountOptions()
+                    .skip(query.getSkip())
+                    .limit(query.getLimit())
+                    .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+
+            return Source.fromPublisher(getCollection(collectionNames.get(0)).countDocuments(queryFilter, countOptions))
+                    .mapError(handleMongoExecutionTimeExceededException())
+                    .log("count");
+        }
+
+        // skip and limit apply to the sum of the counts of all partitions
+        final long skip = query.getSkip();
+        final int limit = query.getLimit();
         final CountOptions countOptions = new CountOptions()
-                .skip(query.getSkip())
-                .limit(query.getLimit())
+                .limit(limit <= 0 ? 0 : (int) Math.min(skip + limit, Integer.MAX_VALUE))
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
-
-        return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
+        return Source.from(collectionNames)
+                .flatMapMerge(collectionNames.size(), collectionName -> Source.fromPublisher(
+                        getCollection(collectionName).countDocuments(queryFilter, countOptions)))
+                .fold(0L, Long::sum)
+                .map(count -> {
+                    final long countAfterSkip = Math.max(0L, count - skip);
+                    return limit <= 0 ? countAfterSkip : Math.min(countAfterSkip, limit);
+                })
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
 
     @Override
     public Source<Long, NotUsed> sudoCount(final Query query) {
-        return count(query, null);
+        return count(query, null, null);
     }
 
     @Override
@@ -218,6 +335,55 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .idleTimeout(maxQueryTime);
     }
 
+    @Override
+    public Source<Pair<ThingId, JsonArray>, NotUsed> findAllUnlimitedWithSortValues(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        // no idle timeout: the consumer decides how long the cursor stays open
+        final List<SortOption> sortOptions = query.getSortOptions();
+        return findAllInternal(query, authorizationSubjectIds, namespaces, null, null)
+                .map(doc -> Pair.create(toId(doc), GetSortBsonVisitor.sortValuesAsArray(doc, sortOptions)));
+    }
+
+    @Override
+    public Source<JsonObject, NotUsed> aggregate(final ThingsAggregation aggregation,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        checkNotNull(aggregation, "aggregation");
+        final BsonDocument queryFilter = getMongoFilter(aggregation.getQuery(), authorizationSubjectIds, namespaces);
+        final AggregationPipeline pipeline = AggregationPipeline.of(aggregation, queryFilter, authorizationSubjectIds);
+        if (log.isDebugEnabled()) {
+            log.debug("aggregate with pipeline <{}>.", pipeline.getStages());
+        }
+
+        final List<String> collectionNames = partitions.getCollectionNames(namespaces);
+        if (collectionNames.size() == 1) {
+            return aggregate(collectionNames.get(0), pipeline)
+                    .mapError(handleMongoExecutionTimeExceededException());
+        }
+
+        // a group may have things in several partitions; merge the groups of all partitions before emitting any
+        return Source.from(collectionNames)
+                .flatMapMerge(collectionNames.size(), collectionName -> aggregate(collectionName, pipeline))
+                .fold(new LinkedHashMap<JsonObject, JsonObject>(), (resultsByGroup, result) -> {
+                    resultsByGroup.merge(result.getValueOrThrow(AggregateThings.ResultJsonFields.GROUP_BY), result,
+                            AggregationPipeline::merge);
+                    return resultsByGroup;
+                })
+                .mapConcat(LinkedHashMap::values)
+                .mapError(handleMongoExecutionTimeExceededException());
+    }
+
+    private Source<JsonObject, NotUsed> aggregate(final String collectionName, final AggregationPipeline pipeline) {
+        final AggregatePublisher<BsonDocument> aggregatePublisher =
+                getCollection(collectionName).aggregate(pipeline.getStages(), BsonDocument.class)
+                        .allowDiskUse(true)
+                        .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+        return Source.fromPublisher(aggregatePublisher).map(pipeline::toResult);
+    }
+
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
@@ -225,7 +391,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds, namespaces);
         if (log.isDebugEnabled()) {
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
@@ -234,9 +400,40 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         final int skip = query.getSkip();
         final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        final Bson configuredHint = hints.getHint(namespaces).orElse(null);
+        final List<String> collectionNames = partitions.getCollectionNames(namespaces);
+        if (collectionNames.size() == 1) {
+            return find(collectionNames.get(0), queryFilter, sortOptions, projection, configuredHint, skip, limit,
+                    maxQueryTime);
+        }
+
+        // each partition returns its first skip + limit results; the merged results in sort order skip the rest
+        final Integer partitionLimit = limit != null ? (int) Math.min((long) skip + limit, Integer.MAX_VALUE) : null;
+        final Comparator<Document> comparator = SortValuesComparator.of(query.getSortOptions());
+        final Source<Document, NotUsed> mergedResults = collectionNames.stream()
+                .map(collectionName -> find(collectionName, queryFilter, sortOptions, projection, configuredHint, 0,
+                        partitionLimit, maxQueryTime))
+                .reduce((results1, results2) -> results1.mergeSorted(results2, comparator))
+                .orElseGet(Source::empty)
+                .drop(skip);
+        return limit != null ? mergedResults.take(limit) : mergedResults;
+    }
+
+    private Source<Document, NotUsed> find(final String collectionName,
+            final BsonDocument queryFilter,
+            final Bson sortOptions,
+            final Bson projection,
+            @Nullable final Bson configuredHint,
+            final int skip,
+            @Nullable final Integer limit,
+            @Nullable final Duration maxQueryTime) {
+
+        final Bson hint = queryPlanner != null
+                ? queryPlanner.plan(collectionName, queryFilter, sortOptions, skip, limit, configuredHint)
+                : configuredHint;
         final FindPublisher<Document> findPublisher =
-                collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                getCollection(collectionName).find(queryFilter, Document.class)
+                        .hint(hint)
                         .sort(sortOptions)
                         .skip(skip)
                         .projection(projection);
@@ -260,10 +457,22 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 Projections.include(FIELD_ID, FIELD_REVISION, FIELD_POLICY_ID, FIELD_POLICY_REVISION,
                         FIELD_PATH_MODIFIED);
         final Bson sortById = Sorts.ascending(FIELD_ID);
-        final Publisher<Document> publisher = collection.find(filter)
-                .projection(relevantFieldsProjection)
-                .sort(sortById);
-        return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
+        final Comparator<Document> comparatorById = Comparator.comparing(document -> document.getString(FIELD_ID));
+        return partitions.getCollectionNames()
+                .stream()
+                .map(collectionName -> {
+                    final Publisher<Document> publisher = getCollection(collectionName).find(filter)
+                            .projection(relevantFieldsProjection)
+                            .sort(sortById);
+                    return Source.fromPublisher(publisher);
+                })
+                .reduce((documents1, documents2) -> documents1.mergeSorted(documents2, comparatorById))
+                .orElseGet(Source::empty)
+                .map(MongoThingsSearchPersistence::readAsMetadata);
+    }
+
+    private MongoCollection<Document> getCollection(final String collectionName) {
+        return database.getCollection(collectionName);
     }
 
     private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
@@ -298,13 +507,15 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return ThingId.of(doc.getString(PersistenceConstants.FIELD_ID));
     }
 
-    private static BsonDocument getMongoFilter(final Query query,
-            @Nullable final List<String> authorizationSubjectIds) {
+    private BsonDocument getMongoFilter(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
 
         if (authorizationSubjectIds != null) {
-            return BsonUtil.toBsonDocument(CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds));
+            return BsonUtil.toBsonDocument(CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds,
+                    promotedFields, namespaces));
         } else {
-            return BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria()));
+            return BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria(), promotedFields));
         }
     }
 
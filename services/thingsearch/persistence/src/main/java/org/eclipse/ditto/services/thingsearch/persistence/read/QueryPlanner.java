@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryPlannerConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.actor.ActorSystem;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Source;
+
+/**
+ * Samples the execution plans of search queries by their shape, i. e. their filter and sort without values.
+ * <p>
+ * The first query of each shape and every n-th query after it is explained in the background. The keys and documents
+ * examined and the documents returned are recorded as histograms tagged with the index of the plan; plans slower than
+ * the configured threshold are logged.
+ * </p>
+ * <p>
+ * If automatic hints are enabled, the unhinted plan of a shape determines its candidate indices, i. e. the indices of
+ * the winning plan and of all rejected plans. Subsequent samples explain the query hinted to each candidate in turn.
+ * Once all candidates are measured, queries of the shape are hinted to the candidate with the fewest keys and
+ * documents examined.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class QueryPlanner {
+
+    private static final String KEYS_EXAMINED = "things_search_query_keys_examined";
+    private static final String DOCS_EXAMINED = "things_search_query_docs_examined";
+    private static final String RETURNED = "things_search_query_returned";
+    private static final String INDEX_TAG = "index";
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+    private static final String INDEX_SCAN = "IXSCAN";
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    private final MongoDatabase database;
+    private final QueryPlannerConfig config;
+    private final Materializer materializer;
+    private final LoggingAdapter log;
+    private final Map<String, Shape> shapes;
+
+    private QueryPlanner(final MongoDatabase database, final QueryPlannerConfig config,
+            final Materializer materializer, final LoggingAdapter log) {
+
+        this.database = database;
+        this.config = config;
+        this.materializer = materializer;
+        this.log = log;
+        shapes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create a query planner.
+     *
+     * @param database the database of the search collection.
+     * @param config the query planner config.
+     * @param actorSystem the actor system to run explanations in.
+     * @return the query planner.
+     */
+    public static QueryPlanner of(final MongoDatabase database, final QueryPlannerConfig config,
+            final ActorSystem actorSystem) {
+
+        return new QueryPlanner(database, config, SystemMaterializer.get(actorSystem).materializer(),
+                Logging.getLogger(actorSystem, QueryPlanner.class));
+    }
+
+    /**
+     * Get the hint of a search query and sample its execution plan if due.
+     *
+     * @param collectionName the name of the collection the query is executed against.
+     * @param filter the filter of the query.
+     * @param sort the sort of the query.
+     * @param skip the number of documents the query skips.
+     * @param limit the maximum number of documents the query returns, or null if it is unlimited.
+     * @param defaultHint the hint configured for the query, or null if none is configured.
+     * @return the hint to execute the query with, or null if the query should not be hinted.
+     */
+    @Nullable
+    Bson plan(final String collectionName, final BsonDocument filter, final Bson sort, final int skip,
+            @Nullable final Integer limit, @Nullable final Bson defaultHint) {
+
+        if (!config.isEnabled()) {
+            return defaultHint;
+        }
+        final BsonDocument sortDocument = BsonUtil.toBsonDocument(sort);
+        // partitions differ in their data distribution and therefore in their best plans
+        final String shapeKey = collectionName + " " + shapeOf(filter, sortDocument);
+        final Shape shape = getShape(shapeKey);
+        if (shape == null) {
+            return defaultHint;
+        }
+        final Bson hint = config.isAutoHintEnabled()
+                ? shape.getBestHint().map(Bson.class::cast).orElse(defaultHint)
+                : defaultHint;
+        if (shape.isSampleDue(config.getSampleInterval())) {
+            final Bson explainHint = config.isAutoHintEnabled() ? shape.nextCandidate().orElse(null) : hint;
+            explain(collectionName, shapeKey, shape, filter, sortDocument, skip, limit, explainHint);
+        }
+        return hint;
+    }
+
+    /**
+     * Compute the shape of a query: its filter and sort with all values replaced by a placeholder except the keys of
+     * the flattened key-value array and the operands of {@code $exists}.
+     *
+     * @param filter the filter of the query.
+     * @param sort the sort of the query.
+     * @return the shape as string.
+     */
+    static String shapeOf(final BsonDocument filter, final BsonDocument sort) {
+        return shapeOf(filter).toJson() + " sort " + sort.toJson();
+    }
+
+    @Nullable
+    private Shape getShape(final String shapeKey) {
+        final Shape shape = shapes.get(shapeKey);
+        if (shape != null || shapes.size() >= config.getMaxShapes()) {
+            return shape;
+        }
+        return shapes.computeIfAbsent(shapeKey, key -> new Shape());
+    }
+
+    private void explain(final String collectionName, final String shapeKey, final Shape shape,
+            final BsonDocument filter, final BsonDocument sort, final int skip, @Nullable final Integer limit,
+            @Nullable final Bson hint) {
+
+        final Document find = new Document("find", collectionName)
+                .append("filter", filter)
+                .append("sort", sort)
+                .append("skip", skip)
+                .append("maxTimeMS", config.getSlowQueryThreshold().multipliedBy(10L).toMillis());
+        if (limit != null) {
+            find.append("limit", limit);
+        }
+        if (hint != null) {
+            find.append("hint", BsonUtil.toBsonDocument(hint));
+        }
+        final Document command = new Document("explain", find).append("verbosity", "allPlansExecution");
+        Source.fromPublisher(database.runCommand(command))
+                .map(Plan::of)
+                .runForeach(plan -> onPlan(shapeKey, shape, plan, hint != null), materializer)
+                .exceptionally(error -> {
+                    log.warning("Failed to explain query of shape <{}>: {}", shapeKey, error.getMessage());
+                    return null;
+                });
+    }
+
+    private void onPlan(final String shapeKey, final Shape shape, final Plan plan, final boolean hinted) {
+        DittoMetrics.histogram(KEYS_EXAMINED).tag(INDEX_TAG, plan.indexName).record(plan.keysExamined);
+        DittoMetrics.histogram(DOCS_EXAMINED).tag(INDEX_TAG, plan.indexName).record(plan.docsExamined);
+        DittoMetrics.histogram(RETURNED).tag(INDEX_TAG, plan.indexName).record(plan.returned);
+        if (plan.executionTimeMillis >= config.getSlowQueryThreshold().toMillis()) {
+            log.warning("Slow query of shape <{}> took <{}ms> on index <{}>: keysExamined=<{}>, " +
+                            "docsExamined=<{}>, returned=<{}>", shapeKey, plan.executionTimeMillis, plan.indexName,
+                    plan.keysExamined, plan.docsExamined, plan.returned);
+        }
+        shape.record(plan, hinted);
+    }
+
+    private static BsonValue shapeOf(final BsonValue value) {
+        if (value.isDocument()) {
+            final BsonDocument shape = new BsonDocument();
+            value.asDocument().forEach((key, child) -> shape.append(key, isShapeRelevant(key)
+                    ? child
+                    : shapeOf(child)));
+            return shape;
+        } else if (value.isArray() && value.asArray().stream().anyMatch(BsonValue::isDocument)) {
+            final BsonArray shape = new BsonArray();
+            value.asArray().forEach(element -> shape.add(shapeOf(element)));
+            return shape;
+        } else {
+            return PLACEHOLDER;
+        }
+    }
+
+    private static boolean isShapeRelevant(final String key) {
+        return PersistenceConstants.FIELD_INTERNAL_KEY.equals(key) || PersistenceConstants.FIELD_PATH_KEY.equals(key) ||
+                "$exists".equals(key);
+    }
+
+    /**
+     * Statistics of the sampled plans of one query shape.
+     */
+    static final class Shape {
+
+        private final AtomicLong queries = new AtomicLong();
+        private final Map<String, BsonDocument> candidates = new LinkedHashMap<>();
+        private final Map<String, Long> costs = new LinkedHashMap<>();
+        private long samples = 0L;
+        @Nullable private volatile BsonDocument bestHint = null;
+
+        boolean isSampleDue(final int sampleInterval) {
+            return queries.getAndIncrement() % sampleInterval == 0L;
+        }
+
+        Optional<BsonDocument> getBestHint() {
+            return Optional.ofNullable(bestHint);
+        }
+
+        /**
+         * @return the next candidate index to explain the shape with: an unmeasured candidate if any exists, each
+         * candidate in turn otherwise, or an empty optional if no candidate is known yet.
+         */
+        synchronized Optional<BsonDocument> nextCandidate() {
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+            final Optional<String> unmeasured = candidates.keySet().stream()
+                    .filter(name -> !costs.containsKey(name))
+                    .findFirst();
+            final List<String> names = new ArrayList<>(candidates.keySet());
+            final String next = unmeasured.orElseGet(() -> names.get((int) (samples++ % names.size())));
+            return Optional.of(candidates.get(next));
+        }
+
+        synchronized void record(final Plan plan, final boolean hinted) {
+            if (!hinted) {
+                candidates.putAll(plan.candidates);
+            }
+            if (candidates.containsKey(plan.indexName)) {
+                costs.put(plan.indexName, plan.keysExamined + plan.docsExamined);
+            }
+            if (!candidates.isEmpty() && costs.keySet().containsAll(candidates.keySet())) {
+                costs.entrySet()
+                        .stream()
+                        .min(Map.Entry.comparingByValue())
+                        .ifPresent(cheapest -> bestHint = candidates.get(cheapest.getKey()));
+            }
+        }
+    }
+
+    /**
+     * The relevant parts of the explanation of a query.
+     */
+    static final class Plan {
+
+        final String indexName;
+        final Map<String, BsonDocument> candidates;
+        final long keysExamined;
+        final long docsExamined;
+        final long returned;
+        final long executionTimeMillis;
+
+        private Plan(final String indexName, final Map<String, BsonDocument> candidates, final long keysExamined,
+                final long docsExamined, final long returned, final long executionTimeMillis) {
+
+            this.indexName = indexName;
+            this.candidates = candidates;
+            this.keysExamined = keysExamined;
+            this.docsExamined = docsExamined;
+            this.returned = returned;
+            this.executionTimeMillis = executionTimeMillis;
+        }
+
+        static Plan of(final Document explanation) {
+            final BsonDocument document = BsonUtil.toBsonDocument(explanation);
+            final BsonDocument queryPlanner = document.getDocument("queryPlanner", new BsonDocument());
+            final BsonDocument winningPlan = queryPlanner.getDocument("winningPlan", new BsonDocument());
+            final Map<String, BsonDocument> candidates = new LinkedHashMap<>();
+            final Optional<BsonDocument> winningIndexScan = findIndexScan(winningPlan);
+            winningIndexScan.ifPresent(indexScan -> putCandidate(candidates, indexScan));
+            queryPlanner.getArray("rejectedPlans", new BsonArray())
+                    .stream()
+                    .filter(BsonValue::isDocument)
+                    .forEach(rejectedPlan -> findIndexScan(rejectedPlan.asDocument())
+                            .ifPresent(indexScan -> putCandidate(candidates, indexScan)));
+            final BsonDocument stats = document.getDocument("executionStats", new BsonDocument());
+            return new Plan(
+                    winningIndexScan.map(indexScan -> indexScan.getString("indexName").getValue())
+                            .orElse(COLLECTION_SCAN),
+                    candidates,
+                    getLong(stats, "totalKeysExamined"),
+                    getLong(stats, "totalDocsExamined"),
+                    getLong(stats, "nReturned"),
+                    getLong(stats, "executionTimeMillis"));
+        }
+
+        private static Optional<BsonDocument> findIndexScan(final BsonDocument stage) {
+            if (INDEX_SCAN.equals(stage.getString("stage", new BsonString("")).getValue()) &&
+                    stage.containsKey("indexName") && stage.containsKey("keyPattern")) {
+                return Optional.of(stage);
+            }
+            final List<BsonValue> inputStages = new ArrayList<>();
+            Optional.ofNullable(stage.get("inputStage")).ifPresent(inputStages::add);
+            Optional.ofNullable(stage.get("inputStages"))
+                    .filter(BsonValue::isArray)
+                    .map(BsonValue::asArray)
+                    .ifPresent(inputStages::addAll);
+            return inputStages.stream()
+                    .filter(BsonValue::isDocument)
+                    .map(inputStage -> findIndexScan(inputStage.asDocument()))
+                    .flatMap(Optional::stream)
+                    .findFirst();
+        }
+
+        private static void putCandidate(final Map<String, BsonDocument> candidates, final BsonDocument indexScan) {
+            candidates.put(indexScan.getString("indexName").getValue(), indexScan.getDocument("keyPattern"));
+        }
+
+        private static long getLong(final BsonDocument document, final String key) {
+            final BsonValue value = document.get(key);
+            return value != null && value.isNumber() ? value.asNumber().longValue() : 0L;
+        }
+    }
+
+}
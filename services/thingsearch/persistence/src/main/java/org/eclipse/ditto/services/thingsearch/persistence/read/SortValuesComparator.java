@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
+
+/**
+ * Compares search results by their sort values in the order MongoDB sorts them, so that the sorted results of
+ * several collections can be merged into one sorted result.
+ * <p>
+ * Values of different types are ordered as in MongoDB: missing and null values first, then numbers, strings,
+ * objects, arrays and booleans.
+ * </p>
+ */
+final class SortValuesComparator implements Comparator<Document> {
+
+    private final List<SortOption> sortOptions;
+
+    private SortValuesComparator(final List<SortOption> sortOptions) {
+        this.sortOptions = sortOptions;
+    }
+
+    /**
+     * Create a comparator of search results.
+     *
+     * @param sortOptions the sort options of the query; the results must contain the projection of their sort values.
+     * @return the comparator.
+     */
+    static SortValuesComparator of(final List<SortOption> sortOptions) {
+        return new SortValuesComparator(sortOptions);
+    }
+
+    @Override
+    public int compare(final Document document1, final Document document2) {
+        final JsonArray values1 = GetSortBsonVisitor.sortValuesAsArray(document1, sortOptions);
+        final JsonArray values2 = GetSortBsonVisitor.sortValuesAsArray(document2, sortOptions);
+        for (int i = 0; i < sortOptions.size(); ++i) {
+            final int comparison = compareValues(values1.get(i).orElse(JsonValue.nullLiteral()),
+                    values2.get(i).orElse(JsonValue.nullLiteral()));
+            if (comparison != 0) {
+                return sortOptions.get(i).getSortDirection() == SortDirection.DESC ? -comparison : comparison;
+            }
+        }
+        return 0;
+    }
+
+    static int compareValues(final JsonValue value1, final JsonValue value2) {
+        final int typeComparison = Integer.compare(typeRank(value1), typeRank(value2));
+        if (typeComparison != 0) {
+            return typeComparison;
+        } else if (value1.isNumber()) {
+            return value1.isLong() && value2.isLong()
+                    ? Long.compare(value1.asLong(), value2.asLong())
+                    : Double.compare(value1.asDouble(), value2.asDouble());
+        } else if (value1.isString()) {
+            return value1.asString().compareTo(value2.asString());
+        } else if (value1.isBoolean()) {
+            return Boolean.compare(value1.asBoolean(), value2.asBoolean());
+        } else {
+            return value1.toString().compareTo(value2.toString());
+        }
+    }
+
+    private static int typeRank(final JsonValue value) {
+        if (value.isNull()) {
+            return 0;
+        } else if (value.isNumber()) {
+            return 1;
+        } else if (value.isString()) {
+            return 2;
+        } else if (value.isObject()) {
+            return 3;
+        } else if (value.isArray()) {
+            return 4;
+        } else {
+            return 5;
+        }
+    }
+
+}
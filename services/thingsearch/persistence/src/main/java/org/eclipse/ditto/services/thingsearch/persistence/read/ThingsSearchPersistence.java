@@ -18,14 +18,18 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.persistence.query.ThingsAggregation;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
 import akka.NotUsed;
+import akka.japi.Pair;
 import akka.stream.javadsl.Source;
 
 /**
@@ -53,10 +57,11 @@ public interface ThingsSearchPersistence {
      *
      * @param query the query for matching.
      * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
      * @return an {@link Source} which emits the count.
      * @throws NullPointerException if {@code query} is {@code null}.
      */
-    Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds);
+    Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds, @Nullable Set<String> namespaces);
 
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
@@ -92,6 +97,34 @@ public interface ThingsSearchPersistence {
     Source<ThingId, NotUsed> findAllUnlimited(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Stream the IDs for all found documents together with the values of their sort fields, without result size
+     * limit and without timeout. Intended for cursors kept open across several pages of a query.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @return an {@link Source} which emits the IDs paired with the values of the sort options of the query.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    Source<Pair<ThingId, JsonArray>, NotUsed> findAllUnlimitedWithSortValues(Query query,
+            List<String> authorizationSubjectIds, @Nullable Set<String> namespaces);
+
+    /**
+     * Stream the aggregated search results of the things matching the query of an aggregation, one JSON object per
+     * group of things. Only the values of fields visible to the authorization subjects are aggregated.
+     *
+     * @param aggregation the aggregation.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @return an {@link Source} which emits the aggregated search results.
+     * @throws NullPointerException if {@code aggregation} is {@code null}.
+     * @since 2.0.0
+     */
+    Source<JsonObject, NotUsed> aggregate(ThingsAggregation aggregation, List<String> authorizationSubjectIds,
+            @Nullable Set<String> namespaces);
+
     /**
      * Start a stream of metadata of all search index entries not marked for deletion.
      * Do not consider authorization.
@@ -12,9 +12,14 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_LOWER_CASE_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
+
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
+import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.query.criteria.Predicate;
 import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
@@ -27,12 +32,18 @@ import com.mongodb.client.model.Filters;
 public class CreateBsonPredicateVisitor implements PredicateVisitor<Function<String, Bson>> {
 
     private static CreateBsonPredicateVisitor instance;
+    private static CreateBsonPredicateVisitor instanceWithoutLowerCaseValues;
 
     private static final String LEADING_WILDCARD = "^\\Q\\E.*";
     private static final String TRAILING_WILDCARD = ".*\\Q\\E$";
+    private static final String QUOTED_PREFIX_START = "^\\Q";
+    private static final String QUOTE_END = "\\E";
+
+    private final boolean lowerCaseValues;
 
-    private CreateBsonPredicateVisitor() {
+    private CreateBsonPredicateVisitor(final boolean lowerCaseValues) {
         // only internally instantiable
+        this.lowerCaseValues = lowerCaseValues;
     }
 
     /**
@@ -42,11 +53,25 @@ public class CreateBsonPredicateVisitor implements PredicateVisitor<Function<Str
      */
     public static CreateBsonPredicateVisitor getInstance() {
         if (null == instance) {
-            instance = new CreateBsonPredicateVisitor();
+            instance = new CreateBsonPredicateVisitor(true);
         }
         return instance;
     }
 
+    /**
+     * Gets the singleton instance of this {@link CreateBsonPredicateVisitor} for key-value pairs without lower-cased
+     * shadow of their values, i. e. those not of attributes or features.
+     *
+     * @return the singleton instance.
+     * @since 2.0.0
+     */
+    public static CreateBsonPredicateVisitor getInstanceWithoutLowerCaseValues() {
+        if (null == instanceWithoutLowerCaseValues) {
+            instanceWithoutLowerCaseValues = new CreateBsonPredicateVisitor(false);
+        }
+        return instanceWithoutLowerCaseValues;
+    }
+
     /**
      * Creates a Bson from a predicate and its field name.
      *
@@ -91,7 +116,43 @@ public class CreateBsonPredicateVisitor implements PredicateVisitor<Function<Str
         // characteristics. All of these expressions use an index if an appropriate index exists;
         // however, /^a.*/, and /^a.*$/ are slower. /^a/ can stop scanning after matching the prefix."
         final String valueWithoutLeadingOrTrailingWildcard = removeLeadingOrTrailingWildcard(value);
-        return fieldName -> Filters.regex(fieldName, valueWithoutLeadingOrTrailingWildcard, "");
+        return fieldName -> likeFilter(fieldName, valueWithoutLeadingOrTrailingWildcard);
+    }
+
+    @Override
+    public Function<String, Bson> visitILike(final String value) {
+        // the pattern is lower-cased already; key-value pairs of attributes and features hold a lower-cased shadow
+        // of string values
+        final String valueWithoutLeadingOrTrailingWildcard = removeLeadingOrTrailingWildcard(value);
+        return fieldName -> lowerCaseValues && FIELD_INTERNAL_VALUE.equals(fieldName)
+                ? likeFilter(FIELD_INTERNAL_LOWER_CASE_VALUE, valueWithoutLeadingOrTrailingWildcard)
+                : Filters.regex(fieldName, valueWithoutLeadingOrTrailingWildcard, "i");
+    }
+
+    private static Bson likeFilter(final String fieldName, final String regex) {
+        // a prefix match is the range from the prefix to its successor; unlike the bounds of a regex, the bounds of
+        // the range are exact and need no further matching of the index keys
+        return getPrefixRange(regex)
+                .map(range -> (Bson) new Document(fieldName, range))
+                .orElseGet(() -> Filters.regex(fieldName, regex, ""));
+    }
+
+    private static Optional<Document> getPrefixRange(final String regex) {
+        if (!regex.startsWith(QUOTED_PREFIX_START) || !regex.endsWith(QUOTE_END)) {
+            return Optional.empty();
+        }
+        final String prefix = regex.substring(QUOTED_PREFIX_START.length(), regex.length() - QUOTE_END.length());
+        if (prefix.isEmpty() || prefix.contains(QUOTE_END)) {
+            return Optional.empty();
+        }
+        final char lastChar = prefix.charAt(prefix.length() - 1);
+        final char nextChar = (char) (lastChar + 1);
+        if (Character.isSurrogate(lastChar) || Character.isSurrogate(nextChar) || lastChar == Character.MAX_VALUE) {
+            // the successor would not be a valid string ordered after all strings with the prefix
+            return Optional.empty();
+        }
+        final String upperBound = prefix.substring(0, prefix.length() - 1) + nextChar;
+        return Optional.of(new Document("$gte", prefix).append("$lt", upperBound));
     }
 
     private static String removeLeadingOrTrailingWildcard(final String valueString) {
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitor
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 
@@ -27,6 +28,7 @@ import org.eclipse.ditto.model.query.criteria.Predicate;
 import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.AbstractFieldBsonCreator;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetExistsBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetFilterBsonVisitor;
@@ -40,9 +42,16 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
     @Nullable
     private final List<String> authorizationSubjectIds;
+    private final PromotedFields promotedFields;
+    @Nullable private final Collection<String> namespaces;
+
+    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds,
+            final PromotedFields promotedFields,
+            @Nullable final Collection<String> namespaces) {
 
-    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds) {
         this.authorizationSubjectIds = authorizationSubjectIds;
+        this.promotedFields = promotedFields;
+        this.namespaces = namespaces;
     }
 
     /**
@@ -52,8 +61,21 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      * @return the Bson object
      */
     public static Bson sudoApply(final Criteria criteria) {
+        return sudoApply(criteria, PromotedFields.empty());
+    }
+
+    /**
+     * Creates the Bson object used for querying with no restriction of visibility, filtering on fields promoted for
+     * all namespaces where possible.
+     *
+     * @param criteria the criteria to create Bson for.
+     * @param promotedFields the promoted fields.
+     * @return the Bson object
+     * @since 2.0.0
+     */
+    public static Bson sudoApply(final Criteria criteria, final PromotedFields promotedFields) {
         // not adding the deleteAt filter here as this would cause a COLLSCAN for our stats-only sudoCount.
-        return criteria.accept(new CreateBsonVisitor(null));
+        return criteria.accept(new CreateBsonVisitor(null, checkNotNull(promotedFields, "promotedFields"), null));
     }
 
     /**
@@ -64,9 +86,29 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      * @return the Bson object
      */
     public static Bson apply(final Criteria criteria, List<String> authorizationSubjectIds) {
+        return apply(criteria, authorizationSubjectIds, PromotedFields.empty(), null);
+    }
+
+    /**
+     * Creates the Bson object used for querying, filtering on promoted fields in addition to the flattened key-value
+     * array if they are promoted for all namespaces the query is restricted to.
+     *
+     * @param criteria the criteria to create Bson for.
+     * @param authorizationSubjectIds subject ids with which to restrict visibility.
+     * @param promotedFields the promoted fields.
+     * @param namespaces namespaces the criteria are restricted to, or null if they are not restricted by namespace.
+     * @return the Bson object
+     * @since 2.0.0
+     */
+    public static Bson apply(final Criteria criteria, final List<String> authorizationSubjectIds,
+            final PromotedFields promotedFields,
+            @Nullable final Collection<String> namespaces) {
+
         checkNotNull(criteria, "criteria");
         checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
-        final Bson baseFilter = criteria.accept(new CreateBsonVisitor(authorizationSubjectIds));
+        checkNotNull(promotedFields, "promotedFields");
+        final Bson baseFilter =
+                criteria.accept(new CreateBsonVisitor(authorizationSubjectIds, promotedFields, namespaces));
         final Bson globalReadableFilter = AbstractFieldBsonCreator.getGlobalReadBson(authorizationSubjectIds);
         final Bson notDeletedFilter = Filters.exists(FIELD_DELETE_AT, false);
 
@@ -84,7 +126,10 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
     @Override
     public Bson visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
         final Function<String, Bson> predicateCreator = predicate.accept(CreateBsonPredicateVisitor.getInstance());
-        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, authorizationSubjectIds);
+        final Function<String, Bson> predicateCreatorWithoutLowerCaseValues =
+                predicate.accept(CreateBsonPredicateVisitor.getInstanceWithoutLowerCaseValues());
+        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, predicateCreatorWithoutLowerCaseValues,
+                authorizationSubjectIds, promotedFields, namespaces);
     }
 
     @Override
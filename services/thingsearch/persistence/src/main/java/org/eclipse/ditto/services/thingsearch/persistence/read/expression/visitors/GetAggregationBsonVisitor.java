@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DESIRED_PROPERTIES;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ATTRIBUTES_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_FEATURES_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.PROPERTIES;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+
+/**
+ * Creates a MongoDB aggregation expression evaluating to the value of a field visible to the authorization subjects.
+ * <p>
+ * The value of a field in the flattened key-value array is visible if any authorization subject is granted and none
+ * is revoked; if the field has several values, e.g. because it is an array, the first visible value is taken.
+ * Root-level fields are visible whenever the thing is visible.
+ * </p>
+ */
+public final class GetAggregationBsonVisitor implements FilterFieldExpressionVisitor<Object> {
+
+    private static final String ELEMENT = "e";
+    private static final String ELEMENT_FIELD = "$$" + ELEMENT + DOT;
+
+    private final List<String> authorizationSubjectIds;
+
+    private GetAggregationBsonVisitor(final List<String> authorizationSubjectIds) {
+        this.authorizationSubjectIds = authorizationSubjectIds;
+    }
+
+    /**
+     * Creates the aggregation expression of the value of a field.
+     *
+     * @param expression the field expression.
+     * @param authorizationSubjectIds subject IDs to check for authorization.
+     * @return the aggregation expression, either a field path or an expression document.
+     */
+    public static Object apply(final FilterFieldExpression expression, final List<String> authorizationSubjectIds) {
+        return expression.acceptFilterVisitor(new GetAggregationBsonVisitor(authorizationSubjectIds));
+    }
+
+    @Override
+    public Object visitAttribute(final String key) {
+        return visibleValue(FIELD_ATTRIBUTES_PATH + key);
+    }
+
+    @Override
+    public Object visitFeatureIdProperty(final String featureId, final String property) {
+        return visibleValue(FIELD_FEATURES_PATH + featureId + PROPERTIES + property);
+    }
+
+    @Override
+    public Object visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence desiredProperty) {
+        return visibleValue(FIELD_FEATURES_PATH + featureId + DESIRED_PROPERTIES + desiredProperty);
+    }
+
+    @Override
+    public Object visitSimple(final String fieldName) {
+        return fieldName.startsWith(SLASH)
+                ? visibleValue(fieldName)
+                : "$" + fieldName;
+    }
+
+    private Document visibleValue(final String key) {
+        final Document isVisible = new Document("$and", Arrays.asList(
+                new Document("$eq", Arrays.asList(ELEMENT_FIELD + FIELD_INTERNAL_KEY, key)),
+                new Document("$gt", Arrays.asList(countAuthorizationSubjectsIn(FIELD_GRANTED), 0)),
+                new Document("$eq", Arrays.asList(countAuthorizationSubjectsIn(FIELD_REVOKED), 0))
+        ));
+        final Document visibleElements = new Document("$filter", new Document("input", "$" + FIELD_INTERNAL)
+                .append("as", ELEMENT)
+                .append("cond", isVisible));
+        final Document visibleValues = new Document("$map", new Document("input", visibleElements)
+                .append("as", ELEMENT)
+                .append("in", ELEMENT_FIELD + FIELD_INTERNAL_VALUE));
+        return new Document("$arrayElemAt", Arrays.asList(visibleValues, 0));
+    }
+
+    private Document countAuthorizationSubjectsIn(final String field) {
+        return new Document("$size",
+                new Document("$setIntersection", Arrays.asList(ELEMENT_FIELD + field, authorizationSubjectIds)));
+    }
+}
@@ -20,6 +20,7 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.PROPERTIES;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 
@@ -28,6 +29,7 @@ import javax.annotation.Nullable;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 
 import com.mongodb.client.model.Filters;
 
@@ -38,18 +40,29 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
 
     private final Function<String, Bson> predicateFunction;
     private final Bson valueFilter;
+    private final Bson valueFilterWithoutLowerCaseValues;
+    private final PromotedFields promotedFields;
+    @Nullable private final Collection<String> namespaces;
 
     /**
      * Creates a visitor object to create a Mongo Bson object for field-based search criteria.
      *
      * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param predicateFunctionWithoutLowerCaseValues the function for creating the predicate-part of the criteria on
+     * key-value pairs without lower-cased shadow of their values.
      */
     private GetFilterBsonVisitor(final Function<String, Bson> predicateFunction,
-            @Nullable List<String> authorizationSubjectIds) {
+            final Function<String, Bson> predicateFunctionWithoutLowerCaseValues,
+            @Nullable final List<String> authorizationSubjectIds,
+            final PromotedFields promotedFields,
+            @Nullable final Collection<String> namespaces) {
 
         super(authorizationSubjectIds);
         this.predicateFunction = predicateFunction;
         this.valueFilter = predicateFunction.apply(FIELD_INTERNAL_VALUE);
+        this.valueFilterWithoutLowerCaseValues = predicateFunctionWithoutLowerCaseValues.apply(FIELD_INTERNAL_VALUE);
+        this.promotedFields = promotedFields;
+        this.namespaces = namespaces;
     }
 
     /**
@@ -64,7 +77,34 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
             final Function<String, Bson> predicateFunction,
             @Nullable final List<String> authorizationSubjectIds) {
 
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, authorizationSubjectIds));
+        return apply(expression, predicateFunction, predicateFunction, authorizationSubjectIds,
+                PromotedFields.empty(), null);
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based search criteria, filtering on promoted fields in addition to the
+     * flattened key-value array where possible.
+     *
+     * @param expression the expression to create a filter for.
+     * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param predicateFunctionWithoutLowerCaseValues the function for creating the predicate-part of the criteria on
+     * fields other than attributes and features, whose key-value pairs hold no lower-cased shadow of their values.
+     * @param authorizationSubjectIds subject IDs to check for authorization, or null to not restrict visibility at all
+     * @param promotedFields the promoted fields.
+     * @param namespaces namespaces the query is restricted to, or null if it is not restricted by namespace.
+     * @return the complete Bson for the field-based search criteria
+     * @since 2.0.0
+     */
+    public static Bson apply(final FilterFieldExpression expression,
+            final Function<String, Bson> predicateFunction,
+            final Function<String, Bson> predicateFunctionWithoutLowerCaseValues,
+            @Nullable final List<String> authorizationSubjectIds,
+            final PromotedFields promotedFields,
+            @Nullable final Collection<String> namespaces) {
+
+        return expression.acceptFilterVisitor(
+                new GetFilterBsonVisitor(predicateFunction, predicateFunctionWithoutLowerCaseValues,
+                        authorizationSubjectIds, promotedFields, namespaces));
     }
 
     /**
@@ -76,27 +116,30 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
      */
     public static Bson sudoApply(final FilterFieldExpression expression,
             final Function<String, Bson> predicateFunction) {
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, null));
+        return expression.acceptFilterVisitor(
+                new GetFilterBsonVisitor(predicateFunction, predicateFunction, null, PromotedFields.empty(), null));
     }
 
     @Override
     public Bson visitAttribute(final String key) {
-        return matchKeyValue(FIELD_ATTRIBUTES_PATH + key);
+        return matchKeyValue(FIELD_ATTRIBUTES_PATH + key, valueFilter);
     }
 
     @Override
     public Bson visitFeatureIdProperty(final String featureId, final String property) {
-        return matchKeyValue(FIELD_FEATURES_PATH + featureId + PROPERTIES + property);
+        return matchKeyValue(FIELD_FEATURES_PATH + featureId + PROPERTIES + property, valueFilter);
     }
 
     @Override
     public Bson visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence desiredProperty) {
-        return matchKeyValue(FIELD_FEATURES_PATH + featureId + DESIRED_PROPERTIES + desiredProperty);
+        return matchKeyValue(FIELD_FEATURES_PATH + featureId + DESIRED_PROPERTIES + desiredProperty, valueFilter);
     }
 
     @Override
     Bson visitPointer(final String pointer) {
-        return matchKeyValue(pointer);
+        final boolean withLowerCaseValues =
+                pointer.startsWith(FIELD_ATTRIBUTES_PATH) || pointer.startsWith(FIELD_FEATURES_PATH);
+        return matchKeyValue(pointer, withLowerCaseValues ? valueFilter : valueFilterWithoutLowerCaseValues);
     }
 
     @Override
@@ -104,11 +147,21 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
         return predicateFunction.apply(fieldName);
     }
 
-    private Bson matchKeyValue(final String key) {
-        final Bson keyValueFilter = Filters.and(Filters.eq(FIELD_INTERNAL_KEY, key), valueFilter);
-        return Filters.elemMatch(FIELD_INTERNAL,
+    private Bson matchKeyValue(final String key, final Bson valueBson) {
+        final Bson keyValueFilter = Filters.and(Filters.eq(FIELD_INTERNAL_KEY, key), valueBson);
+        final Bson internalFilter = Filters.elemMatch(FIELD_INTERNAL,
                 getAuthorizationBson()
                         .map(authBson -> Filters.and(keyValueFilter, authBson))
                         .orElse(keyValueFilter));
+        if (promotedFields.isPromoted(key, namespaces)) {
+            // the promoted field holds exactly the elements of the key-value array with this key, but only for things
+            // indexed since the field was promoted; the key-value array still finds all other things.
+            final Bson promotedFilter = Filters.elemMatch(PromotedFields.getFieldPath(key),
+                    getAuthorizationBson()
+                            .map(authBson -> Filters.and(valueBson, authBson))
+                            .orElse(valueBson));
+            return Filters.or(promotedFilter, internalFilter);
+        }
+        return internalFilter;
     }
 }
@@ -34,6 +34,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchPartitions;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.reactivestreams.Publisher;
@@ -53,10 +54,12 @@ import akka.stream.javadsl.Source;
  */
 public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUpdaterPersistence {
 
-    private final MongoCollection<Document> collection;
+    private final MongoDatabase database;
+    private final SearchPartitions partitions;
 
-    private MongoThingsSearchUpdaterPersistence(final MongoDatabase database) {
-        collection = database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME);
+    private MongoThingsSearchUpdaterPersistence(final MongoDatabase database, final SearchPartitions partitions) {
+        this.database = database;
+        this.partitions = partitions;
     }
 
     /**
@@ -65,7 +68,19 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
      * @param database the database.
      */
     public static ThingsSearchUpdaterPersistence of(final MongoDatabase database) {
-        return new MongoThingsSearchUpdaterPersistence(database);
+        return of(database, SearchPartitions.empty());
+    }
+
+    /**
+     * Create a search updater persistence of things indexed in the collections of their search partitions.
+     *
+     * @param database the database.
+     * @param partitions the search partitions.
+     * @return the search updater persistence.
+     * @since 2.0.0
+     */
+    public static ThingsSearchUpdaterPersistence of(final MongoDatabase database, final SearchPartitions partitions) {
+        return new MongoThingsSearchUpdaterPersistence(database, partitions);
     }
 
     @Override
@@ -75,11 +90,10 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
                         .stream()
                         .map(String::valueOf)
                         .collect(Collectors.toSet()));
-        final Publisher<Document> publisher =
-                collection.find(filter).projection(new Document()
-                        .append(PersistenceConstants.FIELD_ID, new BsonInt32(1))
-                        .append(PersistenceConstants.FIELD_POLICY_ID, new BsonInt32(1)));
-        return Source.fromPublisher(publisher)
+        final Document projection = new Document()
+                .append(PersistenceConstants.FIELD_ID, new BsonInt32(1))
+                .append(PersistenceConstants.FIELD_POLICY_ID, new BsonInt32(1));
+        return findInAllCollections(filter, projection)
                 .mapConcat(doc -> {
                     final ThingId thingId = ThingId.of(doc.getString(PersistenceConstants.FIELD_ID));
                     final String policyIdString = doc.getString(PersistenceConstants.FIELD_POLICY_ID);
@@ -99,9 +113,8 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
         final PolicyId policyId = policyTag.getEntityId();
         final Bson filter = and(eq(PersistenceConstants.FIELD_POLICY_ID, policyId.toString()), lt(
                 PersistenceConstants.FIELD_POLICY_REVISION, policyTag.getRevision()));
-        final Publisher<Document> publisher =
-                collection.find(filter).projection(new BsonDocument(PersistenceConstants.FIELD_ID, new BsonInt32(1)));
-        return Source.fromPublisher(publisher)
+        final Bson projection = new BsonDocument(PersistenceConstants.FIELD_ID, new BsonInt32(1));
+        return findInAllCollections(filter, projection)
                 .map(doc -> doc.getString(PersistenceConstants.FIELD_ID))
                 .map(ThingId::of);
     }
@@ -114,6 +127,8 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
         final UpdateOptions updateOptions = new UpdateOptions().bypassDocumentValidation(true);
         final WriteModel<Document> writeModel = new UpdateManyModel<>(filter, update, updateOptions);
 
+        final MongoCollection<Document> collection =
+                database.getCollection(partitions.getCollectionName(namespace.toString()));
         return Source.fromPublisher(collection.bulkWrite(Collections.singletonList(writeModel)))
                 .map(bulkWriteResult -> Collections.<Throwable>emptyList())
                 .recoverWithRetries(1, new PFBuilder<Throwable, Source<List<Throwable>, NotUsed>>()
@@ -121,6 +136,15 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
                         .build());
     }
 
+    private Source<Document, NotUsed> findInAllCollections(final Bson filter, final Bson projection) {
+        return Source.from(partitions.getCollectionNames())
+                .flatMapConcat(collectionName -> {
+                    final Publisher<Document> publisher =
+                            database.getCollection(collectionName).find(filter).projection(projection);
+                    return Source.fromPublisher(publisher);
+                });
+    }
+
     private Document thingNamespaceFilter(final CharSequence namespace) {
         return new Document().append(PersistenceConstants.FIELD_NAMESPACE, new BsonString(namespace.toString()));
     }
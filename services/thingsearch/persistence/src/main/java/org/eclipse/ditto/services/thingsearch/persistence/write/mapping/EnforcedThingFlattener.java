@@ -16,9 +16,11 @@ import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
 import static org.eclipse.ditto.services.models.policies.Permission.READ;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_LOWER_CASE_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -45,6 +47,10 @@ import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
  */
 final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>> {
 
+    private static final JsonKey ATTRIBUTES_KEY =
+            Thing.JsonFields.ATTRIBUTES.getPointer().getRoot().orElseThrow(() ->
+                    new IllegalStateException("Impossible: Thing JSON field of attributes have no root!"));
+
     private static final JsonKey FEATURES_KEY =
             Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow(() ->
                     new IllegalStateException("Impossible: Thing JSON field of features have no root!"));
@@ -114,9 +120,11 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
             final EffectedSubjects subjects = computeEffectedSubjectIds(key);
             final BsonArray grants = toBsonArray(subjects.getGranted());
             final BsonArray revokes = toBsonArray(subjects.getRevoked());
-            final Document document = assembleDocument(key, bsonValue, grants, revokes);
+            final boolean withLowerCaseValue = isAttributeOrFeatureKey(key);
+            final Document document = assembleDocument(key, bsonValue, withLowerCaseValue, grants, revokes);
             return replaceFeatureIdByWildcard(key)
-                    .map(replacedKey -> Stream.of(document, assembleDocument(replacedKey, bsonValue, grants, revokes)))
+                    .map(replacedKey -> Stream.of(document,
+                            assembleDocument(replacedKey, bsonValue, withLowerCaseValue, grants, revokes)))
                     .orElse(Stream.of(document));
         } else {
             // Impossible to restrict length of this key-value pair; do not index it.
@@ -135,15 +143,27 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
         return bsonArray;
     }
 
-    private static Document assembleDocument(final CharSequence key, final BsonValue value, final BsonArray grants,
-            final BsonArray revokes) {
+    private static Document assembleDocument(final CharSequence key, final BsonValue value,
+            final boolean withLowerCaseValue, final BsonArray grants, final BsonArray revokes) {
 
-        return new Document().append(FIELD_INTERNAL_KEY, key.toString())
-                .append(FIELD_INTERNAL_VALUE, value)
-                .append(FIELD_GRANTED, grants)
+        final Document document = new Document().append(FIELD_INTERNAL_KEY, key.toString())
+                .append(FIELD_INTERNAL_VALUE, value);
+        if (withLowerCaseValue && value.isString()) {
+            // shadow value for case-insensitive queries on attributes and features served by an index
+            document.append(FIELD_INTERNAL_LOWER_CASE_VALUE,
+                    new BsonString(value.asString().getValue().toLowerCase(Locale.ROOT)));
+        }
+        return document.append(FIELD_GRANTED, grants)
                 .append(FIELD_REVOKED, revokes);
     }
 
+    private static boolean isAttributeOrFeatureKey(final JsonPointer key) {
+        // ilike on other fields does not use the shadow value
+        return key.getRoot()
+                .filter(root -> ATTRIBUTES_KEY.equals(root) || FEATURES_KEY.equals(root))
+                .isPresent();
+    }
+
     private static Optional<CharSequence> replaceFeatureIdByWildcard(final JsonPointer key) {
         return key.getRoot()
                 .filter(FEATURES_KEY::equals)
@@ -15,20 +15,24 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PROMOTED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
 import org.bson.BsonArray;
+import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.Document;
@@ -44,6 +48,7 @@ import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -101,6 +106,29 @@ public final class EnforcedThingMapper {
             final int maxArraySize,
             @Nullable final Metadata oldMetadata) {
 
+        return toWriteModel(thing, enforcer, policyRevision, maxArraySize, oldMetadata, PromotedFields.empty());
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model with promoted fields.
+     *
+     * @param thing the Thing in JSON format.
+     * @param enforcer the policy- or ACL-enforcer of the Thing.
+     * @param policyRevision revision of the policy for an policy enforcer, or any number for an ACL enforcer.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param oldMetadata the meatadata that triggered the search update, possibly containing sender information.
+     * @param promotedFields fields to promote out of the flattened values for the namespace of the Thing.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     * @since 2.0.0
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final int maxArraySize,
+            @Nullable final Metadata oldMetadata,
+            final PromotedFields promotedFields) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final ThingId thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -126,6 +154,12 @@ public final class EnforcedThingMapper {
                         .append(FIELD_SORTING, thingCopyForSorting)
                         .append(FIELD_INTERNAL, flattenedValues);
 
+        final BsonDocument promotedValues =
+                getPromotedValues(flattenedValues, promotedFields.getPointers(thingId.getNamespace()));
+        if (!promotedValues.isEmpty()) {
+            thingDocument.append(FIELD_PROMOTED, promotedValues);
+        }
+
         return ThingWriteModel.of(metadata, thingDocument);
     }
 
@@ -141,6 +175,33 @@ public final class EnforcedThingMapper {
         return bsonArray;
     }
 
+    /**
+     * Copy the flattened values of promoted fields without their keys into an array per promoted field.
+     *
+     * @param flattenedValues the flattened values of a thing.
+     * @param pointers JSON pointers of the promoted fields.
+     * @return document mapping the names of the promoted fields to their flattened values.
+     */
+    private static BsonDocument getPromotedValues(final BsonArray flattenedValues, final Set<String> pointers) {
+        final BsonDocument promotedValues = new BsonDocument();
+        if (!pointers.isEmpty()) {
+            for (final BsonValue element : flattenedValues) {
+                final BsonDocument keyValue = element.asDocument();
+                final String key = keyValue.getString(FIELD_INTERNAL_KEY).getValue();
+                if (pointers.contains(key)) {
+                    final BsonDocument value = keyValue.clone();
+                    value.remove(FIELD_INTERNAL_KEY);
+                    final String fieldName = PromotedFields.getFieldName(key);
+                    if (!promotedValues.containsKey(fieldName)) {
+                        promotedValues.append(fieldName, new BsonArray());
+                    }
+                    promotedValues.getArray(fieldName).add(value);
+                }
+            }
+        }
+        return promotedValues;
+    }
+
     /**
      * Truncate large arrays from the sort field.
      *
@@ -49,15 +49,17 @@ final class BulkWriteResultAckFlow {
     private static final String ERRORS_COUNTER_NAME = "search-index-update-errors";
 
     private final ActorRef updaterShard;
+    private final ContinuousQueries continuousQueries;
     private final Counter errorsCounter;
 
-    private BulkWriteResultAckFlow(final ActorRef updaterShard) {
+    private BulkWriteResultAckFlow(final ActorRef updaterShard, final ContinuousQueries continuousQueries) {
         this.updaterShard = updaterShard;
+        this.continuousQueries = continuousQueries;
         this.errorsCounter = DittoMetrics.counter(ERRORS_COUNTER_NAME);
     }
 
-    static BulkWriteResultAckFlow of(final ActorRef updaterShard) {
-        return new BulkWriteResultAckFlow(updaterShard);
+    static BulkWriteResultAckFlow of(final ActorRef updaterShard, final ContinuousQueries continuousQueries) {
+        return new BulkWriteResultAckFlow(updaterShard, continuousQueries);
     }
 
     Flow<WriteResultAndErrors, String, NotUsed> start(final Duration delay) {
@@ -100,7 +102,9 @@ final class BulkWriteResultAckFlow {
     private void acknowledgeSuccesses(final BitSet failedIndices, final List<AbstractWriteModel> writeModels) {
         for (int i = 0; i < writeModels.size(); ++i) {
             if (!failedIndices.get(i)) {
-                writeModels.get(i).getMetadata().sendAck();
+                final AbstractWriteModel writeModel = writeModels.get(i);
+                writeModel.getMetadata().sendAck();
+                continuousQueries.onWritten(writeModel);
             }
         }
     }
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.common.config.ContinuousQueriesConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.signals.commands.thingsearch.subscription.CreateSubscription;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.SourceQueueWithComplete;
+
+/**
+ * Registry of the continuous subscriptions whose filters are evaluated against each thing written into the search
+ * index by this cluster member.
+ * <p>
+ * The queries are indexed by the namespaces they are restricted to, so that only the queries of the namespace of a
+ * thing and the queries without namespace restriction are evaluated. The evaluation runs in a stream of its own
+ * after the search index confirmed the write of a thing, so that neither the evaluation nor the subscribers slow
+ * down the search updater stream.
+ * </p>
+ * <p>
+ * Each query remembers the things which entered its result set. A thing matching the query before its registration
+ * enters the result set on its first change that still matches. A visible thing not known to the query that does not
+ * match is notified to leave the result set once, because it may have been among the initial search results.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class ContinuousQueries {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContinuousQueries.class);
+
+    private static final ResourceKey THING_ROOT_RESOURCE =
+            ResourceKey.newInstance(THING, JsonFactory.emptyPointer());
+    private static final Permissions READ = Permissions.newInstance(Permission.READ);
+    private static final JsonFieldSelector THING_ID_ALLOWLIST = JsonFactory.newFieldSelector(Thing.JsonFields.ID);
+
+    /**
+     * How many things outside of its result set a query remembers in order to notify their leaving only once.
+     */
+    private static final long MAX_NON_MEMBERS_PER_QUERY = 10_000L;
+
+    private final boolean enabled;
+    private final int maxSubscriptions;
+    private final Map<ActorRef, ContinuousQuery> queries;
+    private final Map<String, Set<ContinuousQuery>> queriesByNamespace;
+    private final Set<ContinuousQuery> queriesWithoutNamespace;
+    private final Cache<AbstractWriteModel, WrittenThing> pendingThings;
+    @Nullable private final SourceQueueWithComplete<WrittenThing> writtenThings;
+
+    private ContinuousQueries(final boolean enabled, final int maxSubscriptions, final int bufferSize,
+            @Nullable final ActorSystem actorSystem) {
+
+        this.enabled = enabled;
+        this.maxSubscriptions = maxSubscriptions;
+        queries = new ConcurrentHashMap<>();
+        queriesByNamespace = new ConcurrentHashMap<>();
+        queriesWithoutNamespace = ConcurrentHashMap.newKeySet();
+        // write models are compared by identity; things whose write models are dropped before being written are
+        // forgotten once the write model is no longer referenced
+        pendingThings = Caffeine.newBuilder().weakKeys().build();
+        if (enabled && actorSystem != null) {
+            writtenThings = Source.<WrittenThing>queue(bufferSize, OverflowStrategy.dropNew())
+                    .flatMapConcat(WrittenThing::withEnforcer)
+                    .to(Sink.foreach(pair -> evaluate(pair.first(), pair.second().orElse(null))))
+                    .run(actorSystem);
+        } else {
+            writtenThings = null;
+        }
+    }
+
+    /**
+     * Create a registry of continuous queries.
+     *
+     * @param config the continuous queries config.
+     * @param actorSystem the actor system to run the evaluation in.
+     * @return the registry.
+     */
+    public static ContinuousQueries of(final ContinuousQueriesConfig config, final ActorSystem actorSystem) {
+        return new ContinuousQueries(config.isEnabled(), config.getMaxSubscriptions(), config.getBufferSize(),
+                actorSystem);
+    }
+
+    /**
+     * @return a disabled registry without continuous queries.
+     */
+    public static ContinuousQueries empty() {
+        return new ContinuousQueries(false, 0, 0, null);
+    }
+
+    /**
+     * @return whether continuous subscriptions are enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Register a continuous subscription. Registering a subscriber again has no effect.
+     *
+     * @param subscriber the subscription actor to notify of changes of the result set; its name is the ID of the
+     * subscription.
+     * @param createSubscription the command creating the subscription.
+     * @return whether the subscriber was not registered before.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if the filter of the command is invalid
+     * or if the maximum number of continuous subscriptions is reached.
+     */
+    public boolean register(final ActorRef subscriber, final CreateSubscription createSubscription) {
+        if (queries.containsKey(subscriber)) {
+            return false;
+        }
+        if (queries.size() >= maxSubscriptions) {
+            throw TooManyRequestsException.newBuilder()
+                    .message("Too many continuous subscriptions.")
+                    .description("At most <" + maxSubscriptions + "> continuous subscriptions are possible. " +
+                            "Please try again later.")
+                    .dittoHeaders(createSubscription.getDittoHeaders())
+                    .build();
+        }
+        final ContinuousQuery query = new ContinuousQuery(subscriber, createSubscription);
+        if (queries.putIfAbsent(subscriber, query) != null) {
+            return false;
+        }
+        if (query.namespaces.isEmpty()) {
+            queriesWithoutNamespace.add(query);
+        } else {
+            query.namespaces.forEach(namespace ->
+                    queriesByNamespace.computeIfAbsent(namespace, ns -> ConcurrentHashMap.newKeySet()).add(query));
+        }
+        return true;
+    }
+
+    /**
+     * Remove the continuous subscription of a subscriber.
+     *
+     * @param subscriber the subscription actor.
+     * @return whether the subscriber was registered.
+     */
+    public boolean remove(final ActorRef subscriber) {
+        final ContinuousQuery query = queries.remove(subscriber);
+        if (query == null) {
+            return false;
+        }
+        queriesWithoutNamespace.remove(query);
+        query.namespaces.forEach(namespace -> queriesByNamespace.computeIfPresent(namespace, (ns, set) -> {
+            set.remove(query);
+            return set.isEmpty() ? null : set;
+        }));
+        return true;
+    }
+
+    /**
+     * @return the number of registered continuous subscriptions.
+     */
+    public int size() {
+        return queries.size();
+    }
+
+    /**
+     * Remember the new state of a thing until its write model is written into the search index.
+     *
+     * @param writeModel the write model of the thing.
+     * @param thing the thing as written into the search index, or null if the thing is deleted from the search index.
+     * @param enforcer source of the enforcer of the thing, empty if the thing is not visible to anybody.
+     */
+    void prepare(final AbstractWriteModel writeModel, @Nullable final JsonObject thing,
+            final Source<Enforcer, NotUsed> enforcer) {
+
+        if (writtenThings != null && !queries.isEmpty()) {
+            pendingThings.put(writeModel,
+                    new WrittenThing(writeModel.getMetadata().getThingId(), thing, enforcer));
+        }
+    }
+
+    /**
+     * Evaluate the registered queries against the thing of a write model after the search index confirmed the write.
+     *
+     * @param writeModel the written write model.
+     */
+    void onWritten(final AbstractWriteModel writeModel) {
+        final WrittenThing writtenThing = pendingThings.asMap().remove(writeModel);
+        if (writtenThing != null && writtenThings != null) {
+            writtenThings.offer(writtenThing).whenComplete((result, error) -> {
+                if (error != null) {
+                    LOGGER.error("Failed to evaluate continuous queries for <{}>", writtenThing.thingId, error);
+                } else if (Objects.equals(result, QueueOfferResult.dropped())) {
+                    LOGGER.warn("Too many written things; not evaluating continuous queries for <{}>",
+                            writtenThing.thingId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evaluate the registered queries against the new state of a thing and notify the subscribers whose result set
+     * changed.
+     *
+     * @param thingId ID of the thing.
+     * @param thing the thing as written into the search index, or null if the thing was deleted.
+     * @param enforcer the enforcer of the thing, or null if the thing is not visible to anybody.
+     */
+    void evaluate(final ThingId thingId, @Nullable final JsonObject thing, @Nullable final Enforcer enforcer) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        for (final ContinuousQuery query : getCandidates(thingId.getNamespace())) {
+            try {
+                query.evaluate(thingId, thing, enforcer);
+            } catch (final RuntimeException e) {
+                LOGGER.error("Failed to evaluate continuous query <{}> for <{}>", query.subscriptionId, thingId, e);
+            }
+        }
+    }
+
+    private void evaluate(final WrittenThing writtenThing, @Nullable final Enforcer enforcer) {
+        evaluate(writtenThing.thingId, writtenThing.thing, enforcer);
+    }
+
+    private Collection<ContinuousQuery> getCandidates(final String namespace) {
+        final Set<ContinuousQuery> namespaceQueries = queriesByNamespace.get(namespace);
+        if (namespaceQueries == null) {
+            return queriesWithoutNamespace;
+        }
+        final List<ContinuousQuery> candidates = new ArrayList<>(queriesWithoutNamespace);
+        candidates.addAll(namespaceQueries);
+        return candidates;
+    }
+
+    private static final class WrittenThing {
+
+        private final ThingId thingId;
+        @Nullable private final JsonObject thing;
+        private final Source<Enforcer, NotUsed> enforcer;
+
+        private WrittenThing(final ThingId thingId, @Nullable final JsonObject thing,
+                final Source<Enforcer, NotUsed> enforcer) {
+            this.thingId = thingId;
+            this.thing = thing;
+            this.enforcer = enforcer;
+        }
+
+        private Source<Pair<WrittenThing, Optional<Enforcer>>, NotUsed> withEnforcer() {
+            // a thing whose enforcer cannot be read is evaluated as invisible
+            return enforcer.take(1)
+                    .map(Optional::of)
+                    .orElse(Source.single(Optional.<Enforcer>empty()))
+                    .recoverWithRetries(1, Throwable.class, () -> Source.single(Optional.empty()))
+                    .map(optionalEnforcer -> Pair.create(this, optionalEnforcer));
+        }
+    }
+
+    private static final class ContinuousQuery {
+
+        private final ActorRef subscriber;
+        private final String subscriptionId;
+        private final Set<String> namespaces;
+        private final Predicate<Thing> predicate;
+        @Nullable private final JsonFieldSelector fields;
+        private final AuthorizationContext authorizationContext;
+        private final DittoHeaders dittoHeaders;
+        private final Set<ThingId> members;
+        private final Cache<ThingId, Boolean> nonMembers;
+
+        private ContinuousQuery(final ActorRef subscriber, final CreateSubscription createSubscription) {
+            this.subscriber = subscriber;
+            subscriptionId = subscriber.path().name();
+            namespaces = createSubscription.getNamespaces().orElse(Set.of());
+            dittoHeaders = createSubscription.getDittoHeaders();
+            predicate = ThingPredicateVisitor.apply(QueryFilterCriteriaFactory.modelBased()
+                    .filterCriteria(createSubscription.getFilter().orElse(null), dittoHeaders));
+            fields = createSubscription.getSelectedFields().orElse(null);
+            authorizationContext = dittoHeaders.getAuthorizationContext();
+            members = ConcurrentHashMap.newKeySet();
+            nonMembers = Caffeine.newBuilder().maximumSize(MAX_NON_MEMBERS_PER_QUERY).build();
+        }
+
+        private void evaluate(final ThingId thingId, @Nullable final JsonObject thing,
+                @Nullable final Enforcer enforcer) {
+
+            final JsonObject item = getMatchingItem(thing, enforcer);
+            if (item != null) {
+                nonMembers.invalidate(thingId);
+                final SubscriptionHasChange.Change change = members.add(thingId)
+                        ? SubscriptionHasChange.Change.ENTER
+                        : SubscriptionHasChange.Change.UPDATE;
+                notifySubscriber(thingId, change, item);
+            } else if (members.remove(thingId)) {
+                nonMembers.put(thingId, Boolean.TRUE);
+                notifySubscriber(thingId, SubscriptionHasChange.Change.LEAVE, null);
+            } else if (isVisible(enforcer) && nonMembers.asMap().putIfAbsent(thingId, Boolean.TRUE) == null) {
+                // the thing may have been among the initial search results; leaving is idempotent for subscribers
+                notifySubscriber(thingId, SubscriptionHasChange.Change.LEAVE, null);
+            }
+        }
+
+        private boolean isVisible(@Nullable final Enforcer enforcer) {
+            return enforcer != null &&
+                    enforcer.hasPartialPermissions(THING_ROOT_RESOURCE, authorizationContext, READ);
+        }
+
+        @Nullable
+        private JsonObject getMatchingItem(@Nullable final JsonObject thing, @Nullable final Enforcer enforcer) {
+            if (thing == null || !isVisible(enforcer)) {
+                return null;
+            }
+            final Thing view = ThingsModelFactory.newThing(
+                    enforcer.buildJsonView(THING_ROOT_RESOURCE, thing, authorizationContext, THING_ID_ALLOWLIST,
+                            READ));
+            if (!predicate.test(view)) {
+                return null;
+            }
+            final JsonObject viewJson = view.toJson();
+            return fields == null ? viewJson : viewJson.get(fields);
+        }
+
+        private void notifySubscriber(final ThingId thingId, final SubscriptionHasChange.Change change,
+                @Nullable final JsonObject item) {
+            subscriber.tell(SubscriptionHasChange.of(subscriptionId, thingId.toString(), change, item, dittoHeaders),
+                    ActorRef.noSender());
+        }
+    }
+
+}
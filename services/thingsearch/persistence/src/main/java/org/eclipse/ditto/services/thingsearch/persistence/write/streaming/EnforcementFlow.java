@@ -34,6 +34,7 @@ import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
@@ -73,18 +74,24 @@ final class EnforcementFlow {
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
+    private final PromotedFields promotedFields;
+    private final ContinuousQueries continuousQueries;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
-            final int maxArraySize) {
+            final int maxArraySize,
+            final PromotedFields promotedFields,
+            final ContinuousQueries continuousQueries) {
 
         this.thingsShardRegion = thingsShardRegion;
         this.policyEnforcerCache = policyEnforcerCache;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
+        this.promotedFields = promotedFields;
+        this.continuousQueries = continuousQueries;
     }
 
     /**
@@ -94,12 +101,16 @@ final class EnforcementFlow {
      * @param thingsShardRegion the shard region to retrieve things from.
      * @param policiesShardRegion the shard region to retrieve policies from.
      * @param cacheDispatcher dispatcher for the enforcer cache.
+     * @param promotedFields fields to promote out of the flattened values of things.
+     * @param continuousQueries continuous subscriptions to evaluate against each thing.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
             final ActorRef policiesShardRegion,
-            final MessageDispatcher cacheDispatcher) {
+            final MessageDispatcher cacheDispatcher,
+            final PromotedFields promotedFields,
+            final ContinuousQueries continuousQueries) {
 
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
         final StreamCacheConfig streamCacheConfig = updaterStreamConfig.getCacheConfig();
@@ -112,7 +123,8 @@ final class EnforcementFlow {
                         .projectValues(PolicyEnforcer::project, PolicyEnforcer::embed);
 
         return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize());
+                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), promotedFields,
+                continuousQueries);
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
@@ -224,30 +236,57 @@ final class EnforcementFlow {
 
         ConsistencyLag.startS4GetEnforcer(metadata);
         if (sudoRetrieveThingResponse == null) {
-            return Source.single(ThingDeleteModel.of(metadata));
+            final AbstractWriteModel deleteModel = ThingDeleteModel.of(metadata);
+            continuousQueries.prepare(deleteModel, null, getKnownEnforcer(metadata));
+            return Source.single(deleteModel);
         } else {
             final JsonObject thing = sudoRetrieveThingResponse.getEntity().asObject();
 
             return getEnforcer(metadata, thing)
                     .map(entry -> {
                         if (entry.exists()) {
+                            final Enforcer enforcer = entry.getValueOrThrow();
                             try {
-                                return EnforcedThingMapper.toWriteModel(thing, entry.getValueOrThrow(),
-                                        entry.getRevision(),
-                                        maxArraySize,
-                                        metadata);
+                                final AbstractWriteModel writeModel =
+                                        EnforcedThingMapper.toWriteModel(thing, enforcer,
+                                                entry.getRevision(),
+                                                maxArraySize,
+                                                metadata,
+                                                promotedFields);
+                                continuousQueries.prepare(writeModel, thing, Source.single(enforcer));
+                                return writeModel;
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
-                                return ThingDeleteModel.of(metadata);
+                                final AbstractWriteModel deleteModel = ThingDeleteModel.of(metadata);
+                                continuousQueries.prepare(deleteModel, null, Source.single(enforcer));
+                                return deleteModel;
                             }
                         } else {
                             // no enforcer; delete thing from search index
-                            return ThingDeleteModel.of(metadata);
+                            final AbstractWriteModel deleteModel = ThingDeleteModel.of(metadata);
+                            continuousQueries.prepare(deleteModel, null, Source.empty());
+                            return deleteModel;
                         }
                     });
         }
     }
 
+    /**
+     * Get the enforcer of the last known policy of a thing that can no longer be retrieved, so that continuous
+     * subscriptions allowed to see the thing are notified of its deletion. The enforcer is read only when the
+     * continuous queries are evaluated, i.e. after the thing was deleted from the search index.
+     *
+     * @param metadata metadata of the thing.
+     * @return source of the enforcer or an empty source.
+     */
+    private Source<Enforcer, NotUsed> getKnownEnforcer(final Metadata metadata) {
+        return metadata.getPolicyId()
+                .map(policyId -> readCachedEnforcer(metadata, getPolicyEntityId(policyId), 1)
+                        .filter(Entry::exists)
+                        .map(Entry::getValueOrThrow))
+                .orElseGet(Source::empty);
+    }
+
     /**
      * Get the enforcer of a thing or an empty source if it does not exist.
      *
@@ -12,13 +12,16 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
-import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
-
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
 import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchPartitions;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
@@ -53,14 +56,22 @@ final class MongoSearchUpdaterFlow {
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
 
-    private final MongoCollection<Document> collection;
-    private final MongoCollection<Document> collectionWithAcknowledgements;
-
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection,
-            final PersistenceStreamConfig persistenceConfig) {
-        this.collection = collection;
-        this.collectionWithAcknowledgements = collection.withWriteConcern(
-                persistenceConfig.getWithAcknowledgementsWriteConcern());
+    private final SearchPartitions partitions;
+    private final Map<String, MongoCollection<Document>> collections;
+    private final Map<String, MongoCollection<Document>> collectionsWithAcknowledgements;
+
+    private MongoSearchUpdaterFlow(final MongoDatabase database,
+            final PersistenceStreamConfig persistenceConfig,
+            final SearchPartitions partitions) {
+        this.partitions = partitions;
+        collections = new HashMap<>();
+        collectionsWithAcknowledgements = new HashMap<>();
+        for (final String collectionName : partitions.getCollectionNames()) {
+            final MongoCollection<Document> collection = database.getCollection(collectionName);
+            collections.put(collectionName, collection);
+            collectionsWithAcknowledgements.put(collectionName, collection.withWriteConcern(
+                    persistenceConfig.getWithAcknowledgementsWriteConcern()));
+        }
     }
 
     /**
@@ -72,7 +83,22 @@ final class MongoSearchUpdaterFlow {
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database,
             final PersistenceStreamConfig persistenceConfig) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME), persistenceConfig);
+        return of(database, persistenceConfig, SearchPartitions.empty());
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object writing things into the collections of their search partitions.
+     *
+     * @param database the MongoDB database.
+     * @param persistenceConfig the persistence configuration for the search updater stream.
+     * @param partitions the search partitions.
+     * @return the MongoSearchUpdaterFlow object.
+     * @since 2.0.0
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database,
+            final PersistenceStreamConfig persistenceConfig,
+            final SearchPartitions partitions) {
+        return new MongoSearchUpdaterFlow(database, persistenceConfig, partitions);
     }
 
 
@@ -93,7 +119,8 @@ final class MongoSearchUpdaterFlow {
 
         final Flow<Source<AbstractWriteModel, NotUsed>, List<AbstractWriteModel>, NotUsed> batchFlow =
                 Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.grouped(maxBulkSize));
+                        .flatMapConcat(source -> source.grouped(maxBulkSize))
+                        .mapConcat(this::splitByCollection);
 
         final Flow<List<AbstractWriteModel>, WriteResultAndErrors, NotUsed> writeFlow =
                 Flow.<List<AbstractWriteModel>>create()
@@ -113,11 +140,13 @@ final class MongoSearchUpdaterFlow {
                 })
                 .collect(Collectors.toList());
 
+        // bulks are split by collection before
+        final String collectionName = getCollectionName(abstractWriteModels.get(0));
         final MongoCollection<Document> theCollection;
         if (shouldAcknowledge) {
-            theCollection = this.collection;
+            theCollection = collections.get(collectionName);
         } else {
-            theCollection = this.collectionWithAcknowledgements;
+            theCollection = collectionsWithAcknowledgements.get(collectionName);
         }
 
         return Source.fromPublisher(theCollection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
@@ -138,6 +167,21 @@ final class MongoSearchUpdaterFlow {
                 });
     }
 
+    private List<List<AbstractWriteModel>> splitByCollection(final List<AbstractWriteModel> writeModels) {
+        if (!partitions.isPartitioned()) {
+            return List.of(writeModels);
+        }
+        final Map<String, List<AbstractWriteModel>> writeModelsByCollection = new LinkedHashMap<>();
+        writeModels.forEach(writeModel -> writeModelsByCollection
+                .computeIfAbsent(getCollectionName(writeModel), collectionName -> new ArrayList<>())
+                .add(writeModel));
+        return new ArrayList<>(writeModelsByCollection.values());
+    }
+
+    private String getCollectionName(final AbstractWriteModel writeModel) {
+        return partitions.getCollectionName(writeModel.getMetadata().getThingId().getNamespace());
+    }
+
     private static <T> Flow<List<T>, StartedTimer, NotUsed> createStartTimerFlow() {
         return Flow.fromFunction(writeModels -> {
             DittoMetrics.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record((long) writeModels.size());
@@ -24,6 +24,8 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchPartitions;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
@@ -81,6 +83,10 @@ public final class SearchUpdaterStream {
      * @param updaterShard shard region of search updaters.
      * @param changeQueueActor reference of the change queue actor.
      * @param database MongoDB database.
+     * @param blockedNamespaces the blocked namespaces.
+     * @param promotedFields fields to promote out of the flattened values of things.
+     * @param partitions the search partitions to write things into.
+     * @param continuousQueries continuous subscriptions to evaluate against each thing written into the search index.
      * @return a SearchUpdaterStream object.
      */
     public static SearchUpdaterStream of(final UpdaterConfig updaterConfig,
@@ -90,7 +96,10 @@ public final class SearchUpdaterStream {
             final ActorRef updaterShard,
             final ActorRef changeQueueActor,
             final MongoDatabase database,
-            final BlockedNamespaces blockedNamespaces) {
+            final BlockedNamespaces blockedNamespaces,
+            final PromotedFields promotedFields,
+            final SearchPartitions partitions,
+            final ContinuousQueries continuousQueries) {
 
         final StreamConfig streamConfig = updaterConfig.getStreamConfig();
 
@@ -99,12 +108,14 @@ public final class SearchUpdaterStream {
         final MessageDispatcher messageDispatcher = actorSystem.dispatchers().lookup(dispatcherName);
 
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher);
+                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher, promotedFields,
+                        continuousQueries);
 
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
-                streamConfig.getPersistenceConfig());
+                streamConfig.getPersistenceConfig(), partitions);
 
-        final BulkWriteResultAckFlow bulkWriteResultAckFlow = BulkWriteResultAckFlow.of(updaterShard);
+        final BulkWriteResultAckFlow bulkWriteResultAckFlow =
+                BulkWriteResultAckFlow.of(updaterShard, continuousQueries);
 
         return new SearchUpdaterStream(updaterConfig, enforcementFlow, mongoSearchUpdaterFlow, bulkWriteResultAckFlow,
                 changeQueueActor, blockedNamespaces);
@@ -24,6 +24,7 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.services.thingsearch.common.config.DefaultPersistenceStreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchPartitions;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
@@ -54,8 +55,19 @@ public final class TestSearchUpdaterStream {
      * @return the test stream.
      */
     public static TestSearchUpdaterStream of(final MongoDatabase database) {
+        return of(database, SearchPartitions.empty());
+    }
+
+    /**
+     * Create a test stream writing things into the collections of their search partitions.
+     *
+     * @param database the MongoDB database.
+     * @param partitions the search partitions.
+     * @return the test stream.
+     */
+    public static TestSearchUpdaterStream of(final MongoDatabase database, final SearchPartitions partitions) {
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
-                DefaultPersistenceStreamConfig.of(ConfigFactory.empty()));
+                DefaultPersistenceStreamConfig.of(ConfigFactory.empty()), partitions);
         return new TestSearchUpdaterStream(mongoSearchUpdaterFlow);
     }
 
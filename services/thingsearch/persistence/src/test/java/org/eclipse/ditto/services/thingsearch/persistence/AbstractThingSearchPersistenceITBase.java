@@ -168,7 +168,7 @@ public abstract class AbstractThingSearchPersistenceITBase {
     }
 
     protected Long count(final Query query, @Nullable final List<String> subjectIds) {
-        return readPersistence.count(query, subjectIds)
+        return readPersistence.count(query, subjectIds, null)
                 .runWith(Sink.head(), actorSystem)
                 .toCompletableFuture()
                 .join();
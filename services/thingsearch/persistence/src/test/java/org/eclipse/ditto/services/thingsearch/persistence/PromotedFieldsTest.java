@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+import org.junit.Test;
+
+/**
+ * Tests {@link PromotedFields}.
+ */
+public final class PromotedFieldsTest {
+
+    private static final PromotedFields UNDER_TEST = PromotedFields.byNamespace("{" +
+            "\"ns1\":[\"/attributes/serialNumber\",\"/attributes/location\"]," +
+            "\"ns2\":[\"/attributes/serialNumber\"]," +
+            "\"*\":[\"/attributes/model\"]" +
+            "}");
+
+    @Test
+    public void getPointersIncludesFieldsOfAllNamespaces() {
+        assertThat(UNDER_TEST.getPointers("ns1"))
+                .containsExactlyInAnyOrder("/attributes/serialNumber", "/attributes/location", "/attributes/model");
+        assertThat(UNDER_TEST.getPointers("ns3")).containsExactly("/attributes/model");
+        assertThat(PromotedFields.empty().getPointers("ns1")).isEmpty();
+    }
+
+    @Test
+    public void fieldIsPromotedOnlyIfPromotedForAllNamespacesOfQuery() {
+        assertThat(UNDER_TEST.isPromoted("/attributes/serialNumber", Set.of("ns1", "ns2"))).isTrue();
+        assertThat(UNDER_TEST.isPromoted("/attributes/location", Set.of("ns1", "ns2"))).isFalse();
+        assertThat(UNDER_TEST.isPromoted("/attributes/serialNumber", null)).isFalse();
+        assertThat(UNDER_TEST.isPromoted("/attributes/serialNumber", Set.of())).isFalse();
+        assertThat(UNDER_TEST.isPromoted("/attributes/model", null)).isTrue();
+    }
+
+    @Test
+    public void oneIndexPerPromotedField() {
+        final List<Index> indices = UNDER_TEST.getIndices();
+
+        assertThat(indices).extracting(Index::getName).containsExactly(
+                "promoted:/attributes/location", "promoted:/attributes/model", "promoted:/attributes/serialNumber");
+        assertThat(indices.get(0).getKeys()).isEqualTo(new BsonDocument()
+                .append("p./attributes/location.v", new BsonInt32(1))
+                .append("p./attributes/location.g", new BsonInt32(1))
+                .append("_id", new BsonInt32(1)));
+    }
+
+    @Test
+    public void escapeFieldNames() {
+        assertThat(PromotedFields.getFieldPath("/attributes/a.b$c%d")).isEqualTo("p./attributes/a%2Eb%24c%25d");
+    }
+
+    @Test
+    public void rejectNonPointers() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PromotedFields.byNamespace("{\"ns1\":\"/attributes/serialNumber\"}"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PromotedFields.byNamespace("{\"ns1\":[\"attributes/serialNumber\"]}"));
+    }
+
+}
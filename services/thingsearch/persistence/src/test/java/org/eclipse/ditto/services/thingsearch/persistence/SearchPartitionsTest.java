@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link SearchPartitions}.
+ */
+public final class SearchPartitionsTest {
+
+    private static final SearchPartitions UNDER_TEST = SearchPartitions.byNamespace("{" +
+            "\"large\":[\"ns1\",\"ns2\"]," +
+            "\"huge\":[\"ns3\"]" +
+            "}");
+
+    @Test
+    public void collectionNamesStartWithDefaultCollection() {
+        assertThat(UNDER_TEST.getCollectionNames())
+                .containsExactly("searchThings", "searchThings_huge", "searchThings_large");
+        assertThat(SearchPartitions.empty().getCollectionNames()).containsExactly("searchThings");
+        assertThat(SearchPartitions.empty().isPartitioned()).isFalse();
+    }
+
+    @Test
+    public void routeNamespacesToTheirPartitions() {
+        assertThat(UNDER_TEST.getCollectionName("ns1")).isEqualTo("searchThings_large");
+        assertThat(UNDER_TEST.getCollectionName("ns3")).isEqualTo("searchThings_huge");
+        assertThat(UNDER_TEST.getCollectionName("ns4")).isEqualTo("searchThings");
+    }
+
+    @Test
+    public void queriesRestrictedByNamespaceReadOnlyTheirPartitions() {
+        assertThat(UNDER_TEST.getCollectionNames(List.of("ns1", "ns2"))).containsExactly("searchThings_large");
+        assertThat(UNDER_TEST.getCollectionNames(List.of("ns4", "ns3")))
+                .containsExactly("searchThings", "searchThings_huge");
+        assertThat(UNDER_TEST.getCollectionNames(null)).isEqualTo(UNDER_TEST.getCollectionNames());
+        assertThat(UNDER_TEST.getCollectionNames(List.of())).isEqualTo(UNDER_TEST.getCollectionNames());
+    }
+
+    @Test
+    public void rejectInvalidPartitions() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SearchPartitions.byNamespace("{\"large tenant\":[\"ns1\"]}"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SearchPartitions.byNamespace("{\"large\":\"ns1\"}"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SearchPartitions.byNamespace("{\"large\":[\"ns1\"],\"huge\":[\"ns1\"]}"));
+    }
+
+}
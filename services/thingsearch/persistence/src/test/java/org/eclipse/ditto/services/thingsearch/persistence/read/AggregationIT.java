@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.query.ThingsAggregation;
+import org.junit.Test;
+
+/**
+ * Tests aggregations of search results on the persistence.
+ */
+public final class AggregationIT extends AbstractReadPersistenceITBase {
+
+    private static final String NAMESPACE = "aggregation";
+    private static final String FIRMWARE = "firmware";
+    private static final String COUNTER = "counter";
+
+    @Test
+    public void groupByAttributeWithMinAndMax() {
+        insertThing("thing1", "1.0", 3);
+        insertThing("thing2", "1.0", 7);
+        insertThing("thing3", "2.0", 5);
+
+        final List<JsonObject> results = aggregate(cf.any(), KNOWN_SUBJECTS);
+
+        assertThat(results).containsExactlyInAnyOrder(
+                JsonObject.of("{\"groupBy\":{\"attributes/firmware\":\"1.0\"},\"count\":2," +
+                        "\"min\":{\"attributes/counter\":3},\"max\":{\"attributes/counter\":7}}"),
+                JsonObject.of("{\"groupBy\":{\"attributes/firmware\":\"2.0\"},\"count\":1," +
+                        "\"min\":{\"attributes/counter\":5},\"max\":{\"attributes/counter\":5}}")
+        );
+    }
+
+    @Test
+    public void aggregateOnlyMatchingThings() {
+        insertThing("thing1", "1.0", 3);
+        insertThing("thing2", "2.0", 5);
+
+        final List<JsonObject> results = aggregate(
+                cf.fieldCriteria(fef.filterByAttribute(COUNTER), cf.gt(4)), KNOWN_SUBJECTS);
+
+        assertThat(results).containsExactly(
+                JsonObject.of("{\"groupBy\":{\"attributes/firmware\":\"2.0\"},\"count\":1," +
+                        "\"min\":{\"attributes/counter\":5},\"max\":{\"attributes/counter\":5}}")
+        );
+    }
+
+    @Test
+    public void aggregateNothingWithoutAuthorization() {
+        insertThing("thing1", "1.0", 3);
+
+        assertThat(aggregate(cf.any(), Collections.emptyList())).isEmpty();
+    }
+
+    private List<JsonObject> aggregate(final Criteria criteria, final List<String> subjectIds) {
+        final ThingsAggregation aggregation = ThingsAggregation.of(qbf.newUnlimitedBuilder(criteria).build(),
+                Map.of("attributes/" + FIRMWARE, fef.filterByAttribute(FIRMWARE)),
+                Map.of("attributes/" + COUNTER, fef.filterByAttribute(COUNTER)),
+                Map.of("attributes/" + COUNTER, fef.filterByAttribute(COUNTER)));
+        return waitFor(readPersistence.aggregate(aggregation, subjectIds, null));
+    }
+
+    private void insertThing(final String name, final String firmware, final int counter) {
+        final ThingId thingId = TestConstants.thingId(NAMESPACE, name);
+        persistThingV2(createThingV2(thingId)
+                .setAttribute(FIRMWARE, firmware)
+                .setAttribute(COUNTER, counter));
+    }
+
+}
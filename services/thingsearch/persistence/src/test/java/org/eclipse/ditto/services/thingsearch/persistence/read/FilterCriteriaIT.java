@@ -275,6 +275,18 @@ public final class FilterCriteriaIT extends AbstractReadPersistenceITBase {
         assertThat(result).containsOnly(THING4_ID);
     }
 
+    /**
+     * Test to check case-insensitive starts with and contains functionality
+     */
+    @Test
+    public void queryByILikeString() {
+        final Criteria startsWith = cf.fieldCriteria(ef.filterByAttribute(KNOWN_REGEX_ATTR), cf.ilike("das IST*"));
+        assertThat(findForCriteria(startsWith)).containsOnly(THING1_ID);
+
+        final Criteria contains = cf.fieldCriteria(ef.filterByAttribute(KNOWN_REGEX_ATTR), cf.ilike("*TESTSTRING*"));
+        assertThat(findForCriteria(contains)).containsOnly(THING3_ID, THING4_ID);
+    }
+
     private void insertThings() {
         final Attributes attributes1 = Attributes.newBuilder()
                 .set(KNOWN_STRING_ATTR, THING1_KNOWN_STR_ATTR_VALUE)
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchPartitions;
+import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.TestSearchUpdaterStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.japi.Pair;
+import akka.stream.javadsl.Source;
+
+/**
+ * Tests queries spanning the default collection and a partition of the search index.
+ */
+public final class PartitionedSearchIT extends AbstractReadPersistenceITBase {
+
+    private static final String SMALL_NAMESPACE = "partitioned.small";
+    private static final String LARGE_NAMESPACE = "partitioned.large";
+    private static final String PARTITION = "large";
+    private static final String PARTITIONS_BY_NAMESPACE = "{\"" + PARTITION + "\":[\"" + LARGE_NAMESPACE + "\"]}";
+    private static final String COUNTER = "counter";
+
+    // things of both collections with interleaved counters 1 to 6
+    private static final ThingId SMALL_1 = TestConstants.thingId(SMALL_NAMESPACE, "thing1");
+    private static final ThingId LARGE_2 = TestConstants.thingId(LARGE_NAMESPACE, "thing2");
+    private static final ThingId SMALL_3 = TestConstants.thingId(SMALL_NAMESPACE, "thing3");
+    private static final ThingId LARGE_4 = TestConstants.thingId(LARGE_NAMESPACE, "thing4");
+    private static final ThingId SMALL_5 = TestConstants.thingId(SMALL_NAMESPACE, "thing5");
+    private static final ThingId LARGE_6 = TestConstants.thingId(LARGE_NAMESPACE, "thing6");
+
+    @Before
+    public void partitionSearchIndex() {
+        readPersistence = readPersistence.withPartitionsByNamespace(PARTITIONS_BY_NAMESPACE);
+        readPersistence.initializeIndices().toCompletableFuture().join();
+        writePersistence = TestSearchUpdaterStream.of(getClient().getDefaultDatabase(),
+                SearchPartitions.byNamespace(PARTITIONS_BY_NAMESPACE));
+
+        insertThing(SMALL_1, 1);
+        insertThing(LARGE_2, 2);
+        insertThing(SMALL_3, 3);
+        insertThing(LARGE_4, 4);
+        insertThing(SMALL_5, 5);
+        insertThing(LARGE_6, 6);
+    }
+
+    @After
+    public void dropPartition() {
+        waitFor(Source.fromPublisher(getClient().getDefaultDatabase()
+                .getCollection(PersistenceConstants.THINGS_COLLECTION_NAME + "_" + PARTITION)
+                .drop()));
+    }
+
+    @Test
+    public void findAllMergesPartitionsInSortOrderBeforeSkipAndLimit() {
+        final Query query = qbf.newBuilder(cf.any())
+                .sort(sortByCounter(SortDirection.ASC))
+                .skip(1)
+                .limit(3)
+                .build();
+
+        assertThat(findAll(query)).containsExactly(LARGE_2, SMALL_3, LARGE_4);
+    }
+
+    @Test
+    public void findAllMergesPartitionsInDescendingSortOrder() {
+        final Query query = qbf.newBuilder(cf.any())
+                .sort(sortByCounter(SortDirection.DESC))
+                .skip(2)
+                .limit(3)
+                .build();
+
+        assertThat(findAll(query)).containsExactly(LARGE_4, SMALL_3, LARGE_2);
+    }
+
+    @Test
+    public void findAllReadsOnlyPartitionsOfNamespaces() {
+        final Query query = qbf.newBuilder(cf.any())
+                .sort(sortByCounter(SortDirection.ASC))
+                .skip(1)
+                .limit(3)
+                .build();
+
+        assertThat(waitFor(readPersistence.findAll(query, KNOWN_SUBJECTS, Set.of(LARGE_NAMESPACE))).get(0))
+                .containsExactly(LARGE_4, LARGE_6);
+    }
+
+    @Test
+    public void countSumsPartitionsAndAppliesSkipAndLimit() {
+        assertThat(count(qbf.newUnlimitedBuilder(cf.any()).build())).isEqualTo(6L);
+        assertThat(count(qbf.newBuilder(cf.any()).skip(2).limit(3).build())).isEqualTo(3L);
+        assertThat(count(qbf.newBuilder(cf.any()).skip(5).limit(3).build())).isEqualTo(1L);
+        assertThat(waitFor(readPersistence.count(qbf.newUnlimitedBuilder(cf.any()).build(), KNOWN_SUBJECTS,
+                Set.of(LARGE_NAMESPACE)))).containsExactly(3L);
+    }
+
+    @Test
+    public void cursorPagesThroughPartitionsInSortOrder() {
+        final List<ThingId> results = new ArrayList<>();
+        List<Pair<ThingId, JsonArray>> page = findPage(null);
+        while (!page.isEmpty()) {
+            page.forEach(result -> results.add(result.first()));
+            page = findPage(page.get(page.size() - 1).second());
+        }
+
+        assertThat(results).containsExactly(SMALL_1, LARGE_2, SMALL_3, LARGE_4, SMALL_5, LARGE_6);
+    }
+
+    /**
+     * Find the next page of 2 results after the sort values of the last result of the previous page, as the search
+     * cursor does.
+     */
+    private List<Pair<ThingId, JsonArray>> findPage(@Nullable final JsonArray lastSortValues) {
+        final Criteria criteria;
+        if (null == lastSortValues) {
+            criteria = cf.any();
+        } else {
+            final JsonValue lastCounter = lastSortValues.get(0).orElseThrow();
+            final JsonValue lastThingId = lastSortValues.get(1).orElseThrow();
+            criteria = cf.or(List.of(
+                    cf.fieldCriteria(fef.filterByAttribute(COUNTER), cf.gt(lastCounter.asInt())),
+                    cf.and(List.of(
+                            cf.fieldCriteria(fef.filterByAttribute(COUNTER), cf.eq(lastCounter.asInt())),
+                            cf.fieldCriteria(fef.filterByThingId(), cf.gt(lastThingId.asString()))))));
+        }
+        final Query query = qbf.newUnlimitedBuilder(criteria).sort(sortByCounter(SortDirection.ASC)).build();
+        return waitFor(readPersistence.findAllUnlimitedWithSortValues(query, KNOWN_SUBJECTS, null).take(2));
+    }
+
+    private static List<SortOption> sortByCounter(final SortDirection sortDirection) {
+        return List.of(new SortOption(fef.sortByAttribute(COUNTER), sortDirection),
+                new SortOption(fef.sortByThingId(), sortDirection));
+    }
+
+    private void insertThing(final ThingId thingId, final int counter) {
+        persistThingV2(createThingV2(thingId).setAttribute(COUNTER, counter));
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.Test;
+
+/**
+ * Tests {@link QueryPlanner}.
+ */
+public final class QueryPlannerTest {
+
+    @Test
+    public void shapeIgnoresValuesButKeepsKeys() {
+        final BsonDocument filter1 = BsonDocument.parse("{\"$and\":[" +
+                "{\"d\":{\"$elemMatch\":{\"k\":\"/attributes/a\",\"v\":{\"$eq\":5},\"g\":{\"$in\":[\"s1\"]}}}}," +
+                "{\"_namespace\":{\"$in\":[\"ns1\",\"ns2\"]}},{\"deleteAt\":{\"$exists\":false}}]}");
+        final BsonDocument filter2 = BsonDocument.parse("{\"$and\":[" +
+                "{\"d\":{\"$elemMatch\":{\"k\":\"/attributes/a\",\"v\":{\"$eq\":\"x\"},\"g\":{\"$in\":[\"s2\",\"s3\"]}}}}," +
+                "{\"_namespace\":{\"$in\":[\"ns3\"]}},{\"deleteAt\":{\"$exists\":false}}]}");
+        final BsonDocument filter3 = BsonDocument.parse("{\"$and\":[" +
+                "{\"d\":{\"$elemMatch\":{\"k\":\"/attributes/b\",\"v\":{\"$eq\":5},\"g\":{\"$in\":[\"s1\"]}}}}," +
+                "{\"_namespace\":{\"$in\":[\"ns1\",\"ns2\"]}},{\"deleteAt\":{\"$exists\":false}}]}");
+        final BsonDocument sort = BsonDocument.parse("{\"_id\":1}");
+
+        assertThat(QueryPlanner.shapeOf(filter1, sort)).isEqualTo(QueryPlanner.shapeOf(filter2, sort))
+                .isNotEqualTo(QueryPlanner.shapeOf(filter3, sort))
+                .isNotEqualTo(QueryPlanner.shapeOf(filter1, BsonDocument.parse("{\"_id\":-1}")))
+                .contains("/attributes/a")
+                .doesNotContain("ns1", "s1");
+    }
+
+    @Test
+    public void parseExplanation() {
+        final QueryPlanner.Plan plan = QueryPlanner.Plan.of(explanation("index1", 100, 40, 10, 1200, "index2"));
+
+        assertThat(plan.indexName).isEqualTo("index1");
+        assertThat(plan.candidates).containsOnlyKeys("index1", "index2");
+        assertThat(plan.keysExamined).isEqualTo(100L);
+        assertThat(plan.docsExamined).isEqualTo(40L);
+        assertThat(plan.returned).isEqualTo(10L);
+        assertThat(plan.executionTimeMillis).isEqualTo(1200L);
+    }
+
+    @Test
+    public void hintCheapestCandidateAfterAllAreMeasured() {
+        final QueryPlanner.Shape underTest = new QueryPlanner.Shape();
+        assertThat(underTest.nextCandidate()).isEmpty();
+
+        underTest.record(QueryPlanner.Plan.of(explanation("index1", 100, 100, 10, 5, "index2")), false);
+        assertThat(underTest.getBestHint()).isEmpty();
+        assertThat(underTest.nextCandidate()).contains(keyPattern("index2"));
+
+        underTest.record(QueryPlanner.Plan.of(explanation("index2", 10, 10, 10, 1)), true);
+        assertThat(underTest.getBestHint()).contains(keyPattern("index2"));
+
+        underTest.record(QueryPlanner.Plan.of(explanation("index2", 500, 500, 10, 50)), true);
+        assertThat(underTest.getBestHint()).contains(keyPattern("index1"));
+    }
+
+    @Test
+    public void sampleFirstQueryAndEveryNthQueryAfterIt() {
+        final QueryPlanner.Shape underTest = new QueryPlanner.Shape();
+
+        assertThat(underTest.isSampleDue(3)).isTrue();
+        assertThat(underTest.isSampleDue(3)).isFalse();
+        assertThat(underTest.isSampleDue(3)).isFalse();
+        assertThat(underTest.isSampleDue(3)).isTrue();
+    }
+
+    private static Document explanation(final String winningIndex, final int keysExamined, final int docsExamined,
+            final int returned, final int executionTimeMillis, final String... rejectedIndices) {
+
+        final StringBuilder rejectedPlans = new StringBuilder();
+        for (final String rejectedIndex : rejectedIndices) {
+            rejectedPlans.append(rejectedPlans.length() == 0 ? "" : ",").append(fetch(rejectedIndex));
+        }
+        return Document.parse("{\"queryPlanner\":{" +
+                "\"winningPlan\":" + fetch(winningIndex) + "," +
+                "\"rejectedPlans\":[" + rejectedPlans + "]}," +
+                "\"executionStats\":{" +
+                "\"nReturned\":" + returned + "," +
+                "\"executionTimeMillis\":" + executionTimeMillis + "," +
+                "\"totalKeysExamined\":" + keysExamined + "," +
+                "\"totalDocsExamined\":" + docsExamined + "}}");
+    }
+
+    private static String fetch(final String index) {
+        return "{\"stage\":\"FETCH\",\"inputStage\":{\"stage\":\"IXSCAN\",\"indexName\":\"" + index + "\"," +
+                "\"keyPattern\":" + keyPattern(index).toJson() + "}}";
+    }
+
+    private static BsonDocument keyPattern(final String index) {
+        return BsonDocument.parse("{\"" + index + "\":1}");
+    }
+
+}
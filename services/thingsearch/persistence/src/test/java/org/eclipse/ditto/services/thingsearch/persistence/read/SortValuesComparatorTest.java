@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.expression.SortFieldExpression;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
+import org.junit.Test;
+
+/**
+ * Tests {@link SortValuesComparator}.
+ */
+public final class SortValuesComparatorTest {
+
+    private static final ThingsFieldExpressionFactory FEF = new ThingsFieldExpressionFactoryImpl();
+    private static final SortFieldExpression BY_ATTRIBUTE = FEF.sortByAttribute("a");
+    private static final SortFieldExpression BY_THING_ID = FEF.sortByThingId();
+
+    @Test
+    public void valuesOfDifferentTypesAreOrderedAsInMongoDb() {
+        final List<JsonValue> valuesInOrder = List.of(JsonValue.nullLiteral(), JsonValue.of(-5), JsonValue.of(""),
+                JsonObject.empty(), JsonArray.empty(), JsonValue.of(false));
+
+        for (int i = 0; i < valuesInOrder.size(); ++i) {
+            for (int j = 0; j < valuesInOrder.size(); ++j) {
+                assertThat(Integer.signum(SortValuesComparator.compareValues(valuesInOrder.get(i),
+                        valuesInOrder.get(j))))
+                        .describedAs("comparison of %s and %s", valuesInOrder.get(i), valuesInOrder.get(j))
+                        .isEqualTo(Integer.compare(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void numbersOfDifferentTypesAreComparedByValue() {
+        assertThat(SortValuesComparator.compareValues(JsonValue.of(2L), JsonValue.of(1.5))).isPositive();
+        assertThat(SortValuesComparator.compareValues(JsonValue.of(1.5), JsonValue.of(2))).isNegative();
+        assertThat(SortValuesComparator.compareValues(JsonValue.of(3L), JsonValue.of(3.0))).isZero();
+    }
+
+    @Test
+    public void mixedTypesAreSortedAscending() {
+        final SortValuesComparator underTest = comparatorOf(new SortOption(BY_ATTRIBUTE, SortDirection.ASC));
+        final Document missing = document(BY_THING_ID, "ns:missing");
+        final Document number = document(BY_ATTRIBUTE, 42);
+        final Document string = document(BY_ATTRIBUTE, "42");
+        final Document bool = document(BY_ATTRIBUTE, true);
+
+        assertThat(sorted(underTest, bool, string, number, missing)).containsExactly(missing, number, string, bool);
+    }
+
+    @Test
+    public void descendingSortReversesTheOrder() {
+        final SortValuesComparator underTest = comparatorOf(new SortOption(BY_ATTRIBUTE, SortDirection.DESC));
+        final Document missing = document(BY_THING_ID, "ns:missing");
+        final Document small = document(BY_ATTRIBUTE, 1);
+        final Document large = document(BY_ATTRIBUTE, 10L);
+        final Document string = document(BY_ATTRIBUTE, "a");
+
+        assertThat(sorted(underTest, small, missing, string, large)).containsExactly(string, large, small, missing);
+    }
+
+    @Test
+    public void tiesAreBrokenByTheNextSortOption() {
+        final SortValuesComparator underTest = comparatorOf(new SortOption(BY_ATTRIBUTE, SortDirection.ASC),
+                new SortOption(BY_THING_ID, SortDirection.DESC));
+        final Document first = withValue(document(BY_ATTRIBUTE, 1), BY_THING_ID, "ns:b");
+        final Document second = withValue(document(BY_ATTRIBUTE, 1), BY_THING_ID, "ns:a");
+        final Document third = withValue(document(BY_ATTRIBUTE, 2), BY_THING_ID, "ns:c");
+
+        assertThat(sorted(underTest, third, second, first)).containsExactly(first, second, third);
+    }
+
+    @Test
+    public void documentsWithEqualSortValuesAreEqual() {
+        final SortValuesComparator underTest = comparatorOf(new SortOption(BY_ATTRIBUTE, SortDirection.ASC));
+
+        assertThat(underTest.compare(withValue(document(BY_ATTRIBUTE, "x"), BY_THING_ID, "ns:a"),
+                withValue(document(BY_ATTRIBUTE, "x"), BY_THING_ID, "ns:b"))).isZero();
+    }
+
+    private static SortValuesComparator comparatorOf(final SortOption... sortOptions) {
+        return SortValuesComparator.of(List.of(sortOptions));
+    }
+
+    private static List<Document> sorted(final SortValuesComparator comparator, final Document... documents) {
+        final List<Document> result = new ArrayList<>(List.of(documents));
+        result.sort(comparator);
+        return result;
+    }
+
+    private static Document document(final SortFieldExpression expression, final Object value) {
+        return withValue(new Document(), expression, value);
+    }
+
+    private static Document withValue(final Document document, final SortFieldExpression expression,
+            final Object value) {
+
+        // the sort values are projected to the paths of the sort expressions
+        final String[] segments = GetSortBsonVisitor.path(expression).split("\\.");
+        Document parent = document;
+        for (int i = 0; i < segments.length - 1; ++i) {
+            final Document child = parent.get(segments[i], Document.class);
+            if (null != child) {
+                parent = child;
+            } else {
+                final Document newChild = new Document();
+                parent.append(segments[i], newChild);
+                parent = newChild;
+            }
+        }
+        parent.append(segments[segments.length - 1], value);
+        return document;
+    }
+
+}
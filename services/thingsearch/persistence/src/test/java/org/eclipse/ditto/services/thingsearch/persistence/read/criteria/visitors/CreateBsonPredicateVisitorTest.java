@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.criteria.Predicate;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+import org.junit.Test;
+
+/**
+ * Tests {@link CreateBsonPredicateVisitor}.
+ */
+public final class CreateBsonPredicateVisitorTest {
+
+    private static final CriteriaFactory CF = new CriteriaFactoryImpl();
+
+    @Test
+    public void prefixLikeIsRange() {
+        assertThat(toBson(CF.like("abc*"), "v"))
+                .isEqualTo(BsonDocument.parse("{\"v\":{\"$gte\":\"abc\",\"$lt\":\"abd\"}}"));
+    }
+
+    @Test
+    public void otherLikeIsRegex() {
+        assertThat(toBson(CF.like("*abc"), "v"))
+                .isEqualTo(BsonDocument.parse("{\"v\":{\"$regex\":\"\\\\Qabc\\\\E$\",\"$options\":\"\"}}"));
+        assertThat(toBson(CF.like("a?c*"), "v").toJson()).contains("$regex");
+        assertThat(toBson(CF.like("abc"), "v").toJson()).contains("$regex");
+    }
+
+    @Test
+    public void iLikeOfValueFiltersLowerCaseShadow() {
+        assertThat(toBson(CF.ilike("ABC*"), "v"))
+                .isEqualTo(BsonDocument.parse("{\"i\":{\"$gte\":\"abc\",\"$lt\":\"abd\"}}"));
+        assertThat(toBson(CF.ilike("*ABC"), "v"))
+                .isEqualTo(BsonDocument.parse("{\"i\":{\"$regex\":\"\\\\Qabc\\\\E$\",\"$options\":\"\"}}"));
+    }
+
+    @Test
+    public void iLikeOfRootLevelFieldIsCaseInsensitiveRegex() {
+        assertThat(toBson(CF.ilike("NS:*"), "_id"))
+                .isEqualTo(BsonDocument.parse("{\"_id\":{\"$regex\":\"^\\\\Qns:\\\\E\",\"$options\":\"i\"}}"));
+    }
+
+    @Test
+    public void iLikeOfValueWithoutLowerCaseShadowIsCaseInsensitiveRegex() {
+        final Bson bson = CF.ilike("ABC*")
+                .accept(CreateBsonPredicateVisitor.getInstanceWithoutLowerCaseValues())
+                .apply("v");
+        assertThat(BsonUtil.toBsonDocument(bson))
+                .isEqualTo(BsonDocument.parse("{\"v\":{\"$regex\":\"^\\\\Qabc\\\\E\",\"$options\":\"i\"}}"));
+    }
+
+    private static BsonDocument toBson(final Predicate predicate, final String fieldName) {
+        final Bson bson = CreateBsonPredicateVisitor.apply(predicate, fieldName);
+        return BsonUtil.toBsonDocument(bson);
+    }
+
+}
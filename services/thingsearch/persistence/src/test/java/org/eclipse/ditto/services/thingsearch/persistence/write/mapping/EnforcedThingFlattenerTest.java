@@ -240,24 +240,28 @@ public final class EnforcedThingFlattenerTest {
                 "  {\n" +
                 "    \"k\": \"/features/f1/definition\",\n" +
                 "    \"v\": \"ns:def1:v0\",\n" +
+                "    \"i\": \"ns:def1:v0\",\n" +
                 "    \"g\": [],\n" +
                 "    \"r\": []\n" +
                 "  },\n" +
                 "  {\n" +
                 "    \"k\": \"/features/*/definition\",\n" +
                 "    \"v\": \"ns:def1:v0\",\n" +
+                "    \"i\": \"ns:def1:v0\",\n" +
                 "    \"g\": [],\n" +
                 "    \"r\": []\n" +
                 "  },\n" +
                 "  {\n" +
                 "    \"k\": \"/features/f1/definition\",\n" +
                 "    \"v\": \"ns:def1:v2\",\n" +
+                "    \"i\": \"ns:def1:v2\",\n" +
                 "    \"g\": [],\n" +
                 "    \"r\": []\n" +
                 "  },\n" +
                 "  {\n" +
                 "    \"k\": \"/features/*/definition\",\n" +
                 "    \"v\": \"ns:def1:v2\",\n" +
+                "    \"i\": \"ns:def1:v2\",\n" +
                 "    \"g\": [],\n" +
                 "    \"r\": []\n" +
                 "  },\n" +
@@ -24,6 +24,7 @@ import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.SubjectType;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.junit.Test;
 
 public final class EnforcedThingMapperTest {
@@ -87,16 +88,16 @@ public final class EnforcedThingMapperTest {
                 "    { \"k\": \"/_modified\", \"v\": \"2019-01-02T03:04:05.006Z\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/policyId\", \"v\": \"hello:world\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/features/hi/definition\"," +
-                "      \"v\": \"earth:v0:1\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "      \"v\": \"earth:v0:1\", \"i\": \"earth:v0:1\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/features/*/definition\"," +
-                "      \"v\": \"earth:v0:1\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "      \"v\": \"earth:v0:1\", \"i\": \"earth:v0:1\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/features/hi/definition\"," +
-                "      \"v\": \"mars:v0:2\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "      \"v\": \"mars:v0:2\", \"i\": \"mars:v0:2\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/features/*/definition\"," +
-                "      \"v\": \"mars:v0:2\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "      \"v\": \"mars:v0:2\", \"i\": \"mars:v0:2\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/features/hi/properties/there\", \"v\": true, \"g\": [ \"g:1\", \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/features/*/properties/there\", \"v\": true, \"g\": [ \"g:1\", \"g:0\" ], \"r\": [] },\n" +
-                "    { \"k\": \"/attributes/hello\", \"v\": \"world\", \"g\": [ \"g:0\" ], \"r\": [] }\n" +
+                "    { \"k\": \"/attributes/hello\", \"v\": \"world\", \"i\": \"world\", \"g\": [ \"g:0\" ], \"r\": [] }\n" +
                 "  ]\n" +
                 "}");
 
@@ -104,4 +105,40 @@ public final class EnforcedThingMapperTest {
 
         assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(expectedJson);
     }
+
+    @Test
+    public void promoteFieldsOfNamespace() {
+        final JsonObject thing = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_revision\": 1024,\n" +
+                "  \"policyId\": \"hello:world\",\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": [ 1, 2 ] } } },\n" +
+                "  \"attributes\": { \"serial.number\": \"abc\", \"hello\": \"world\" }\n" +
+                "}");
+
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                        .forLabel("grant-root")
+                        .setSubject("g:0", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .build());
+
+        final PromotedFields promotedFields = PromotedFields.byNamespace("{" +
+                "\"hello\":[\"/attributes/serial.number\",\"/features/*/properties/there\"]," +
+                "\"other\":[\"/attributes/hello\"]" +
+                "}");
+
+        final JsonObject expectedPromotedJson = JsonFactory.newObject("{\n" +
+                "  \"/features/*/properties/there\": [\n" +
+                "    { \"v\": 1, \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "    { \"v\": 2, \"g\": [ \"g:0\" ], \"r\": [] }\n" +
+                "  ],\n" +
+                "  \"/attributes/serial%2Enumber\": [ { \"v\": \"abc\", \"i\": \"abc\", \"g\": [ \"g:0\" ], \"r\": [] } ]\n" +
+                "}");
+
+        final Document result =
+                EnforcedThingMapper.toWriteModel(thing, enforcer, 56L, -1, null, promotedFields).getThingDocument();
+
+        assertThat(JsonFactory.newObject(result.toJson()).getValue("p")).contains(expectedPromotedJson);
+    }
 }
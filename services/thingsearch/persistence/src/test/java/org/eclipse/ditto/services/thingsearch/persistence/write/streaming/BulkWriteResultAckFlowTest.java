@@ -57,7 +57,8 @@ public final class BulkWriteResultAckFlowTest {
 
     private final ActorSystem actorSystem = ActorSystem.create();
     private final TestProbe updaterShardProbe = TestProbe.apply("updater", actorSystem);
-    private final BulkWriteResultAckFlow underTest = BulkWriteResultAckFlow.of(updaterShardProbe.ref());
+    private final BulkWriteResultAckFlow underTest =
+            BulkWriteResultAckFlow.of(updaterShardProbe.ref(), ContinuousQueries.empty());
 
     @After
     public void stopActorSystem() {
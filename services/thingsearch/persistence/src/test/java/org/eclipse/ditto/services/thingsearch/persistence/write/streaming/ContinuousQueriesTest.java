@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.common.config.ContinuousQueriesConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultContinuousQueriesConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.signals.commands.thingsearch.subscription.CreateSubscription;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasChange;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ContinuousQueries}.
+ */
+public final class ContinuousQueriesTest {
+
+    private static final ThingId THING_ID = ThingId.of("ns", "thing");
+
+    private static final ContinuousQueriesConfig CONFIG = DefaultContinuousQueriesConfig.of(
+            ConfigFactory.parseString("continuous-queries { enabled = true, max-subscriptions = 2 }"));
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("ns", "policy"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .build());
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void init() {
+        system = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void notifyEnterUpdateAndLeave() {
+        final ContinuousQueries underTest = ContinuousQueries.of(CONFIG, system);
+        final TestProbe subscriber = TestProbe.apply("subscription-0", system);
+        assertThat(underTest.register(subscriber.ref(), createSubscription("g:0", Set.of("ns")))).isTrue();
+        assertThat(underTest.register(subscriber.ref(), createSubscription("g:0", Set.of("ns")))).isFalse();
+
+        underTest.evaluate(THING_ID, thing(1), ENFORCER);
+        final SubscriptionHasChange enter = subscriber.expectMsgClass(SubscriptionHasChange.class);
+        assertThat(enter.getSubscriptionId()).isEqualTo(subscriber.ref().path().name());
+        assertThat(enter.getThingId()).isEqualTo(THING_ID.toString());
+        assertThat(enter.getChange()).isEqualTo(SubscriptionHasChange.Change.ENTER);
+        assertThat(enter.getItem()).contains(JsonObject.of("{\"attributes\":{\"x\":1}}"));
+
+        underTest.evaluate(THING_ID, thing(1), ENFORCER);
+        assertThat(subscriber.expectMsgClass(SubscriptionHasChange.class).getChange())
+                .isEqualTo(SubscriptionHasChange.Change.UPDATE);
+
+        underTest.evaluate(THING_ID, thing(2), ENFORCER);
+        final SubscriptionHasChange leave = subscriber.expectMsgClass(SubscriptionHasChange.class);
+        assertThat(leave.getChange()).isEqualTo(SubscriptionHasChange.Change.LEAVE);
+        assertThat(leave.getItem()).isEmpty();
+
+        // things not in the result set do not leave it again
+        underTest.evaluate(THING_ID, null, null);
+        subscriber.expectNoMessage();
+    }
+
+    @Test
+    public void notifyLeaveOnDeletion() {
+        final ContinuousQueries underTest = ContinuousQueries.of(CONFIG, system);
+        final TestProbe subscriber = TestProbe.apply(system);
+        underTest.register(subscriber.ref(), createSubscription("g:0", null));
+
+        underTest.evaluate(THING_ID, thing(1), ENFORCER);
+        subscriber.expectMsgClass(SubscriptionHasChange.class);
+        underTest.evaluate(THING_ID, null, null);
+        assertThat(subscriber.expectMsgClass(SubscriptionHasChange.class).getChange())
+                .isEqualTo(SubscriptionHasChange.Change.LEAVE);
+    }
+
+    @Test
+    public void ignoreThingsOfOtherNamespacesAndInvisibleThings() {
+        final ContinuousQueries underTest = ContinuousQueries.of(CONFIG, system);
+        final TestProbe otherNamespaceSubscriber = TestProbe.apply(system);
+        final TestProbe unauthorizedSubscriber = TestProbe.apply(system);
+        underTest.register(otherNamespaceSubscriber.ref(), createSubscription("g:0", Set.of("other")));
+        underTest.register(unauthorizedSubscriber.ref(), createSubscription("g:1", null));
+
+        underTest.evaluate(THING_ID, thing(1), ENFORCER);
+        otherNamespaceSubscriber.expectNoMessage();
+        unauthorizedSubscriber.expectNoMessage();
+    }
+
+    @Test
+    public void stopNotifyingRemovedSubscribers() {
+        final ContinuousQueries underTest = ContinuousQueries.of(CONFIG, system);
+        final TestProbe subscriber = TestProbe.apply(system);
+        underTest.register(subscriber.ref(), createSubscription("g:0", Set.of("ns")));
+        assertThat(underTest.remove(subscriber.ref())).isTrue();
+        assertThat(underTest.size()).isZero();
+
+        underTest.evaluate(THING_ID, thing(1), ENFORCER);
+        subscriber.expectNoMessage();
+    }
+
+    @Test
+    public void notifyLeaveOfUnknownVisibleThingsOnce() {
+        final ContinuousQueries underTest = ContinuousQueries.of(CONFIG, system);
+        final TestProbe subscriber = TestProbe.apply(system);
+        underTest.register(subscriber.ref(), createSubscription("g:0", null));
+
+        // the thing may have been among the initial search results
+        underTest.evaluate(THING_ID, thing(2), ENFORCER);
+        final SubscriptionHasChange leave = subscriber.expectMsgClass(SubscriptionHasChange.class);
+        assertThat(leave.getChange()).isEqualTo(SubscriptionHasChange.Change.LEAVE);
+        assertThat(leave.getItem()).isEmpty();
+
+        underTest.evaluate(THING_ID, thing(2), ENFORCER);
+        subscriber.expectNoMessage();
+    }
+
+    @Test
+    public void evaluateThingsOnlyAfterTheirWrite() {
+        final ContinuousQueries underTest = ContinuousQueries.of(CONFIG, system);
+        final TestProbe subscriber = TestProbe.apply(system);
+        underTest.register(subscriber.ref(), createSubscription("g:0", null));
+        final AbstractWriteModel deleteModel = ThingDeleteModel.of(Metadata.of(THING_ID, 1L, null, null, null));
+
+        underTest.prepare(deleteModel, null, Source.single(ENFORCER));
+        subscriber.expectNoMessage();
+
+        underTest.onWritten(deleteModel);
+        assertThat(subscriber.expectMsgClass(SubscriptionHasChange.class).getChange())
+                .isEqualTo(SubscriptionHasChange.Change.LEAVE);
+
+        // each write is evaluated once
+        underTest.onWritten(deleteModel);
+        subscriber.expectNoMessage();
+    }
+
+    @Test
+    public void rejectSubscriptionsBeyondTheMaximum() {
+        final ContinuousQueries underTest = ContinuousQueries.of(CONFIG, system);
+        underTest.register(TestProbe.apply(system).ref(), createSubscription("g:0", null));
+        underTest.register(TestProbe.apply(system).ref(), createSubscription("g:0", null));
+
+        assertThatExceptionOfType(TooManyRequestsException.class)
+                .isThrownBy(() -> underTest.register(TestProbe.apply(system).ref(),
+                        createSubscription("g:0", null)));
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void emptyRegistryIsDisabled() {
+        assertThat(ContinuousQueries.empty().isEnabled()).isFalse();
+        assertThat(ContinuousQueries.of(CONFIG, system).isEnabled()).isTrue();
+    }
+
+    private static CreateSubscription createSubscription(final String subject,
+            @Nullable final Set<String> namespaces) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance(subject)))
+                .build();
+        return CreateSubscription.of("eq(attributes/x,1)", null, JsonFactory.newFieldSelector("attributes"),
+                namespaces, dittoHeaders).setContinuous(true);
+    }
+
+    private static JsonObject thing(final int x) {
+        return JsonObject.newBuilder()
+                .set("thingId", THING_ID.toString())
+                .set("policyId", "ns:policy")
+                .set("_revision", x)
+                .set("attributes", JsonObject.newBuilder().set("x", x).build())
+                .build();
+    }
+
+}
@@ -30,6 +30,7 @@ import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.DefaultStreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
@@ -92,7 +93,8 @@ public final class EnforcementFlowTest {
             final StreamConfig streamConfig = DefaultStreamConfig.of(ConfigFactory.empty());
             final EnforcementFlow underTest =
                     EnforcementFlow.of(streamConfig, thingsProbe.ref(), policiesProbe.ref(),
-                            system.dispatchers().defaultGlobalDispatcher());
+                            system.dispatchers().defaultGlobalDispatcher(), PromotedFields.empty(),
+                            ContinuousQueries.empty());
 
             materializeTestProbes(underTest.create(false, 1));
 
@@ -143,7 +145,8 @@ public final class EnforcementFlowTest {
         final StreamConfig streamConfig = DefaultStreamConfig.of(ConfigFactory.empty());
         final EnforcementFlow underTest =
                 EnforcementFlow.of(streamConfig, thingsProbe.ref(), policiesProbe.ref(),
-                        system.dispatchers().defaultGlobalDispatcher());
+                        system.dispatchers().defaultGlobalDispatcher(), PromotedFields.empty(),
+                        ContinuousQueries.empty());
 
         materializeTestProbes(underTest.create(false, 1));
 
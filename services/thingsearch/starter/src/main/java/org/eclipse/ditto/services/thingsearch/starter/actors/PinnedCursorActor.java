@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+
+import akka.NotUsed;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.ReceiveTimeout;
+import akka.actor.Status;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.SinkQueueWithCancel;
+import akka.stream.javadsl.Source;
+
+/**
+ * Package-private actor keeping the MongoDB cursor of a paged search query open between page requests.
+ * <p>
+ * Each page is pulled from the open cursor instead of executing the query again. One item is read ahead in order to
+ * determine whether a next page exists. A page is only delivered if the requester is authorized by the same
+ * subjects, has the same filter and namespaces as the query of the cursor and if the request starts exactly where
+ * the previous page ended; otherwise the request fails and the requester is expected to execute the query again.
+ * <p>
+ * The actor stops itself after delivering the last page, after not receiving any page request for the configured
+ * idle timeout, and on any error of the cursor.
+ */
+final class PinnedCursorActor extends AbstractActor {
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final Source<Pair<ThingId, JsonArray>, NotUsed> source;
+    private final Set<String> authorizationSubjectIds;
+    @Nullable private final String filter;
+    @Nullable private final Set<String> namespaces;
+    private final Duration idleTimeout;
+
+    @Nullable private SinkQueueWithCancel<Pair<ThingId, JsonArray>> queue;
+    @Nullable private Pair<ThingId, JsonArray> lookAhead;
+    private JsonArray position;
+    private boolean busy;
+
+    @SuppressWarnings("unused")
+    private PinnedCursorActor(final Source<Pair<ThingId, JsonArray>, NotUsed> source,
+            final List<String> authorizationSubjectIds,
+            @Nullable final String filter,
+            @Nullable final Set<String> namespaces,
+            final JsonArray position,
+            final Duration idleTimeout) {
+
+        this.source = source;
+        this.authorizationSubjectIds = new HashSet<>(authorizationSubjectIds);
+        this.filter = filter;
+        this.namespaces = namespaces;
+        this.position = position;
+        this.idleTimeout = idleTimeout;
+        lookAhead = null;
+        busy = false;
+    }
+
+    /**
+     * Create Props of this actor.
+     *
+     * @param source search results after the position, paired with the values of their sort fields.
+     * @param authorizationSubjectIds authorization subjects of the query of the source.
+     * @param filter filter string of the query of the source, if any.
+     * @param namespaces namespaces of the query of the source, or null for all namespaces.
+     * @param position values of the sort fields of the last item delivered before the source.
+     * @param idleTimeout how long to keep the cursor open without page requests.
+     * @return the Props object.
+     */
+    static Props props(final Source<Pair<ThingId, JsonArray>, NotUsed> source,
+            final List<String> authorizationSubjectIds,
+            @Nullable final String filter,
+            @Nullable final Set<String> namespaces,
+            final JsonArray position,
+            final Duration idleTimeout) {
+
+        return Props.create(PinnedCursorActor.class, source, authorizationSubjectIds, filter, namespaces, position,
+                idleTimeout);
+    }
+
+    @Override
+    public void preStart() {
+        queue = source.runWith(Sink.queue(), SystemMaterializer.get(getContext().getSystem()).materializer());
+        getContext().setReceiveTimeout(idleTimeout);
+    }
+
+    @Override
+    public void postStop() {
+        if (queue != null) {
+            queue.cancel();
+        }
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(NextPage.class, this::nextPage)
+                .match(PageCollected.class, this::pageCollected)
+                .match(ReceiveTimeout.class, timeout -> {
+                    log.debug("Closing pinned cursor after being idle for <{}>", idleTimeout);
+                    getContext().stop(getSelf());
+                })
+                .build();
+    }
+
+    private void nextPage(final NextPage nextPage) {
+        final String rejection;
+        if (busy) {
+            rejection = "Another page is being collected.";
+        } else if (!authorizationSubjectIds.equals(new HashSet<>(nextPage.authorizationSubjectIds))) {
+            rejection = "Authorization subjects differ from the query of the pinned cursor.";
+        } else if (!Objects.equals(filter, nextPage.filter) || !Objects.equals(namespaces, nextPage.namespaces)) {
+            rejection = "Filter or namespaces differ from the query of the pinned cursor.";
+        } else if (!position.equals(nextPage.position)) {
+            rejection = "Requested position differs from the position of the pinned cursor.";
+        } else {
+            rejection = null;
+        }
+        if (rejection != null) {
+            log.debug("Rejecting <{}>: {}", nextPage, rejection);
+            getSender().tell(new Status.Failure(new IllegalStateException(rejection)), getSelf());
+        } else {
+            busy = true;
+            final List<Pair<ThingId, JsonArray>> items = new ArrayList<>(nextPage.size + 1);
+            if (lookAhead != null) {
+                items.add(lookAhead);
+                lookAhead = null;
+            }
+            final ActorRef sender = getSender();
+            final CompletionStage<PageCollected> pageCollected =
+                    pull(items, nextPage.size + 1 - items.size())
+                            .handle((result, error) -> new PageCollected(sender, nextPage.size, result, error));
+            Patterns.pipe(pageCollected, getContext().dispatcher()).to(getSelf());
+        }
+    }
+
+    private void pageCollected(final PageCollected pageCollected) {
+        busy = false;
+        if (pageCollected.error != null || pageCollected.items == null) {
+            log.info("Pinned cursor failed: {}", pageCollected.error);
+            pageCollected.sender.tell(new Status.Failure(pageCollected.error), getSelf());
+            getContext().stop(getSelf());
+        } else if (pageCollected.items.size() > pageCollected.size) {
+            // read one item too much: there is a next page
+            final List<Pair<ThingId, JsonArray>> page = pageCollected.items.subList(0, pageCollected.size);
+            lookAhead = pageCollected.items.get(pageCollected.size);
+            position = page.get(page.size() - 1).second();
+            // next-page-offset is never delivered together with an existing cursor
+            pageCollected.sender.tell(new ResultListImpl<>(toIds(page), ResultList.NO_NEXT_PAGE, position),
+                    getSelf());
+        } else {
+            // cursor exhausted: this is the last page
+            pageCollected.sender.tell(new ResultListImpl<>(toIds(pageCollected.items), ResultList.NO_NEXT_PAGE),
+                    getSelf());
+            getContext().stop(getSelf());
+        }
+    }
+
+    private CompletionStage<List<Pair<ThingId, JsonArray>>> pull(final List<Pair<ThingId, JsonArray>> items,
+            final int remaining) {
+
+        if (remaining <= 0 || queue == null) {
+            return CompletableFuture.completedFuture(items);
+        } else {
+            return queue.pull().thenCompose(next -> {
+                if (next.isPresent()) {
+                    items.add(next.get());
+                    return pull(items, remaining - 1);
+                } else {
+                    return CompletableFuture.completedFuture(items);
+                }
+            });
+        }
+    }
+
+    private static List<ThingId> toIds(final List<Pair<ThingId, JsonArray>> items) {
+        return items.stream().map(Pair::first).collect(Collectors.toList());
+    }
+
+    /**
+     * Request for the next page of a pinned cursor.
+     */
+    static final class NextPage {
+
+        private final String sessionId;
+        private final int size;
+        private final List<String> authorizationSubjectIds;
+        @Nullable private final String filter;
+        @Nullable private final Set<String> namespaces;
+        private final JsonArray position;
+
+        /**
+         * Create a request for the next page.
+         *
+         * @param sessionId ID of the pinned cursor.
+         * @param size the page size.
+         * @param authorizationSubjectIds authorization subjects of the requester.
+         * @param filter filter string of the requested query, if any.
+         * @param namespaces namespaces of the requested query, or null for all namespaces.
+         * @param position values of the sort fields of the last item of the previous page.
+         */
+        NextPage(final String sessionId, final int size, final List<String> authorizationSubjectIds,
+                @Nullable final String filter, @Nullable final Set<String> namespaces, final JsonArray position) {
+            this.sessionId = sessionId;
+            this.size = size;
+            this.authorizationSubjectIds = authorizationSubjectIds;
+            this.filter = filter;
+            this.namespaces = namespaces;
+            this.position = position;
+        }
+
+        String getSessionId() {
+            return sessionId;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[" +
+                    "sessionId=" + sessionId +
+                    ", size=" + size +
+                    ", filter=" + filter +
+                    ", namespaces=" + namespaces +
+                    ", position=" + position +
+                    "]";
+        }
+    }
+
+    private static final class PageCollected {
+
+        private final ActorRef sender;
+        private final int size;
+        @Nullable private final List<Pair<ThingId, JsonArray>> items;
+        @Nullable private final Throwable error;
+
+        private PageCollected(final ActorRef sender, final int size,
+                @Nullable final List<Pair<ThingId, JsonArray>> items, @Nullable final Throwable error) {
+            this.sender = sender;
+            this.size = size;
+            this.items = items;
+            this.error = error;
+        }
+    }
+
+}
@@ -13,9 +13,12 @@
 package org.eclipse.ditto.services.thingsearch.starter.actors;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
@@ -34,8 +37,10 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.thingsearch.common.config.PinnedCursorConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
+import org.eclipse.ditto.services.thingsearch.persistence.query.ThingsAggregation;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
@@ -44,6 +49,7 @@ import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
+import org.eclipse.ditto.signals.commands.thingsearch.query.AggregateThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
@@ -53,8 +59,13 @@ import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.Cluster;
+import akka.cluster.MemberStatus;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
@@ -81,6 +92,10 @@ import akka.stream.javadsl.StreamRefs;
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
  * things have to be retrieved from Things Service via distributed pub/sub.
+ * <p>
+ * If pinned cursors are enabled, the MongoDB cursor of a paged query is kept open in a child {@link PinnedCursorActor}
+ * and subsequent pages are read from it instead of executing the query again. Cursors of pinned queries refer to the
+ * cluster member holding the pinned cursor; commands with such cursors are forwarded there.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -101,14 +116,23 @@ public final class SearchActor extends AbstractActor {
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
+    private final PinnedCursorConfig pinnedCursorConfig;
+    @Nullable private final String selfAddress;
+    private final String searchActorPath;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final PinnedCursorConfig pinnedCursorConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
+        this.pinnedCursorConfig = pinnedCursorConfig;
+        selfAddress = pinnedCursorConfig.isEnabled()
+                ? Cluster.get(getContext().getSystem()).selfAddress().toString()
+                : null;
+        searchActorPath = getSelf().path().toStringWithoutAddress();
     }
 
     /**
@@ -116,13 +140,15 @@ public final class SearchActor extends AbstractActor {
      *
      * @param queryFactory factory of query objects.
      * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param pinnedCursorConfig configuration for pinning cursors of paged queries.
      * @return the Akka configuration Props object.
      */
     static Props props(
             final QueryParser queryFactory,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final PinnedCursorConfig pinnedCursorConfig) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence)
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, pinnedCursorConfig)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -134,6 +160,9 @@ public final class SearchActor extends AbstractActor {
                 .match(QueryThings.class, this::query)
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
                 .match(StreamThings.class, this::stream)
+                .match(AggregateThings.class, this::aggregate)
+                .match(StartPinnedCursor.class, this::startPinnedCursor)
+                .match(PinnedCursorActor.NextPage.class, this::forwardToPinnedCursor)
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
                 .build();
     }
@@ -149,15 +178,16 @@ public final class SearchActor extends AbstractActor {
     }
 
     private void count(final CountThings countThings) {
-        executeCount(countThings, queryParser::parse, false);
+        executeCount(countThings, queryParser::parse, countThings.getNamespaces().orElse(null), false);
     }
 
     private void sudoCount(final SudoCountThings sudoCountThings) {
-        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true);
+        executeCount(sudoCountThings, queryParser::parseSudoCountThings, null, true);
     }
 
     private <T extends Command> void executeCount(final T countCommand,
             final Function<T, Query> queryParseFunction,
+            @Nullable final Set<String> namespaces,
             final boolean isSudo) {
         final DittoHeaders dittoHeaders = countCommand.getDittoHeaders();
         log.withCorrelationId(dittoHeaders)
@@ -181,7 +211,8 @@ public final class SearchActor extends AbstractActor {
                     final Source<Long, NotUsed> countResultSource = isSudo
                             ? searchPersistence.sudoCount(query)
                             : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds(),
+                            namespaces);
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
@@ -227,6 +258,33 @@ public final class SearchActor extends AbstractActor {
                 .to(sender);
     }
 
+    private void aggregate(final AggregateThings aggregateThings) {
+        final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(aggregateThings);
+        l.info("Processing AggregateThings command: {}", aggregateThings);
+        final JsonSchemaVersion version = aggregateThings.getImplementedSchemaVersion();
+        final String queryType = "aggregate";
+        final StartedTimer searchTimer = startNewTimer(version, queryType);
+        final StartedTimer queryParsingTimer = searchTimer.startNewSegment(QUERY_PARSING_SEGMENT_NAME);
+        final ActorRef sender = getSender();
+        final Set<String> namespaces = aggregateThings.getNamespaces().orElse(null);
+        final Source<SourceRef<String>, NotUsed> sourceRefSource =
+                createAggregationSource(aggregateThings).map(aggregation -> {
+                    stopTimer(queryParsingTimer);
+                    searchTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME); // stopped by stopTimerAndHandleError
+                    final List<String> subjectIds =
+                            aggregateThings.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds();
+                    return searchPersistence.aggregate(aggregation, subjectIds, namespaces)
+                            .map(JsonObject::toString) // same as StreamThings
+                            .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getSystem()).materializer());
+                });
+        final Source<Object, NotUsed> replySourceWithErrorHandling =
+                sourceRefSource.via(stopTimerAndHandleError(searchTimer, aggregateThings));
+
+        Patterns.pipe(replySourceWithErrorHandling.runWith(Sink.head(),
+                SystemMaterializer.get(getSystem()).materializer()), getContext().dispatcher())
+                .to(sender);
+    }
+
     private void query(final QueryThings queryThings) {
         final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(queryThings);
         l.debug("Starting to process QueryThings command: {}", queryThings);
@@ -244,6 +302,14 @@ public final class SearchActor extends AbstractActor {
 
         final Source<Object, ?> replySource = cursorSource.flatMapConcat(cursor -> {
             cursor.ifPresent(c -> c.logCursorCorrelationId(l));
+            final Optional<ActorSelection> pinnedCursorOwner = cursor.flatMap(this::getRemoteOwnerOfPinnedCursor);
+            if (pinnedCursorOwner.isPresent()) {
+                l.debug("Forwarding to owner of pinned cursor: <{}>", pinnedCursorOwner.get());
+                stopTimer(queryParsingTimer);
+                stopTimer(searchTimer);
+                pinnedCursorOwner.get().tell(queryThings, sender);
+                return Source.empty();
+            }
             final QueryThings command = ThingsSearchCursor.adjust(cursor, queryThings);
             final DittoHeaders dittoHeaders = command.getDittoHeaders();
             l.info("Processing QueryThings command: {}", queryThings);
@@ -258,22 +324,148 @@ public final class SearchActor extends AbstractActor {
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationContext()
                                 .getAuthorizationSubjectIds();
-                        final Source<ResultList<ThingId>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
+                        final Source<Pair<ResultList<ThingId>, Optional<String>>, NotUsed> findAllResult =
+                                findAll(cursor.orElse(null), command, query, subjectIds, namespaces, l);
                         return processSearchPersistenceResult(findAllResult, dittoHeaders)
                                 .via(Flow.fromFunction(result -> {
                                     stopTimer(databaseAccessTimer);
                                     return result;
                                 }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
+                                .flatMapConcat(result -> pinNextPage(command, query, subjectIds, namespaces, result))
+                                .map(result -> toQueryThingsResponse(command, cursor.orElse(null), result.first(),
+                                        result.second().orElse(null)));
                     });
         });
 
         final Source<Object, ?> replySourceWithErrorHandling =
                 replySource.via(stopTimerAndHandleError(searchTimer, queryThings));
 
-        Patterns.pipe(replySourceWithErrorHandling.runWith(Sink.head(), SystemMaterializer.get(getSystem()).materializer()), getContext().dispatcher())
-                .to(sender);
+        // the reply source is empty if the command was forwarded to the owner of a pinned cursor
+        replySourceWithErrorHandling.runWith(Sink.foreach(reply -> sender.tell(reply, ActorRef.noSender())),
+                SystemMaterializer.get(getSystem()).materializer());
+    }
+
+    /**
+     * Find the results of a query, taking them from the pinned cursor of the command's cursor if possible.
+     *
+     * @return source of the result list paired with the ID of the pinned cursor producing it, if any.
+     */
+    private Source<Pair<ResultList<ThingId>, Optional<String>>, NotUsed> findAll(
+            @Nullable final ThingsSearchCursor cursor,
+            final QueryThings command,
+            final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces,
+            final ThreadSafeDittoLoggingAdapter l) {
+
+        final Source<Pair<ResultList<ThingId>, Optional<String>>, NotUsed> fromPersistence =
+                searchPersistence.findAll(query, subjectIds, namespaces)
+                        .map(resultList -> Pair.create(resultList, Optional.<String>empty()));
+        final Optional<String> sessionId = Optional.ofNullable(cursor)
+                .filter(c -> pinnedCursorConfig.isEnabled() && query.getLimit() > 0)
+                .flatMap(ThingsSearchCursor::getPinnedSessionId);
+        if (cursor == null || sessionId.isEmpty()) {
+            return fromPersistence;
+        }
+        final PinnedCursorActor.NextPage nextPage =
+                new PinnedCursorActor.NextPage(sessionId.get(), query.getLimit(), subjectIds,
+                        command.getFilter().orElse(null), namespaces, cursor.getValues());
+        return Source.fromCompletionStage(Patterns.ask(getSelf(), nextPage, pinnedCursorConfig.getAskTimeout()))
+                .map(result -> Pair.create(asResultList(result), sessionId))
+                .recoverWithRetries(1,
+                        new PFBuilder<Throwable, Graph<SourceShape<Pair<ResultList<ThingId>, Optional<String>>>,
+                                NotUsed>>()
+                                .matchAny(error -> {
+                                    l.info("Pinned cursor <{}> not available, executing query again: {}",
+                                            sessionId.get(), error.getMessage());
+                                    return fromPersistence;
+                                })
+                                .build());
+    }
+
+    /**
+     * Open a pinned cursor for the next page of a search result if the response carries a cursor and
+     * the result does not already come from a pinned cursor.
+     *
+     * @return source of the result list paired with the ID of the pinned cursor for the next page, if any.
+     */
+    private Source<Pair<ResultList<ThingId>, Optional<String>>, NotUsed> pinNextPage(final QueryThings command,
+            final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces,
+            final Pair<ResultList<ThingId>, Optional<String>> result) {
+
+        final ResultList<ThingId> resultList = result.first();
+        final Optional<JsonArray> lastResultSortValues = resultList.lastResultSortValues();
+        if (!pinnedCursorConfig.isEnabled() || result.second().isPresent() ||
+                lastResultSortValues.isEmpty() || !ThingsSearchCursor.hasNextCursor(command, resultList)) {
+            return Source.single(result);
+        }
+        final Query remainingQuery =
+                ThingsSearchCursor.startAfter(query, lastResultSortValues.get(), queryParser.getCriteriaFactory());
+        final StartPinnedCursor startPinnedCursor = new StartPinnedCursor(
+                searchPersistence.findAllUnlimitedWithSortValues(remainingQuery, subjectIds, namespaces),
+                subjectIds, command.getFilter().orElse(null), namespaces, lastResultSortValues.get());
+        return Source.fromCompletionStage(
+                Patterns.ask(getSelf(), startPinnedCursor, pinnedCursorConfig.getAskTimeout()))
+                .map(sessionId -> Pair.create(resultList, Optional.of((String) sessionId)))
+                .recover(new PFBuilder<Throwable, Pair<ResultList<ThingId>, Optional<String>>>()
+                        .matchAny(error -> Pair.create(resultList, Optional.<String>empty()))
+                        .build());
+    }
+
+    private void startPinnedCursor(final StartPinnedCursor startPinnedCursor) {
+        int openCursors = 0;
+        for (final ActorRef ignored : getContext().getChildren()) {
+            ++openCursors;
+        }
+        if (openCursors >= pinnedCursorConfig.getMaxSessions()) {
+            log.debug("Not pinning cursor: <{}> pinned cursors are open", openCursors);
+            getSender().tell(new Status.Failure(new IllegalStateException("Too many pinned cursors")), getSelf());
+        } else {
+            final String sessionId = UUID.randomUUID().toString();
+            getContext().actorOf(PinnedCursorActor.props(startPinnedCursor.source,
+                    startPinnedCursor.authorizationSubjectIds, startPinnedCursor.filter,
+                    startPinnedCursor.namespaces, startPinnedCursor.position,
+                    pinnedCursorConfig.getIdleTimeout()), sessionId);
+            getSender().tell(sessionId, getSelf());
+        }
+    }
+
+    private void forwardToPinnedCursor(final PinnedCursorActor.NextPage nextPage) {
+        final Optional<ActorRef> pinnedCursor = getContext().findChild(nextPage.getSessionId());
+        if (pinnedCursor.isPresent()) {
+            pinnedCursor.get().forward(nextPage, getContext());
+        } else {
+            getSender().tell(new Status.Failure(new NoSuchElementException(nextPage.getSessionId())), getSelf());
+        }
+    }
+
+    /**
+     * Locate the search actor holding the pinned cursor of a cursor if it runs on another cluster member which is up.
+     *
+     * @param cursor the cursor.
+     * @return the search actor on the other cluster member, or an empty optional if the pinned cursor should be
+     * looked up locally or does not exist.
+     */
+    private Optional<ActorSelection> getRemoteOwnerOfPinnedCursor(final ThingsSearchCursor cursor) {
+        if (selfAddress == null || cursor.getPinnedSessionId().isEmpty()) {
+            return Optional.empty();
+        }
+        final ActorSystem system = getSystem();
+        return cursor.getPinnedAddress()
+                .filter(address -> !selfAddress.equals(address))
+                .flatMap(address -> StreamSupport.stream(
+                        Cluster.get(system).state().getMembers().spliterator(), false)
+                        .filter(member -> member.status() == MemberStatus.up() &&
+                                address.equals(member.address().toString()))
+                        .findAny())
+                .map(member -> system.actorSelection(member.address().toString() + searchActorPath));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResultList<ThingId> asResultList(final Object result) {
+        return (ResultList<ThingId>) result;
     }
 
     private ActorSystem getSystem() {
@@ -324,7 +516,8 @@ public final class SearchActor extends AbstractActor {
 
     private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
-            final ResultList<ThingId> thingIds) {
+            final ResultList<ThingId> thingIds,
+            @Nullable final String pinnedSessionId) {
 
         final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
         if (thingIds.isEmpty()) {
@@ -340,12 +533,35 @@ public final class SearchActor extends AbstractActor {
                     .collect(JsonCollectors.valuesToArray());
             final SearchResult searchResults = SearchModelFactory.newSearchResult(items, thingIds.nextPageOffset());
             final SearchResult processedResults =
-                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds);
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds,
+                            pinnedSessionId != null ? selfAddress : null, pinnedSessionId);
 
             return QueryThingsResponse.of(processedResults, dittoHeaders);
         }
     }
 
+    /**
+     * Message to the search actor itself to open a pinned cursor for the remaining results of a query.
+     */
+    private static final class StartPinnedCursor {
+
+        private final Source<Pair<ThingId, JsonArray>, NotUsed> source;
+        private final List<String> authorizationSubjectIds;
+        @Nullable private final String filter;
+        @Nullable private final Set<String> namespaces;
+        private final JsonArray position;
+
+        private StartPinnedCursor(final Source<Pair<ThingId, JsonArray>, NotUsed> source,
+                final List<String> authorizationSubjectIds, @Nullable final String filter,
+                @Nullable final Set<String> namespaces, final JsonArray position) {
+            this.source = source;
+            this.authorizationSubjectIds = authorizationSubjectIds;
+            this.filter = filter;
+            this.namespaces = namespaces;
+            this.position = position;
+        }
+    }
+
     private static StartedTimer startNewTimer(final JsonSchemaVersion version, final String queryType) {
         return DittoMetrics.timer(TRACING_THINGS_SEARCH)
                 .tag(QUERY_TYPE_TAG, queryType)
@@ -363,6 +579,14 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
+    private Source<ThingsAggregation, NotUsed> createAggregationSource(final AggregateThings aggregateThings) {
+        try {
+            return Source.single(queryParser.parseAggregation(aggregateThings));
+        } catch (final Throwable e) {
+            return Source.failed(e);
+        }
+    }
+
     private static void stopTimer(final StartedTimer timer) {
         try {
             timer.stop();
@@ -15,7 +15,9 @@ package org.eclipse.ditto.services.thingsearch.starter.actors;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.BACKGROUND_SYNC_COLLECTION_NAME;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -23,6 +25,7 @@ import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.query.QueryBuilderFactory;
+import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.expression.FieldExpressionUtil;
@@ -31,10 +34,12 @@ import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryPlannerConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.query.validation.QueryCriteriaValidator;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
+import org.eclipse.ditto.services.thingsearch.persistence.read.QueryPlanner;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
 import org.eclipse.ditto.services.thingsearch.updater.actors.SearchUpdaterRootActor;
@@ -86,7 +91,7 @@ public final class SearchRootActor extends DittoRootActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig, thingsSearchPersistence);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final ActorSystem actorSystem = getContext().getSystem();
@@ -120,8 +125,20 @@ public final class SearchRootActor extends DittoRootActor {
             final DittoMongoClient mongoDbClient) {
 
         final ActorContext context = getContext();
-        final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+        final MongoThingsSearchPersistence basePersistence = searchConfig.getPartitionsByNamespace()
+                .map(partitionsByNamespace -> {
+                    log.info("Partitioning search index <{}>.", partitionsByNamespace);
+                    return new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                            .withPartitionsByNamespace(partitionsByNamespace);
+                })
+                .orElseGet(() -> new MongoThingsSearchPersistence(mongoDbClient, context.getSystem()));
+        final MongoThingsSearchPersistence persistence = searchConfig.getPromotedFieldsByNamespace()
+                .map(promotedFieldsByNamespace -> {
+                    log.info("Promoting fields <{}>.", promotedFieldsByNamespace);
+                    return basePersistence.withPromotedFieldsByNamespace(promotedFieldsByNamespace);
+                })
+                .orElse(basePersistence)
+                .withIndexedSorts(getIndexedSorts(searchConfig, context.getSystem()));
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -130,20 +147,40 @@ public final class SearchRootActor extends DittoRootActor {
             log.info("Skipping IndexInitializer because it is disabled.");
         }
 
-        return searchConfig.getMongoHintsByNamespace()
+        final MongoThingsSearchPersistence persistenceWithHints = searchConfig.getMongoHintsByNamespace()
                 .map(mongoHintsByNamespace -> {
                     log.info("Applying MongoDB hints <{}>.", mongoHintsByNamespace);
                     return persistence.withHintsByNamespace(mongoHintsByNamespace);
                 })
                 .orElse(persistence);
+
+        final QueryPlannerConfig queryPlannerConfig = searchConfig.getQueryPlannerConfig();
+        if (queryPlannerConfig.isEnabled()) {
+            log.info("Sampling query plans with <{}>.", queryPlannerConfig);
+            return persistenceWithHints.withQueryPlanner(
+                    QueryPlanner.of(mongoDbClient.getDefaultDatabase(), queryPlannerConfig, context.getSystem()));
+        } else {
+            return persistenceWithHints;
+        }
+    }
+
+    private static List<List<SortOption>> getIndexedSorts(final SearchConfig searchConfig,
+            final ActorSystem actorSystem) {
+
+        final QueryParser queryParser = getQueryParser(searchConfig.getLimitsConfig(), actorSystem);
+        return searchConfig.getIndexedSortOptions()
+                .stream()
+                .map(queryParser::parseSortOptions)
+                .collect(Collectors.toList());
     }
 
-    private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
+    private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence) {
 
-        final QueryParser queryParser = getQueryParser(limitsConfig, getContext().getSystem());
+        final QueryParser queryParser = getQueryParser(searchConfig.getLimitsConfig(), getContext().getSystem());
 
-        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
+        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence,
+                searchConfig.getPinnedCursorConfig()));
     }
 
     protected static QueryParser getQueryParser(final LimitsConfig limitsConfig, final ActorSystem actorSystem) {
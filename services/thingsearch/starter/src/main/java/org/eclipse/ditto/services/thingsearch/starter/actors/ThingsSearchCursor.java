@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.services.thingsearch.starter.actors;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,6 +52,7 @@ import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.expression.SimpleFieldExpressionImpl;
 import org.eclipse.ditto.model.rql.ParserException;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
@@ -62,6 +66,7 @@ import org.eclipse.ditto.model.thingsearch.SortOption;
 import org.eclipse.ditto.model.thingsearch.SortOptionEntry;
 import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.JsonToBson;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
@@ -119,6 +124,8 @@ final class ThingsSearchCursor {
     private static final JsonFieldDefinition<String> CORRELATION_ID = JsonFactory.newStringFieldDefinition("C");
     private static final JsonFieldDefinition<JsonArray> VALUES = JsonFactory.newJsonArrayFieldDefinition("V");
     private static final JsonFieldDefinition<String> SORT_OPTION = JsonFactory.newStringFieldDefinition("S");
+    private static final JsonFieldDefinition<String> PINNED_ADDRESS = JsonFactory.newStringFieldDefinition("A");
+    private static final JsonFieldDefinition<String> PINNED_SESSION_ID = JsonFactory.newStringFieldDefinition("P");
 
     /*
      * Data encoded in a cursor.
@@ -129,15 +136,25 @@ final class ThingsSearchCursor {
     @Nullable final String correlationId;
     private final SortOption sortOption;
     private final JsonArray values;
+    @Nullable private final String pinnedAddress;
+    @Nullable private final String pinnedSessionId;
 
     ThingsSearchCursor(@Nullable final Set<String> namespaces, @Nullable final String correlationId,
             final SortOption sortOption, @Nullable final String filter, final JsonArray values) {
+        this(namespaces, correlationId, sortOption, filter, values, null, null);
+    }
+
+    ThingsSearchCursor(@Nullable final Set<String> namespaces, @Nullable final String correlationId,
+            final SortOption sortOption, @Nullable final String filter, final JsonArray values,
+            @Nullable final String pinnedAddress, @Nullable final String pinnedSessionId) {
         this.namespaces = namespaces;
         this.filter = filter;
 
         this.correlationId = correlationId;
         this.sortOption = sortOption;
         this.values = values;
+        this.pinnedAddress = pinnedAddress;
+        this.pinnedSessionId = pinnedSessionId;
 
         if (sortOption.getSize() != values.getSize()) {
             // Cursor corrupted. Offer no more information.
@@ -152,15 +169,17 @@ final class ThingsSearchCursor {
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter, namespaces, correlationId, sortOption, values);
+        return Objects.hash(filter, namespaces, correlationId, sortOption, values, pinnedAddress, pinnedSessionId);
     }
 
     @Override
     public boolean equals(final Object that) {
         if (that instanceof ThingsSearchCursor) {
             final ThingsSearchCursor c = (ThingsSearchCursor) that;
-            return Arrays.asList(filter, namespaces, correlationId, sortOption, values)
-                    .equals(Arrays.asList(c.filter, c.namespaces, c.correlationId, c.sortOption, c.values));
+            return Arrays.asList(filter, namespaces, correlationId, sortOption, values, pinnedAddress,
+                    pinnedSessionId)
+                    .equals(Arrays.asList(c.filter, c.namespaces, c.correlationId, c.sortOption, c.values,
+                            c.pinnedAddress, c.pinnedSessionId));
         } else {
             return false;
         }
@@ -175,11 +194,33 @@ final class ThingsSearchCursor {
         log.info("CursorCorrelationId = {}", correlationId);
     }
 
+    /**
+     * @return the cluster address of the search actor holding the pinned MongoDB cursor of this cursor, if any.
+     */
+    Optional<String> getPinnedAddress() {
+        return Optional.ofNullable(pinnedAddress);
+    }
+
+    /**
+     * @return the ID of the pinned MongoDB cursor continuing from the position of this cursor, if any.
+     */
+    Optional<String> getPinnedSessionId() {
+        return Optional.ofNullable(pinnedSessionId);
+    }
+
+    /**
+     * @return the values of the sort fields marking the position of this cursor.
+     */
+    JsonArray getValues() {
+        return values;
+    }
+
     /**
      * Check whether this cursor is valid for a {@code QueryThings} command.
      * A cursor is compatible with a command if
      * <ul>
      * <li>their filter strings are identical,</li>
+     * <li>their namespaces are identical,</li>
      * <li>their sort options are compatible, and</li>
      * <li>the command has no limit option.</li>
      * </ul>
@@ -194,11 +235,15 @@ final class ThingsSearchCursor {
         // when a cursor is present, the command may only have an additional size option and a field selector.
         final boolean commandHasDifferentFilter =
                 queryThings.getFilter().filter(f -> !Objects.equals(f, filter)).isPresent();
+        final boolean commandHasDifferentNamespaces =
+                queryThings.getNamespaces().filter(n -> !Objects.equals(n, namespaces)).isPresent();
 
         final String description;
 
         if (commandHasDifferentFilter) {
             description = "The parameter 'filter' must not differ from the original query of the cursor.";
+        } else if (commandHasDifferentNamespaces) {
+            description = "The parameter 'namespaces' must not differ from the original query of the cursor.";
         } else if (commandOptions.stream().anyMatch(LimitOption.class::isInstance)) {
             description = LIMIT_OPTION_FORBIDDEN;
         } else if (hasIncompatibleSortOption(commandOptions)) {
@@ -232,14 +277,18 @@ final class ThingsSearchCursor {
      *
      * @param searchResult the search result.
      * @param resultList items in the search result.
+     * @param pinnedAddress cluster address of the search actor holding the pinned cursor of the next page, if any.
+     * @param pinnedSessionId ID of the pinned cursor of the next page, if any.
      * @return search result augmented by a new cursor.
      */
     private SearchResult searchResultWithExistingCursor(final SearchResult searchResult,
-            final ResultList<?> resultList) {
+            final ResultList<?> resultList, @Nullable final String pinnedAddress,
+            @Nullable final String pinnedSessionId) {
         final Optional<JsonArray> newValues = resultList.lastResultSortValues();
         if (newValues.isPresent()) {
             final ThingsSearchCursor newCursor =
-                    new ThingsSearchCursor(namespaces, correlationId, sortOption, filter, newValues.get());
+                    new ThingsSearchCursor(namespaces, correlationId, sortOption, filter, newValues.get(),
+                            pinnedAddress, pinnedSessionId);
             return searchResult.toBuilder()
                     .cursor(newCursor.encode())
                     .nextPageOffset(null)
@@ -274,8 +323,7 @@ final class ThingsSearchCursor {
      * @return a new query object starting at the location of this cursor.
      */
     private Query adjustQuery(final Query query, final CriteriaFactory cf) {
-        return query.withCriteria(cf.and(Arrays.asList(query.getCriteria(),
-                getNextPageFilter(query.getSortOptions(), values, cf))));
+        return startAfter(query, values, cf);
     }
 
     /**
@@ -289,6 +337,8 @@ final class ThingsSearchCursor {
                 .set(CORRELATION_ID, correlationId, notNull)
                 .set(SORT_OPTION, RqlOptionParser.unparse(Collections.singletonList(sortOption)))
                 .set(VALUES, values)
+                .set(PINNED_ADDRESS, pinnedAddress, notNull)
+                .set(PINNED_SESSION_ID, pinnedSessionId, notNull)
                 .build();
     }
 
@@ -456,18 +506,65 @@ final class ThingsSearchCursor {
             final SearchResult searchResult,
             final ResultList<ThingId> resultList) {
 
+        return processSearchResult(queryThings, cursor, searchResult, resultList, null, null);
+    }
+
+    /**
+     * Augment a search result by the next cursor as needed. The next cursor refers to a pinned MongoDB cursor
+     * if the pinned address and session ID are given.
+     *
+     * @param queryThings the command that produced the results.
+     * @param cursor cursor given by the command, if any.
+     * @param searchResult the search result.
+     * @param resultList items in the search result.
+     * @param pinnedAddress cluster address of the search actor holding the pinned cursor of the next page, if any.
+     * @param pinnedSessionId ID of the pinned cursor of the next page, if any.
+     * @return search result with cursor or next-page-offset or both as appropriate.
+     */
+    static SearchResult processSearchResult(final QueryThings queryThings,
+            @Nullable final ThingsSearchCursor cursor,
+            final SearchResult searchResult,
+            final ResultList<ThingId> resultList,
+            @Nullable final String pinnedAddress,
+            @Nullable final String pinnedSessionId) {
+
         if (!findAll(LimitOption.class, getOptions(queryThings)).isEmpty()) {
             // do not deliver cursor if "limit" is specified
             return searchResult;
         } else if (cursor != null) {
             // adjust next cursor by search result, do not deliver nextPageOffset
-            return cursor.searchResultWithExistingCursor(searchResult, resultList);
+            return cursor.searchResultWithExistingCursor(searchResult, resultList, pinnedAddress, pinnedSessionId);
         } else {
             // compute new cursor, deliver both
-            return searchResultWithNewCursor(queryThings, searchResult, resultList);
+            return searchResultWithNewCursor(queryThings, searchResult, resultList, pinnedAddress,
+                    pinnedSessionId);
         }
     }
 
+    /**
+     * Test whether the response to a {@code QueryThings} command will carry a cursor to the next page.
+     *
+     * @param queryThings the command.
+     * @param resultList items in the search result of the command.
+     * @return whether a cursor to the next page is delivered.
+     */
+    static boolean hasNextCursor(final QueryThings queryThings, final ResultList<?> resultList) {
+        return hasNextPage(resultList) && findAll(LimitOption.class, getOptions(queryThings)).isEmpty();
+    }
+
+    /**
+     * Restrict a {@code Query} to the results after the last item of a page.
+     *
+     * @param query the query that produced the page.
+     * @param lastResultSortValues values of the sort fields of the last item of the page.
+     * @param cf a criteria factory.
+     * @return the query for all results after the page.
+     */
+    static Query startAfter(final Query query, final JsonArray lastResultSortValues, final CriteriaFactory cf) {
+        return query.withCriteria(cf.and(Arrays.asList(query.getCriteria(),
+                getNextPageFilter(query.getSortOptions(), lastResultSortValues, cf))));
+    }
+
     /**
      * Locate instances of a class within a collection.
      *
@@ -552,7 +649,9 @@ final class ThingsSearchCursor {
                 json.getValue(CORRELATION_ID).orElse(null),
                 findUniqueSortOption(RqlOptionParser.parseOptions(json.getValueOrThrow(SORT_OPTION))),
                 json.getValue(FILTER).orElse(null),
-                json.getValueOrThrow(VALUES));
+                json.getValueOrThrow(VALUES),
+                json.getValue(PINNED_ADDRESS).orElse(null),
+                json.getValue(PINNED_SESSION_ID).orElse(null));
     }
 
     /**
@@ -584,10 +683,13 @@ final class ThingsSearchCursor {
      * @param queryThings the command that produced the search result.
      * @param searchResult the search result.
      * @param resultList items in the search result.
+     * @param pinnedAddress cluster address of the search actor holding the pinned cursor of the next page, if any.
+     * @param pinnedSessionId ID of the pinned cursor of the next page, if any.
      * @return the augmented search result.
      */
     private static SearchResult searchResultWithNewCursor(final QueryThings queryThings,
-            final SearchResult searchResult, final ResultList<?> resultList) {
+            final SearchResult searchResult, final ResultList<?> resultList, @Nullable final String pinnedAddress,
+            @Nullable final String pinnedSessionId) {
 
         final List<Option> commandOptions = getOptions(queryThings);
         final boolean hasLimitOption = !findAll(LimitOption.class, commandOptions).isEmpty();
@@ -602,7 +704,8 @@ final class ThingsSearchCursor {
                 builder.cursor(null);
             } else {
                 // limit option is absent. Compute cursor.
-                final ThingsSearchCursor newCursor = computeNewCursor(queryThings, resultList);
+                final ThingsSearchCursor newCursor =
+                        computeNewCursor(queryThings, resultList, pinnedAddress, pinnedSessionId);
                 builder.cursor(newCursor.encode());
 
                 // size option is present. Remove next-page-offset.
@@ -626,15 +729,20 @@ final class ThingsSearchCursor {
      *
      * @param queryThings the command.
      * @param resultList search result produced by the command.
+     * @param pinnedAddress cluster address of the search actor holding the pinned cursor of the next page, if any.
+     * @param pinnedSessionId ID of the pinned cursor of the next page, if any.
      * @return cursor at the end of the search result.
      */
-    private static ThingsSearchCursor computeNewCursor(final QueryThings queryThings, final ResultList<?> resultList) {
+    private static ThingsSearchCursor computeNewCursor(final QueryThings queryThings, final ResultList<?> resultList,
+            @Nullable final String pinnedAddress, @Nullable final String pinnedSessionId) {
 
         return new ThingsSearchCursor(queryThings.getNamespaces().orElse(null),
                 queryThings.getDittoHeaders().getCorrelationId().orElse(null),
                 sortOptionForNewCursor(queryThings),
                 queryThings.getFilter().orElse(null),
-                resultList.lastResultSortValues().orElse(JsonArray.empty()));
+                resultList.lastResultSortValues().orElse(JsonArray.empty()),
+                pinnedAddress,
+                pinnedSessionId);
     }
 
     /**
@@ -686,7 +794,42 @@ final class ThingsSearchCursor {
             // this should not happen.
             throw invalidCursorBuilder().build();
         }
-        return getNextPageFilterImpl(sortOptions, previousValues, cf, 0);
+        final Criteria nextPageFilter = getNextPageFilterImpl(sortOptions, previousValues, cf, 0);
+        final JsonValue firstPreviousValue = previousValues.get(0).orElse(JsonFactory.nullLiteral());
+        return getSortColumnBound(sortOptions.get(0), firstPreviousValue, cf)
+                .map(sortColumnBound -> cf.and(Arrays.asList(sortColumnBound, nextPageFilter)))
+                .orElse(nextPageFilter);
+    }
+
+    /**
+     * Bound the sort column of the first dimension by a cursor's position. The bound is implied by the filter on
+     * the first dimension, which matches the flattened values of the field. Being on the sort column itself, it lets
+     * an index of the sort start at the cursor's position instead of at the first result.
+     *
+     * @param sortOption the sort option of the first dimension.
+     * @param previousValue value of the field in the sort option marking the position of the cursor.
+     * @param cf a criteria factory.
+     * @return criteria bounding the sort column, or an empty optional if the value is not a bounded primitive.
+     */
+    private static Optional<Criteria> getSortColumnBound(final org.eclipse.ditto.model.query.SortOption sortOption,
+            final JsonValue previousValue, final CriteriaFactory cf) {
+
+        final String sortColumn = GetSortBsonVisitor.path(sortOption.getSortExpression());
+        if (!sortColumn.startsWith(FIELD_SORTING + DOT) ||
+                !(previousValue.isNumber() || previousValue.isString() || previousValue.isBoolean())) {
+            return Optional.empty();
+        }
+        final SimpleFieldExpressionImpl sortColumnExpression = new SimpleFieldExpressionImpl(sortColumn);
+        final Object bound = JsonToBson.convert(previousValue);
+        if (sortOption.getSortDirection() == SortDirection.ASC) {
+            return Optional.of(cf.fieldCriteria(sortColumnExpression, cf.ge(bound)));
+        } else {
+            // DESC: things without the field come last
+            return Optional.of(cf.or(Arrays.asList(
+                    cf.fieldCriteria(sortColumnExpression, cf.le(bound)),
+                    cf.fieldCriteria(sortColumnExpression, cf.eq(null))
+            )));
+        }
     }
 
     /**
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.japi.Pair;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.thingsearch.starter.actors.PinnedCursorActor}.
+ */
+public final class PinnedCursorActorTest {
+
+    private static final List<String> SUBJECTS = List.of("ditto:ditto");
+    private static final String FILTER = "exists(attributes/x)";
+    private static final Set<String> NAMESPACES = Set.of("ns");
+    private static final JsonArray START = JsonArray.of(JsonValue.of("thing:0"));
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @After
+    public void stop() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void deliversPagesFromOpenCursorAndStopsAfterLastPage() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(props(5));
+            watch(underTest);
+
+            underTest.tell(nextPage(2, START), getRef());
+            final ResultList<?> page1 = expectMsgClass(ResultList.class);
+            assertThat(page1).containsExactly(ThingId.of("thing:1"), ThingId.of("thing:2"));
+            assertThat(page1.lastResultSortValues()).contains(sortValues(2));
+
+            underTest.tell(nextPage(2, sortValues(2)), getRef());
+            final ResultList<?> page2 = expectMsgClass(ResultList.class);
+            assertThat(page2).containsExactly(ThingId.of("thing:3"), ThingId.of("thing:4"));
+            assertThat(page2.lastResultSortValues()).contains(sortValues(4));
+
+            underTest.tell(nextPage(2, sortValues(4)), getRef());
+            final ResultList<?> page3 = expectMsgClass(ResultList.class);
+            assertThat(page3).containsExactly(ThingId.of("thing:5"));
+            assertThat(page3.lastResultSortValues()).isEmpty();
+
+            expectTerminated(underTest);
+        }};
+    }
+
+    @Test
+    public void rejectsRequestsAtOtherPositions() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(props(5));
+
+            underTest.tell(nextPage(2, START), getRef());
+            expectMsgClass(ResultList.class);
+
+            // request the first page again
+            underTest.tell(nextPage(2, START), getRef());
+            expectMsgClass(Status.Failure.class);
+        }};
+    }
+
+    @Test
+    public void rejectsRequestsOfOtherSubjects() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(props(5));
+
+            underTest.tell(new PinnedCursorActor.NextPage("session", 2, List.of("other:subject"), FILTER, NAMESPACES,
+                    START), getRef());
+            expectMsgClass(Status.Failure.class);
+        }};
+    }
+
+    @Test
+    public void rejectsRequestsOfOtherFiltersOrNamespaces() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(props(5));
+
+            underTest.tell(new PinnedCursorActor.NextPage("session", 2, SUBJECTS, "exists(attributes/y)", NAMESPACES,
+                    START), getRef());
+            expectMsgClass(Status.Failure.class);
+
+            underTest.tell(new PinnedCursorActor.NextPage("session", 2, SUBJECTS, FILTER, Set.of("other"), START),
+                    getRef());
+            expectMsgClass(Status.Failure.class);
+
+            underTest.tell(new PinnedCursorActor.NextPage("session", 2, SUBJECTS, FILTER, null, START), getRef());
+            expectMsgClass(Status.Failure.class);
+
+            // the pinned cursor is still usable by requests of the same query
+            underTest.tell(nextPage(2, START), getRef());
+            expectMsgClass(ResultList.class);
+        }};
+    }
+
+    @Test
+    public void stopsWhenIdle() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(props(5));
+            watch(underTest);
+            expectTerminated(Duration.ofSeconds(5L), underTest);
+        }};
+    }
+
+    private static Props props(final int things) {
+        final List<Pair<ThingId, JsonArray>> results = IntStream.rangeClosed(1, things)
+                .mapToObj(i -> Pair.create(ThingId.of("thing:" + i), sortValues(i)))
+                .collect(Collectors.toList());
+        return PinnedCursorActor.props(Source.from(results), SUBJECTS, FILTER, NAMESPACES, START,
+                Duration.ofSeconds(1L));
+    }
+
+    private static PinnedCursorActor.NextPage nextPage(final int size, final JsonArray position) {
+        return new PinnedCursorActor.NextPage("session", size, SUBJECTS, FILTER, NAMESPACES, position);
+    }
+
+    private static JsonArray sortValues(final int i) {
+        return JsonArray.of(JsonValue.of("thing:" + i));
+    }
+
+}
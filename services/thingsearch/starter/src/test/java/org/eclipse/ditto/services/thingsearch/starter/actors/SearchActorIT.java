@@ -36,6 +36,8 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultPinnedCursorConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.PinnedCursorConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
@@ -72,6 +74,9 @@ public final class SearchActorIT {
             AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
                     AuthorizationSubject.newInstance("ditto:ditto"));
 
+    private static final PinnedCursorConfig PINNED_CURSOR_CONFIG =
+            DefaultPinnedCursorConfig.of(ConfigFactory.empty());
+
     private static QueryParser queryParser;
     @ClassRule
     public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
@@ -145,7 +150,8 @@ public final class SearchActorIT {
     @Test
     public void testSearch() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, PINNED_CURSOR_CONFIG));
 
             insertTestThings();
 
@@ -160,7 +166,8 @@ public final class SearchActorIT {
     @Test
     public void testStream() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, PINNED_CURSOR_CONFIG));
 
             insertTestThings();
 
@@ -182,7 +189,8 @@ public final class SearchActorIT {
     @Test
     public void testCursorSearch() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, PINNED_CURSOR_CONFIG));
             final Supplier<AssertionError> noCursor =
                     () -> new AssertionError("No cursor where a cursor is expected");
 
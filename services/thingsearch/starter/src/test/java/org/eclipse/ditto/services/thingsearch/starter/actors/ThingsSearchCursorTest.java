@@ -26,13 +26,20 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.thingsearch.SortOption;
+import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
+import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorSystem;
 import akka.japi.pf.PFBuilder;
 import akka.stream.javadsl.Sink;
@@ -75,6 +82,19 @@ public final class ThingsSearchCursorTest {
         assertThat(decoded).isEqualTo(input);
     }
 
+    @Test
+    public void encodeAndDecodeRetainPinnedCursor() {
+        final ThingsSearchCursor input = randomPinnedCursor();
+        final ThingsSearchCursor decoded =
+                ThingsSearchCursor.decode(input.encode(), actorSystem)
+                        .runWith(Sink.head(), actorSystem)
+                        .toCompletableFuture().join();
+
+        assertThat(decoded).isEqualTo(input);
+        assertThat(decoded.getPinnedAddress()).isEqualTo(input.getPinnedAddress());
+        assertThat(decoded.getPinnedSessionId()).isEqualTo(input.getPinnedSessionId());
+    }
+
     @Test
     public void correlationIdIsUnchanged() {
         // GIVEN: cursor and command have different correlation IDs
@@ -97,6 +117,37 @@ public final class ThingsSearchCursorTest {
         assertThat(correlationIdOfAdjustedCommand).isNotEqualTo(getCorrelationId(underTest));
     }
 
+    @Test
+    public void continuationWithDifferentNamespacesIsRejected() {
+        final ThingsSearchCursor cursor = randomCursor();
+        final QueryThings queryThings = withCursor(
+                QueryThings.of(null, null, null, Collections.singleton("other-namespace"), DittoHeaders.empty()),
+                cursor);
+
+        assertThat(ThingsSearchCursor.extractCursor(queryThings, actorSystem)
+                .<Object>map(x -> x)
+                .recover(new PFBuilder<Throwable, Object>().matchAny(x -> x).build())
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .join())
+                .isInstanceOf(InvalidOptionException.class);
+    }
+
+    @Test
+    public void continuationWithDifferentFilterIsRejected() {
+        final ThingsSearchCursor cursor = randomCursor();
+        final QueryThings queryThings = withCursor(
+                QueryThings.of("exists(attributes/other)", null, null, null, DittoHeaders.empty()), cursor);
+
+        assertThat(ThingsSearchCursor.extractCursor(queryThings, actorSystem)
+                .<Object>map(x -> x)
+                .recover(new PFBuilder<Throwable, Object>().matchAny(x -> x).build())
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .join())
+                .isInstanceOf(InvalidOptionException.class);
+    }
+
     @Test
     public void decodingInvalidCursorsFailsWithInvalidCursorException() {
         assertThat(
@@ -110,6 +161,49 @@ public final class ThingsSearchCursorTest {
 
     }
 
+    @Test
+    public void startAfterBoundsTheSortColumnOfTheFirstDimension() {
+        final QueryParser queryParser =
+                SearchRootActor.getQueryParser(DefaultLimitsConfig.of(ConfigFactory.empty()), actorSystem);
+        final Query descending = queryParser.parse(QueryThings.of("eq(attributes/x,1)",
+                Collections.singletonList("sort(-_modified)"), null, null, DittoHeaders.empty()));
+        final Query ascending = queryParser.parse(QueryThings.of("eq(attributes/x,1)",
+                Collections.singletonList("sort(+attributes/y)"), null, null, DittoHeaders.empty()));
+
+        final String descendingFilter = BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(
+                ThingsSearchCursor.startAfter(descending,
+                        JsonArray.of(JsonValue.of("2021-01-02T03:04:05Z"), JsonValue.of("thing:id")),
+                        queryParser.getCriteriaFactory())
+                        .getCriteria()))
+                .toJson();
+        final String ascendingFilter = BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(
+                ThingsSearchCursor.startAfter(ascending,
+                        JsonArray.of(JsonValue.of(5), JsonValue.of("thing:id")),
+                        queryParser.getCriteriaFactory())
+                        .getCriteria()))
+                .toJson();
+
+        assertThat(descendingFilter).contains("{\"s._modified\": {\"$lte\": \"2021-01-02T03:04:05Z\"}}",
+                "{\"s._modified\": null}");
+        assertThat(ascendingFilter).contains("{\"s.attributes.y\": {\"$gte\": 5}}");
+    }
+
+    @Test
+    public void startAfterDoesNotBoundSortColumnByNull() {
+        final QueryParser queryParser =
+                SearchRootActor.getQueryParser(DefaultLimitsConfig.of(ConfigFactory.empty()), actorSystem);
+        final Query query = queryParser.parse(QueryThings.of(null,
+                Collections.singletonList("sort(+attributes/y)"), null, null, DittoHeaders.empty()));
+
+        final String filter = BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(
+                ThingsSearchCursor.startAfter(query, JsonArray.of(JsonValue.nullLiteral(), JsonValue.of("thing:id")),
+                        queryParser.getCriteriaFactory())
+                        .getCriteria()))
+                .toJson();
+
+        assertThat(filter).doesNotContain("s.attributes.y");
+    }
+
     private static ThingsSearchCursor randomCursor() {
         return new ThingsSearchCursor(
                 new HashSet<>(Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString())),
@@ -119,6 +213,17 @@ public final class ThingsSearchCursorTest {
                 JsonArray.of(JsonValue.of("thingId:" + UUID.randomUUID().toString())));
     }
 
+    private static ThingsSearchCursor randomPinnedCursor() {
+        return new ThingsSearchCursor(
+                null,
+                "correlation-id-" + UUID.randomUUID().toString(),
+                SortOption.of(Collections.singletonList(ThingsSearchCursor.DEFAULT_SORT_OPTION_ENTRY)),
+                "eq(attributes/x,\"" + UUID.randomUUID().toString() + "\")",
+                JsonArray.of(JsonValue.of("thingId:" + UUID.randomUUID().toString())),
+                "akka://ditto-cluster@127.0.0.1:2551",
+                UUID.randomUUID().toString());
+    }
+
     private static QueryThings withCursor(final QueryThings queryThings, final ThingsSearchCursor cursor) {
         final List<String> options = Collections.singletonList("cursor(" + cursor.encode() + ")");
         return QueryThings.of(queryThings.getFilter().orElse(null), options, queryThings.getFields().orElse(null),
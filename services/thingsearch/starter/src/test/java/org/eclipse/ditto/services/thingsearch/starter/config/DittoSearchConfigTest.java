@@ -19,6 +19,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 import org.eclipse.ditto.services.base.config.DittoServiceConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.DefaultUpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.PinnedCursorConfig;
 import org.eclipse.ditto.services.utils.health.config.DefaultHealthCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.junit.Test;
@@ -35,7 +36,7 @@ public final class DittoSearchConfigTest {
         assertInstancesOf(DittoSearchConfig.class,
                 areImmutable(),
                 provided(DefaultHealthCheckConfig.class, DittoServiceConfig.class, DefaultUpdaterConfig.class,
-                        DefaultMongoDbConfig.class)
+                        DefaultMongoDbConfig.class, PinnedCursorConfig.class)
                         .areAlsoImmutable());
     }
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static akka.cluster.pubsub.DistributedPubSubMediator.SubscribeAck;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ContinuousQueries;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.signals.commands.thingsearch.exceptions.SubscriptionProtocolErrorException;
+import org.eclipse.ditto.signals.commands.thingsearch.subscription.CreateSubscription;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionFailed;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Terminated;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor registering the continuous subscriptions published by the subscription actors of all cluster members at the
+ * search updater stream of this cluster member. A subscription is removed when its subscription actor terminates.
+ * Subscriptions that cannot be registered, e.g. because continuous subscriptions are disabled or too many of them
+ * exist, are failed.
+ *
+ * @since 2.0.0
+ */
+final class ContinuousSubscriptionsActor extends AbstractActor {
+
+    /**
+     * Name of this actor.
+     */
+    static final String ACTOR_NAME = "continuousSubscriptions";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ContinuousQueries continuousQueries;
+
+    @SuppressWarnings("unused")
+    private ContinuousSubscriptionsActor(final ActorRef pubSubMediator, final ContinuousQueries continuousQueries) {
+        this.continuousQueries = continuousQueries;
+        pubSubMediator.tell(DistPubSubAccess.subscribe(ThingsSearchConstants.CONTINUOUS_SUBSCRIPTIONS_TOPIC,
+                getSelf()), getSelf());
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param pubSubMediator Akka pub-sub-mediator.
+     * @param continuousQueries the continuous queries evaluated by the search updater stream.
+     * @return the Props object.
+     */
+    static Props props(final ActorRef pubSubMediator, final ContinuousQueries continuousQueries) {
+        return Props.create(ContinuousSubscriptionsActor.class, pubSubMediator, continuousQueries);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(CreateSubscription.class, this::register)
+                .match(Terminated.class, this::remove)
+                .match(SubscribeAck.class, subscribeAck -> log.info("SubscribeAck: <{}>", subscribeAck))
+                .matchAny(message -> log.warning("Unknown message: <{}>", message))
+                .build();
+    }
+
+    private void register(final CreateSubscription createSubscription) {
+        final ActorRef subscriber = getSender();
+        if (!continuousQueries.isEnabled()) {
+            log.withCorrelationId(createSubscription)
+                    .info("Continuous subscriptions are disabled; failing <{}>", subscriber);
+            failSubscription(subscriber, SubscriptionProtocolErrorException.newBuilder()
+                    .message("Continuous subscriptions are not enabled.")
+                    .dittoHeaders(createSubscription.getDittoHeaders())
+                    .build());
+            return;
+        }
+        try {
+            if (continuousQueries.register(subscriber, createSubscription)) {
+                log.withCorrelationId(createSubscription)
+                        .info("Registered continuous subscription <{}>. Total: <{}>", subscriber,
+                                continuousQueries.size());
+                getContext().watch(subscriber);
+            }
+        } catch (final DittoRuntimeException e) {
+            log.withCorrelationId(createSubscription)
+                    .info("Not registering continuous subscription <{}> due to <{}>", subscriber, e);
+            failSubscription(subscriber, e);
+        }
+    }
+
+    private void failSubscription(final ActorRef subscriber, final DittoRuntimeException error) {
+        final String subscriptionId = subscriber.path().name();
+        subscriber.tell(SubscriptionFailed.of(subscriptionId, error, error.getDittoHeaders()), getSelf());
+    }
+
+    private void remove(final Terminated terminated) {
+        if (continuousQueries.remove(terminated.getActor())) {
+            log.info("Removed continuous subscription <{}>. Total: <{}>", terminated.getActor(),
+                    continuousQueries.size());
+        }
+    }
+
+}
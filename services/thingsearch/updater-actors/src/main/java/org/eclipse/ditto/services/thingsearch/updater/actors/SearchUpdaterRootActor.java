@@ -15,17 +15,23 @@ package org.eclipse.ditto.services.thingsearch.updater.actors;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.base.actors.StartChildActor;
+import org.eclipse.ditto.services.thingsearch.common.config.ChangeStreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchPartitions;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.impl.MongoThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ContinuousQueries;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.SearchUpdaterStream;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.cluster.ShardingStatistics;
+import org.eclipse.ditto.services.utils.cluster.ShardingStatisticsReporter;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.health.RetrieveHealth;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
@@ -34,6 +40,7 @@ import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonCommandListener;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonConnectionPoolListener;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoTimestampPersistence;
 import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
 import org.eclipse.ditto.services.utils.pubsub.ThingEventPubSubFactory;
@@ -52,6 +59,7 @@ import akka.event.Logging;
 import akka.event.LoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.KillSwitch;
+import akka.stream.SystemMaterializer;
 
 /**
  * Our "Parent" Actor which takes care of supervision of all other Actors in our system.
@@ -116,14 +124,23 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         final ActorRef updaterShard =
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
 
+        final PromotedFields promotedFields = searchConfig.getPromotedFieldsByNamespace()
+                .map(PromotedFields::byNamespace)
+                .orElseGet(PromotedFields::empty);
+        final SearchPartitions partitions = searchConfig.getPartitionsByNamespace()
+                .map(SearchPartitions::byNamespace)
+                .orElseGet(SearchPartitions::empty);
+        final ContinuousQueries continuousQueries =
+                ContinuousQueries.of(updaterConfig.getContinuousQueriesConfig(), actorSystem);
         final SearchUpdaterStream searchUpdaterStream =
                 SearchUpdaterStream.of(updaterConfig, actorSystem, thingsShard, policiesShard, updaterShard,
-                        changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
+                        changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces, promotedFields,
+                        partitions, continuousQueries);
         updaterStreamKillSwitch = searchUpdaterStream.start(getContext(), false);
         updaterStreamWithAcknowledgementsKillSwitch = searchUpdaterStream.start(getContext(), true);
 
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
-                MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase());
+                MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase(), partitions);
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
@@ -135,6 +152,11 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         pubSubMediator);
 
         thingsUpdaterActor = startChildActor(ThingsUpdater.ACTOR_NAME, thingsUpdaterProps);
+        startChildActor(ContinuousSubscriptionsActor.ACTOR_NAME,
+                ContinuousSubscriptionsActor.props(pubSubMediator, continuousQueries));
+        startChildActor(ShardingStatisticsReporter.ACTOR_NAME,
+                ShardingStatisticsReporter.props(updaterShard, ShardRegionFactory.UPDATER_SHARD_REGION,
+                        ShardingStatistics.of(actorSystem), clusterConfig.getShardingStatisticsReportInterval()));
         startClusterSingletonActor(NewEventForwarder.ACTOR_NAME,
                 NewEventForwarder.props(thingEventSub, updaterShard, blockedNamespaces));
 
@@ -158,6 +180,20 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         startClusterSingletonActor(BackgroundSyncActor.ACTOR_NAME, backgroundSyncActorProps)
                 );
 
+        final ChangeStreamConfig changeStreamConfig = updaterConfig.getChangeStreamConfig();
+        if (changeStreamConfig.isEnabled()) {
+            // start change stream of the things journal as cluster singleton
+            final TimestampPersistence resumeTokenPersistence =
+                    MongoTimestampPersistence.initializedInstance(changeStreamConfig.getResumeTokenCollection(),
+                            dittoMongoClient, SystemMaterializer.get(actorSystem).materializer());
+            final Props changeStreamActorProps = ThingsJournalChangeStreamActor.props(changeStreamConfig,
+                    dittoMongoClient.getDatabase(changeStreamConfig.getJournalDatabase())
+                            .getCollection(changeStreamConfig.getJournalCollection()),
+                    resumeTokenPersistence,
+                    thingsUpdaterActor);
+            startClusterSingletonActor(ThingsJournalChangeStreamActor.ACTOR_NAME, changeStreamActorProps);
+        }
+
         startChildActor(ThingsSearchPersistenceOperationsActor.ACTOR_NAME,
                 ThingsSearchPersistenceOperationsActor.props(pubSubMediator, searchUpdaterPersistence,
                         searchConfig.getPersistenceOperationsConfig()));
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.thingsearch.common.config.ChangeStreamConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
+
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.contrib.persistence.mongodb.JournallingFieldNames$;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.KillSwitches;
+import akka.stream.RestartSettings;
+import akka.stream.SystemMaterializer;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.RestartSource;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cluster singleton tailing the things journal through a MongoDB change stream.
+ * <p>
+ * Each write to the journal is forwarded as {@link ThingTag} to the things-updater. The resume token of the last
+ * change acknowledged by a thing-updater is persisted periodically. After a restart, the change stream resumes after
+ * the persisted token; changes delivered a second time are dropped by the thing-updaters due to their revision.
+ * Unlike thing events via distributed pub/sub, no change is lost as long as the persisted resume token remains in the
+ * oplog of the MongoDB replica set.
+ */
+public final class ThingsJournalChangeStreamActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "thingsJournalChangeStream";
+
+    private static final String THING_PERSISTENCE_ID_PREFIX = "thing:";
+    private static final String J_PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String J_TO = JournallingFieldNames$.MODULE$.TO();
+
+    private static final Duration BACKOFF_MIN = Duration.ofSeconds(1L);
+    private static final Duration BACKOFF_MAX = Duration.ofMinutes(2L);
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ChangeStreamConfig config;
+    private final MongoCollection<Document> journal;
+    private final TimestampPersistence resumeTokenPersistence;
+    private final ActorRef thingsUpdater;
+
+    @Nullable private UniqueKillSwitch killSwitch;
+
+    @SuppressWarnings("unused")
+    private ThingsJournalChangeStreamActor(final ChangeStreamConfig config,
+            final MongoCollection<Document> journal,
+            final TimestampPersistence resumeTokenPersistence,
+            final ActorRef thingsUpdater) {
+
+        this.config = config;
+        this.journal = journal;
+        this.resumeTokenPersistence = resumeTokenPersistence;
+        this.thingsUpdater = thingsUpdater;
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param config the change stream config.
+     * @param journal the things journal collection.
+     * @param resumeTokenPersistence persistence of the resume token of the last processed change.
+     * @param thingsUpdater the things-updater to forward thing tags to.
+     * @return the Props object.
+     */
+    public static Props props(final ChangeStreamConfig config,
+            final MongoCollection<Document> journal,
+            final TimestampPersistence resumeTokenPersistence,
+            final ActorRef thingsUpdater) {
+
+        return Props.create(ThingsJournalChangeStreamActor.class, config, journal, resumeTokenPersistence,
+                thingsUpdater);
+    }
+
+    @Override
+    public void preStart() {
+        final RestartSettings restartSettings = RestartSettings.create(BACKOFF_MIN, BACKOFF_MAX, 1.0);
+        killSwitch = RestartSource.withBackoff(restartSettings, this::resumeChangeStream)
+                .viaMat(KillSwitches.single(), Keep.right())
+                .toMat(Sink.ignore(), Keep.left())
+                .run(SystemMaterializer.get(getContext().getSystem()).materializer());
+    }
+
+    @Override
+    public void postStop() {
+        if (killSwitch != null) {
+            killSwitch.shutdown();
+        }
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    /**
+     * Extract the thing tag from a document inserted into the things journal.
+     *
+     * @param journalEntry the journal document.
+     * @return the tag of the thing at the highest sequence number of the document, or an empty optional if the
+     * document does not belong to a thing.
+     */
+    static Optional<ThingTag> toThingTag(@Nullable final Document journalEntry) {
+        if (journalEntry == null) {
+            return Optional.empty();
+        }
+        final Object pid = journalEntry.get(J_PROCESSOR_ID);
+        final Object sequenceNumber = journalEntry.get(J_TO);
+        if (pid instanceof String && ((String) pid).startsWith(THING_PERSISTENCE_ID_PREFIX) &&
+                sequenceNumber instanceof Number) {
+            final ThingId thingId = ThingId.of(((String) pid).substring(THING_PERSISTENCE_ID_PREFIX.length()));
+            return Optional.of(ThingTag.of(thingId, ((Number) sequenceNumber).longValue()));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private Source<Done, NotUsed> resumeChangeStream() {
+        return resumeTokenPersistence.getTaggedTimestamp()
+                .flatMapConcat(lastToken -> watch(lastToken.map(Pair::second).orElse(null)))
+                .mapAsync(config.getParallelism(), this::forwardChange)
+                .conflate((earlier, later) -> later)
+                .throttle(1, config.getResumeTokenInterval())
+                .flatMapConcat(this::persistResumeToken);
+    }
+
+    private Source<ChangeStreamDocument<Document>, NotUsed> watch(@Nullable final String resumeToken) {
+        log.info("Watching <{}> after resume token <{}>", journal.getNamespace(), resumeToken);
+        final ChangeStreamPublisher<Document> changes =
+                journal.watch(List.of(Aggregates.match(Filters.eq("operationType", OperationType.INSERT.getValue()))));
+        return Source.fromPublisher(
+                resumeToken == null ? changes : changes.resumeAfter(parseResumeToken(resumeToken)));
+    }
+
+    private CompletionStage<ChangeStreamDocument<Document>> forwardChange(final ChangeStreamDocument<Document> change) {
+        final Optional<ThingTag> thingTag = toThingTag(change.getFullDocument());
+        if (thingTag.isPresent()) {
+            // the thing-updater acknowledges the tag after enqueueing it for the search updater stream
+            return Patterns.ask(thingsUpdater, thingTag.get(), config.getAskTimeout()).thenApply(ack -> change);
+        } else {
+            return CompletableFuture.completedFuture(change);
+        }
+    }
+
+    private Source<Done, NotUsed> persistResumeToken(final ChangeStreamDocument<Document> change) {
+        final Pair<Instant, String> resumePoint = toResumePoint(change);
+        return resumeTokenPersistence.setTaggedTimestamp(resumePoint.first(), resumePoint.second());
+    }
+
+    /**
+     * Extract the point to resume the change stream at after a change.
+     *
+     * @param change the change.
+     * @return the cluster time of the change, or the current time if the change has none, paired with the resume
+     * token of the change in JSON format.
+     */
+    static Pair<Instant, String> toResumePoint(final ChangeStreamDocument<?> change) {
+        final Instant timestamp = change.getClusterTime() != null
+                ? Instant.ofEpochSecond(change.getClusterTime().getTime())
+                : Instant.now();
+        return Pair.create(timestamp, change.getResumeToken().toJson());
+    }
+
+    /**
+     * Parse a resume token persisted by {@link #toResumePoint(ChangeStreamDocument)}.
+     *
+     * @param resumeToken the resume token in JSON format.
+     * @return the resume token.
+     */
+    static BsonDocument parseResumeToken(final String resumeToken) {
+        return BsonDocument.parse(resumeToken);
+    }
+
+}
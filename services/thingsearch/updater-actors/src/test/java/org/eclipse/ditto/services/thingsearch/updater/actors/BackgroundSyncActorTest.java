@@ -32,6 +32,8 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.awaitility.Awaitility;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
@@ -49,6 +51,7 @@ import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThing;
 import org.eclipse.ditto.services.thingsearch.common.config.BackgroundSyncConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.DefaultBackgroundSyncConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.persistence.query.ThingsAggregation;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
@@ -356,7 +359,8 @@ public final class BackgroundSyncActorTest {
         }
 
         @Override
-        public Source<Long, NotUsed> count(final Query query, final List<String> authorizationSubjectIds) {
+        public Source<Long, NotUsed> count(final Query query, final List<String> authorizationSubjectIds,
+                @Nullable final Set<String> namespaces) {
             throw new UnsupportedOperationException();
         }
 
@@ -378,6 +382,18 @@ public final class BackgroundSyncActorTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Source<Pair<ThingId, JsonArray>, NotUsed> findAllUnlimitedWithSortValues(final Query query,
+                final List<String> authorizationSubjectIds, @Nullable final Set<String> namespaces) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Source<JsonObject, NotUsed> aggregate(final ThingsAggregation aggregation,
+                final List<String> authorizationSubjectIds, @Nullable final Set<String> namespaces) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound) {
             checkNotNull(this.metadata,
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.thingsearch.common.config.ChangeStreamConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultChangeStreamConfig;
+import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
+import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ThingsJournalChangeStreamActor}.
+ */
+public final class ThingsJournalChangeStreamActorTest {
+
+    private static final ChangeStreamConfig CONFIG = DefaultChangeStreamConfig.of(ConfigFactory.empty());
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @After
+    public void stop() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void extractThingTagFromJournalEntry() {
+        final Document journalEntry = new Document()
+                .append("pid", "thing:namespace:name")
+                .append("from", 5L)
+                .append("to", 7L);
+
+        assertThat(ThingsJournalChangeStreamActor.toThingTag(journalEntry))
+                .contains(ThingTag.of(ThingId.of("namespace:name"), 7L));
+    }
+
+    @Test
+    public void ignoreJournalEntriesOfOtherEntities() {
+        final Document journalEntry = new Document()
+                .append("pid", "policy:namespace:name")
+                .append("from", 1L)
+                .append("to", 1L);
+
+        assertThat(ThingsJournalChangeStreamActor.toThingTag(journalEntry)).isEmpty();
+        assertThat(ThingsJournalChangeStreamActor.toThingTag(null)).isEmpty();
+    }
+
+    @Test
+    public void ignoreJournalEntriesWithoutSequenceNumber() {
+        final Document journalEntry = new Document()
+                .append("pid", "thing:namespace:name")
+                .append("to", "7");
+
+        assertThat(ThingsJournalChangeStreamActor.toThingTag(journalEntry)).isEmpty();
+    }
+
+    @Test
+    public void resumePointCarriesClusterTimeAndParsableResumeToken() {
+        final ChangeStreamDocument<Document> change =
+                change(resumeToken("token-1"), new BsonTimestamp(1_600_000_000, 3), thingEntry("ns:thing", 1L));
+
+        final Pair<Instant, String> resumePoint = ThingsJournalChangeStreamActor.toResumePoint(change);
+
+        assertThat(resumePoint.first()).isEqualTo(Instant.ofEpochSecond(1_600_000_000L));
+        assertThat(ThingsJournalChangeStreamActor.parseResumeToken(resumePoint.second()))
+                .isEqualTo(resumeToken("token-1"));
+    }
+
+    @Test
+    public void resumePointWithoutClusterTimeUsesCurrentTime() {
+        final Instant before = Instant.now();
+        final ChangeStreamDocument<Document> change =
+                change(resumeToken("token-2"), null, thingEntry("ns:thing", 1L));
+
+        final Pair<Instant, String> resumePoint = ThingsJournalChangeStreamActor.toResumePoint(change);
+
+        assertThat(resumePoint.first()).isAfterOrEqualTo(before);
+        assertThat(ThingsJournalChangeStreamActor.parseResumeToken(resumePoint.second()))
+                .isEqualTo(resumeToken("token-2"));
+    }
+
+    @Test
+    public void forwardThingTagsAndPersistResumeTokenAfterAcknowledgement() {
+        new TestKit(actorSystem) {{
+            final ChangeStreamDocument<Document> policyChange =
+                    change(resumeToken("token-1"), new BsonTimestamp(1, 0),
+                            new Document().append("pid", "policy:ns:policy").append("to", 1L));
+            final ChangeStreamDocument<Document> thingChange =
+                    change(resumeToken("token-2"), new BsonTimestamp(2, 0), thingEntry("ns:thing", 4L));
+            final MongoCollection<Document> journal = journalWithChanges(List.of(policyChange, thingChange));
+            final TimestampPersistence resumeTokenPersistence = mock(TimestampPersistence.class);
+            when(resumeTokenPersistence.getTaggedTimestamp()).thenReturn(Source.single(Optional.empty()));
+            when(resumeTokenPersistence.setTaggedTimestamp(any(), any())).thenReturn(Source.single(Done.getInstance()));
+
+            final ActorRef underTest = actorSystem.actorOf(
+                    ThingsJournalChangeStreamActor.props(CONFIG, journal, resumeTokenPersistence, getRef()));
+
+            // only the change of the thing is forwarded
+            expectMsg(ThingTag.of(ThingId.of("ns:thing"), 4L));
+            reply(StreamAck.success("ns:thing"));
+
+            verify(resumeTokenPersistence, timeout(5000L))
+                    .setTaggedTimestamp(eq(Instant.ofEpochSecond(2L)), eq(resumeToken("token-2").toJson()));
+            watch(underTest);
+            actorSystem.stop(underTest);
+            expectTerminated(underTest);
+        }};
+    }
+
+    @Test
+    public void resumeAfterPersistedResumeToken() {
+        new TestKit(actorSystem) {{
+            final ChangeStreamPublisher<Document> changes = publisherOf(List.of());
+            final MongoCollection<Document> journal = journalWithPublisher(changes);
+            final TimestampPersistence resumeTokenPersistence = mock(TimestampPersistence.class);
+            when(resumeTokenPersistence.getTaggedTimestamp()).thenReturn(
+                    Source.single(Optional.of(Pair.create(Instant.EPOCH, resumeToken("token-3").toJson()))));
+
+            actorSystem.actorOf(
+                    ThingsJournalChangeStreamActor.props(CONFIG, journal, resumeTokenPersistence, getRef()));
+
+            verify(changes, timeout(5000L)).resumeAfter(resumeToken("token-3"));
+        }};
+    }
+
+    private MongoCollection<Document> journalWithChanges(final List<ChangeStreamDocument<Document>> changes) {
+        return journalWithPublisher(publisherOf(changes));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MongoCollection<Document> journalWithPublisher(final ChangeStreamPublisher<Document> publisher) {
+        final MongoCollection<Document> journal = mock(MongoCollection.class);
+        when(journal.getNamespace()).thenReturn(new MongoNamespace("things", "things_journal"));
+        when(journal.watch(anyList())).thenReturn(publisher);
+        return journal;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChangeStreamPublisher<Document> publisherOf(final List<ChangeStreamDocument<Document>> changes) {
+        final ChangeStreamPublisher<Document> publisher = mock(ChangeStreamPublisher.class);
+        when(publisher.resumeAfter(any())).thenReturn(publisher);
+        doAnswer(invocation -> {
+            // keep the change stream open like a tailing cursor
+            Source.from(changes)
+                    .concat(Source.never())
+                    .runWith(Sink.asPublisher(false), actorSystem)
+                    .subscribe(invocation.getArgument(0));
+            return null;
+        }).when(publisher).subscribe(any(Subscriber.class));
+        return publisher;
+    }
+
+    private static ChangeStreamDocument<Document> change(final BsonDocument resumeToken,
+            final BsonTimestamp clusterTime, final Document fullDocument) {
+
+        return new ChangeStreamDocument<>(OperationType.INSERT, resumeToken,
+                new BsonDocument("db", new BsonString("things")).append("coll", new BsonString("things_journal")),
+                null, fullDocument, null, clusterTime, null, null, null);
+    }
+
+    private static Document thingEntry(final String thingId, final long sequenceNumber) {
+        return new Document()
+                .append("pid", "thing:" + thingId)
+                .append("from", sequenceNumber)
+                .append("to", sequenceNumber);
+    }
+
+    private static BsonDocument resumeToken(final String data) {
+        return new BsonDocument("_data", new BsonString(data));
+    }
+
+}
@@ -95,9 +95,20 @@ public abstract class AbstractStreamingActor<C, E> extends AbstractActor {
                 : elements;
     }
 
+    /**
+     * Add matchers for further messages to the behavior of this actor. Does nothing by default.
+     *
+     * @param receiveBuilder the builder of the behavior to which the matcher of the command class is added afterwards.
+     */
+    protected void preEnhanceReceive(final ReceiveBuilder receiveBuilder) {
+        // do nothing by default
+    }
+
     @Override
     public final Receive createReceive() {
-        return ReceiveBuilder.create()
+        final ReceiveBuilder receiveBuilder = ReceiveBuilder.create();
+        preEnhanceReceive(receiveBuilder);
+        return receiveBuilder
                 .match(getCommandClass(), this::startStreaming)
                 .matchAny(message -> log.warning("Unexpected message: <{}>", message))
                 .build();
@@ -31,6 +31,11 @@ import org.eclipse.ditto.model.base.json.Jsonifiable;
 @Immutable
 public final class InvalidateCacheEntry implements Jsonifiable<JsonObject> {
 
+    /**
+     * Pub/Sub topic on which cache invalidations are published to caches outside of the Concierge service.
+     */
+    public static final String PUB_SUB_TOPIC_INVALIDATE_CACHE_ENTRIES = "invalidate-cache-entries";
+
     private static final JsonFieldDefinition<String> JSON_ENTITY_ID =
             JsonFactory.newStringFieldDefinition("entityId", V_1, V_2);
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.Member;
+import akka.cluster.UniqueAddress;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.LWWMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+
+/**
+ * Distributed data of the number of entities in each shard region of each cluster member.
+ * Every member writes the entity counts of its own shard regions to its local replica whenever they change; the
+ * replicator gossips the changed entries to all other members with the role {@value #CLUSTER_ROLE}. Readers thus
+ * obtain cluster-wide entity counts from their local replica without asking any shard region.
+ */
+public final class ShardingStatistics extends DistributedData<LWWMap<String, Long>> {
+
+    /**
+     * Role of cluster members to which this distributed data is replicated.
+     */
+    public static final String CLUSTER_ROLE = "sharding-statistics-aware";
+
+    /**
+     * Name of the replicator actor.
+     */
+    public static final String ACTOR_NAME = "shardingStatisticsReplicator";
+
+    /**
+     * Key of the distributed data. Should be unique among LWWMaps.
+     */
+    private static final Key<LWWMap<String, Long>> KEY = LWWMapKey.create("ShardingStatistics");
+
+    private static final char KEY_SEPARATOR = '|';
+
+    private final SelfUniqueAddress selfUniqueAddress;
+    private final String selfMemberKey;
+
+    private ShardingStatistics(final DistributedDataConfig config, final ActorSystem system) {
+        super(config, system, system.dispatcher());
+        final UniqueAddress uniqueAddress = Cluster.get(system).selfUniqueAddress();
+        selfUniqueAddress = SelfUniqueAddress.apply(uniqueAddress);
+        selfMemberKey = toMemberKey(uniqueAddress);
+    }
+
+    /**
+     * Get an instance of this distributed data with the default configuration. The provided Akka system must be a
+     * cluster member with the role {@code sharding-statistics-aware}.
+     *
+     * @param system the actor system where the replicator actor will be created.
+     * @return a new instance of the distributed data.
+     */
+    public static ShardingStatistics of(final ActorSystem system) {
+        return Provider.INSTANCE.get(system);
+    }
+
+    /**
+     * Create an instance of this distributed data with special configuration.
+     *
+     * @param config the overriding configuration.
+     * @param system the actor system where the replicator actor will be created.
+     * @return a new instance of the distributed data.
+     * @throws NullPointerException if {@code config} is {@code null}.
+     */
+    public static ShardingStatistics create(final DistributedDataConfig config, final ActorSystem system) {
+        return new ShardingStatistics(config, system);
+    }
+
+    /**
+     * Write the number of entities of a shard region on this cluster member to the local replica.
+     * The change is gossiped to the other replicas.
+     *
+     * @param shardRegion name of the shard region.
+     * @param entityCount number of entities of the shard region on this cluster member.
+     * @return future that completes after the local replica is updated, exceptionally if there is any error.
+     */
+    public CompletionStage<Void> report(final String shardRegion, final long entityCount) {
+        final String key = shardRegion + KEY_SEPARATOR + selfMemberKey;
+        return update(writeLocal(), lwwMap -> lwwMap.put(selfUniqueAddress, key, entityCount));
+    }
+
+    /**
+     * Remove the entity counts of a cluster member from the local replica.
+     *
+     * @param uniqueAddress the unique address of the removed member.
+     * @return future that completes after the local replica is updated, exceptionally if there is any error.
+     */
+    public CompletionStage<Void> removeMember(final UniqueAddress uniqueAddress) {
+        final String memberKey = toMemberKey(uniqueAddress);
+        return update(writeLocal(), lwwMap -> {
+            LWWMap<String, Long> result = lwwMap;
+            for (final String key : lwwMap.getEntries().keySet()) {
+                if (memberKey.equals(getMemberKey(key))) {
+                    result = result.remove(selfUniqueAddress, key);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Sum up the entity counts of each shard region reported by the given cluster members.
+     * Entries of cluster members not among the given members are ignored.
+     *
+     * @param lwwMap the replicated data.
+     * @param members the current cluster members.
+     * @return map from shard region names to the number of entities in them.
+     */
+    public static Map<String, Long> sumEntityCounts(final LWWMap<String, Long> lwwMap,
+            final Iterable<Member> members) {
+
+        final Set<String> memberKeys = StreamSupport.stream(members.spliterator(), false)
+                .map(member -> toMemberKey(member.uniqueAddress()))
+                .collect(Collectors.toSet());
+        final Map<String, Long> result = new HashMap<>();
+        lwwMap.getEntries().forEach((key, count) -> {
+            if (memberKeys.contains(getMemberKey(key))) {
+                result.merge(getShardRegion(key), count, Long::sum);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    protected Key<LWWMap<String, Long>> getKey() {
+        return KEY;
+    }
+
+    @Override
+    protected LWWMap<String, Long> getInitialValue() {
+        return LWWMap.empty();
+    }
+
+    private static Replicator.WriteConsistency writeLocal() {
+        return (Replicator.WriteConsistency) Replicator.writeLocal();
+    }
+
+    private static String toMemberKey(final UniqueAddress uniqueAddress) {
+        return uniqueAddress.address().toString() + '#' + uniqueAddress.longUid();
+    }
+
+    private static String getShardRegion(final String key) {
+        return key.substring(0, key.indexOf(KEY_SEPARATOR));
+    }
+
+    private static String getMemberKey(final String key) {
+        return key.substring(key.indexOf(KEY_SEPARATOR) + 1);
+    }
+
+    private static final class Provider
+            extends DistributedData.AbstractDDataProvider<LWWMap<String, Long>, ShardingStatistics> {
+
+        private static final Provider INSTANCE = new Provider();
+
+        private Provider() {}
+
+        @Override
+        public ShardingStatistics createExtension(final ExtendedActorSystem system) {
+            return new ShardingStatistics(DistributedData.createConfig(system, ACTOR_NAME, CLUSTER_ROLE), system);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.sharding.ShardRegion;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor which periodically asks the local shard region for its entity count and reports changes of the count to
+ * the {@link ShardingStatistics}. Only the shard region on the same cluster member is asked, so that the cost of
+ * reporting does not grow with the size of the cluster.
+ */
+public final class ShardingStatisticsReporter extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "shardingStatisticsReporter";
+
+    private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ActorRef shardRegion;
+    private final String shardRegionName;
+    private final ShardingStatistics shardingStatistics;
+    private final Duration reportInterval;
+
+    private long lastReportedCount = -1L;
+
+    @SuppressWarnings("unused")
+    private ShardingStatisticsReporter(final ActorRef shardRegion, final String shardRegionName,
+            final ShardingStatistics shardingStatistics, final Duration reportInterval) {
+
+        this.shardRegion = shardRegion;
+        this.shardRegionName = shardRegionName;
+        this.shardingStatistics = shardingStatistics;
+        this.reportInterval = reportInterval;
+    }
+
+    /**
+     * Create Props for this actor reporting to the given sharding statistics.
+     *
+     * @param shardRegion the local shard region.
+     * @param shardRegionName name of the shard region.
+     * @param shardingStatistics the distributed data to report to.
+     * @param reportInterval how often to ask the shard region for its entity count.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef shardRegion, final String shardRegionName,
+            final ShardingStatistics shardingStatistics, final Duration reportInterval) {
+
+        return Props.create(ShardingStatisticsReporter.class, shardRegion, shardRegionName, shardingStatistics,
+                reportInterval);
+    }
+
+    @Override
+    public void preStart() {
+        getTimers().startTimerWithFixedDelay(Control.TICK, Control.TICK, reportInterval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.TICK, this::askShardRegion)
+                .match(ShardRegion.ShardRegionStats.class, this::reportIfChanged)
+                .match(Status.Failure.class, this::reportFailed)
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void askShardRegion(final Control tick) {
+        shardRegion.tell(ShardRegion.getRegionStatsInstance(), getSelf());
+    }
+
+    private void reportIfChanged(final ShardRegion.ShardRegionStats shardRegionStats) {
+        final long count = shardRegionStats.getStats()
+                .values()
+                .stream()
+                .mapToLong(o -> (Integer) o)
+                .sum();
+        if (count != lastReportedCount) {
+            log.debug("Reporting <{}> entities in shard region <{}>", count, shardRegionName);
+            lastReportedCount = count;
+            final ActorRef self = getSelf();
+            shardingStatistics.report(shardRegionName, count)
+                    .exceptionally(error -> {
+                        self.tell(new Status.Failure(error), ActorRef.noSender());
+                        return null;
+                    });
+        }
+    }
+
+    private void reportFailed(final Status.Failure failure) {
+        log.error(failure.cause(), "Failed to report entity count of shard region <{}>", shardRegionName);
+        // report again at the next tick
+        lastReportedCount = -1L;
+    }
+
+    private enum Control {
+        TICK
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.cluster.config;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -39,6 +40,15 @@ public interface ClusterConfig {
      */
     Collection<String> getClusterStatusRolesBlocklist();
 
+    /**
+     * Returns how often each cluster member reports the entity counts of its shard regions to the distributed
+     * sharding statistics. This is the maximum staleness of the statistics apart from the replication delay.
+     *
+     * @return the report interval of sharding statistics.
+     * @since 2.0.0
+     */
+    Duration getShardingStatisticsReportInterval();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ClusterConfig}.
@@ -56,7 +66,14 @@ public interface ClusterConfig {
         CLUSTER_STATUS_ROLES_BLOCKLIST("cluster-status-roles-blocklist", Arrays.asList(
                 "dc-default",
                 "blocked-namespaces-aware"
-        ));
+        )),
+
+        /**
+         * How often each cluster member reports the entity counts of its shard regions.
+         *
+         * @since 2.0.0
+         */
+        SHARDING_STATISTICS_REPORT_INTERVAL("sharding-statistics-report-interval", Duration.ofSeconds(10L));
 
         private final String path;
         private final Object defaultValue;
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.cluster.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,12 +32,15 @@ public final class DefaultClusterConfig implements ClusterConfig {
 
     private final int numberOfShards;
     private final List<String> clusterStatusRolesBlocklist;
+    private final Duration shardingStatisticsReportInterval;
 
     private DefaultClusterConfig(final ConfigWithFallback config) {
         numberOfShards = config.getInt(ClusterConfigValue.NUMBER_OF_SHARDS.getConfigPath());
         clusterStatusRolesBlocklist = Collections.unmodifiableList(
                 new ArrayList<>(
                         config.getStringList(ClusterConfigValue.CLUSTER_STATUS_ROLES_BLOCKLIST.getConfigPath())));
+        shardingStatisticsReportInterval =
+                config.getDuration(ClusterConfigValue.SHARDING_STATISTICS_REPORT_INTERVAL.getConfigPath());
     }
 
     /**
@@ -61,6 +65,11 @@ public final class DefaultClusterConfig implements ClusterConfig {
         return clusterStatusRolesBlocklist;
     }
 
+    @Override
+    public Duration getShardingStatisticsReportInterval() {
+        return shardingStatisticsReportInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -71,12 +80,13 @@ public final class DefaultClusterConfig implements ClusterConfig {
         }
         final DefaultClusterConfig that = (DefaultClusterConfig) o;
         return numberOfShards == that.numberOfShards &&
-                Objects.equals(clusterStatusRolesBlocklist, that.clusterStatusRolesBlocklist);
+                Objects.equals(clusterStatusRolesBlocklist, that.clusterStatusRolesBlocklist) &&
+                Objects.equals(shardingStatisticsReportInterval, that.shardingStatisticsReportInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(numberOfShards, clusterStatusRolesBlocklist);
+        return Objects.hash(numberOfShards, clusterStatusRolesBlocklist, shardingStatisticsReportInterval);
     }
 
     @Override
@@ -84,6 +94,7 @@ public final class DefaultClusterConfig implements ClusterConfig {
         return getClass().getSimpleName() + " [" +
                 "numberOfShards=" + numberOfShards +
                 ", clusterStatusRolesBlocklist=" + clusterStatusRolesBlocklist +
+                ", shardingStatisticsReportInterval=" + shardingStatisticsReportInterval +
                 "]";
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.stream.StreamSupport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.MemberStatus;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.Replicator;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ShardingStatistics}.
+ */
+public final class ShardingStatisticsTest {
+
+    private ActorSystem actorSystem;
+    private Cluster cluster;
+
+    @Before
+    public void setup() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName(),
+                ConfigFactory.load("sharding-statistics-test.conf"));
+        cluster = Cluster.get(actorSystem);
+        cluster.join(cluster.selfAddress());
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void reportedEntityCountsAreSummedPerShardRegion() throws Exception {
+        new TestKit(actorSystem) {{
+            awaitCond(Duration.ofSeconds(10L), () -> StreamSupport.stream(cluster.state().getMembers().spliterator(),
+                    false).anyMatch(member -> member.status() == MemberStatus.up()));
+
+            final ShardingStatistics underTest = ShardingStatistics.of(actorSystem);
+            underTest.subscribeForChanges(getRef());
+
+            underTest.report("thing", 5L).toCompletableFuture().get();
+            final LWWMap<String, Long> change1 =
+                    (LWWMap<String, Long>) expectMsgClass(Replicator.Changed.class).dataValue();
+
+            underTest.report("policy", 3L).toCompletableFuture().get();
+            final LWWMap<String, Long> change2 =
+                    (LWWMap<String, Long>) expectMsgClass(Replicator.Changed.class).dataValue();
+
+            underTest.report("thing", 7L).toCompletableFuture().get();
+            final LWWMap<String, Long> change3 =
+                    (LWWMap<String, Long>) expectMsgClass(Replicator.Changed.class).dataValue();
+
+            assertThat(ShardingStatistics.sumEntityCounts(change1, cluster.state().getMembers()))
+                    .containsExactly(entry("thing", 5L));
+            assertThat(ShardingStatistics.sumEntityCounts(change2, cluster.state().getMembers()))
+                    .containsOnly(entry("thing", 5L), entry("policy", 3L));
+            assertThat(ShardingStatistics.sumEntityCounts(change3, cluster.state().getMembers()))
+                    .containsOnly(entry("thing", 7L), entry("policy", 3L));
+            assertThat(ShardingStatistics.sumEntityCounts(change3, Collections.emptyList())).isEmpty();
+
+            underTest.removeMember(cluster.selfUniqueAddress()).toCompletableFuture().get();
+            final LWWMap<String, Long> change4 =
+                    (LWWMap<String, Long>) expectMsgClass(Replicator.Changed.class).dataValue();
+            assertThat(change4.getEntries()).isEmpty();
+        }};
+    }
+
+}
@@ -16,6 +16,7 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
 import java.util.Arrays;
 
 import org.assertj.core.api.JUnitSoftAssertions;
@@ -47,7 +48,7 @@ public final class DefaultClusterConfigTest {
     public void assertImmutability() {
         assertInstancesOf(DefaultClusterConfig.class,
                 areImmutable(),
-                provided(Config.class).isAlsoImmutable());
+                provided(Config.class, Duration.class).areAlsoImmutable());
     }
 
     @Test
@@ -67,6 +68,9 @@ public final class DefaultClusterConfigTest {
         softly.assertThat(underTest.getClusterStatusRolesBlocklist())
                 .as(ClusterConfig.ClusterConfigValue.CLUSTER_STATUS_ROLES_BLOCKLIST.getConfigPath())
                 .isEqualTo(ClusterConfig.ClusterConfigValue.CLUSTER_STATUS_ROLES_BLOCKLIST.getDefaultValue());
+        softly.assertThat(underTest.getShardingStatisticsReportInterval())
+                .as(ClusterConfig.ClusterConfigValue.SHARDING_STATISTICS_REPORT_INTERVAL.getConfigPath())
+                .isEqualTo(ClusterConfig.ClusterConfigValue.SHARDING_STATISTICS_REPORT_INTERVAL.getDefaultValue());
     }
 
     @Test
@@ -79,6 +83,9 @@ public final class DefaultClusterConfigTest {
         softly.assertThat(underTest.getClusterStatusRolesBlocklist())
                 .as(ClusterConfig.ClusterConfigValue.CLUSTER_STATUS_ROLES_BLOCKLIST.getConfigPath())
                 .isEqualTo(Arrays.asList("barney", "fred", "wilma"));
+        softly.assertThat(underTest.getShardingStatisticsReportInterval())
+                .as(ClusterConfig.ClusterConfigValue.SHARDING_STATISTICS_REPORT_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
     }
 
     @Test
@@ -18,8 +18,12 @@ import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
 
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
+import org.eclipse.ditto.services.models.streaming.SudoCleanupPersistenceBatch;
 import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
 import org.eclipse.ditto.services.utils.akka.streaming.AbstractStreamingActor;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -27,16 +31,23 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbC
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
 
 import com.typesafe.config.Config;
 
 import akka.NotUsed;
+import akka.japi.pf.PFBuilder;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
  * Abstract implementation of an Actor that streams information about persisted entities modified in a time window in
  * the past.
+ * It also cleans up the events and snapshots of batches of persistence IDs directly in the journal on
+ * {@link SudoCleanupPersistenceBatch}.
  *
  * @param <T> type of the elements.
  */
@@ -44,6 +55,22 @@ import akka.stream.javadsl.Source;
 public abstract class AbstractPersistenceStreamingActor<T extends EntityIdWithRevision>
         extends AbstractStreamingActor<SudoStreamPids, T> {
 
+    /**
+     * Header of the responses to {@link SudoCleanupPersistenceBatch} containing the number of deleted documents.
+     */
+    public static final String DELETED_HEADER = "deleted";
+
+    /**
+     * Header of the responses to {@link SudoCleanupPersistenceBatch} containing the error message.
+     */
+    public static final String ERROR_HEADER = "error";
+
+    /**
+     * Keep 1 stale event on bulk cleanup like the persistence actors do on cleanup in order to preserve the journal
+     * tags of the latest event.
+     */
+    private static final long STALE_EVENTS_KEPT_AFTER_CLEANUP = 1L;
+
     private final Function<PidWithSeqNr, T> entityMapper;
     private final Function<EntityIdWithRevision, PidWithSeqNr> entityUnmapper;
 
@@ -128,6 +155,43 @@ public abstract class AbstractPersistenceStreamingActor<T extends EntityIdWithRe
         return BatchedEntityIdWithRevisions.of(getElementClass(), elements);
     }
 
+    @Override
+    protected void preEnhanceReceive(final ReceiveBuilder receiveBuilder) {
+        receiveBuilder.match(SudoCleanupPersistenceBatch.class, this::cleanupPersistenceBatch);
+    }
+
+    private void cleanupPersistenceBatch(final SudoCleanupPersistenceBatch command) {
+        log.debug("Cleaning up batch of persistence IDs due to command: {}", command);
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final var response = readJournal.getNewestSnapshotSeqNrsAbove(command.getLowerBound(), command.getBatchSize())
+                .flatMapConcat(snapshots ->
+                        readJournal.deleteEventsAndSnapshotsBelow(snapshots, STALE_EVENTS_KEPT_AFTER_CLEANUP)
+                                .map(deleted -> CleanupPersistenceResponse.success(getLastPid(snapshots),
+                                        dittoHeaders.toBuilder()
+                                                .putHeader(DELETED_HEADER, String.valueOf(deleted))
+                                                .build()))
+                )
+                .recover(new PFBuilder<Throwable, CleanupPersistenceResponse>()
+                        .matchAny(error -> {
+                            log.error(error, "Failed to clean up batch of <{}>", command);
+                            return CleanupPersistenceResponse.failure(toEntityId(command.getLowerBound()),
+                                    dittoHeaders.toBuilder().putHeader(ERROR_HEADER, String.valueOf(error)).build());
+                        })
+                        .build())
+                .runWith(Sink.head(), materializer);
+        Patterns.pipe(response, getContext().getDispatcher()).to(getSender());
+    }
+
+    private static EntityId getLastPid(final List<PidWithSeqNr> snapshots) {
+        return snapshots.isEmpty()
+                ? DefaultEntityId.dummy()
+                : toEntityId(snapshots.get(snapshots.size() - 1).getPersistenceId());
+    }
+
+    private static EntityId toEntityId(final String pid) {
+        return pid.isEmpty() ? DefaultEntityId.dummy() : DefaultEntityId.of(pid);
+    }
+
     @Override
     protected final Source<T, NotUsed> createSource(final SudoStreamPids command) {
         log.info("Starting stream for <{}>", command);
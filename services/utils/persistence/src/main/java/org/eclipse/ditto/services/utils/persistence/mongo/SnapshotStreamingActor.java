@@ -15,17 +15,21 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import java.time.Duration;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.bson.Document;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.services.models.streaming.StreamedSnapshot;
 import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshots;
+import org.eclipse.ditto.services.utils.akka.controlflow.MergeSortedAsPair;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoJournalArchive;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
 
@@ -42,6 +46,7 @@ import akka.stream.javadsl.StreamRefs;
 
 /**
  * An actor that streams from the snapshot store of a service with Mongo persistence plugin on request.
+ * If the service archives cold entities, the snapshots of archived entities are streamed as well.
  */
 @AllValuesAreNonnullByDefault
 public final class SnapshotStreamingActor extends AbstractActor {
@@ -53,6 +58,7 @@ public final class SnapshotStreamingActor extends AbstractActor {
     private final Function<EntityId, String> entityId2Pid;
     private final DittoMongoClient mongoClient;
     private final MongoReadJournal readJournal;
+    @Nullable private final MongoJournalArchive journalArchive;
 
     @SuppressWarnings("unused") // called by reflection
     private SnapshotStreamingActor(final Function<String, EntityId> pid2EntityId,
@@ -63,6 +69,7 @@ public final class SnapshotStreamingActor extends AbstractActor {
         this.entityId2Pid = entityId2Pid;
         this.mongoClient = mongoClient;
         this.readJournal = readJournal;
+        journalArchive = null;
     }
 
     @SuppressWarnings("unused") // called by reflection
@@ -76,6 +83,22 @@ public final class SnapshotStreamingActor extends AbstractActor {
                 DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(config));
         mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
         readJournal = MongoReadJournal.newInstance(config, mongoClient, getContext().getSystem());
+        journalArchive = null;
+    }
+
+    @SuppressWarnings("unused") // called by reflection
+    private SnapshotStreamingActor(final Function<String, EntityId> pid2EntityId,
+            final Function<EntityId, String> entityId2Pid,
+            final String archiveCollection) {
+        this.pid2EntityId = pid2EntityId;
+        this.entityId2Pid = entityId2Pid;
+
+        final Config config = getContext().getSystem().settings().config();
+        final MongoDbConfig mongoDbConfig =
+                DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(config));
+        mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
+        readJournal = MongoReadJournal.newInstance(config, mongoClient, getContext().getSystem());
+        journalArchive = MongoJournalArchive.newInstance(config, mongoClient, archiveCollection);
     }
 
     /**
@@ -91,6 +114,22 @@ public final class SnapshotStreamingActor extends AbstractActor {
         return Props.create(SnapshotStreamingActor.class, pid2EntityId, entityId2Pid);
     }
 
+    /**
+     * Create Akka Props object for this actor which also streams the snapshots of archived entities.
+     *
+     * @param pid2EntityId function mapping PID to entity ID.
+     * @param entityId2Pid function mapping entity ID to PID.
+     * @param archiveCollection name of the collection of archived entities.
+     * @return Props for this actor.
+     * @since 2.0.0
+     */
+    public static Props propsWithArchive(final Function<String, EntityId> pid2EntityId,
+            final Function<EntityId, String> entityId2Pid,
+            final String archiveCollection) {
+
+        return Props.create(SnapshotStreamingActor.class, pid2EntityId, entityId2Pid, archiveCollection);
+    }
+
     /**
      * Create Akka Props object for this actor with given Mongo client and read journal.
      * This is useful for unit tests with a mocked MongoDB.
@@ -127,13 +166,49 @@ public final class SnapshotStreamingActor extends AbstractActor {
         log.info("Starting stream for <{}>", command);
         final int batchSize = command.getBurst();
         final String start = command.hasNonEmptyLowerBound() ? entityId2Pid.apply(command.getLowerBound()) : "";
+        final String[] snapshotFields =
+                command.getSnapshotFields().stream().map(JsonValue::asString).toArray(String[]::new);
         final Source<Document, NotUsed> snapshotSource = readJournal.getNewestSnapshotsAbove(
                 start,
                 batchSize,
                 materializer,
-                command.getSnapshotFields().stream().map(JsonValue::asString).toArray(String[]::new)
+                snapshotFields
         );
-        return snapshotSource.map(this::mapSnapshot).log("snapshot-streaming", log);
+        final Source<Document, NotUsed> allSnapshotSource;
+        if (null != journalArchive) {
+            allSnapshotSource = mergeWithArchive(snapshotSource,
+                    journalArchive.getNewestSnapshotsAbove(start, batchSize, materializer, snapshotFields));
+        } else {
+            allSnapshotSource = snapshotSource;
+        }
+        return allSnapshotSource.map(this::mapSnapshot).log("snapshot-streaming", log);
+    }
+
+    /**
+     * Merge snapshots and archived snapshots by PID. An entity restored from the archive may remain in the archive
+     * for a while; its snapshot in the snapshot store takes precedence.
+     */
+    private static Source<Document, NotUsed> mergeWithArchive(final Source<Document, NotUsed> snapshotSource,
+            final Source<Document, NotUsed> archivedSnapshotSource) {
+
+        final Document maximalElement = new Document();
+        return MergeSortedAsPair.merge(maximalElement, SnapshotStreamingActor::comparePids, snapshotSource,
+                archivedSnapshotSource)
+                .map(pair -> {
+                    final Document snapshot = pair.first();
+                    final Document archivedSnapshot = pair.second();
+                    if (snapshot == maximalElement) {
+                        return archivedSnapshot;
+                    } else if (archivedSnapshot == maximalElement) {
+                        return snapshot;
+                    } else {
+                        return comparePids(snapshot, archivedSnapshot) <= 0 ? snapshot : archivedSnapshot;
+                    }
+                });
+    }
+
+    private static int comparePids(final Document snapshot1, final Document snapshot2) {
+        return snapshot1.getString(MongoReadJournal.J_ID).compareTo(snapshot2.getString(MongoReadJournal.J_ID));
     }
 
     private StreamedSnapshot mapSnapshot(final Document snapshot) {
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.typesafe.config.Config;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.japi.pf.PFBuilder;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Moves the snapshots and events of cold entities from the event journal and the snapshot store of
+ * com.github.scullxbones.akka-persistence-mongo plugin into an archive collection and restores them on demand.
+ * An entity is cold if its latest snapshot is older than a given instant and no event was persisted after it.
+ * <p>
+ * The archive holds 1 document per PID containing the latest snapshot and the last event up to the snapshot.
+ * Archived entities are not visible to the persistence plugin; their archive documents have to be restored into the
+ * event journal and the snapshot store before their persistence actors are started.
+ * </p>
+ * <p>
+ * Archiving writes the archive document before deleting the entity from the event journal and the snapshot store,
+ * and marks the archive document as complete only afterwards. Restoring inserts the archived documents back and
+ * deletes the archive document only if it is complete. Thereby an entity restored concurrently to its archiving
+ * remains in the archive until the next restoration, and no data is lost.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@AllValuesAreNonnullByDefault
+public final class MongoJournalArchive {
+
+    private static final String A_ID = "_id";
+    private static final String A_SN = "sn";
+    private static final String A_SNAPSHOT = "s";
+    private static final String A_EVENTS = "j";
+    private static final String A_ARCHIVED_AT = "t";
+    private static final String A_COMPLETE = "c";
+
+    private static final int NAMESPACE_EXISTS_ERROR_CODE = 48;
+
+    private final String journalCollection;
+    private final String snapsCollection;
+    private final String archiveCollection;
+    private final DittoMongoClient mongoClient;
+
+    private MongoJournalArchive(final String journalCollection, final String snapsCollection,
+            final String archiveCollection, final DittoMongoClient mongoClient) {
+
+        this.journalCollection = journalCollection;
+        this.snapsCollection = snapsCollection;
+        this.archiveCollection = archiveCollection;
+        this.mongoClient = mongoClient;
+    }
+
+    /**
+     * Creates a new {@code MongoJournalArchive} for the auto-start journal and snapshot store of an actor system.
+     *
+     * @param config the Akka system configuration.
+     * @param mongoClient the Mongo client wrapper.
+     * @param archiveCollection name of the archive collection.
+     * @return the journal archive.
+     */
+    public static MongoJournalArchive newInstance(final Config config, final DittoMongoClient mongoClient,
+            final String archiveCollection) {
+
+        return new MongoJournalArchive(MongoReadJournal.getJournalCollectionName(config),
+                MongoReadJournal.getSnapsCollectionName(config), archiveCollection, mongoClient);
+    }
+
+    /**
+     * Create the archive collection with a block compressor of the WiredTiger storage engine, e.g. {@code zstd} or
+     * {@code zlib}, which compresses better than the default {@code snappy}. Does nothing if the collection exists.
+     *
+     * @param blockCompressor the block compressor.
+     * @return source of 1 element after the archive collection exists.
+     */
+    public Source<Done, NotUsed> createArchiveCollection(final String blockCompressor) {
+        final CreateCollectionOptions options = new CreateCollectionOptions().storageEngineOptions(
+                new Document("wiredTiger", new Document("configString", "block_compressor=" + blockCompressor)));
+        return Source.fromPublisher(mongoClient.getDefaultDatabase().createCollection(archiveCollection, options))
+                .map(nothing -> Done.getInstance())
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<Done, NotUsed>>()
+                        .match(MongoCommandException.class,
+                                error -> error.getErrorCode() == NAMESPACE_EXISTS_ERROR_CODE,
+                                error -> Source.empty())
+                        .build())
+                .concat(Source.single(Done.getInstance()))
+                .take(1);
+    }
+
+    /**
+     * Move an entity into the archive if it is cold, i. e. if its latest snapshot is older than the given instant
+     * and no event was persisted after it.
+     *
+     * @param latestSnapshot the PID with the sequence number of its latest snapshot.
+     * @param snapshotOlderThan the instant before which the latest snapshot must have been taken.
+     * @return source of 1 element, whether the entity was archived.
+     */
+    public Source<Boolean, NotUsed> archiveIfCold(final PidWithSeqNr latestSnapshot,
+            final Instant snapshotOlderThan) {
+
+        final String pid = latestSnapshot.getPersistenceId();
+        final long sn = latestSnapshot.getSequenceNr();
+        final Bson snapshotFilter = Filters.and(Filters.eq(MongoReadJournal.J_PROCESSOR_ID, pid),
+                Filters.eq(MongoReadJournal.S_SN, sn),
+                Filters.lt(MongoReadJournal.S_TIMESTAMP, snapshotOlderThan.toEpochMilli()));
+        final Bson newerEventsFilter = Filters.and(Filters.eq(MongoReadJournal.J_PROCESSOR_ID, pid),
+                Filters.gt(MongoReadJournal.J_TO, sn));
+
+        return Source.fromPublisher(getSnapshotStore().find(snapshotFilter).limit(1))
+                .flatMapConcat(snapshot -> Source.fromPublisher(getJournal().find(newerEventsFilter)
+                        .projection(Projections.include(A_ID))
+                        .limit(1))
+                        .map(newerEvent -> Optional.<Document>empty())
+                        .orElse(Source.single(Optional.of(snapshot))))
+                .flatMapConcat(coldSnapshot -> coldSnapshot.map(snapshot -> archive(pid, sn, snapshot))
+                        .orElseGet(() -> Source.single(false)))
+                .orElse(Source.single(false));
+    }
+
+    /**
+     * Restore an entity from the archive into the event journal and the snapshot store.
+     *
+     * @param pid the PID of the entity.
+     * @return source of 1 element, whether the entity was in the archive.
+     */
+    public Source<Boolean, NotUsed> restore(final String pid) {
+        return Source.fromPublisher(getArchive().find(Filters.eq(A_ID, pid)).limit(1))
+                .flatMapConcat(archived -> {
+                    final Document snapshot = archived.get(A_SNAPSHOT, Document.class);
+                    final List<Document> events = archived.getList(A_EVENTS, Document.class, List.of());
+                    final Bson completeArchiveFilter = Filters.and(Filters.eq(A_ID, pid),
+                            Filters.eq(A_SN, archived.get(A_SN)),
+                            Filters.eq(A_COMPLETE, true));
+                    return insertIgnoringDuplicates(getJournal(), events)
+                            .concat(insertIgnoringDuplicates(getSnapshotStore(), List.of(snapshot)))
+                            .concat(Source.fromPublisher(getArchive().deleteOne(completeArchiveFilter))
+                                    .map(result -> Done.getInstance()))
+                            .fold(true, (restored, done) -> restored);
+                })
+                .orElse(Source.single(false));
+    }
+
+    /**
+     * Retrieve the newest snapshots of archived entities in the same format as
+     * {@link MongoReadJournal#getNewestSnapshotsAbove(String, int, akka.stream.Materializer, String...)}.
+     *
+     * @param lowerBoundPid the lower-bound PID, or an empty string to start with the first PID.
+     * @param batchSize how many archive documents to read in 1 query.
+     * @param mat the materializer to run the queries of each batch with.
+     * @param snapshotFields snapshot fields to project.
+     * @return source of newest snapshots of archived entities ordered by PID.
+     */
+    public Source<Document, NotUsed> getNewestSnapshotsAbove(final String lowerBoundPid, final int batchSize,
+            final Materializer mat, final String... snapshotFields) {
+
+        final String serializedSnapshotPrefix = A_SNAPSHOT + "." + MongoReadJournal.S_SERIALIZED_SNAPSHOT + ".";
+        final List<String> projectedFields = new ArrayList<>(snapshotFields.length + 1);
+        Stream.concat(Stream.of(MongoReadJournal.LIFECYCLE), Arrays.stream(snapshotFields))
+                .forEach(field -> projectedFields.add(serializedSnapshotPrefix + field));
+        final Bson projection = Projections.include(projectedFields);
+
+        return Source.unfoldAsync(lowerBoundPid, startPid -> {
+            final Bson filter = startPid.isEmpty() ? new Document() : Filters.gt(A_ID, startPid);
+            return Source.fromPublisher(getArchive().find(filter)
+                    .projection(projection)
+                    .sort(Sorts.ascending(A_ID))
+                    .limit(batchSize))
+                    .grouped(batchSize)
+                    .map(batch -> Optional.of(Pair.create(batch.get(batch.size() - 1).getString(A_ID), batch)))
+                    .orElse(Source.single(Optional.<Pair<String, List<Document>>>empty()))
+                    .runWith(Sink.head(), mat);
+        })
+                .mapConcat(batch -> batch)
+                .filter(archived -> !"DELETED".equals(getSerializedSnapshot(archived).get(MongoReadJournal.LIFECYCLE)))
+                .map(archived -> {
+                    final Document serializedSnapshot = getSerializedSnapshot(archived);
+                    final Document result = new Document(MongoReadJournal.J_ID, archived.getString(A_ID));
+                    Stream.concat(Stream.of(MongoReadJournal.LIFECYCLE), Arrays.stream(snapshotFields))
+                            .filter(serializedSnapshot::containsKey)
+                            .forEach(field -> result.append(field, serializedSnapshot.get(field)));
+                    return result;
+                });
+    }
+
+    private Source<Boolean, NotUsed> archive(final String pid, final long sn, final Document snapshot) {
+        final Bson archiveFilter = Filters.eq(A_ID, pid);
+        final Bson eventsFilter = Filters.and(Filters.eq(MongoReadJournal.J_PROCESSOR_ID, pid),
+                Filters.lte(MongoReadJournal.J_TO, sn));
+        final Bson snapshotsFilter = Filters.and(Filters.eq(MongoReadJournal.J_PROCESSOR_ID, pid),
+                Filters.lte(MongoReadJournal.S_SN, sn));
+
+        // keep the last event up to the snapshot like the cleanup does
+        return Source.fromPublisher(getJournal().find(eventsFilter)
+                .sort(Sorts.descending(MongoReadJournal.J_TO))
+                .limit(1))
+                .grouped(1)
+                .orElse(Source.single(List.of()))
+                .map(events -> new Document()
+                        .append(A_ID, pid)
+                        .append(A_SN, sn)
+                        .append(A_SNAPSHOT, snapshot)
+                        .append(A_EVENTS, events)
+                        .append(A_ARCHIVED_AT, Date.from(Instant.now()))
+                        .append(A_COMPLETE, false))
+                .flatMapConcat(archived -> Source.fromPublisher(
+                        getArchive().replaceOne(archiveFilter, archived, new ReplaceOptions().upsert(true))))
+                // delete events before snapshots, so that the entity can be recovered from what remains
+                .flatMapConcat(result -> Source.fromPublisher(getJournal().deleteMany(eventsFilter)))
+                .flatMapConcat(result -> Source.fromPublisher(getSnapshotStore().deleteMany(snapshotsFilter)))
+                .flatMapConcat(result -> Source.fromPublisher(getArchive().updateOne(
+                        Filters.and(archiveFilter, Filters.eq(A_SN, sn)), Updates.set(A_COMPLETE, true))))
+                .map(result -> true);
+    }
+
+    private static Source<Done, NotUsed> insertIgnoringDuplicates(final MongoCollection<Document> collection,
+            final List<Document> documents) {
+
+        if (documents.isEmpty()) {
+            return Source.empty();
+        }
+        return Source.fromPublisher(collection.insertMany(documents, new InsertManyOptions().ordered(false)))
+                .map(result -> Done.getInstance())
+                // documents restored by a concurrent restoration or never deleted by an interrupted archiving
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<Done, NotUsed>>()
+                        .match(MongoBulkWriteException.class,
+                                error -> error.getWriteErrors()
+                                        .stream()
+                                        .allMatch(writeError -> ErrorCategory.fromErrorCode(writeError.getCode()) ==
+                                                ErrorCategory.DUPLICATE_KEY),
+                                error -> Source.single(Done.getInstance()))
+                        .build());
+    }
+
+    private static Document getSerializedSnapshot(final Document archived) {
+        return Optional.ofNullable(archived.get(A_SNAPSHOT, Document.class))
+                .map(snapshot -> snapshot.get(MongoReadJournal.S_SERIALIZED_SNAPSHOT, Document.class))
+                .orElseGet(Document::new);
+    }
+
+    private MongoCollection<Document> getJournal() {
+        return mongoClient.getDefaultDatabase().getCollection(journalCollection);
+    }
+
+    private MongoCollection<Document> getSnapshotStore() {
+        return mongoClient.getDefaultDatabase().getCollection(snapsCollection);
+    }
+
+    private MongoCollection<Document> getArchive() {
+        return mongoClient.getDefaultDatabase().getCollection(archiveCollection);
+    }
+
+}
@@ -88,13 +88,15 @@ public class MongoReadJournal {
     private static final String JOURNAL_COLLECTION_NAME_KEY = "overrides.journal-collection";
     private static final String SNAPS_COLLECTION_NAME_KEY = "overrides.snaps-collection";
 
-    private static final String J_PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
+    static final String J_PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
     private static final String J_TAGS = JournallingFieldNames$.MODULE$.TAGS();
-    private static final String S_SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    static final String J_TO = JournallingFieldNames$.MODULE$.TO();
+    static final String S_SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    static final String S_TIMESTAMP = SnapshottingFieldNames$.MODULE$.TIMESTAMP();
 
     // Not working: SnapshottingFieldNames.V2$.MODULE$.SERIALIZED()
-    private static final String S_SERIALIZED_SNAPSHOT = "s2";
-    private static final String LIFECYCLE = "__lifecycle";
+    static final String S_SERIALIZED_SNAPSHOT = "s2";
+    static final String LIFECYCLE = "__lifecycle";
 
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
@@ -137,13 +139,30 @@ public class MongoReadJournal {
      */
     public static MongoReadJournal newInstance(final Config config, final DittoMongoClient mongoClient,
             final ActorSystem actorSystem) {
+        return new MongoReadJournal(getJournalCollectionName(config), getSnapsCollectionName(config), mongoClient,
+                actorSystem);
+    }
+
+    /**
+     * Resolve the name of the event journal collection of the auto-start journal.
+     *
+     * @param config the Akka system configuration.
+     * @return the name of the event journal collection.
+     */
+    static String getJournalCollectionName(final Config config) {
         final String autoStartJournalKey = extractAutoStartConfigKey(config, AKKA_PERSISTENCE_JOURNAL_AUTO_START);
+        return getOverrideCollectionName(config.getConfig(autoStartJournalKey), JOURNAL_COLLECTION_NAME_KEY);
+    }
+
+    /**
+     * Resolve the name of the snapshot collection of the auto-start snapshot store.
+     *
+     * @param config the Akka system configuration.
+     * @return the name of the snapshot collection.
+     */
+    static String getSnapsCollectionName(final Config config) {
         final String autoStartSnapsKey = extractAutoStartConfigKey(config, AKKA_PERSISTENCE_SNAPS_AUTO_START);
-        final String journalCollection =
-                getOverrideCollectionName(config.getConfig(autoStartJournalKey), JOURNAL_COLLECTION_NAME_KEY);
-        final String snapshotCollection =
-                getOverrideCollectionName(config.getConfig(autoStartSnapsKey), SNAPS_COLLECTION_NAME_KEY);
-        return new MongoReadJournal(journalCollection, snapshotCollection, mongoClient, actorSystem);
+        return getOverrideCollectionName(config.getConfig(autoStartSnapsKey), SNAPS_COLLECTION_NAME_KEY);
     }
 
     /**
@@ -266,6 +285,79 @@ public class MongoReadJournal {
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Retrieve the sequence numbers of the latest snapshots of 1 batch of unique PIDs in the snapshot store above a
+     * lower bound. Snapshots of deleted entities are included.
+     *
+     * @param lowerBoundPid the lower-bound PID, or an empty string to start with the first PID.
+     * @param batchSize how many snapshots to read in 1 query.
+     * @return source of 1 list of PIDs with the sequence numbers of their latest snapshots ordered by PID. The list is
+     * empty if there is no snapshot above the lower bound.
+     * @since 2.0.0
+     */
+    public Source<List<PidWithSeqNr>, NotUsed> getNewestSnapshotSeqNrsAbove(final String lowerBoundPid,
+            final int batchSize) {
+
+        final List<Bson> pipeline = new ArrayList<>(5);
+        // optional match stage
+        if (!lowerBoundPid.isEmpty()) {
+            pipeline.add(Aggregates.match(Filters.gt(J_PROCESSOR_ID, lowerBoundPid)));
+        }
+
+        // sort stage
+        pipeline.add(Aggregates.sort(Sorts.orderBy(Sorts.ascending(J_PROCESSOR_ID), Sorts.descending(S_SN))));
+
+        // limit stage. It should come before group stage or MongoDB would scan the entire snapshot collection.
+        pipeline.add(Aggregates.limit(batchSize));
+
+        // group stage: the first snapshot of each PID is its latest one
+        pipeline.add(Aggregates.group("$" + J_PROCESSOR_ID, Accumulators.first(S_SN, "$" + S_SN)));
+
+        // sort stage 2 -- order after group stage is not defined
+        pipeline.add(Aggregates.sort(Sorts.ascending(J_ID)));
+
+        return getSnapshotStore()
+                .flatMapConcat(snapshotStore -> Source.fromPublisher(snapshotStore.aggregate(pipeline)))
+                .map(document -> new PidWithSeqNr(document.getString(J_ID),
+                        document.get(S_SN, Number.class).longValue()))
+                .grouped(batchSize)
+                .orElse(Source.single(List.of()));
+    }
+
+    /**
+     * Delete the events and snapshots of a batch of PIDs which are superseded by their latest snapshots directly in
+     * the event journal and the snapshot store, i. e. without waking up the persistence actors of the PIDs.
+     * Like the cleanup of a persistence actor, all snapshots except the latest one are deleted, as well as all events
+     * except the last {@code staleEventsKept} ones up to the latest snapshot.
+     * Events are deleted before snapshots, so that an entity can always be recovered.
+     *
+     * @param latestSnapshots the PIDs with the sequence numbers of their latest snapshots.
+     * @param staleEventsKept how many events up to the latest snapshot to keep.
+     * @return source of 1 element, the number of deleted journal and snapshot documents.
+     * @since 2.0.0
+     */
+    public Source<Long, NotUsed> deleteEventsAndSnapshotsBelow(final List<PidWithSeqNr> latestSnapshots,
+            final long staleEventsKept) {
+
+        if (latestSnapshots.isEmpty()) {
+            return Source.single(0L);
+        }
+        final Bson journalFilter = Filters.or(latestSnapshots.stream()
+                .map(snapshot -> Filters.and(Filters.eq(J_PROCESSOR_ID, snapshot.getPersistenceId()),
+                        Filters.lte(J_TO, snapshot.getSequenceNr() - staleEventsKept)))
+                .collect(Collectors.toList()));
+        final Bson snapshotFilter = Filters.or(latestSnapshots.stream()
+                .map(snapshot -> Filters.and(Filters.eq(J_PROCESSOR_ID, snapshot.getPersistenceId()),
+                        Filters.lt(S_SN, snapshot.getSequenceNr())))
+                .collect(Collectors.toList()));
+
+        return getJournal()
+                .flatMapConcat(journal -> Source.fromPublisher(journal.deleteMany(journalFilter)))
+                .flatMapConcat(journalResult -> getSnapshotStore()
+                        .flatMapConcat(snapshotStore -> Source.fromPublisher(snapshotStore.deleteMany(snapshotFilter)))
+                        .map(snapshotResult -> journalResult.getDeletedCount() + snapshotResult.getDeletedCount()));
+    }
+
     private Source<List<String>, NotUsed> listPidsInJournal(final MongoCollection<Document> journal,
             final String lowerBoundPid, final String tag,
             final int batchSize, final Materializer mat, final Duration maxBackOff, final int maxRestarts) {
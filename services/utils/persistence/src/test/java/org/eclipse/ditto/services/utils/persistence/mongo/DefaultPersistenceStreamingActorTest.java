@@ -12,24 +12,32 @@
  */
 package org.eclipse.ditto.services.utils.persistence.mongo;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.common.HttpStatus;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.models.streaming.AbstractEntityIdWithRevision;
 import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
+import org.eclipse.ditto.services.models.streaming.SudoCleanupPersistenceBatch;
 import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
 import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -108,6 +116,60 @@ public final class DefaultPersistenceStreamingActorTest {
         }};
     }
 
+    @Test
+    public void cleanupPersistenceBatch() {
+        new TestKit(actorSystem) {{
+            final List<PidWithSeqNr> snapshots =
+                    List.of(new PidWithSeqNr("ns:id1", 10L), new PidWithSeqNr(ID.toString(), 20L));
+            final MongoReadJournal mockJournal = mock(MongoReadJournal.class);
+            when(mockJournal.getNewestSnapshotSeqNrsAbove(eq("ns:id0"), eq(2))).thenReturn(Source.single(snapshots));
+            when(mockJournal.deleteEventsAndSnapshotsBelow(eq(snapshots), anyLong())).thenReturn(Source.single(5L));
+            final ActorRef underTest = createPersistenceQueriesActor(mockJournal);
+
+            sendCommand(this, underTest, SudoCleanupPersistenceBatch.of("ns:id0", 2, DittoHeaders.empty()));
+
+            final CleanupPersistenceResponse response = expectMsgClass(CleanupPersistenceResponse.class);
+            assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.OK);
+            assertThat((CharSequence) response.getEntityId()).isEqualTo(ID);
+            assertThat(response.getDittoHeaders())
+                    .containsEntry(AbstractPersistenceStreamingActor.DELETED_HEADER, "5");
+            verify(mockJournal).deleteEventsAndSnapshotsBelow(eq(snapshots), eq(1L));
+        }};
+    }
+
+    @Test
+    public void cleanupPersistenceBatchBeyondLastPid() {
+        new TestKit(actorSystem) {{
+            final MongoReadJournal mockJournal = mock(MongoReadJournal.class);
+            when(mockJournal.getNewestSnapshotSeqNrsAbove(any(), anyInt())).thenReturn(Source.single(List.of()));
+            when(mockJournal.deleteEventsAndSnapshotsBelow(any(), anyLong())).thenReturn(Source.single(0L));
+            final ActorRef underTest = createPersistenceQueriesActor(mockJournal);
+
+            sendCommand(this, underTest, SudoCleanupPersistenceBatch.of(ID, 2, DittoHeaders.empty()));
+
+            final CleanupPersistenceResponse response = expectMsgClass(CleanupPersistenceResponse.class);
+            assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getEntityId().isDummy()).isTrue();
+        }};
+    }
+
+    @Test
+    public void cleanupPersistenceBatchFails() {
+        new TestKit(actorSystem) {{
+            final MongoReadJournal mockJournal = mock(MongoReadJournal.class);
+            when(mockJournal.getNewestSnapshotSeqNrsAbove(any(), anyInt()))
+                    .thenReturn(Source.failed(new IllegalStateException("expected")));
+            final ActorRef underTest = createPersistenceQueriesActor(mockJournal);
+
+            sendCommand(this, underTest, SudoCleanupPersistenceBatch.of(ID, 2, DittoHeaders.empty()));
+
+            final CleanupPersistenceResponse response = expectMsgClass(CleanupPersistenceResponse.class);
+            assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat((CharSequence) response.getEntityId()).isEqualTo(ID);
+            assertThat(response.getDittoHeaders()).containsKey(AbstractPersistenceStreamingActor.ERROR_HEADER);
+        }};
+    }
+
     private static Command<?> createStreamingRequest() {
         return SudoStreamPids.of(1, 10_000L, DittoHeaders.empty());
     }
@@ -115,6 +177,10 @@ public final class DefaultPersistenceStreamingActorTest {
     private static ActorRef createPersistenceQueriesActor(final Source<String, NotUsed> mockedSource) {
         final MongoReadJournal mockJournal = mock(MongoReadJournal.class);
         when(mockJournal.getJournalPids(anyInt(), any(), any())).thenReturn(mockedSource);
+        return createPersistenceQueriesActor(mockJournal);
+    }
+
+    private static ActorRef createPersistenceQueriesActor(final MongoReadJournal mockJournal) {
         final Props props = DefaultPersistenceStreamingActor.propsForTests(SimpleEntityIdWithRevision.class,
                 DefaultPersistenceStreamingActorTest::mapEntity,
                 DefaultPersistenceStreamingActorTest::unmapEntity,
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorSystem;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link MongoJournalArchive}.
+ * CAUTION: Do not use Akka streams testkit; it does not work for Source.fromPublisher against reactive-streams client.
+ */
+public final class MongoJournalArchiveIT {
+
+    private static final String MONGO_DB = "mongoJournalArchiveIT";
+    private static final String ARCHIVE = "test_archive";
+
+    @ClassRule
+    public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
+    private static DittoMongoClient mongoClient;
+
+    private ActorSystem actorSystem;
+    private Materializer materializer;
+    private MongoJournalArchive underTest;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoClient = MongoClientWrapper.getBuilder()
+                .hostnameAndPort(MONGO_RESOURCE.getBindIp(), MONGO_RESOURCE.getPort())
+                .defaultDatabaseName(MONGO_DB)
+                .connectionPoolMaxSize(100)
+                .connectionPoolMaxWaitTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != mongoClient) {
+                mongoClient.close();
+            }
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        final String mongoUri =
+                String.format("mongodb://%s:%d/%s", MONGO_RESOURCE.getBindIp(), MONGO_RESOURCE.getPort(), MONGO_DB);
+        final Config config = ConfigFactory.load("mongo-read-journal-test")
+                .withValue("akka.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri));
+        actorSystem = ActorSystem.create("AkkaTestSystem", config);
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+        underTest = MongoJournalArchive.newInstance(config, mongoClient, ARCHIVE);
+        run(underTest.createArchiveCollection("zlib"));
+    }
+
+    @After
+    public void after() {
+        if (null != mongoClient) {
+            run(Source.fromPublisher(mongoClient.getDefaultDatabase().drop()));
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void createArchiveCollectionTwice() {
+        assertThat(run(underTest.createArchiveCollection("zlib"))).hasSize(1);
+    }
+
+    @Test
+    public void archiveAndRestoreColdEntity() {
+        final Instant longAgo = Instant.now().minus(Duration.ofDays(100L));
+        insert("test_journal", event("pid1", 1L), event("pid1", 2L));
+        insert("test_snaps", snapshot("pid1", 1L, longAgo), snapshot("pid1", 2L, longAgo));
+
+        final List<Boolean> archived = run(underTest.archiveIfCold(new PidWithSeqNr("pid1", 2L),
+                Instant.now().minus(Duration.ofDays(90L))));
+
+        assertThat(archived).containsExactly(true);
+        assertThat(find("test_journal")).isEmpty();
+        assertThat(find("test_snaps")).isEmpty();
+        assertThat(find(ARCHIVE)).hasSize(1);
+
+        final List<Boolean> restored = run(underTest.restore("pid1"));
+
+        assertThat(restored).containsExactly(true);
+        assertThat(find("test_journal")).extracting(document -> document.get("to")).containsExactly(2L);
+        assertThat(find("test_snaps")).extracting(document -> document.get("sn")).containsExactly(2L);
+        assertThat(find(ARCHIVE)).isEmpty();
+    }
+
+    @Test
+    public void doNotArchiveRecentlyModifiedEntities() {
+        final Instant longAgo = Instant.now().minus(Duration.ofDays(100L));
+        final Instant snapshotOlderThan = Instant.now().minus(Duration.ofDays(90L));
+        insert("test_journal", event("pid1", 1L), event("pid1", 2L), event("pid2", 1L));
+        insert("test_snaps", snapshot("pid1", 1L, longAgo), snapshot("pid2", 1L, Instant.now()));
+
+        assertThat(run(underTest.archiveIfCold(new PidWithSeqNr("pid1", 1L), snapshotOlderThan)))
+                .containsExactly(false);
+        assertThat(run(underTest.archiveIfCold(new PidWithSeqNr("pid2", 1L), snapshotOlderThan)))
+                .containsExactly(false);
+        assertThat(find("test_journal")).hasSize(3);
+        assertThat(find("test_snaps")).hasSize(2);
+        assertThat(find(ARCHIVE)).isEmpty();
+    }
+
+    @Test
+    public void restoreEntityNotInArchive() {
+        assertThat(run(underTest.restore("pid1"))).containsExactly(false);
+    }
+
+    @Test
+    public void streamNewestSnapshotsOfArchivedEntities() {
+        final Instant longAgo = Instant.now().minus(Duration.ofDays(100L));
+        final Instant snapshotOlderThan = Instant.now().minus(Duration.ofDays(90L));
+        insert("test_snaps", snapshot("pid1", 1L, longAgo), snapshot("pid2", 3L, longAgo),
+                snapshot("pid3", 4L, longAgo));
+        run(underTest.archiveIfCold(new PidWithSeqNr("pid1", 1L), snapshotOlderThan));
+        run(underTest.archiveIfCold(new PidWithSeqNr("pid2", 3L), snapshotOlderThan));
+        run(underTest.archiveIfCold(new PidWithSeqNr("pid3", 4L), snapshotOlderThan));
+
+        final List<Document> snapshots = run(underTest.getNewestSnapshotsAbove("pid1", 1, materializer, "_modified"));
+
+        assertThat(snapshots).containsExactly(
+                new Document().append("_id", "pid2").append("_modified", "pid2-3"),
+                new Document().append("_id", "pid3").append("_modified", "pid3-4")
+        );
+    }
+
+    private static Document event(final String pid, final long sn) {
+        return new Document().append("pid", pid).append("from", sn).append("to", sn);
+    }
+
+    private static Document snapshot(final String pid, final long sn, final Instant timestamp) {
+        return new Document()
+                .append("pid", pid)
+                .append("sn", sn)
+                .append("ts", timestamp.toEpochMilli())
+                .append("s2", new Document().append("_modified", pid + "-" + sn));
+    }
+
+    private <T> List<T> run(final Source<T, ?> source) {
+        return source.runWith(Sink.seq(), materializer).toCompletableFuture().join();
+    }
+
+    private List<Document> find(final String collection) {
+        return run(Source.fromPublisher(mongoClient.getCollection(collection).find()));
+    }
+
+    private void insert(final String collection, final Document... documents) {
+        run(Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents))));
+    }
+
+}
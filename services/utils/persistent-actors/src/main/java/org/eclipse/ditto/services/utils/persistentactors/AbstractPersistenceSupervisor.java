@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ThreadLocalRandom;
 
 import javax.annotation.Nullable;
@@ -23,13 +25,14 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.utils.akka.actors.AbstractActorWithStashWithTimers;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 
-import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
 import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.ReceiveTimeout;
+import akka.actor.Status;
 import akka.actor.SupervisorStrategy;
 import akka.actor.Terminated;
 import akka.cluster.sharding.ShardRegion;
@@ -40,19 +43,21 @@ import akka.japi.pf.ReceiveBuilder;
  * Supervisor of sharded persistent actors. It:
  * <ol>
  * <li>restarts failed child actor after exponential backoff,</li>
+ * <li>restores the persisted data of the entity before starting the child actor if required,</li>
  * <li>shuts down self on command, and</li>
  * <li>handles initialization errors by becoming corrupted for a time.</li>
  * </ol>
  *
  * @param <E> the type of the EntityId
  */
-public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends AbstractActorWithTimers {
+public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends AbstractActorWithStashWithTimers {
 
     protected final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     @Nullable private E entityId;
     @Nullable private Props persistenceActorProps;
     @Nullable private ActorRef child;
+    @Nullable private Receive activeBehavior;
 
     private final ExponentialBackOffConfig exponentialBackOffConfig;
     private Instant lastRestart;
@@ -103,6 +108,19 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
      */
     protected abstract DittoRuntimeExceptionBuilder<?> getUnavailableExceptionBuilder(@Nullable E entityId);
 
+    /**
+     * Restore the persisted data of the entity if it was moved out of reach of the persistence plugin, e.g. into an
+     * archive. Called before each start of the persistence actor; messages are stashed until the returned future
+     * completes. Overridable in subclasses.
+     *
+     * @param entityId ID of the entity this actor supervises.
+     * @return a future that completes after the restoration, or an empty optional if nothing is to be restored.
+     * @since 2.0.0
+     */
+    protected Optional<CompletionStage<?>> restoreBeforeChildStart(final E entityId) {
+        return Optional.empty();
+    }
+
     /**
      * Return a preferably static supervisor strategy for this actor. By default, child actor is stopped when killed
      * or failing, triggering restart after exponential back-off.
@@ -122,8 +140,8 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         try {
             entityId = getEntityId();
             persistenceActorProps = getPersistenceActorProps(entityId);
-            startChild(Control.START_CHILD);
             becomeActive(getShutdownBehaviour(entityId));
+            startChild(Control.START_CHILD);
         } catch (final Exception e) {
             log.error(e, "Failed to determine entity ID; becoming corrupted.");
             becomeCorrupted();
@@ -138,14 +156,40 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
     }
 
     private void becomeActive(final ShutdownBehaviour shutdownBehaviour) {
-        getContext().become(shutdownBehaviour.createReceive()
+        activeBehavior = shutdownBehaviour.createReceive()
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILD, this::startChild)
                 .matchEquals(Control.PASSIVATE, this::passivate)
                 .matchAny(this::forwardToChildIfAvailable)
+                .build();
+        getContext().become(activeBehavior);
+    }
+
+    private void becomeRestoring(final CompletionStage<?> restoration) {
+        log.debug("Restoring entity with ID <{}> before starting its persistence actor.", entityId);
+        final ActorRef self = getSelf();
+        restoration.whenComplete((result, error) -> self.tell(null == error
+                ? Control.RESTORED
+                : new Status.Failure(error), ActorRef.noSender()));
+        getContext().become(ReceiveBuilder.create()
+                .matchEquals(Control.RESTORED, this::restored)
+                .match(Status.Failure.class, this::restorationFailed)
+                .matchAny(message -> stash())
                 .build());
     }
 
+    private void restored(final Control restored) {
+        getContext().become(activeBehavior);
+        unstashAll();
+        startChildAfterRestoration();
+    }
+
+    private void restorationFailed(final Status.Failure failure) {
+        log.error(failure.cause(), "Failed to restore entity with ID <{}>; becoming corrupted.", entityId);
+        becomeCorrupted();
+        unstashAll();
+    }
+
     private void becomeCorrupted() {
         getContext().setReceiveTimeout(getCorruptedReceiveTimeout());
         getContext().become(ReceiveBuilder.create()
@@ -159,6 +203,19 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
     }
 
     private void startChild(final Control startChild) {
+        if (null == child) {
+            final Optional<CompletionStage<?>> restoration = restoreBeforeChildStart(entityId);
+            if (restoration.isPresent()) {
+                becomeRestoring(restoration.get());
+            } else {
+                startChildAfterRestoration();
+            }
+        } else {
+            log.debug("Not starting child because child is started already.");
+        }
+    }
+
+    private void startChildAfterRestoration() {
         if (null == child) {
             log.debug("Starting persistence actor for entity with ID <{}>.", entityId);
             final ActorRef childRef = getContext().actorOf(persistenceActorProps, "pa");
@@ -271,7 +328,14 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         /**
          * Request to start child actor.
          */
-        START_CHILD
+        START_CHILD,
+
+        /**
+         * Notification that the persisted data of the entity were restored.
+         *
+         * @since 2.0.0
+         */
+        RESTORED
     }
 
 }
@@ -25,6 +25,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.PingCommand;
 import org.eclipse.ditto.services.utils.akka.PingCommandResponse;
@@ -75,6 +76,9 @@ public abstract class AbstractShardedPersistenceActor<
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
+    private final EntityMemoryAccountant memoryAccountant;
+    private long estimatedEntitySize;
+    private long lastFullEntitySizeEstimate;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
 
@@ -116,6 +120,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .build();
 
         handleCleanups = super.createReceive();
+        memoryAccountant = EntityMemoryAccountant.get(getContext().getSystem());
     }
 
     /**
@@ -244,6 +249,7 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        memoryAccountant.remove(getSelf());
         super.postStop();
     }
 
@@ -290,6 +296,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
+                .match(EntityMemoryAccountant.PassivateToFreeMemory.class, this::passivateToFreeMemory)
                 .build())
                 .orElse(matchAnyAfterInitialization());
 
@@ -297,6 +304,23 @@ public abstract class AbstractShardedPersistenceActor<
 
         scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
         scheduleSnapshot();
+        estimateEntityMemory();
+        accountEntityMemory();
+    }
+
+    /**
+     * Estimates the size of the entity for the memory accounting of the entities of this node.
+     * The default is the upper bound of the JSON string size of the entity.
+     * It is only invoked after recovery and whenever the running estimate, which grows by the JSON size of each
+     * persisted event, doubled since the last invocation.
+     *
+     * @return the estimated size of the entity.
+     */
+    protected long estimateEntitySize() {
+        if (entity instanceof Jsonifiable) {
+            return ((Jsonifiable<?>) entity).toJson().getUpperBoundForStringSize();
+        }
+        return 0L;
     }
 
     /**
@@ -319,6 +343,7 @@ public abstract class AbstractShardedPersistenceActor<
 
     protected void becomeDeletedHandler() {
         getContext().become(createDeletedBehavior());
+        memoryAccountant.remove(getSelf());
 
         /* check in the next X minutes and therefore
          * - stay in-memory for a short amount of minutes after deletion
@@ -443,8 +468,22 @@ public abstract class AbstractShardedPersistenceActor<
         timers().cancel("takeSnapshot");
     }
 
+    /**
+     * Answer a command for an existing entity without applying the command strategy, e.g. from a cache.
+     * Overridable in subclasses.
+     *
+     * @param command the command.
+     * @return whether the command was answered.
+     */
+    protected boolean answerWithoutCommandStrategy(final C command) {
+        return false;
+    }
+
     private void handleByCommandStrategy(final C command) {
-        handleByStrategy(command, getCreatedStrategy());
+        countAccess();
+        if (!answerWithoutCommandStrategy(command)) {
+            applyStrategy(command, getCreatedStrategy());
+        }
     }
 
     private <T extends Command<?>> ReceiveBuilder handleByStrategyReceiveBuilder(
@@ -455,8 +494,17 @@ public abstract class AbstractShardedPersistenceActor<
 
     private <T extends Command<?>> void handleByStrategy(final T command,
             final CommandStrategy<T, S, K, E> strategy) {
-        log.debug("Handling by strategy: <{}>", command);
+        countAccess();
+        applyStrategy(command, strategy);
+    }
+
+    private void countAccess() {
         accessCounter++;
+        memoryAccountant.touch(getSelf());
+    }
+
+    private <T extends Command<?>> void applyStrategy(final T command, final CommandStrategy<T, S, K, E> strategy) {
+        log.debug("Handling by strategy: <{}>", command);
         Result<E> result;
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
@@ -525,6 +573,7 @@ public abstract class AbstractShardedPersistenceActor<
              */
             handler.accept(persistedEvent);
             onEntityModified();
+            updateEntityMemoryEstimate(persistedEvent);
 
             // save a snapshot if there were too many changes since the last snapshot
             if (snapshotThresholdPassed()) {
@@ -544,6 +593,7 @@ public abstract class AbstractShardedPersistenceActor<
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
+            accountEntityMemory();
         } else if (lastSnapshotRevision == revision) {
             log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", entity, revision,
                     reason);
@@ -596,6 +646,42 @@ public abstract class AbstractShardedPersistenceActor<
         notifySender(builder.build());
     }
 
+    private void estimateEntityMemory() {
+        if (memoryAccountant.isEnabled() && isEntityActive()) {
+            estimatedEntitySize = estimateEntitySize();
+            lastFullEntitySizeEstimate = estimatedEntitySize;
+        }
+    }
+
+    private void updateEntityMemoryEstimate(final E persistedEvent) {
+        if (memoryAccountant.isEnabled()) {
+            estimatedEntitySize += persistedEvent.toJson().getUpperBoundForStringSize();
+            if (estimatedEntitySize > 2 * Math.max(1L, lastFullEntitySizeEstimate)) {
+                // deletions are not subtracted, so the running estimate is corrected once it doubled
+                estimateEntityMemory();
+            }
+        }
+    }
+
+    private void accountEntityMemory() {
+        if (memoryAccountant.isEnabled()) {
+            if (isEntityActive() && !alwaysAlive) {
+                memoryAccountant.account(getSelf(), estimatedEntitySize);
+            } else {
+                memoryAccountant.remove(getSelf());
+            }
+        }
+    }
+
+    private void passivateToFreeMemory(final EntityMemoryAccountant.PassivateToFreeMemory passivateToFreeMemory) {
+        if (alwaysAlive) {
+            // always-alive entities would be woken up right away again
+            memoryAccountant.remove(getSelf());
+        } else {
+            shutdown("Entity <{}> is passivated to free memory ...", entityId);
+        }
+    }
+
     private void shutdown(final String shutdownLogTemplate, final I entityId) {
         log.debug(shutdownLogTemplate, String.valueOf(entityId));
         passivate();
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.persistentactors.config.DefaultEntityMemoryConfig;
+import org.eclipse.ditto.services.utils.persistentactors.config.EntityMemoryConfig;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Accounts the estimated memory of the entities held by the persistence actors of a cluster node.
+ * The retained size of an entity is a running estimate of its JSON size, which the persistence actor reports after
+ * recovery and whenever it takes a snapshot.
+ * When the estimated memory of all entities exceeds the budget, the persistence actors whose entities were least
+ * recently used and are largest are asked to passivate until the memory is well below the budget again. At most
+ * {@value #MAX_PASSIVATIONS_PER_CHECK} actors are asked per check.
+ *
+ * @since 2.0.0
+ */
+public final class EntityMemoryAccountant implements Extension {
+
+    /**
+     * Share of the budget which is freed in addition to the excess, so that not every check passivates entities.
+     */
+    private static final double HEADROOM_RATIO = 0.1;
+
+    /**
+     * Maximum number of persistence actors asked to passivate per check. It bounds the candidates kept while
+     * scanning the entries, so that no check sorts all entities of the node.
+     */
+    static final int MAX_PASSIVATIONS_PER_CHECK = 256;
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private final EntityMemoryConfig config;
+    private final long budget;
+    private final Map<ActorRef, Entry> entries;
+    private final AtomicLong estimatedBytes;
+    private final AtomicLong passivations;
+    private final Gauge estimatedBytesGauge;
+    private final Gauge entitiesGauge;
+    private final Counter passivationsCounter;
+
+    EntityMemoryAccountant(final EntityMemoryConfig config, final long budget) {
+        this.config = config;
+        this.budget = budget;
+        entries = new ConcurrentHashMap<>();
+        estimatedBytes = new AtomicLong();
+        passivations = new AtomicLong();
+        estimatedBytesGauge = DittoMetrics.gauge("entity_memory_estimated_bytes");
+        entitiesGauge = DittoMetrics.gauge("entity_memory_entities");
+        passivationsCounter = DittoMetrics.counter("entity_memory_passivations");
+        DittoMetrics.gauge("entity_memory_budget_bytes").set(budget);
+    }
+
+    /**
+     * Returns the entity memory accountant of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the accountant.
+     */
+    public static EntityMemoryAccountant get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Indicates whether the memory budget is enforced.
+     *
+     * @return whether entities are accounted.
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Records the size of the entity of a persistence actor, which also counts as an access.
+     *
+     * @param entityActor the persistence actor.
+     * @param jsonSize the JSON size of its entity.
+     */
+    public void account(final ActorRef entityActor, final long jsonSize) {
+        if (config.isEnabled()) {
+            final long size = (long) (jsonSize * config.getRetainedSizeFactor());
+            @Nullable final Entry previous = entries.put(entityActor, new Entry(size, System.currentTimeMillis()));
+            updateEstimatedBytes(size - (null != previous ? previous.size : 0L));
+        }
+    }
+
+    /**
+     * Records an access to the entity of a persistence actor.
+     *
+     * @param entityActor the persistence actor.
+     */
+    public void touch(final ActorRef entityActor) {
+        if (config.isEnabled()) {
+            @Nullable final Entry entry = entries.get(entityActor);
+            if (null != entry) {
+                entry.lastAccess = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Removes the entity of a persistence actor from the accounting, e. g. because the actor stopped.
+     *
+     * @param entityActor the persistence actor.
+     */
+    public void remove(final ActorRef entityActor) {
+        if (config.isEnabled()) {
+            @Nullable final Entry previous = entries.remove(entityActor);
+            if (null != previous) {
+                updateEstimatedBytes(-previous.size);
+            }
+        }
+    }
+
+    /**
+     * Asks the persistence actors of the least recently used and largest entities to passivate if the estimated
+     * memory exceeds the budget.
+     *
+     * @return the persistence actors asked to passivate.
+     */
+    List<ActorRef> enforceBudget() {
+        final long excess = estimatedBytes.get() - budget;
+        if (excess <= 0L) {
+            return List.of();
+        }
+        final long toFree = excess + (long) (budget * HEADROOM_RATIO);
+        final long now = System.currentTimeMillis();
+        final Comparator<Candidate> byScore = Comparator.comparingDouble(candidate -> candidate.score);
+        final PriorityQueue<Candidate> candidates = new PriorityQueue<>(MAX_PASSIVATIONS_PER_CHECK + 1, byScore);
+        entries.forEach((entityActor, entry) -> {
+            if (!entry.passivating) {
+                candidates.add(new Candidate(entityActor, entry, entry.getEvictionScore(now)));
+                if (candidates.size() > MAX_PASSIVATIONS_PER_CHECK) {
+                    // drop the candidate with the lowest score
+                    candidates.poll();
+                }
+            }
+        });
+        final List<Candidate> highestScoresFirst = new ArrayList<>(candidates);
+        highestScoresFirst.sort(byScore.reversed());
+        final List<ActorRef> passivated = new ArrayList<>();
+        long freed = 0L;
+        for (final Candidate candidate : highestScoresFirst) {
+            if (freed >= toFree) {
+                break;
+            }
+            candidate.entry.passivating = true;
+            freed += candidate.entry.size;
+            passivated.add(candidate.entityActor);
+        }
+        passivated.forEach(entityActor -> entityActor.tell(PassivateToFreeMemory.INSTANCE, ActorRef.noSender()));
+        passivations.addAndGet(passivated.size());
+        passivationsCounter.increment(passivated.size());
+        return passivated;
+    }
+
+    /**
+     * Renders the state of the accountant.
+     *
+     * @return the state as JSON.
+     */
+    JsonObject getStatus() {
+        return JsonObject.newBuilder()
+                .set("enabled", config.isEnabled())
+                .set("budgetBytes", budget)
+                .set("estimatedBytes", estimatedBytes.get())
+                .set("entities", entries.size())
+                .set("passivations", passivations.get())
+                .build();
+    }
+
+    /**
+     * Returns the estimated memory of all accounted entities.
+     *
+     * @return the estimated bytes.
+     */
+    long getEstimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    private void updateEstimatedBytes(final long delta) {
+        estimatedBytesGauge.set(estimatedBytes.addAndGet(delta));
+        entitiesGauge.set((long) entries.size());
+    }
+
+    /**
+     * Request to a persistence actor to passivate in order to free memory.
+     */
+    static final class PassivateToFreeMemory {
+
+        static final PassivateToFreeMemory INSTANCE = new PassivateToFreeMemory();
+
+        private PassivateToFreeMemory() {}
+
+    }
+
+    private static final class Entry {
+
+        private final long size;
+        private volatile long lastAccess;
+        private volatile boolean passivating;
+
+        private Entry(final long size, final long lastAccess) {
+            this.size = size;
+            this.lastAccess = lastAccess;
+            passivating = false;
+        }
+
+        /**
+         * Large entities which were not accessed for a long time are passivated first.
+         */
+        private double getEvictionScore(final long now) {
+            return (double) size * (Math.max(0L, now - lastAccess) + 1L);
+        }
+
+    }
+
+    private static final class Candidate {
+
+        private final ActorRef entityActor;
+        private final Entry entry;
+        private final double score;
+
+        private Candidate(final ActorRef entityActor, final Entry entry, final double score) {
+            this.entityActor = entityActor;
+            this.entry = entry;
+            this.score = score;
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<EntityMemoryAccountant> {
+
+        @Override
+        public EntityMemoryAccountant createExtension(final ExtendedActorSystem system) {
+            final EntityMemoryConfig config =
+                    DefaultEntityMemoryConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()));
+            final long budget = (long) (Runtime.getRuntime().maxMemory() * config.getMaxHeapRatio());
+            final EntityMemoryAccountant accountant = new EntityMemoryAccountant(config, budget);
+            if (config.isEnabled()) {
+                system.actorOf(EntityMemoryAccountantActor.props(accountant, config.getCheckInterval()),
+                        EntityMemoryAccountantActor.ACTOR_NAME);
+            }
+            return accountant;
+        }
+
+    }
+
+}
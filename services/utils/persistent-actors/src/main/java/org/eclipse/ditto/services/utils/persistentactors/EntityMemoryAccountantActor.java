@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.services.utils.health.StatusDetailMessage;
+import org.eclipse.ditto.services.utils.health.StatusInfo;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSub;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor which periodically enforces the memory budget of the {@link EntityMemoryAccountant} of its node and reports
+ * the state of the accountant on {@link RetrieveHealth}, e. g. sent as piggyback command via the devops route to
+ * {@code /user/entityMemoryAccountant}.
+ *
+ * @since 2.0.0
+ */
+final class EntityMemoryAccountantActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor.
+     */
+    static final String ACTOR_NAME = "entityMemoryAccountant";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final EntityMemoryAccountant accountant;
+    private final Duration checkInterval;
+
+    @SuppressWarnings("unused")
+    private EntityMemoryAccountantActor(final EntityMemoryAccountant accountant, final Duration checkInterval) {
+        this.accountant = accountant;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this Actor.
+     *
+     * @param accountant the accountant whose budget to enforce.
+     * @param checkInterval the interval in which the budget is enforced.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final EntityMemoryAccountant accountant, final Duration checkInterval) {
+        return Props.create(EntityMemoryAccountantActor.class, accountant, checkInterval);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        timers().startTimerWithFixedDelay(Control.CHECK_BUDGET, Control.CHECK_BUDGET, checkInterval);
+        DistributedPubSub.get(getContext().getSystem())
+                .mediator()
+                .tell(DistPubSubAccess.put(getSelf()), getSelf());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.CHECK_BUDGET, this::checkBudget)
+                .match(RetrieveHealth.class, this::retrieveHealth)
+                .matchAny(message -> log.warning("Unknown message: <{}>", message))
+                .build();
+    }
+
+    private void checkBudget(final Control checkBudget) {
+        final List<ActorRef> passivated = accountant.enforceBudget();
+        if (!passivated.isEmpty()) {
+            log.info("Memory budget exceeded, passivating <{}> entities. Estimated bytes: <{}>", passivated.size(),
+                    accountant.getEstimatedBytes());
+        }
+    }
+
+    private void retrieveHealth(final RetrieveHealth retrieveHealth) {
+        final StatusInfo statusInfo = StatusInfo.fromDetail(
+                StatusDetailMessage.of(StatusDetailMessage.Level.DEFAULT, accountant.getStatus()));
+        getSender().tell(RetrieveHealthResponse.of(statusInfo, retrieveHealth.getDittoHeaders()), getSelf());
+    }
+
+    private enum Control {
+        CHECK_BUDGET
+    }
+
+}
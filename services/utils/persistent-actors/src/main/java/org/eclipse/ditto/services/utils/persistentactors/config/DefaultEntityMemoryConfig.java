@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link EntityMemoryConfig}.
+ */
+@Immutable
+public final class DefaultEntityMemoryConfig implements EntityMemoryConfig {
+
+    private static final String CONFIG_PATH = "entity-memory";
+
+    private final boolean enabled;
+    private final double maxHeapRatio;
+    private final double retainedSizeFactor;
+    private final Duration checkInterval;
+
+    private DefaultEntityMemoryConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(EntityMemoryConfigValue.ENABLED.getConfigPath());
+        maxHeapRatio = config.getDouble(EntityMemoryConfigValue.MAX_HEAP_RATIO.getConfigPath());
+        retainedSizeFactor = config.getDouble(EntityMemoryConfigValue.RETAINED_SIZE_FACTOR.getConfigPath());
+        checkInterval = config.getDuration(EntityMemoryConfigValue.CHECK_INTERVAL.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultEntityMemoryConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the entity memory config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEntityMemoryConfig of(final Config config) {
+        return new DefaultEntityMemoryConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, EntityMemoryConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public double getMaxHeapRatio() {
+        return maxHeapRatio;
+    }
+
+    @Override
+    public double getRetainedSizeFactor() {
+        return retainedSizeFactor;
+    }
+
+    @Override
+    public Duration getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEntityMemoryConfig that = (DefaultEntityMemoryConfig) o;
+        return enabled == that.enabled &&
+                Double.compare(that.maxHeapRatio, maxHeapRatio) == 0 &&
+                Double.compare(that.retainedSizeFactor, retainedSizeFactor) == 0 &&
+                Objects.equals(checkInterval, that.checkInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxHeapRatio, retainedSizeFactor, checkInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxHeapRatio=" + maxHeapRatio +
+                ", retainedSizeFactor=" + retainedSizeFactor +
+                ", checkInterval=" + checkInterval +
+                "]";
+    }
+
+}
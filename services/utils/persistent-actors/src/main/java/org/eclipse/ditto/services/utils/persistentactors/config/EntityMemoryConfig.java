@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the memory budget of the entities held in memory by the persistence actors of a
+ * cluster node.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface EntityMemoryConfig {
+
+    /**
+     * Indicates whether persistence actors are passivated when the estimated memory of their entities exceeds the
+     * budget.
+     *
+     * @return {@code true} if the memory budget is enforced, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the ratio of the maximum heap size which the entities of a node may occupy.
+     *
+     * @return the ratio between 0 and 1.
+     */
+    double getMaxHeapRatio();
+
+    /**
+     * Returns the factor by which the JSON size of an entity is multiplied to estimate the heap it retains.
+     *
+     * @return the factor.
+     */
+    double getRetainedSizeFactor();
+
+    /**
+     * Returns the interval in which the memory budget is checked.
+     *
+     * @return the check interval.
+     */
+    Duration getCheckInterval();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EntityMemoryConfig}.
+     */
+    enum EntityMemoryConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the memory budget is enforced.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The ratio of the maximum heap size which the entities of a node may occupy.
+         */
+        MAX_HEAP_RATIO("max-heap-ratio", 0.4),
+
+        /**
+         * The factor by which the JSON size of an entity is multiplied to estimate the heap it retains.
+         */
+        RETAINED_SIZE_FACTOR("retained-size-factor", 4.0),
+
+        /**
+         * The interval in which the memory budget is checked.
+         */
+        CHECK_INTERVAL("check-interval", Duration.ofSeconds(5L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        EntityMemoryConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
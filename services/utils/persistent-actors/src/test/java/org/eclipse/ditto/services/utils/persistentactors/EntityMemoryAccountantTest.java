@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.utils.persistentactors.config.DefaultEntityMemoryConfig;
+import org.eclipse.ditto.services.utils.persistentactors.config.EntityMemoryConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link EntityMemoryAccountant}.
+ */
+public final class EntityMemoryAccountantTest {
+
+    private static final EntityMemoryConfig CONFIG = DefaultEntityMemoryConfig.of(ConfigFactory.parseString(
+            "entity-memory { enabled = true, retained-size-factor = 1.0 }"));
+
+    private ActorSystem actorSystem;
+    private EntityMemoryAccountant underTest;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create();
+        underTest = new EntityMemoryAccountant(CONFIG, 1000L);
+    }
+
+    @After
+    public void cleanUp() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void doNotPassivateWithinBudget() {
+        final TestProbe entity = new TestProbe(actorSystem);
+        underTest.account(entity.ref(), 1000L);
+
+        assertThat(underTest.enforceBudget()).isEmpty();
+        entity.expectNoMessage(Duration.ofMillis(100L));
+    }
+
+    @Test
+    public void passivateLeastRecentlyUsedLargeEntitiesFirst() throws InterruptedException {
+        final TestProbe oldLarge = new TestProbe(actorSystem);
+        final TestProbe recentLarge = new TestProbe(actorSystem);
+        final TestProbe recentSmall = new TestProbe(actorSystem);
+        underTest.account(oldLarge.ref(), 600L);
+        Thread.sleep(100L);
+        underTest.account(recentLarge.ref(), 600L);
+        underTest.account(recentSmall.ref(), 100L);
+
+        assertThat(underTest.enforceBudget()).containsExactly(oldLarge.ref());
+        oldLarge.expectMsg(EntityMemoryAccountant.PassivateToFreeMemory.INSTANCE);
+        recentLarge.expectNoMessage(Duration.ofMillis(100L));
+        recentSmall.expectNoMessage(Duration.ofMillis(100L));
+
+        // the passivated entity is not asked again and no longer counts once its actor stopped
+        underTest.remove(oldLarge.ref());
+        assertThat(underTest.enforceBudget()).isEmpty();
+    }
+
+    @Test
+    public void accessProtectsEntityFromPassivation() throws InterruptedException {
+        final TestProbe touched = new TestProbe(actorSystem);
+        final TestProbe untouched = new TestProbe(actorSystem);
+        underTest.account(touched.ref(), 600L);
+        underTest.account(untouched.ref(), 600L);
+        Thread.sleep(100L);
+        underTest.touch(touched.ref());
+
+        assertThat(underTest.enforceBudget()).containsExactly(untouched.ref());
+    }
+
+    @Test
+    public void passivateBoundedNumberOfEntitiesPerCheck() {
+        final int entities = EntityMemoryAccountant.MAX_PASSIVATIONS_PER_CHECK + 10;
+        for (int i = 0; i < entities; i++) {
+            underTest.account(new TestProbe(actorSystem).ref(), 100L);
+        }
+
+        assertThat(underTest.enforceBudget()).hasSize(EntityMemoryAccountant.MAX_PASSIVATIONS_PER_CHECK);
+        assertThat(underTest.enforceBudget()).hasSize(10);
+    }
+
+    @Test
+    public void reportStatus() {
+        final TestProbe entity = new TestProbe(actorSystem);
+        underTest.account(entity.ref(), 1200L);
+        underTest.enforceBudget();
+
+        assertThat(underTest.getStatus()).isEqualTo(JsonObject.newBuilder()
+                .set("enabled", true)
+                .set("budgetBytes", 1000L)
+                .set("estimatedBytes", 1200L)
+                .set("entities", 1)
+                .set("passivations", 1L)
+                .build());
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultEntityMemoryConfig}.
+ */
+public final class DefaultEntityMemoryConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultEntityMemoryConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultEntityMemoryConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultEntityMemoryConfig underTest = DefaultEntityMemoryConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EntityMemoryConfig.EntityMemoryConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(EntityMemoryConfig.EntityMemoryConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxHeapRatio())
+                .as(EntityMemoryConfig.EntityMemoryConfigValue.MAX_HEAP_RATIO.getConfigPath())
+                .isEqualTo(EntityMemoryConfig.EntityMemoryConfigValue.MAX_HEAP_RATIO.getDefaultValue());
+
+        softly.assertThat(underTest.getRetainedSizeFactor())
+                .as(EntityMemoryConfig.EntityMemoryConfigValue.RETAINED_SIZE_FACTOR.getConfigPath())
+                .isEqualTo(EntityMemoryConfig.EntityMemoryConfigValue.RETAINED_SIZE_FACTOR.getDefaultValue());
+
+        softly.assertThat(underTest.getCheckInterval())
+                .as(EntityMemoryConfig.EntityMemoryConfigValue.CHECK_INTERVAL.getConfigPath())
+                .isEqualTo(EntityMemoryConfig.EntityMemoryConfigValue.CHECK_INTERVAL.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultEntityMemoryConfig underTest =
+                DefaultEntityMemoryConfig.of(ConfigFactory.load("entity-memory-test"));
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EntityMemoryConfig.EntityMemoryConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getMaxHeapRatio())
+                .as(EntityMemoryConfig.EntityMemoryConfigValue.MAX_HEAP_RATIO.getConfigPath())
+                .isEqualTo(0.25);
+
+        softly.assertThat(underTest.getRetainedSizeFactor())
+                .as(EntityMemoryConfig.EntityMemoryConfigValue.RETAINED_SIZE_FACTOR.getConfigPath())
+                .isEqualTo(2.5);
+
+        softly.assertThat(underTest.getCheckInterval())
+                .as(EntityMemoryConfig.EntityMemoryConfigValue.CHECK_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+    }
+
+}
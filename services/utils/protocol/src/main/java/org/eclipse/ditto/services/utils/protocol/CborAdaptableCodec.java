@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.protocol;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.ServiceLoader;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+
+/**
+ * Encodes Ditto Protocol messages in CBOR and decodes them from CBOR.
+ * The CBOR document has the same structure as the JSON representation of the Ditto Protocol message; it is read into
+ * and written from the JSON object of the message directly without an intermediate JSON string.
+ */
+@Immutable
+public final class CborAdaptableCodec {
+
+    /**
+     * Content type of Ditto Protocol messages encoded in CBOR.
+     */
+    public static final String DITTO_PROTOCOL_CBOR_CONTENT_TYPE = "application/vnd.eclipse.ditto+cbor";
+
+    @Nullable private static final CborFactory CBOR_FACTORY = loadCborFactory();
+
+    private final CborFactory cborFactory;
+
+    private CborAdaptableCodec(final CborFactory cborFactory) {
+        this.cborFactory = cborFactory;
+    }
+
+    /**
+     * Returns the CBOR codec.
+     *
+     * @return the codec.
+     * @throws IllegalStateException if no CBOR factory is available on the class path.
+     */
+    public static CborAdaptableCodec getInstance() {
+        if (null == CBOR_FACTORY) {
+            final String pattern = "No <{0}> able to handle CBOR was found by ServiceLoader.";
+            throw new IllegalStateException(MessageFormat.format(pattern, CborFactory.class.getSimpleName()));
+        }
+        return new CborAdaptableCodec(CBOR_FACTORY);
+    }
+
+    /**
+     * Decodes a Ditto Protocol message from CBOR.
+     *
+     * @param cbor the CBOR bytes.
+     * @return the Ditto Protocol message.
+     * @throws DittoJsonException if the bytes are no CBOR document of a Ditto Protocol message.
+     */
+    public JsonifiableAdaptable fromCbor(final ByteBuffer cbor) {
+        return DittoJsonException.wrapJsonRuntimeException(() -> {
+            final JsonValue jsonValue = cborFactory.readFrom(cbor);
+            if (!jsonValue.isObject()) {
+                throw new JsonParseException("The CBOR document of a Ditto Protocol message must be a map.");
+            }
+            return ProtocolFactory.jsonifiableAdaptableFromJson(jsonValue.asObject());
+        });
+    }
+
+    /**
+     * Encodes a Ditto Protocol message in CBOR.
+     *
+     * @param adaptable the Ditto Protocol message.
+     * @return the CBOR bytes.
+     */
+    public byte[] toCbor(final Adaptable adaptable) {
+        try {
+            return cborFactory.toByteArray(ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJson());
+        } catch (final IOException e) {
+            // the CBOR factory writes into memory only
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nullable
+    private static CborFactory loadCborFactory() {
+        for (final CborFactory cborFactory : ServiceLoader.load(CborFactory.class)) {
+            if (cborFactory.isCborAvailable()) {
+                return cborFactory;
+            }
+        }
+        return null;
+    }
+
+}
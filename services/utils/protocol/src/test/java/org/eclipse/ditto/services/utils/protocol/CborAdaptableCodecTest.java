@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CborAdaptableCodec}.
+ */
+public final class CborAdaptableCodecTest {
+
+    @Test
+    public void encodeAndDecodeAdaptable() {
+        final CborAdaptableCodec underTest = CborAdaptableCodec.getInstance();
+        final ModifyAttribute command = ModifyAttribute.of(ThingId.of("thing:id"),
+                JsonPointer.of("a/b"),
+                JsonObject.newBuilder().set("c", 42).build(),
+                DittoHeaders.newBuilder().correlationId("cbor").build());
+        final Adaptable adaptable = DittoProtocolAdapter.newInstance().toAdaptable(command);
+
+        final byte[] cbor = underTest.toCbor(adaptable);
+        final JsonifiableAdaptable decoded = underTest.fromCbor(ByteBuffer.wrap(cbor));
+
+        assertThat(decoded.toJson()).isEqualTo(ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJson());
+        assertThat(cbor.length).isLessThan(ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString()
+                .length());
+    }
+
+    @Test
+    public void decodingNonMapFails() {
+        final CborAdaptableCodec underTest = CborAdaptableCodec.getInstance();
+
+        // CBOR encoding of the unsigned integer 1
+        assertThatExceptionOfType(DittoJsonException.class)
+                .isThrownBy(() -> underTest.fromCbor(ByteBuffer.wrap(new byte[]{0x01})));
+    }
+
+}
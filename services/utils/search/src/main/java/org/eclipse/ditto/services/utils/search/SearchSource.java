@@ -39,6 +39,7 @@ import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorEx
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.query.AggregateThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 import org.eclipse.ditto.signals.events.thingsearch.ThingsOutOfSync;
 
@@ -133,6 +134,35 @@ public final class SearchSource {
         return builder.build();
     }
 
+    /**
+     * Start a source of aggregated search results, one JSON object per group of things as described by
+     * {@link AggregateThings.ResultJsonFields}. Unlike search results, aggregated search results are not resumed
+     * after errors, because the groups are complete only after all things are aggregated.
+     *
+     * @param conciergeForwarder recipient of the aggregation command.
+     * @param searchAskTimeout timeout for the search service to start the aggregation.
+     * @param aggregateThings the aggregation command.
+     * @return the source of aggregated search results.
+     * @since 2.0.0
+     */
+    public static Source<JsonObject, NotUsed> aggregate(final ActorSelection conciergeForwarder,
+            final Duration searchAskTimeout,
+            final AggregateThings aggregateThings) {
+
+        return Source.completionStage(Patterns.ask(conciergeForwarder, aggregateThings, searchAskTimeout))
+                .via(expectMsgClass(SourceRef.class))
+                .flatMapConcat(SourceRef::source)
+                .map(result -> JsonObject.of((String) result))
+                .mapError(new PFBuilder<Throwable, Throwable>()
+                        .matchAny(error -> DittoRuntimeException.asDittoRuntimeException(error, e -> {
+                            LOGGER.withCorrelationId(aggregateThings).error("Unexpected error", e);
+                            return GatewayInternalErrorException.newBuilder()
+                                    .dittoHeaders(aggregateThings.getDittoHeaders())
+                                    .build();
+                        }))
+                        .build());
+    }
+
     /**
      * Decide whether an error is recoverable.
      *
@@ -226,7 +256,7 @@ public final class SearchSource {
         return streamThings.getDittoHeaders();
     }
 
-    private <T> Flow<Object, T, NotUsed> expectMsgClass(final Class<T> clazz) {
+    private static <T> Flow<Object, T, NotUsed> expectMsgClass(final Class<T> clazz) {
         return Flow.create()
                 .flatMapConcat(element -> {
                     if (clazz.isInstance(element)) {
@@ -14,21 +14,27 @@ package org.eclipse.ditto.services.utils.search;
 
 import java.time.Duration;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants;
 import org.eclipse.ditto.services.utils.akka.actors.AbstractActorWithStashWithTimers;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.SubscriptionProtocolErrorException;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.SubscriptionTimeoutException;
 import org.eclipse.ditto.signals.commands.thingsearch.subscription.CancelSubscription;
+import org.eclipse.ditto.signals.commands.thingsearch.subscription.CreateSubscription;
 import org.eclipse.ditto.signals.commands.thingsearch.subscription.RequestFromSubscription;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionComplete;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionCreated;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionFailed;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasChange;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasNextPage;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -51,16 +57,38 @@ public final class SubscriptionActor extends AbstractActorWithStashWithTimers {
      */
     private static final Duration ZOMBIE_LIFETIME = Duration.ofSeconds(10L);
 
+    /**
+     * Interval to register continuous subscriptions again, so that search updaters of cluster members joining later
+     * learn about them.
+     */
+    private static final Duration CONTINUOUS_REGISTRATION_INTERVAL = Duration.ofMinutes(1L);
+
     private final DittoDiagnosticLoggingAdapter log;
+    @Nullable private final CreateSubscription continuousSubscription;
+    @Nullable private final ActorRef pubSubMediator;
 
     private Subscription subscription;
     private ActorRef sender;
     private DittoHeaders dittoHeaders;
 
+    @SuppressWarnings("unused")
     SubscriptionActor(final Duration idleTimeout, final ActorRef sender, final DittoHeaders dittoHeaders) {
+        this(idleTimeout, sender, dittoHeaders, null, null);
+    }
+
+    @SuppressWarnings("unused")
+    SubscriptionActor(final Duration idleTimeout, final ActorRef sender,
+            final CreateSubscription continuousSubscription, final ActorRef pubSubMediator) {
+        this(idleTimeout, sender, continuousSubscription.getDittoHeaders(), continuousSubscription, pubSubMediator);
+    }
+
+    private SubscriptionActor(final Duration idleTimeout, final ActorRef sender, final DittoHeaders dittoHeaders,
+            @Nullable final CreateSubscription continuousSubscription, @Nullable final ActorRef pubSubMediator) {
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         this.sender = sender;
         this.dittoHeaders = dittoHeaders;
+        this.continuousSubscription = continuousSubscription;
+        this.pubSubMediator = pubSubMediator;
         getContext().setReceiveTimeout(idleTimeout);
     }
 
@@ -76,6 +104,23 @@ public final class SubscriptionActor extends AbstractActorWithStashWithTimers {
         return Props.create(SubscriptionActor.class, idleTimeout, sender, dittoHeaders);
     }
 
+    /**
+     * Create Props object for a SubscriptionActor of a continuous subscription. The actor registers the subscription
+     * at the search updaters of all cluster members before the initial search results are produced, and keeps
+     * forwarding changes of the search result after the initial search results until the subscription is cancelled.
+     *
+     * @param idleTimeout maximum lifetime while idling before the initial search results are complete.
+     * @param sender sender of the command that created this actor.
+     * @param continuousSubscription the command that created this actor.
+     * @param pubSubMediator pub-sub mediator to register the subscription with.
+     * @return Props for this actor.
+     * @since 2.0.0
+     */
+    public static Props props(final Duration idleTimeout, final ActorRef sender,
+            final CreateSubscription continuousSubscription, final ActorRef pubSubMediator) {
+        return Props.create(SubscriptionActor.class, idleTimeout, sender, continuousSubscription, pubSubMediator);
+    }
+
     /**
      * Wrap a subscription actor as a reactive stream subscriber.
      *
@@ -86,6 +131,15 @@ public final class SubscriptionActor extends AbstractActorWithStashWithTimers {
         return new SubscriberOps(subscriptionActor);
     }
 
+    @Override
+    public void preStart() {
+        if (continuousSubscription != null) {
+            registerContinuousSubscription(Control.REGISTER_CONTINUOUS_SUBSCRIPTION);
+            getTimers().startTimerWithFixedDelay(Control.REGISTER_CONTINUOUS_SUBSCRIPTION,
+                    Control.REGISTER_CONTINUOUS_SUBSCRIPTION, CONTINUOUS_REGISTRATION_INTERVAL);
+        }
+    }
+
     @Override
     public void postStop() {
         if (subscription != null) {
@@ -101,7 +155,9 @@ public final class SubscriptionActor extends AbstractActorWithStashWithTimers {
                 .match(SubscriptionHasNextPage.class, this::subscriptionHasNext)
                 .match(SubscriptionComplete.class, this::subscriptionComplete)
                 .match(SubscriptionFailed.class, this::subscriptionFailed)
+                .match(SubscriptionHasChange.class, this::subscriptionHasChange)
                 .match(Subscription.class, this::onSubscribe)
+                .matchEquals(Control.REGISTER_CONTINUOUS_SUBSCRIPTION, this::registerContinuousSubscription)
                 .matchEquals(ReceiveTimeout.getInstance(), this::idleTimeout)
                 .build();
     }
@@ -187,11 +243,32 @@ public final class SubscriptionActor extends AbstractActorWithStashWithTimers {
         sender.tell(event.setDittoHeaders(dittoHeaders), ActorRef.noSender());
     }
 
+    private void subscriptionHasChange(final SubscriptionHasChange event) {
+        if (subscription == null) {
+            log.withCorrelationId(event).debug("Stashing <{}>", event);
+            stash();
+        } else {
+            log.debug("Forwarding {}", event);
+            sender.tell(event.setDittoHeaders(dittoHeaders), ActorRef.noSender());
+        }
+    }
+
+    private void registerContinuousSubscription(final Control trigger) {
+        if (continuousSubscription != null && pubSubMediator != null) {
+            pubSubMediator.tell(DistPubSubAccess.publish(ThingsSearchConstants.CONTINUOUS_SUBSCRIPTIONS_TOPIC,
+                    continuousSubscription), getSelf());
+        }
+    }
+
     private void subscriptionComplete(final SubscriptionComplete event) {
         // just in case: if error overtakes subscription, then there *will* be a subscription.
         if (subscription == null) {
             log.withCorrelationId(event).debug("Stashing <{}>", event);
             stash();
+        } else if (continuousSubscription != null) {
+            // continuous subscriptions live on until cancelled and notify about changes of the search result
+            log.withCorrelationId(event).info("Initial search results complete; awaiting changes");
+            getContext().cancelReceiveTimeout();
         } else {
             log.info("{}", event);
             sender.tell(event.setDittoHeaders(dittoHeaders), ActorRef.noSender());
@@ -213,6 +290,7 @@ public final class SubscriptionActor extends AbstractActorWithStashWithTimers {
     }
 
     private void becomeZombie() {
+        getTimers().cancel(Control.REGISTER_CONTINUOUS_SUBSCRIPTION);
         getTimers().startSingleTimer(PoisonPill.getInstance(), PoisonPill.getInstance(), ZOMBIE_LIFETIME);
         getContext().become(createZombieBehavior());
     }
@@ -221,6 +299,10 @@ public final class SubscriptionActor extends AbstractActorWithStashWithTimers {
         return getSelf().path().name();
     }
 
+    private enum Control {
+        REGISTER_CONTINUOUS_SUBSCRIPTION
+    }
+
     private static final class SubscriberOps implements Subscriber<JsonArray> {
 
         private final ActorRef subscriptionActor;
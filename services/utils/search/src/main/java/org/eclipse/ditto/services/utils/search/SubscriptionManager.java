@@ -168,7 +168,9 @@ public final class SubscriptionManager extends AbstractActor {
     private void createSubscription(final CreateSubscription createSubscription) {
         log.withCorrelationId(createSubscription).info("Processing <{}>", createSubscription);
         final String subscriptionId = nextSubscriptionId(createSubscription);
-        final Props props = SubscriptionActor.props(idleTimeout, getSender(), createSubscription.getDittoHeaders());
+        final Props props = createSubscription.isContinuous()
+                ? SubscriptionActor.props(idleTimeout, getSender(), createSubscription, pubSubMediator)
+                : SubscriptionActor.props(idleTimeout, getSender(), createSubscription.getDittoHeaders());
         final ActorRef subscriptionActor = getContext().actorOf(props, subscriptionId);
         final Source<JsonArray, NotUsed> pageSource = getPageSource(createSubscription);
         connect(subscriptionActor, pageSource);
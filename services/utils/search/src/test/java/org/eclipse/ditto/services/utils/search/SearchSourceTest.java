@@ -16,11 +16,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
@@ -29,6 +31,7 @@ import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.query.AggregateThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 import org.eclipse.ditto.signals.events.thingsearch.ThingsOutOfSync;
 import org.junit.After;
@@ -181,6 +184,37 @@ public final class SearchSourceTest {
                 .expectComplete();
     }
 
+    @Test
+    public void aggregate() {
+        final AggregateThings aggregateThings = AggregateThings.of("exists(attributes/firmware)", null,
+                List.of("attributes/firmware"), List.of(), List.of(), dittoHeaders);
+        final JsonObject group = JsonObject.of("{\"groupBy\":{\"attributes/firmware\":\"1.0\"},\"count\":3}");
+        sinkProbe = SearchSource.aggregate(ActorSelection.apply(conciergeForwarderProbe.ref(), ""),
+                Duration.ofSeconds(3L), aggregateThings)
+                .map(Object.class::cast)
+                .runWith(TestSink.probe(actorSystem), materializer);
+        sinkProbe.request(200L);
+        conciergeForwarderProbe.expectMsg(aggregateThings);
+        conciergeForwarderProbe.reply(materializeSourceProbe());
+        sourceProbe.expectRequest();
+        sourceProbe.sendNext(group.toString()).sendComplete();
+        sinkProbe.expectNext(group).expectComplete();
+    }
+
+    @Test
+    public void aggregateWithClientError() {
+        final AggregateThings aggregateThings =
+                AggregateThings.of(null, null, List.of("unknown"), List.of(), List.of(), dittoHeaders);
+        sinkProbe = SearchSource.aggregate(ActorSelection.apply(conciergeForwarderProbe.ref(), ""),
+                Duration.ofSeconds(3L), aggregateThings)
+                .map(Object.class::cast)
+                .runWith(TestSink.probe(actorSystem), materializer);
+        sinkProbe.request(1L);
+        conciergeForwarderProbe.expectMsg(aggregateThings);
+        conciergeForwarderProbe.reply(InvalidRqlExpressionException.newBuilder().build());
+        assertThat(sinkProbe.expectError()).isInstanceOf(InvalidRqlExpressionException.class);
+    }
+
     private Thing getThing(final int i) {
         return Thing.newBuilder()
                 .setId(ThingId.of("t:" + i))
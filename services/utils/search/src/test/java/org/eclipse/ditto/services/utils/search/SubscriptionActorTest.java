@@ -22,11 +22,14 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.SubscriptionTimeoutException;
+import org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants;
 import org.eclipse.ditto.signals.commands.thingsearch.subscription.CancelSubscription;
+import org.eclipse.ditto.signals.commands.thingsearch.subscription.CreateSubscription;
 import org.eclipse.ditto.signals.commands.thingsearch.subscription.RequestFromSubscription;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionComplete;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionCreated;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionFailed;
+import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasChange;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionHasNextPage;
 import org.junit.After;
 import org.junit.Before;
@@ -40,9 +43,11 @@ import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.stream.Attributes;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 
 /**
@@ -144,6 +149,36 @@ public final class SubscriptionActorTest {
         }};
     }
 
+    @Test
+    public void continuousSubscription() {
+        new TestKit(actorSystem) {{
+            final TestProbe pubSubMediator = TestProbe.apply(actorSystem);
+            final CreateSubscription createSubscription =
+                    CreateSubscription.of(null, null, null, null, DittoHeaders.empty()).setContinuous(true);
+            final ActorRef underTest = watch(actorSystem.actorOf(SubscriptionActor.props(Duration.ofMinutes(1L),
+                    getRef(), createSubscription, pubSubMediator.ref()), String.valueOf(Integer.MIN_VALUE)));
+            final String subscriptionId = underTest.path().name();
+
+            final DistributedPubSubMediator.Publish publish =
+                    pubSubMediator.expectMsgClass(DistributedPubSubMediator.Publish.class);
+            assertThat(publish.topic()).isEqualTo(ThingsSearchConstants.CONTINUOUS_SUBSCRIPTIONS_TOPIC);
+            assertThat(publish.msg()).isEqualTo(createSubscription);
+            assertThat(pubSubMediator.sender()).isEqualTo(underTest);
+
+            connect(underTest, Source.empty(), this);
+            expectNoMessage();
+
+            final SubscriptionHasChange change = SubscriptionHasChange.of(subscriptionId, "ns:thing",
+                    SubscriptionHasChange.Change.LEAVE, null, DittoHeaders.empty());
+            underTest.tell(change, ActorRef.noSender());
+            expectMsg(change);
+
+            underTest.tell(CancelSubscription.of(subscriptionId, DittoHeaders.empty()), getRef());
+            underTest.tell(change, ActorRef.noSender());
+            expectNoMessage();
+        }};
+    }
+
     private ActorRef newSubscriptionActor(final Duration timeout, final TestKit testKit) {
         final Props propsForTest = SubscriptionActor.props(timeout, testKit.getRef(), DittoHeaders.empty());
         return actorSystem.actorOf(propsForTest, String.valueOf(Integer.MIN_VALUE));
@@ -12,9 +12,16 @@
  */
 package org.eclipse.ditto.signals.base;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
@@ -24,6 +31,16 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 
 /**
  * Responsible for deserialization of a class of type T.
+ * <p>
+ * The parse method of the class is resolved once and bound to a functional interface via {@link LambdaMetafactory},
+ * so that deserializing does not invoke the method reflectively. If the class is not visible to the class loader of
+ * this class (e.g. in an OSGi environment), the parse method is invoked via a {@link MethodHandle} instead.
+ * </p>
+ * <p>
+ * Binding moves work from deserializing to creating the parsable: besides looking up the parse method, it spins a
+ * lambda class per parsed class. Deserialization strategies are created once per class at startup, so this pays off
+ * for signals deserialized more than a few times.
+ * </p>
  *
  * @param <T> the type of the class that should be deserialized.
  */
@@ -33,9 +50,14 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
     private static final Class<?> DITTO_HEADERS_PARAMETER = DittoHeaders.class;
     private static final Class<?> PARSE_INNER_JSON_PARAMETER = ParseInnerJson.class;
 
+    private static final MethodType PARSE_TYPE =
+            MethodType.methodType(Object.class, JSON_OBJECT_PARAMETER, DITTO_HEADERS_PARAMETER);
+    private static final MethodType PARSE_WITH_INNER_JSON_TYPE =
+            PARSE_TYPE.appendParameterTypes(PARSE_INNER_JSON_PARAMETER);
+
     private final String key;
     private final String v1FallbackKey;
-    private final Method parseMethod;
+    private final ParseFunction parseFunction;
 
     /**
      * Creates a new instance.
@@ -51,17 +73,19 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
             final String parsingMethodName) {
         this.key = key;
         this.v1FallbackKey = v1FallbackKey;
+        final Method parseMethod;
         try {
-            this.parseMethod = getParseMethod(parsedClass, parsingMethodName);
-            final Class<?> returnType = parseMethod.getReturnType();
-            if (!parsedClass.isAssignableFrom(returnType)) {
-                throw new IllegalArgumentException(
-                        String.format("Parse method is invalid. Return type <%s> of parse method must be assignable " +
-                                "to parsed class: <%s>.", returnType.getSimpleName(), parsedClass.getSimpleName()));
-            }
+            parseMethod = getParseMethod(parsedClass, parsingMethodName);
         } catch (final NoSuchMethodException e) {
             throw new DeserializationStrategyNotFoundError(parsedClass, e);
         }
+        final Class<?> returnType = parseMethod.getReturnType();
+        if (!parsedClass.isAssignableFrom(returnType)) {
+            throw new IllegalArgumentException(
+                    String.format("Parse method is invalid. Return type <%s> of parse method must be assignable " +
+                            "to parsed class: <%s>.", returnType.getSimpleName(), parsedClass.getSimpleName()));
+        }
+        parseFunction = bindParseMethod(parsedClass, parseMethod);
     }
 
     /**
@@ -85,50 +109,35 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
     }
 
 
-    @SuppressWarnings("unchecked")
     @Override
     public T parse(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
-        try {
-            return (T) parseMethod.invoke(null, jsonObject, dittoHeaders);
-        } catch (final ClassCastException | IllegalAccessException e) {
-            throw buildDittoJsonException(e, jsonObject, dittoHeaders);
-        } catch (final InvocationTargetException e) {
-            throw fromInvocationTargetException(e, jsonObject, dittoHeaders);
-        }
+        return doParse(jsonObject, dittoHeaders, null);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public T parse(final JsonObject jsonObject, final DittoHeaders dittoHeaders,
             final ParseInnerJson parseInnerJson) {
-        try {
-            if (parseMethod.getParameterCount() == 3) {
-                return (T) parseMethod.invoke(null, jsonObject, dittoHeaders, parseInnerJson);
-            } else {
-                return (T) parseMethod.invoke(null, jsonObject, dittoHeaders);
-            }
-        } catch (final ClassCastException | IllegalAccessException e) {
-            throw buildDittoJsonException(e, jsonObject, dittoHeaders);
-        } catch (final InvocationTargetException e) {
-            throw fromInvocationTargetException(e, jsonObject, dittoHeaders);
-        }
+
+        return doParse(jsonObject, dittoHeaders, parseInnerJson);
     }
 
-    private DittoJsonException fromInvocationTargetException(final InvocationTargetException e,
-            final JsonObject jsonObject,
-            final DittoHeaders dittoHeaders) {
-        final Throwable targetException = e.getTargetException();
+    @SuppressWarnings("unchecked")
+    private T doParse(final JsonObject jsonObject, final DittoHeaders dittoHeaders,
+            @Nullable final ParseInnerJson parseInnerJson) {
 
-        if (targetException instanceof DittoRuntimeException) {
-            throw (DittoRuntimeException) targetException;
-        } else if (targetException instanceof JsonRuntimeException) {
-            throw new DittoJsonException((JsonRuntimeException) targetException, dittoHeaders);
+        try {
+            return (T) parseFunction.parse(jsonObject, dittoHeaders, parseInnerJson);
+        } catch (final DittoRuntimeException e) {
+            throw e;
+        } catch (final JsonRuntimeException e) {
+            throw new DittoJsonException(e, dittoHeaders);
+        } catch (final Exception e) {
+            // bound parse methods may throw checked exceptions undeclared by the functional interface
+            throw buildDittoJsonException(e, jsonObject, dittoHeaders);
         }
-
-        return buildDittoJsonException(targetException, jsonObject, dittoHeaders);
     }
 
-    private DittoJsonException buildDittoJsonException(final Throwable cause,
+    private static DittoJsonException buildDittoJsonException(final Throwable cause,
             final JsonObject jsonObject,
             final DittoHeaders dittoHeaders) {
 
@@ -148,4 +157,109 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
             return parsedClass.getMethod(methodName, JSON_OBJECT_PARAMETER, DITTO_HEADERS_PARAMETER);
         }
     }
+
+    private static ParseFunction bindParseMethod(final Class<?> parsedClass, final Method parseMethod) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle methodHandle;
+        try {
+            methodHandle = lookup.unreflect(parseMethod);
+        } catch (final IllegalAccessException e) {
+            throw new DeserializationStrategyNotFoundError(parsedClass, e);
+        }
+        final boolean withInnerJson = parseMethod.getParameterCount() == 3;
+        if (isVisibleToOwnClassLoader(parseMethod.getDeclaringClass())) {
+            try {
+                if (withInnerJson) {
+                    final ParseWithInnerJsonMethod bound = (ParseWithInnerJsonMethod) createLambda(
+                            LambdaMetafactory.metafactory(lookup, "parse",
+                                    MethodType.methodType(ParseWithInnerJsonMethod.class),
+                                    PARSE_WITH_INNER_JSON_TYPE, methodHandle, methodHandle.type()));
+                    return bound::parse;
+                } else {
+                    final ParseMethod bound = (ParseMethod) createLambda(LambdaMetafactory.metafactory(lookup, "parse",
+                            MethodType.methodType(ParseMethod.class), PARSE_TYPE, methodHandle, methodHandle.type()));
+                    return (jsonObject, dittoHeaders, parseInnerJson) -> bound.parse(jsonObject, dittoHeaders);
+                }
+            } catch (final LambdaConversionException e) {
+                throw new DeserializationStrategyNotFoundError(parsedClass, e);
+            }
+        }
+        return invokingMethodHandle(methodHandle, withInnerJson);
+    }
+
+    private static Object createLambda(final CallSite callSite) {
+        try {
+            // the call site of a non-capturing lambda takes no arguments
+            return callSite.getTarget().invoke();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Lambda factory threw checked exception.", e);
+        }
+    }
+
+    private static ParseFunction invokingMethodHandle(final MethodHandle methodHandle, final boolean withInnerJson) {
+        if (withInnerJson) {
+            final MethodHandle parseHandle = methodHandle.asType(PARSE_WITH_INNER_JSON_TYPE);
+            return (jsonObject, dittoHeaders, parseInnerJson) -> {
+                try {
+                    return parseHandle.invokeExact(jsonObject, dittoHeaders, parseInnerJson);
+                } catch (final RuntimeException | Error e) {
+                    throw e;
+                } catch (final Throwable e) {
+                    throw buildDittoJsonException(e, jsonObject, dittoHeaders);
+                }
+            };
+        } else {
+            final MethodHandle parseHandle = methodHandle.asType(PARSE_TYPE);
+            return (jsonObject, dittoHeaders, parseInnerJson) -> {
+                try {
+                    return parseHandle.invokeExact(jsonObject, dittoHeaders);
+                } catch (final RuntimeException | Error e) {
+                    throw e;
+                } catch (final Throwable e) {
+                    throw buildDittoJsonException(e, jsonObject, dittoHeaders);
+                }
+            };
+        }
+    }
+
+    private static boolean isVisibleToOwnClassLoader(final Class<?> clazz) {
+        try {
+            return clazz == Class.forName(clazz.getName(), false, AnnotationBasedJsonParsable.class.getClassLoader());
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * A parse method bound to its parameters, ignoring the {@code ParseInnerJson} if it does not take one.
+     */
+    @FunctionalInterface
+    private interface ParseFunction {
+
+        Object parse(JsonObject jsonObject, DittoHeaders dittoHeaders, @Nullable ParseInnerJson parseInnerJson);
+
+    }
+
+    /**
+     * Signature of parse methods without {@code ParseInnerJson} to bind via {@link LambdaMetafactory}.
+     */
+    @FunctionalInterface
+    private interface ParseMethod {
+
+        Object parse(JsonObject jsonObject, DittoHeaders dittoHeaders);
+
+    }
+
+    /**
+     * Signature of parse methods with {@code ParseInnerJson} to bind via {@link LambdaMetafactory}.
+     */
+    @FunctionalInterface
+    private interface ParseWithInnerJsonMethod {
+
+        Object parse(JsonObject jsonObject, DittoHeaders dittoHeaders, ParseInnerJson parseInnerJson);
+
+    }
+
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoHeaderInvalidException;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.junit.Test;
+
+/**
+ * Tests {@link AnnotationBasedJsonParsable}.
+ */
+public final class AnnotationBasedJsonParsableTest {
+
+    private static final JsonObject JSON_OBJECT = JsonFactory.newObjectBuilder().set("value", "foo").build();
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("cid").build();
+
+    @Test
+    public void parseWithParseMethod() {
+        final AnnotationBasedJsonParsable<Parsed> underTest =
+                new AnnotationBasedJsonParsable<>("key", "v1key", Parsed.class, "fromJson");
+
+        final Parsed parsed = underTest.parse(JSON_OBJECT, DITTO_HEADERS);
+
+        assertThat(parsed.value).isEqualTo("foo");
+        assertThat(parsed.dittoHeaders).isEqualTo(DITTO_HEADERS);
+    }
+
+    @Test
+    public void parseWithParseMethodTakingParseInnerJson() {
+        final AnnotationBasedJsonParsable<ParsedWithInnerJson> underTest =
+                new AnnotationBasedJsonParsable<>("key", "v1key", ParsedWithInnerJson.class, "fromJson");
+        final JsonParsable.ParseInnerJson parseInnerJson = jsonObject -> null;
+
+        final ParsedWithInnerJson parsed = underTest.parse(JSON_OBJECT, DITTO_HEADERS, parseInnerJson);
+
+        assertThat(parsed.parseInnerJson).isSameAs(parseInnerJson);
+    }
+
+    @Test
+    public void rethrowDittoRuntimeExceptions() {
+        final AnnotationBasedJsonParsable<Parsed> underTest =
+                new AnnotationBasedJsonParsable<>("key", "v1key", Parsed.class, "failWithDittoRuntimeException");
+
+        assertThatExceptionOfType(DittoHeaderInvalidException.class)
+                .isThrownBy(() -> underTest.parse(JSON_OBJECT, DITTO_HEADERS));
+    }
+
+    @Test
+    public void wrapJsonRuntimeExceptions() {
+        final AnnotationBasedJsonParsable<Parsed> underTest =
+                new AnnotationBasedJsonParsable<>("key", "v1key", Parsed.class, "failWithJsonRuntimeException");
+
+        assertThatExceptionOfType(DittoJsonException.class)
+                .isThrownBy(() -> underTest.parse(JSON_OBJECT, DITTO_HEADERS))
+                .satisfies(e -> assertThat(e.getDittoHeaders()).isEqualTo(DITTO_HEADERS));
+    }
+
+    @Test
+    public void wrapOtherRuntimeExceptions() {
+        final AnnotationBasedJsonParsable<Parsed> underTest =
+                new AnnotationBasedJsonParsable<>("key", "v1key", Parsed.class, "failWithIllegalStateException");
+
+        assertThatExceptionOfType(DittoJsonException.class)
+                .isThrownBy(() -> underTest.parse(JSON_OBJECT, DITTO_HEADERS))
+                .withRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void wrapCheckedExceptions() {
+        final AnnotationBasedJsonParsable<Parsed> underTest =
+                new AnnotationBasedJsonParsable<>("key", "v1key", Parsed.class, "failWithCheckedException");
+
+        assertThatExceptionOfType(DittoJsonException.class)
+                .isThrownBy(() -> underTest.parse(JSON_OBJECT, DITTO_HEADERS))
+                .withRootCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void rejectMissingParseMethod() {
+        assertThatExceptionOfType(DeserializationStrategyNotFoundError.class)
+                .isThrownBy(() -> new AnnotationBasedJsonParsable<>("key", "v1key", Parsed.class, "unknown"));
+    }
+
+    @Test
+    public void rejectParseMethodWithUnassignableReturnType() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new AnnotationBasedJsonParsable<>("key", "v1key", Parsed.class, "toOther"));
+    }
+
+    public static final class Parsed {
+
+        private final String value;
+        private final DittoHeaders dittoHeaders;
+
+        private Parsed(final String value, final DittoHeaders dittoHeaders) {
+            this.value = value;
+            this.dittoHeaders = dittoHeaders;
+        }
+
+        public static Parsed fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+            return new Parsed(jsonObject.getValue("value").map(JsonValue::asString).orElse(null), dittoHeaders);
+        }
+
+        public static Parsed failWithDittoRuntimeException(final JsonObject jsonObject,
+                final DittoHeaders dittoHeaders) {
+
+            throw DittoHeaderInvalidException.newCustomMessageBuilder("invalid").dittoHeaders(dittoHeaders).build();
+        }
+
+        public static Parsed failWithJsonRuntimeException(final JsonObject jsonObject,
+                final DittoHeaders dittoHeaders) {
+
+            throw JsonParseException.newBuilder().message("invalid").build();
+        }
+
+        public static Parsed failWithIllegalStateException(final JsonObject jsonObject,
+                final DittoHeaders dittoHeaders) {
+
+            throw new IllegalStateException("invalid");
+        }
+
+        public static Parsed failWithCheckedException(final JsonObject jsonObject,
+                final DittoHeaders dittoHeaders) throws IOException {
+
+            throw new IOException("invalid");
+        }
+
+        public static String toOther(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+            return jsonObject.toString();
+        }
+
+    }
+
+    public static final class ParsedWithInnerJson {
+
+        private final JsonParsable.ParseInnerJson parseInnerJson;
+
+        private ParsedWithInnerJson(final JsonParsable.ParseInnerJson parseInnerJson) {
+            this.parseInnerJson = parseInnerJson;
+        }
+
+        public static ParsedWithInnerJson fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders,
+                final JsonParsable.ParseInnerJson parseInnerJson) {
+
+            return new ParsedWithInnerJson(parseInnerJson);
+        }
+
+    }
+
+}
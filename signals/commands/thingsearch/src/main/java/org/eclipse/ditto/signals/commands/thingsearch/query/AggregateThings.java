@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.thingsearch.query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+
+/**
+ * Ditto-internal command to start a stream of aggregated search results. The things matching the filter are grouped
+ * by the values of the group-by fields; each group is reported with the number of its things and the minimum and
+ * maximum values of the requested fields among them.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = AggregateThings.TYPE_PREFIX, name = AggregateThings.NAME)
+public final class AggregateThings extends AbstractCommand<AggregateThings>
+        implements ThingSearchQueryCommand<AggregateThings> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "aggregateThings";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    @Nullable private final String filter;
+    @Nullable private final JsonArray namespaces;
+    private final JsonArray groupBy;
+    private final JsonArray min;
+    private final JsonArray max;
+
+    private AggregateThings(@Nullable final String filter,
+            @Nullable final JsonArray namespaces,
+            final JsonArray groupBy,
+            final JsonArray min,
+            final JsonArray max,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+        this.filter = filter;
+        this.namespaces = namespaces;
+        this.groupBy = groupBy;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Returns a new instance of {@code AggregateThings}.
+     *
+     * @param filter the optional query filter string.
+     * @param namespaces namespaces to search, or null to search all namespaces.
+     * @param groupBy the fields to group the things by, e.g. {@code attributes/firmware}; all things form one group
+     * if empty.
+     * @param min the fields to compute the minimum values of per group.
+     * @param max the fields to compute the maximum values of per group.
+     * @param dittoHeaders the headers of the command.
+     * @return a new command for aggregating search results.
+     * @throws NullPointerException if any argument except {@code filter} and {@code namespaces} is null.
+     */
+    public static AggregateThings of(@Nullable final String filter,
+            @Nullable final JsonArray namespaces,
+            final List<String> groupBy,
+            final List<String> min,
+            final List<String> max,
+            final DittoHeaders dittoHeaders) {
+
+        return new AggregateThings(filter, namespaces, toJsonArray(groupBy), toJsonArray(min), toJsonArray(max),
+                dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code AggregateThings} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static AggregateThings fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<AggregateThings>(TYPE, jsonObject).deserialize(() -> {
+            final String filter = jsonObject.getValue(JsonFields.FILTER).orElse(null);
+            final JsonArray namespaces = jsonObject.getValue(JsonFields.NAMESPACES).orElse(null);
+            final JsonArray groupBy = jsonObject.getValue(JsonFields.GROUP_BY).orElse(JsonArray.empty());
+            final JsonArray min = jsonObject.getValue(JsonFields.MIN).orElse(JsonArray.empty());
+            final JsonArray max = jsonObject.getValue(JsonFields.MAX).orElse(JsonArray.empty());
+            return new AggregateThings(filter, namespaces, groupBy, min, max, dittoHeaders);
+        });
+    }
+
+    @Override
+    public Optional<String> getFilter() {
+        return Optional.ofNullable(filter);
+    }
+
+    @Override
+    public Optional<Set<String>> getNamespaces() {
+        return Optional.ofNullable(namespaces)
+                .map(array -> array.stream().map(JsonValue::asString).collect(Collectors.toSet()));
+    }
+
+    /**
+     * @return the fields to group the things by.
+     */
+    public List<String> getGroupBy() {
+        return toList(groupBy);
+    }
+
+    /**
+     * @return the fields to compute the minimum values of per group.
+     */
+    public List<String> getMin() {
+        return toList(min);
+    }
+
+    /**
+     * @return the fields to compute the maximum values of per group.
+     */
+    public List<String> getMax() {
+        return toList(max);
+    }
+
+    @Override
+    public AggregateThings setNamespaces(@Nullable final Collection<String> namespaces) {
+        final JsonArray namespacesJson = namespaces == null
+                ? null
+                : namespaces.stream().map(JsonValue::of).collect(JsonCollectors.valuesToArray());
+        return new AggregateThings(filter, namespacesJson, groupBy, min, max, getDittoHeaders());
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+        if (filter != null) {
+            jsonObjectBuilder.set(JsonFields.FILTER, filter);
+        }
+        if (namespaces != null) {
+            jsonObjectBuilder.set(JsonFields.NAMESPACES, namespaces);
+        }
+        if (!groupBy.isEmpty()) {
+            jsonObjectBuilder.set(JsonFields.GROUP_BY, groupBy);
+        }
+        if (!min.isEmpty()) {
+            jsonObjectBuilder.set(JsonFields.MIN, min);
+        }
+        if (!max.isEmpty()) {
+            jsonObjectBuilder.set(JsonFields.MAX, max);
+        }
+    }
+
+    @Override
+    public AggregateThings setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new AggregateThings(filter, namespaces, groupBy, min, max, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AggregateThings)) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final AggregateThings that = (AggregateThings) o;
+        return Objects.equals(filter, that.filter) &&
+                Objects.equals(namespaces, that.namespaces) &&
+                Objects.equals(groupBy, that.groupBy) &&
+                Objects.equals(min, that.min) &&
+                Objects.equals(max, that.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), filter, namespaces, groupBy, min, max);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" +
+                super.toString() +
+                ", filter=" + filter +
+                ", namespaces=" + namespaces +
+                ", groupBy=" + groupBy +
+                ", min=" + min +
+                ", max=" + max +
+                ']';
+    }
+
+    private static JsonArray toJsonArray(final List<String> fields) {
+        return Objects.requireNonNull(fields).stream()
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private static List<String> toList(final JsonArray fields) {
+        return fields.stream().map(JsonValue::asString).collect(Collectors.toList());
+    }
+
+    /**
+     * JSON fields of the aggregated search results, one JSON object per group.
+     */
+    public static final class ResultJsonFields {
+
+        /**
+         * The values of the group-by fields of the group keyed by the field names; null if a thing has no value.
+         */
+        public static final JsonFieldDefinition<JsonObject> GROUP_BY =
+                JsonFactory.newJsonObjectFieldDefinition("groupBy");
+
+        /**
+         * The number of things in the group.
+         */
+        public static final JsonFieldDefinition<Long> COUNT =
+                JsonFactory.newLongFieldDefinition("count");
+
+        /**
+         * The minimum values of the requested fields in the group keyed by the field names.
+         */
+        public static final JsonFieldDefinition<JsonObject> MIN =
+                JsonFactory.newJsonObjectFieldDefinition("min");
+
+        /**
+         * The maximum values of the requested fields in the group keyed by the field names.
+         */
+        public static final JsonFieldDefinition<JsonObject> MAX =
+                JsonFactory.newJsonObjectFieldDefinition("max");
+    }
+
+    private static final class JsonFields {
+
+        private static final JsonFieldDefinition<String> FILTER =
+                JsonFactory.newStringFieldDefinition("filter");
+
+        private static final JsonFieldDefinition<JsonArray> NAMESPACES =
+                JsonFactory.newJsonArrayFieldDefinition("namespaces");
+
+        private static final JsonFieldDefinition<JsonArray> GROUP_BY =
+                JsonFactory.newJsonArrayFieldDefinition("groupBy");
+
+        private static final JsonFieldDefinition<JsonArray> MIN =
+                JsonFactory.newJsonArrayFieldDefinition("min");
+
+        private static final JsonFieldDefinition<JsonArray> MAX =
+                JsonFactory.newJsonArrayFieldDefinition("max");
+    }
+}
@@ -68,17 +68,20 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
     @Nullable private final JsonFieldSelector fields;
     @Nullable private final Set<String> namespaces;
     @Nullable private final String prefix;
+    private final boolean continuous;
 
     private CreateSubscription(@Nullable final String filter,
             @Nullable final String options,
             @Nullable final JsonFieldSelector fields,
             @Nullable final Collection<String> namespaces,
             @Nullable final String prefix,
+            final boolean continuous,
             final DittoHeaders dittoHeaders) {
         super(TYPE, dittoHeaders);
         this.filter = filter;
         this.prefix = prefix;
         this.options = options;
+        this.continuous = continuous;
 
         this.fields = fields;
         if (namespaces != null) {
@@ -101,7 +104,7 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
     public static CreateSubscription of(@Nullable final String filter, @Nullable final String options,
             @Nullable final JsonFieldSelector fields, @Nullable final Set<String> namespaces,
             final DittoHeaders dittoHeaders) {
-        return new CreateSubscription(filter, options, fields, namespaces, null, dittoHeaders);
+        return new CreateSubscription(filter, options, fields, namespaces, null, false, dittoHeaders);
     }
 
     /**
@@ -112,7 +115,7 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
      * @throws NullPointerException if any argument is {@code null}.
      */
     public static CreateSubscription of(final DittoHeaders dittoHeaders) {
-        return new CreateSubscription(null, null, null, null, null, dittoHeaders);
+        return new CreateSubscription(null, null, null, null, null, false, dittoHeaders);
     }
 
     /**
@@ -145,8 +148,10 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
 
             final String prefix = jsonObject.getValue(JsonFields.PREFIX).orElse(null);
 
+            final boolean continuous = jsonObject.getValue(JsonFields.CONTINUOUS).orElse(false);
+
             return new CreateSubscription(extractedFilter, extractedOptions, extractedFieldSelector,
-                    extractedNamespaces, prefix, dittoHeaders
+                    extractedNamespaces, prefix, continuous, dittoHeaders
             );
         });
     }
@@ -189,6 +194,17 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
         return Optional.ofNullable(fields);
     }
 
+    /**
+     * Check whether the subscription is continuous. A continuous subscription does not complete after the initial
+     * search results but notifies the subscriber whenever a thing enters, changes in or leaves the search result.
+     *
+     * @return whether the subscription is continuous.
+     * @since 2.0.0
+     */
+    public boolean isContinuous() {
+        return continuous;
+    }
+
     @Override
     public Optional<Set<String>> getNamespaces() {
         return Optional.ofNullable(namespaces);
@@ -196,7 +212,7 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
 
     @Override
     public CreateSubscription setNamespaces(@Nullable final Collection<String> namespaces) {
-        return new CreateSubscription(filter, options, fields, namespaces, prefix, getDittoHeaders());
+        return new CreateSubscription(filter, options, fields, namespaces, prefix, continuous, getDittoHeaders());
     }
 
     /**
@@ -207,7 +223,19 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
      * @return the new command.
      */
     public CreateSubscription setPrefix(@Nullable final String prefix) {
-        return new CreateSubscription(filter, options, fields, namespaces, prefix, getDittoHeaders());
+        return new CreateSubscription(filter, options, fields, namespaces, prefix, continuous, getDittoHeaders());
+    }
+
+    /**
+     * Create a copy of this command with the continuous flag set.
+     *
+     * @param continuous whether the subscription should notify about changes of the search result after the initial
+     * search results.
+     * @return the new command.
+     * @since 2.0.0
+     */
+    public CreateSubscription setContinuous(final boolean continuous) {
+        return new CreateSubscription(filter, options, fields, namespaces, prefix, continuous, getDittoHeaders());
     }
 
     @Override
@@ -222,11 +250,14 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
                 .map(JsonValue::of)
                 .collect(JsonCollectors.valuesToArray()), predicate));
         getPrefix().ifPresent(thePrefix -> jsonObjectBuilder.set(JsonFields.PREFIX, thePrefix));
+        if (continuous) {
+            jsonObjectBuilder.set(JsonFields.CONTINUOUS, true, predicate);
+        }
     }
 
     @Override
     public CreateSubscription setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return new CreateSubscription(filter, options, fields, namespaces, prefix, dittoHeaders);
+        return new CreateSubscription(filter, options, fields, namespaces, prefix, continuous, dittoHeaders);
     }
 
     @Override
@@ -242,12 +273,13 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
                 Objects.equals(options, that.options) &&
                 Objects.equals(fields, that.fields) &&
                 Objects.equals(namespaces, that.namespaces) &&
-                Objects.equals(prefix, that.prefix);
+                Objects.equals(prefix, that.prefix) &&
+                continuous == that.continuous;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), filter, options, fields, namespaces, prefix);
+        return Objects.hash(super.hashCode(), filter, options, fields, namespaces, prefix, continuous);
     }
 
     @Override
@@ -259,6 +291,7 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
                 ", fields=" + fields +
                 ", namespaces=" + namespaces +
                 ", prefix=" + prefix +
+                ", continuous=" + continuous +
                 ']';
     }
 
@@ -295,6 +328,15 @@ public final class CreateSubscription extends AbstractCommand<CreateSubscription
                 JsonFactory.newJsonArrayFieldDefinition("namespaces", FieldType.REGULAR, JsonSchemaVersion.V_1,
                         JsonSchemaVersion.V_2);
 
+        /**
+         * Optional JSON field for whether the subscription notifies about changes after the initial search results.
+         *
+         * @since 2.0.0
+         */
+        public static final JsonFieldDefinition<Boolean> CONTINUOUS =
+                JsonFactory.newBooleanFieldDefinition("continuous", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                        JsonSchemaVersion.V_2);
+
         /**
          * Internal JSON field for prefix setting.
          */
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.thingsearch.query;
+
+import static org.eclipse.ditto.signals.commands.base.assertions.CommandAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link org.eclipse.ditto.signals.commands.thingsearch.query.AggregateThings}.
+ */
+public final class AggregateThingsTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(AggregateThings.class, areImmutable(), provided(JsonArray.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(AggregateThings.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void serializeAllOptionalFields() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final AggregateThings underTest = AggregateThings.of("exists(attributes/firmware)",
+                JsonArray.of("thing", "namespace"),
+                List.of("attributes/firmware", "features/gps/properties/region"),
+                List.of("features/battery/properties/level"),
+                List.of("_modified"),
+                dittoHeaders
+        );
+
+        final AggregateThings deserialized = AggregateThings.fromJson(underTest.toJson(), dittoHeaders);
+        assertThat(deserialized).isEqualTo(underTest);
+        assertThat(deserialized.getGroupBy())
+                .containsExactly("attributes/firmware", "features/gps/properties/region");
+    }
+
+    @Test
+    public void serializeNoOptionalField() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final AggregateThings underTest = AggregateThings.of(null, null, List.of(), List.of(), List.of(), dittoHeaders);
+        final AggregateThings deserialized = AggregateThings.fromJson(underTest.toJson(), dittoHeaders);
+        assertThat(deserialized).isEqualTo(underTest);
+    }
+}
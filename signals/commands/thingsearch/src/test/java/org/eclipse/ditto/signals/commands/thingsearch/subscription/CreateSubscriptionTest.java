@@ -48,6 +48,7 @@ public final class CreateSubscriptionTest {
                     .add(TestConstants.KNOWN_NAMESPACE)
                     .build())
             .set(CreateSubscription.JsonFields.PREFIX, KNOWN_PREFIX)
+            .set(CreateSubscription.JsonFields.CONTINUOUS, true)
             .build()
             .toString();
 
@@ -76,7 +77,7 @@ public final class CreateSubscriptionTest {
                 String.format("%s, %s",TestConstants.KNOWN_OPT_1, TestConstants.KNOWN_OPT_2),
                 JsonFactory.newFieldSelector(KNOWN_FIELDS, TestConstants.JSON_PARSE_OPTIONS),
                 TestConstants.KNOWN_NAMESPACES_SET,
-                DittoHeaders.empty()).setPrefix(KNOWN_PREFIX);
+                DittoHeaders.empty()).setPrefix(KNOWN_PREFIX).setContinuous(true);
 
         final String json = command.toJsonString();
         assertThat(json).isEqualTo(JSON_ALL_FIELDS);
@@ -95,7 +96,7 @@ public final class CreateSubscriptionTest {
                 String.format("%s, %s",TestConstants.KNOWN_OPT_1, TestConstants.KNOWN_OPT_2),
                 JsonFactory.newFieldSelector(KNOWN_FIELDS, TestConstants.JSON_PARSE_OPTIONS),
                 TestConstants.KNOWN_NAMESPACES_SET,
-                DittoHeaders.empty()).setPrefix(KNOWN_PREFIX);
+                DittoHeaders.empty()).setPrefix(KNOWN_PREFIX).setContinuous(true);
         assertThat(CreateSubscription.fromJson(JsonObject.of(JSON_ALL_FIELDS), DittoHeaders.empty()))
                 .isEqualTo(command);
     }
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.events.thingsearch;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableEvent;
+import org.eclipse.ditto.signals.events.base.EventJsonDeserializer;
+
+/**
+ * This event is emitted by a continuous subscription after the initial search results whenever a thing enters the
+ * result set, is updated while in the result set or leaves the result set.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+@JsonParsableEvent(name = SubscriptionHasChange.NAME, typePrefix = SubscriptionHasChange.TYPE_PREFIX)
+public final class SubscriptionHasChange extends AbstractSubscriptionEvent<SubscriptionHasChange> {
+
+    /**
+     * Name of the event.
+     */
+    public static final String NAME = "change";
+
+    /**
+     * Type of this event.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private final String thingId;
+    private final Change change;
+    @Nullable private final JsonObject item;
+
+    private SubscriptionHasChange(final String subscriptionId, final String thingId, final Change change,
+            @Nullable final JsonObject item, final DittoHeaders dittoHeaders) {
+        super(TYPE, subscriptionId, dittoHeaders);
+        this.thingId = thingId;
+        this.change = change;
+        this.item = item;
+    }
+
+    /**
+     * Constructs a new {@code SubscriptionHasChange} object.
+     *
+     * @param subscriptionId the subscription ID.
+     * @param thingId ID of the changed thing.
+     * @param change how the result set changed.
+     * @param item the thing as visible to the subscriber, or null if it left the result set.
+     * @param dittoHeaders the headers of the command which was the cause of this event.
+     * @return the SubscriptionHasChange created.
+     * @throws NullPointerException if any argument except {@code item} is null.
+     */
+    public static SubscriptionHasChange of(final String subscriptionId,
+            final String thingId,
+            final Change change,
+            @Nullable final JsonObject item,
+            final DittoHeaders dittoHeaders) {
+        return new SubscriptionHasChange(subscriptionId, Objects.requireNonNull(thingId),
+                Objects.requireNonNull(change), item, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SubscriptionHasChange} from a JSON object.
+     *
+     * @param jsonObject the JSON object from which a new SubscriptionHasChange instance is to be created.
+     * @param dittoHeaders the headers of the command which was the cause of this event.
+     * @return the {@code SubscriptionHasChange} which was created from the given JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SubscriptionHasChange fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new EventJsonDeserializer<SubscriptionHasChange>(TYPE, jsonObject)
+                .deserialize((revision, timestamp, metadata) -> {
+                    final String subscriptionId =
+                            jsonObject.getValueOrThrow(AbstractSubscriptionEvent.JsonFields.SUBSCRIPTION_ID);
+                    final String thingId = jsonObject.getValueOrThrow(JsonFields.THING_ID);
+                    final String changeName = jsonObject.getValueOrThrow(JsonFields.CHANGE);
+                    final Change change = Change.forName(changeName)
+                            .orElseThrow(() -> JsonParseException.newBuilder()
+                                    .message("Unknown subscription change: <" + changeName + ">")
+                                    .build());
+                    final JsonObject item = jsonObject.getValue(JsonFields.ITEM).orElse(null);
+                    return new SubscriptionHasChange(subscriptionId, thingId, change, item, dittoHeaders);
+                });
+    }
+
+    /**
+     * @return ID of the changed thing.
+     */
+    public String getThingId() {
+        return thingId;
+    }
+
+    /**
+     * @return how the result set changed.
+     */
+    public Change getChange() {
+        return change;
+    }
+
+    /**
+     * Get the changed thing restricted to the fields selected by the subscription and visible to the subscriber.
+     *
+     * @return the thing, or an empty optional if it left the result set.
+     */
+    public Optional<JsonObject> getItem() {
+        return Optional.ofNullable(item);
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public SubscriptionHasChange setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SubscriptionHasChange(getSubscriptionId(), thingId, change, item, dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder) {
+        jsonObjectBuilder.set(JsonFields.THING_ID, thingId)
+                .set(JsonFields.CHANGE, change.getName());
+        if (item != null) {
+            jsonObjectBuilder.set(JsonFields.ITEM, item);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        // super.equals(o) guarantees getClass() == o.getClass()
+        if (!super.equals(o)) {
+            return false;
+        }
+        final SubscriptionHasChange that = (SubscriptionHasChange) o;
+        return Objects.equals(thingId, that.thingId) && change == that.change && Objects.equals(item, that.item);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), thingId, change, item);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() +
+                ", thingId=" + thingId +
+                ", change=" + change +
+                ", item=" + item +
+                "]";
+    }
+
+    /**
+     * Kinds of changes of the result set of a continuous subscription.
+     */
+    public enum Change {
+
+        /**
+         * The thing did not match the filter before and matches it now.
+         */
+        ENTER("enter"),
+
+        /**
+         * The thing matched the filter before and still matches it.
+         */
+        UPDATE("update"),
+
+        /**
+         * The thing matched the filter before and does not match it any more or was deleted.
+         */
+        LEAVE("leave");
+
+        private final String name;
+
+        Change(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the name of the change in JSON representations.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Find a change by its name in JSON representations.
+         *
+         * @param name the name.
+         * @return the change, or an empty optional if no change has the name.
+         */
+        public static Optional<Change> forName(final String name) {
+            return Stream.of(values())
+                    .filter(change -> change.name.equals(name))
+                    .findAny();
+        }
+    }
+
+    /**
+     * Json fields of this event.
+     */
+    public static final class JsonFields {
+
+        /**
+         * Json field for the ID of the changed thing.
+         */
+        public static final JsonFieldDefinition<String> THING_ID = JsonFactory.newStringFieldDefinition("thingId");
+
+        /**
+         * Json field for the kind of change: one of "enter", "update" and "leave".
+         */
+        public static final JsonFieldDefinition<String> CHANGE = JsonFactory.newStringFieldDefinition("change");
+
+        /**
+         * Json field for the changed thing; absent if the thing left the result set.
+         */
+        public static final JsonFieldDefinition<JsonObject> ITEM = JsonFactory.newJsonObjectFieldDefinition("item");
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.events.thingsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.UUID;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link SubscriptionHasChange}.
+ */
+public final class SubscriptionHasChangeTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SubscriptionHasChange.class, areImmutable(), provided(JsonObject.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SubscriptionHasChange.class).withRedefinedSuperclass().verify();
+    }
+
+    @Test
+    public void serialization() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SubscriptionHasChange underTest = SubscriptionHasChange.of(UUID.randomUUID().toString(), "ns:thing",
+                SubscriptionHasChange.Change.ENTER, JsonObject.of("{\"thingId\":\"ns:thing\"}"), dittoHeaders);
+        final SubscriptionHasChange deserialized = SubscriptionHasChange.fromJson(underTest.toJson(), dittoHeaders);
+        assertThat(deserialized).isEqualTo(underTest);
+    }
+
+    @Test
+    public void serializationWithoutItem() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SubscriptionHasChange underTest = SubscriptionHasChange.of(UUID.randomUUID().toString(), "ns:thing",
+                SubscriptionHasChange.Change.LEAVE, null, dittoHeaders);
+        final SubscriptionHasChange deserialized = SubscriptionHasChange.fromJson(underTest.toJson(), dittoHeaders);
+        assertThat(deserialized).isEqualTo(underTest);
+        assertThat(deserialized.getItem()).isEmpty();
+    }
+}